@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthent
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -59,6 +60,27 @@ public interface ApplicationDAO {
      */
     ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException;
 
+    /**
+     * Get the service providers of the given application ids. This is intended for loading many applications at
+     * once, for example to preload the application caches.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers of the applications that exist, in the order of the given ids.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    default List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (int applicationId : applicationIds) {
+            ServiceProvider serviceProvider = getApplication(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
     /**
      * @return
      * @throws IdentityApplicationManagementException
@@ -107,6 +107,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -165,6 +167,8 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     private static final String AUDIT_FAIL = "Fail";
     private static final String ASTERISK = "*";
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    // Maximum number of application ids in the IN list of a query.
+    private static final int MAX_APPLICATIONS_PER_QUERY = 100;
 
     private List<String> standardInboundAuthTypes;
     public static final String USE_DOMAIN_IN_ROLES = "USE_DOMAIN_IN_ROLES";
@@ -1196,45 +1200,57 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = outboundProConfigPrepStmt.executeQuery();
 
             while (resultSet.next()) {
-                ProvisioningConnectorConfig proConnector = null;
-                IdentityProvider fedIdp = null;
+                idpProConnectors.add(buildProvisioningIdentityProvider(resultSet, 0));
+            }
 
-                fedIdp = new IdentityProvider();
-                fedIdp.setIdentityProviderName(resultSet.getString(1));
+            outBoundProvisioningConfig.setProvisioningIdentityProviders(idpProConnectors.toArray(new
+                    IdentityProvider[idpProConnectors.size()]));
 
-                proConnector = new ProvisioningConnectorConfig();
-                proConnector.setName(resultSet.getString(2));
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(outboundProConfigPrepStmt);
+        }
+        return outBoundProvisioningConfig;
+    }
 
-                if ("1".equals(resultSet.getString(3))) {
-                    JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
-                    jitConfig.setProvisioningEnabled(true);
-                    fedIdp.setJustInTimeProvisioningConfig(jitConfig);
-                }
+    /**
+     * Build the provisioning identity provider of a row of the outbound provisioning connectors query.
+     *
+     * @param resultSet Result set positioned at the row.
+     * @param offset    Number of columns preceding IDP_NAME in the row.
+     * @return Identity provider with its default provisioning connector.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private IdentityProvider buildProvisioningIdentityProvider(ResultSet resultSet, int offset) throws SQLException {
 
-                if ("1".equals(resultSet.getString(4))) {
-                    proConnector.setBlocking(true);
-                } else {
-                    proConnector.setBlocking(false);
-                }
+        ProvisioningConnectorConfig proConnector = null;
+        IdentityProvider fedIdp = null;
 
-                if ("1".equals(resultSet.getString(5))) {
-                    proConnector.setRulesEnabled(true);
-                } else {
-                    proConnector.setRulesEnabled(false);
-                }
+        fedIdp = new IdentityProvider();
+        fedIdp.setIdentityProviderName(resultSet.getString(offset + 1));
 
-                fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
-                idpProConnectors.add(fedIdp);
+        proConnector = new ProvisioningConnectorConfig();
+        proConnector.setName(resultSet.getString(offset + 2));
 
-            }
+        if ("1".equals(resultSet.getString(offset + 3))) {
+            JustInTimeProvisioningConfig jitConfig = new JustInTimeProvisioningConfig();
+            jitConfig.setProvisioningEnabled(true);
+            fedIdp.setJustInTimeProvisioningConfig(jitConfig);
+        }
 
-            outBoundProvisioningConfig.setProvisioningIdentityProviders(idpProConnectors.toArray(new
-                    IdentityProvider[idpProConnectors.size()]));
+        if ("1".equals(resultSet.getString(offset + 4))) {
+            proConnector.setBlocking(true);
+        } else {
+            proConnector.setBlocking(false);
+        }
 
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(outboundProConfigPrepStmt);
+        if ("1".equals(resultSet.getString(offset + 5))) {
+            proConnector.setRulesEnabled(true);
+        } else {
+            proConnector.setRulesEnabled(false);
         }
-        return outBoundProvisioningConfig;
+
+        fedIdp.setDefaultProvisioningConnectorConfig(proConnector);
+        return fedIdp;
     }
 
     /**
@@ -1993,65 +2009,340 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
     public ServiceProvider getApplication(int applicationId) throws IdentityApplicationManagementException {
 
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            return getApplication(applicationId, connection);
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
+                    e);
+        }
+    }
 
-            // Load basic application data
-            ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
-            if (serviceProvider == null) {
-                return null;
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        List<Integer> distinctApplicationIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        Map<Integer, ServiceProvider> loadedApplications = new HashMap<>();
+        // All the applications are loaded over the same connection, a chunk of application ids per query.
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            for (int start = 0; start < distinctApplicationIds.size(); start += MAX_APPLICATIONS_PER_QUERY) {
+                List<Integer> chunk = distinctApplicationIds.subList(start,
+                        Math.min(start + MAX_APPLICATIONS_PER_QUERY, distinctApplicationIds.size()));
+                loadedApplications.putAll(getApplications(chunk, connection));
             }
-            int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
-            List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
-
-            serviceProvider.setJwksUri(getJwksUri(propertyList));
-            serviceProvider.setTemplateId(getTemplateId(propertyList));
-            serviceProvider.setManagementApp(getIsManagementApp(propertyList));
-            serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
-                    applicationId, connection, tenantID));
-            serviceProvider
-                    .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
-                            applicationId, connection, tenantID, propertyList));
-
-            serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
-                    applicationId, connection, tenantID));
-
-            // Load Claim Mapping
-            serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
-                    tenantID));
-
-            // Load Role Mappings
-            List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
-                    tenantID);
-            PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
-            permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
-            serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
-
-            RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
-                    applicationId, connection, tenantID);
-            serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
-
-            serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
-            serviceProvider.setCertificateContent(getCertificateContent(propertyList, connection));
-
-            // Will be supported with 'Advance Consent Management Feature'.
-            /*
-            ConsentConfig consentConfig = serviceProvider.getConsentConfig();
-            if (isNull(consentConfig)) {
-                consentConfig = new ConsentConfig();
+        } catch (SQLException | CertificateRetrievingException e) {
+            throw new IdentityApplicationManagementException("Failed to get service providers with ids: " +
+                    applicationIds, e);
+        }
+
+        // Return the applications in the order of the given ids, skipping the ones that do not exist.
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (Integer applicationId : applicationIds) {
+            ServiceProvider serviceProvider = loadedApplications.get(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
             }
-            consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
-            serviceProvider.setConsentConfig(consentConfig);
-            */
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded " + serviceProviders.size() + " of " + applicationIds.size() +
+                    " requested applications.");
+        }
+        return serviceProviders;
+    }
 
-            String serviceProviderName = serviceProvider.getApplicationName();
-            loadApplicationPermissions(serviceProviderName, serviceProvider);
-            return serviceProvider;
-        } catch (SQLException | CertificateRetrievingException e) {
-            throw new IdentityApplicationManagementException("Failed to get service provider with id: " + applicationId,
-                    e);
+    /**
+     * Load the applications of the given ids. Each section of the applications is read with a single query for all
+     * the applications of a tenant, instead of a query per application.
+     *
+     * @param applicationIds Application ids, at most {@link #MAX_APPLICATIONS_PER_QUERY}.
+     * @param connection     Database connection.
+     * @return Loaded applications, keyed by the application id.
+     */
+    private Map<Integer, ServiceProvider> getApplications(List<Integer> applicationIds, Connection connection)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
+
+        Map<Integer, LoadedApplication> applications = new LinkedHashMap<>();
+        String basicInfoQuery = ApplicationMgtDBQueries.LOAD_BASIC_APP_INFO_BY_APP_IDS.replace(
+                ApplicationMgtDBQueries.APP_ID_LIST_PLACEHOLDER,
+                String.join(", ", Collections.nCopies(applicationIds.size(), "?")));
+        try (PreparedStatement prepStmt = connection.prepareStatement(basicInfoQuery)) {
+            for (int i = 0; i < applicationIds.size(); i++) {
+                prepStmt.setInt(i + 1, applicationIds.get(i));
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    LoadedApplication application = new LoadedApplication(buildBasicApplicationData(rs),
+                            rs.getInt(ApplicationTableColumns.TENANT_ID));
+                    application.authType = rs.getString(ApplicationTableColumns.AUTH_TYPE);
+                    application.inboundProvisioningConfig.setProvisioningUserStore(
+                            rs.getString(ApplicationTableColumns.PROVISIONING_USERSTORE_DOMAIN));
+                    application.inboundProvisioningConfig.setDumbMode(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_DUMB_MODE)));
+                    LocalAndOutboundAuthenticationConfig localAndOutboundConfig =
+                            application.serviceProvider.getLocalAndOutBoundAuthenticationConfig();
+                    localAndOutboundConfig.setUseTenantDomainInLocalSubjectIdentifier(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_USE_TENANT_DOMAIN_SUBJECT)));
+                    localAndOutboundConfig.setUseUserstoreDomainInLocalSubjectIdentifier(
+                            getBooleanValue(rs.getString(ApplicationTableColumns.IS_USE_USER_DOMAIN_SUBJECT)));
+                    applications.put(application.serviceProvider.getApplicationID(), application);
+                }
+            }
+        }
+        if (applications.isEmpty()) {
+            return Collections.emptyMap();
         }
+
+        String metadataQuery;
+        try {
+            metadataQuery = isH2DB() ? ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS_H2 :
+                    ApplicationMgtDBQueries.GET_SP_METADATA_BY_SP_IDS;
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving SP metadata for SP IDs: " + applications.keySet(), e);
+        }
+        loadApplicationRows(connection, metadataQuery, applications.keySet(), new int[0], applications,
+                (application, rs) -> {
+                    ServiceProviderProperty property = new ServiceProviderProperty();
+                    property.setName(rs.getString("NAME"));
+                    property.setValue(rs.getString("VALUE"));
+                    property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    application.properties.add(property);
+                });
+        loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_SCRIPTS_BY_APP_IDS, applications.keySet(),
+                new int[0], applications, (application, rs) -> {
+                    if (application.scriptConfig == null) {
+                        application.scriptConfig = buildScriptConfiguration(
+                                application.serviceProvider.getApplicationID(), rs, 1);
+                    }
+                });
+
+        // The remaining sections are filtered by the tenant of the applications.
+        Map<Integer, List<Integer>> applicationIdsOfTenants = new HashMap<>();
+        for (LoadedApplication application : applications.values()) {
+            applicationIdsOfTenants.computeIfAbsent(application.tenantId, tenantId -> new ArrayList<>())
+                    .add(application.serviceProvider.getApplicationID());
+        }
+        for (Entry<Integer, List<Integer>> entry : applicationIdsOfTenants.entrySet()) {
+            int tenantId = entry.getKey();
+            List<Integer> tenantApplicationIds = entry.getValue();
+            int[] tenantParameter = new int[]{tenantId};
+
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_IDS,
+                    tenantApplicationIds, new int[]{tenantId, tenantId, MultitenantConstants.SUPER_TENANT_ID,
+                            MultitenantConstants.SUPER_TENANT_ID}, applications,
+                    (application, rs) -> application.authenticationSteps.addRow(rs, 1));
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_CLIENTS_INFO_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications, (application, rs) ->
+                            addInboundAuthenticationRequestConfig(application.inboundAuthenticationRequestConfigs,
+                                    rs, 1));
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_CLAIM_MAPPINGS_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications,
+                    (application, rs) -> application.claimMappings.add(buildClaimMapping(rs, 1)));
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_SP_DIALECTS_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications, (application, rs) -> {
+                        String spDialect = rs.getString(2);
+                        if (StringUtils.isNotEmpty(spDialect)) {
+                            application.spDialects.add(spDialect);
+                        }
+                    });
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_ROLE_MAPPINGS_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications,
+                    (application, rs) -> application.roleMappings.add(buildRoleMapping(rs, 1)));
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications, (application, rs) -> {
+                        RequestPathAuthenticatorConfig reqAuth = new RequestPathAuthenticatorConfig();
+                        reqAuth.setName(rs.getString(2));
+                        application.requestPathAuthenticators.add(reqAuth);
+                    });
+            loadApplicationRows(connection, ApplicationMgtDBQueries.LOAD_PRO_CONNECTORS_BY_APP_IDS,
+                    tenantApplicationIds, tenantParameter, applications, (application, rs) ->
+                            application.provisioningIdentityProviders.add(buildProvisioningIdentityProvider(rs, 1)));
+        }
+
+        Map<Integer, ServiceProvider> serviceProviders = new LinkedHashMap<>();
+        for (LoadedApplication application : applications.values()) {
+            serviceProviders.put(application.serviceProvider.getApplicationID(),
+                    buildApplication(application, connection));
+        }
+        return serviceProviders;
+    }
+
+    /**
+     * Assemble the service provider of an application loaded with {@link #getApplications(List, Connection)}, the
+     * same way {@link #getApplication(int, Connection)} does.
+     */
+    private ServiceProvider buildApplication(LoadedApplication application, Connection connection)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
+
+        ServiceProvider serviceProvider = application.serviceProvider;
+        List<ServiceProviderProperty> propertyList = application.properties;
+
+        serviceProvider.setJwksUri(getJwksUri(propertyList));
+        serviceProvider.setTemplateId(getTemplateId(propertyList));
+        serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+        serviceProvider.setInboundAuthenticationConfig(
+                buildInboundAuthenticationConfig(application.inboundAuthenticationRequestConfigs));
+
+        LocalAndOutboundAuthenticationConfig localAndOutboundConfig =
+                serviceProvider.getLocalAndOutBoundAuthenticationConfig();
+        populateAuthenticationConfig(localAndOutboundConfig, serviceProvider.getApplicationID(),
+                application.authenticationSteps.build(), application.authType, application.scriptConfig);
+        readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfig);
+
+        serviceProvider.setInboundProvisioningConfig(application.inboundProvisioningConfig);
+        OutboundProvisioningConfig outboundProvisioningConfig = new OutboundProvisioningConfig();
+        outboundProvisioningConfig.setProvisioningIdentityProviders(
+                application.provisioningIdentityProviders.toArray(new IdentityProvider[0]));
+        serviceProvider.setOutboundProvisioningConfig(outboundProvisioningConfig);
+
+        ClaimConfig claimConfig = serviceProvider.getClaimConfig();
+        claimConfig.setClaimMappings(application.claimMappings.toArray(new ClaimMapping[0]));
+        claimConfig.setSpClaimDialects(application.spDialects.toArray(new String[0]));
+
+        PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionAndRoleConfig.setRoleMappings(application.roleMappings.toArray(new RoleMapping[0]));
+        serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+        serviceProvider.setRequestPathAuthenticatorConfigs(
+                application.requestPathAuthenticators.toArray(new RequestPathAuthenticatorConfig[0]));
+
+        serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+        serviceProvider.setCertificateContent(getCertificateContent(propertyList, connection));
+
+        loadApplicationPermissions(serviceProvider.getApplicationName(), serviceProvider);
+        return serviceProvider;
+    }
+
+    /**
+     * Execute a query of a list of application ids, passing each row to the row handler of its application. The
+     * application id must be the first column of the query.
+     *
+     * @param connection        Database connection.
+     * @param query             Query with {@link ApplicationMgtDBQueries#APP_ID_LIST_PLACEHOLDER}.
+     * @param applicationIds    Application ids to query.
+     * @param leadingParameters Parameters of the query preceding the application ids.
+     * @param applications      Loaded applications, keyed by the application id.
+     * @param rowHandler        Handler of the rows.
+     */
+    private void loadApplicationRows(Connection connection, String query, Collection<Integer> applicationIds,
+                                     int[] leadingParameters, Map<Integer, LoadedApplication> applications,
+                                     ApplicationRowHandler rowHandler)
+            throws SQLException, IdentityApplicationManagementException {
+
+        String sqlStmt = query.replace(ApplicationMgtDBQueries.APP_ID_LIST_PLACEHOLDER,
+                String.join(", ", Collections.nCopies(applicationIds.size(), "?")));
+        try (PreparedStatement prepStmt = connection.prepareStatement(sqlStmt)) {
+            int parameterIndex = 1;
+            for (int parameter : leadingParameters) {
+                prepStmt.setInt(parameterIndex++, parameter);
+            }
+            for (Integer applicationId : applicationIds) {
+                prepStmt.setInt(parameterIndex++, applicationId);
+            }
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    LoadedApplication application = applications.get(rs.getInt(1));
+                    if (application != null) {
+                        rowHandler.handle(application, rs);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Handler of a row of a query of a list of application ids.
+     */
+    @FunctionalInterface
+    private interface ApplicationRowHandler {
+
+        void handle(LoadedApplication application, ResultSet rs)
+                throws SQLException, IdentityApplicationManagementException;
+    }
+
+    /**
+     * Sections of an application read by the queries of a list of application ids.
+     */
+    private static class LoadedApplication {
+
+        private final ServiceProvider serviceProvider;
+        private final int tenantId;
+        private final AuthenticationStepsBuilder authenticationSteps;
+        private final InboundProvisioningConfig inboundProvisioningConfig = new InboundProvisioningConfig();
+        private final List<ServiceProviderProperty> properties = new ArrayList<>();
+        private final Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigs =
+                new HashMap<>();
+        private final List<ClaimMapping> claimMappings = new ArrayList<>();
+        private final List<String> spDialects = new ArrayList<>();
+        private final List<RoleMapping> roleMappings = new ArrayList<>();
+        private final List<RequestPathAuthenticatorConfig> requestPathAuthenticators = new ArrayList<>();
+        private final List<IdentityProvider> provisioningIdentityProviders = new ArrayList<>();
+        private String authType;
+        private AuthenticationScriptConfig scriptConfig;
+
+        LoadedApplication(ServiceProvider serviceProvider, int tenantId) {
+
+            this.serviceProvider = serviceProvider;
+            this.tenantId = tenantId;
+            this.authenticationSteps = new AuthenticationStepsBuilder(tenantId);
+        }
+    }
+
+    private ServiceProvider getApplication(int applicationId, Connection connection)
+            throws SQLException, CertificateRetrievingException, IdentityApplicationManagementException {
+
+        // Load basic application data
+        ServiceProvider serviceProvider = getBasicApplicationData(applicationId, connection);
+        if (serviceProvider == null) {
+            return null;
+        }
+        int tenantID = IdentityTenantUtil.getTenantId(serviceProvider.getTenantDomain());
+        List<ServiceProviderProperty> propertyList = getServicePropertiesBySpId(connection, applicationId);
+
+        serviceProvider.setJwksUri(getJwksUri(propertyList));
+        serviceProvider.setTemplateId(getTemplateId(propertyList));
+        serviceProvider.setManagementApp(getIsManagementApp(propertyList));
+        serviceProvider.setInboundAuthenticationConfig(getInboundAuthenticationConfig(
+                applicationId, connection, tenantID));
+        serviceProvider
+                .setLocalAndOutBoundAuthenticationConfig(getLocalAndOutboundAuthenticationConfig(
+                        applicationId, connection, tenantID, propertyList));
+
+        serviceProvider.setInboundProvisioningConfig(getInboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        serviceProvider.setOutboundProvisioningConfig(getOutboundProvisioningConfiguration(
+                applicationId, connection, tenantID));
+
+        // Load Claim Mapping
+        serviceProvider.setClaimConfig(getClaimConfiguration(applicationId, connection,
+                tenantID));
+
+        // Load Role Mappings
+        List<RoleMapping> roleMappings = getRoleMappingOfApplication(applicationId, connection,
+                tenantID);
+        PermissionsAndRoleConfig permissionAndRoleConfig = new PermissionsAndRoleConfig();
+        permissionAndRoleConfig.setRoleMappings(roleMappings.toArray(new RoleMapping[0]));
+        serviceProvider.setPermissionAndRoleConfig(permissionAndRoleConfig);
+
+        RequestPathAuthenticatorConfig[] requestPathAuthenticators = getRequestPathAuthenticators(
+                applicationId, connection, tenantID);
+        serviceProvider.setRequestPathAuthenticatorConfigs(requestPathAuthenticators);
+
+        serviceProvider.setSpProperties(propertyList.toArray(new ServiceProviderProperty[0]));
+        serviceProvider.setCertificateContent(getCertificateContent(propertyList, connection));
+
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = serviceProvider.getConsentConfig();
+        if (isNull(consentConfig)) {
+            consentConfig = new ConsentConfig();
+        }
+        consentConfig.setConsentPurposeConfigs(getConsentPurposeConfigs(connection, applicationId, tenantID));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        String serviceProviderName = serviceProvider.getApplicationName();
+        loadApplicationPermissions(serviceProviderName, serviceProvider);
+        return serviceProvider;
     }
 
     @Override
@@ -2180,59 +2471,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             rs = prepStmt.executeQuery();
 
             if (rs.next()) {
-                serviceProvider = new ServiceProvider();
-                serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
-                serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
-                serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
-                serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
-                serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
-                serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
-                serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
-
-                User owner = new User();
-                owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
-                owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
-                owner.setTenantDomain(getUserTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
-                        rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
-                                rs.getString(ApplicationTableColumns.USERNAME)));
-                serviceProvider.setOwner(owner);
-                serviceProvider.setTenantDomain(
-                        IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
-
-                ClaimConfig claimConfig = new ClaimConfig();
-                claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
-                claimConfig.setLocalClaimDialect(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
-                claimConfig.setAlwaysSendMappedLocalSubjectId(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
-                serviceProvider.setClaimConfig(claimConfig);
-
-                LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
-                        new LocalAndOutboundAuthenticationConfig();
-                localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
-                localAndOutboundAuthenticationConfig.setEnableAuthorization(
-                        getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
-                localAndOutboundAuthenticationConfig.setSubjectClaimUri(
-                        rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
-                serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
-
-                serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
-
-                // Will be supported with 'Advance Consent Management Feature'.
-                /*
-                ConsentConfig consentConfig = new ConsentConfig();
-                consentConfig.setEnabled("1".equals(rs.getString(18)));
-                serviceProvider.setConsentConfig(consentConfig);
-                */
-
-                if (log.isDebugEnabled()) {
-                    log.debug("ApplicationID: " + serviceProvider.getApplicationID()
-                            + " ApplicationName: " + serviceProvider.getApplicationName()
-                            + " UserName: " + serviceProvider.getOwner().getUserName()
-                            + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
-                }
+                serviceProvider = buildBasicApplicationData(rs);
             }
 
             return serviceProvider;
@@ -2242,6 +2481,71 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         }
     }
 
+    /**
+     * Build the service provider of a row of the SP_APP table, with its basic application data.
+     *
+     * @param rs Result set positioned at the row of the application.
+     * @return Service provider with the basic application data.
+     */
+    private ServiceProvider buildBasicApplicationData(ResultSet rs)
+            throws SQLException, IdentityApplicationManagementException {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationID(rs.getInt(ApplicationTableColumns.ID));
+        serviceProvider.setApplicationResourceId(rs.getString(ApplicationTableColumns.UUID));
+        serviceProvider.setApplicationName(rs.getString(ApplicationTableColumns.APP_NAME));
+        serviceProvider.setDescription(rs.getString(ApplicationTableColumns.DESCRIPTION));
+        serviceProvider.setImageUrl(rs.getString(ApplicationTableColumns.IMAGE_URL));
+        serviceProvider.setAccessUrl(rs.getString(ApplicationTableColumns.ACCESS_URL));
+        serviceProvider.setDiscoverable(getBooleanValue(rs.getString(ApplicationTableColumns.IS_DISCOVERABLE)));
+
+        User owner = new User();
+        owner.setUserName(rs.getString(ApplicationTableColumns.USERNAME));
+        owner.setUserStoreDomain(rs.getString(ApplicationTableColumns.USER_STORE));
+        owner.setTenantDomain(getUserTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)),
+                rs.getString(ApplicationTableColumns.USER_STORE) + "/" +
+                        rs.getString(ApplicationTableColumns.USERNAME)));
+        serviceProvider.setOwner(owner);
+        serviceProvider.setTenantDomain(
+                IdentityTenantUtil.getTenantDomain(rs.getInt(ApplicationTableColumns.TENANT_ID)));
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setRoleClaimURI(rs.getString(ApplicationTableColumns.ROLE_CLAIM));
+        claimConfig.setLocalClaimDialect(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_LOCAL_CLAIM_DIALECT)));
+        claimConfig.setAlwaysSendMappedLocalSubjectId(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_LOCAL_SUBJECT_ID)));
+        serviceProvider.setClaimConfig(claimConfig);
+
+        LocalAndOutboundAuthenticationConfig localAndOutboundAuthenticationConfig =
+                new LocalAndOutboundAuthenticationConfig();
+        localAndOutboundAuthenticationConfig.setAlwaysSendBackAuthenticatedListOfIdPs(
+                getBooleanValue(rs.getString(ApplicationTableColumns.IS_SEND_AUTH_LIST_OF_IDPS)));
+        localAndOutboundAuthenticationConfig.setEnableAuthorization(
+                getBooleanValue(rs.getString(ApplicationTableColumns.ENABLE_AUTHORIZATION)));
+        localAndOutboundAuthenticationConfig.setSubjectClaimUri(
+                rs.getString(ApplicationTableColumns.SUBJECT_CLAIM_URI));
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(localAndOutboundAuthenticationConfig);
+
+        serviceProvider.setSaasApp(getBooleanValue(rs.getString(ApplicationTableColumns.IS_SAAS_APP)));
+
+        // Will be supported with 'Advance Consent Management Feature'.
+        /*
+        ConsentConfig consentConfig = new ConsentConfig();
+        consentConfig.setEnabled("1".equals(rs.getString(18)));
+        serviceProvider.setConsentConfig(consentConfig);
+        */
+
+        if (log.isDebugEnabled()) {
+            log.debug("ApplicationID: " + serviceProvider.getApplicationID()
+                    + " ApplicationName: " + serviceProvider.getApplicationName()
+                    + " UserName: " + serviceProvider.getOwner().getUserName()
+                    + " TenantDomain: " + serviceProvider.getOwner().getTenantDomain());
+        }
+        return serviceProvider;
+    }
+
     private boolean getBooleanValue(String booleanValueAsString) throws SQLException {
 
         return "1".equals(booleanValueAsString);
@@ -2491,51 +2795,80 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                String authKey = resultSet.getString(1);
-                //this is done to handle empty string added to oracle database as null.
-                if (authKey == null) {
-                    authKey = new String();
-                }
-                String authType = resultSet.getString(2);
-                String propName = resultSet.getString(3);
-                String propValue = resultSet.getString(4);
-                String configType = resultSet.getString(5);
-
-                String mapKey = authType + ":" + authKey;
-
-                InboundAuthenticationRequestConfig inboundAuthRequest = null;
-                if ((inboundAuthRequest = inboundAuthenticationRequestConfigMap.get(mapKey)) == null) {
-                    inboundAuthRequest = new InboundAuthenticationRequestConfig();
-                }
-                inboundAuthRequest.setInboundAuthKey(authKey);
-                inboundAuthRequest.setInboundAuthType(authType);
-                inboundAuthRequest.setInboundConfigType(configType);
-
-                boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
-                AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
-                        .getInboundAuthenticatorConfig(authType + ":" + configType);
-                if (isCustomAuthenticator && customAuthenticator != null) {
-                    inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
-                }
-                if (propName != null) {
-                    Property prop = new Property();
-                    prop.setName(propName);
-                    prop.setValue(propValue);
-                    if (isCustomAuthenticator && customAuthenticator != null) {
-                        Property mappedProperty = getMappedProperty(customAuthenticator, propName);
-                        if (mappedProperty != null) {
-                            prop.setDisplayName(mappedProperty.getDisplayName());
-                        }
-                    }
-                    inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[]{prop},
-                            inboundAuthRequest.getProperties())));
-                }
-                inboundAuthenticationRequestConfigMap.put(mapKey, inboundAuthRequest);
+                addInboundAuthenticationRequestConfig(inboundAuthenticationRequestConfigMap, resultSet, 0);
             }
         } finally {
             IdentityApplicationManagementUtil.closeStatement(getClientInfo);
             IdentityApplicationManagementUtil.closeResultSet(resultSet);
         }
+        return buildInboundAuthenticationConfig(inboundAuthenticationRequestConfigMap);
+    }
+
+    /**
+     * Add a row of the inbound authentication query to the inbound authentication request configs of an application.
+     *
+     * @param inboundAuthenticationRequestConfigs Inbound authentication request configs of the application, keyed by
+     *                                            the inbound authentication type and key.
+     * @param resultSet                           Result set positioned at the row.
+     * @param offset                              Number of columns preceding INBOUND_AUTH_KEY in the row.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private void addInboundAuthenticationRequestConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigs, ResultSet resultSet,
+            int offset) throws SQLException {
+
+        String authKey = resultSet.getString(offset + 1);
+        //this is done to handle empty string added to oracle database as null.
+        if (authKey == null) {
+            authKey = new String();
+        }
+        String authType = resultSet.getString(offset + 2);
+        String propName = resultSet.getString(offset + 3);
+        String propValue = resultSet.getString(offset + 4);
+        String configType = resultSet.getString(offset + 5);
+
+        String mapKey = authType + ":" + authKey;
+
+        InboundAuthenticationRequestConfig inboundAuthRequest = null;
+        if ((inboundAuthRequest = inboundAuthenticationRequestConfigs.get(mapKey)) == null) {
+            inboundAuthRequest = new InboundAuthenticationRequestConfig();
+        }
+        inboundAuthRequest.setInboundAuthKey(authKey);
+        inboundAuthRequest.setInboundAuthType(authType);
+        inboundAuthRequest.setInboundConfigType(configType);
+
+        boolean isCustomAuthenticator = isCustomInboundAuthType(authType);
+        AbstractInboundAuthenticatorConfig customAuthenticator = ApplicationManagementServiceComponentHolder
+                .getInboundAuthenticatorConfig(authType + ":" + configType);
+        if (isCustomAuthenticator && customAuthenticator != null) {
+            inboundAuthRequest.setFriendlyName(customAuthenticator.getFriendlyName());
+        }
+        if (propName != null) {
+            Property prop = new Property();
+            prop.setName(propName);
+            prop.setValue(propValue);
+            if (isCustomAuthenticator && customAuthenticator != null) {
+                Property mappedProperty = getMappedProperty(customAuthenticator, propName);
+                if (mappedProperty != null) {
+                    prop.setDisplayName(mappedProperty.getDisplayName());
+                }
+            }
+            inboundAuthRequest.setProperties((ApplicationMgtUtil.concatArrays(new Property[]{prop},
+                    inboundAuthRequest.getProperties())));
+        }
+        inboundAuthenticationRequestConfigs.put(mapKey, inboundAuthRequest);
+    }
+
+    /**
+     * Build the inbound authentication config of an application, merging the configuration properties of the
+     * registered inbound authenticators.
+     *
+     * @param inboundAuthenticationRequestConfigMap Inbound authentication request configs of the application.
+     * @return Inbound authentication config of the application.
+     */
+    private InboundAuthenticationConfig buildInboundAuthenticationConfig(
+            Map<String, InboundAuthenticationRequestConfig> inboundAuthenticationRequestConfigMap) {
+
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = new HashMap<>
                 (ApplicationManagementServiceComponentHolder.getAllInboundAuthenticatorConfig());
         for (Map.Entry<String, InboundAuthenticationRequestConfig> entry : inboundAuthenticationRequestConfigMap
@@ -2597,200 +2930,226 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             int applicationId, Connection connection, int tenantId, List<ServiceProviderProperty> propertyList)
             throws SQLException, IdentityApplicationManagementException {
 
-        PreparedStatement getStepInfoPrepStmt = null;
-        ResultSet stepInfoResultSet = null;
-
         if (log.isDebugEnabled()) {
             log.debug("Reading Steps of Application " + applicationId);
         }
 
-        try {
-            getStepInfoPrepStmt = connection
-                    .prepareStatement(ApplicationMgtDBQueries.LOAD_STEPS_INFO_BY_APP_ID);
-            // STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP
-            getStepInfoPrepStmt.setInt(1, applicationId);
-            stepInfoResultSet = getStepInfoPrepStmt.executeQuery();
-
-            Map<String, AuthenticationStep> authSteps = new HashMap<>();
-            Map<String, Map<String, List<FederatedAuthenticatorConfig>>> stepFedIdPAuthenticators = new HashMap<>();
-            Map<String, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
-
-            while (stepInfoResultSet.next()) {
+        AuthenticationStep[] authenticationSteps = getAuthenticationSteps(applicationId, connection, tenantId);
+        LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration = new LocalAndOutboundAuthenticationConfig();
+        populateAuthenticationConfig(localAndOutboundConfiguration, applicationId, authenticationSteps,
+                getAuthenticationType(applicationId, connection), getScriptConfiguration(applicationId, connection));
 
-                String step = String.valueOf(stepInfoResultSet.getInt(1));
-                AuthenticationStep authStep;
-
-                if (authSteps.containsKey(step)) {
-                    authStep = authSteps.get(step);
-                } else {
-                    authStep = new AuthenticationStep();
-                    authStep.setStepOrder(stepInfoResultSet.getInt(1));
-                    stepLocalAuth.put(step, new ArrayList<LocalAuthenticatorConfig>());
-                    stepFedIdPAuthenticators.put(step,
-                            new HashMap<String, List<FederatedAuthenticatorConfig>>());
-                }
+        PreparedStatement localAndOutboundConfigPrepStmt = null;
+        ResultSet localAndOutboundConfigResultSet = null;
 
-                int authenticatorId = stepInfoResultSet.getInt(2);
-                Map<String, String> authenticatorInfo = getAuthenticatorInfo(connection, tenantId,
-                        authenticatorId);
-
-                if (authenticatorInfo != null
-                        && authenticatorInfo.get(ApplicationConstants.IDP_NAME) != null
-                        && ApplicationConstants.LOCAL_IDP_NAME.equals(authenticatorInfo
-                        .get("idpName"))) {
-                    LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
-                    localAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    localAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    stepLocalAuth.get(step).add(localAuthenticator);
-                } else {
-                    Map<String, List<FederatedAuthenticatorConfig>> stepFedIdps = stepFedIdPAuthenticators
-                            .get(step);
+        try {
+            localAndOutboundConfigPrepStmt = connection
+                    .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
+            localAndOutboundConfigPrepStmt.setInt(1, tenantId);
+            localAndOutboundConfigPrepStmt.setInt(2, applicationId);
+            localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
+
+            if (localAndOutboundConfigResultSet.next()) {
+                localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(1)));
+                localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
+                        .equals(localAndOutboundConfigResultSet.getString(2)));
+                localAndOutboundConfiguration.setEnableAuthorization("1"
+                        .equals(localAndOutboundConfigResultSet.getString(3)));
+                localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
+                        .equals(localAndOutboundConfigResultSet.getString(4)));
+                localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
+                        .getString(5));
+
+                readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
+            }
+        } finally {
+            IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
+            IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
+        }
 
-                    if (!stepFedIdps.containsKey(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME))) {
-                        stepFedIdps.put(authenticatorInfo.get(ApplicationConstants.IDP_NAME),
-                                new ArrayList<FederatedAuthenticatorConfig>());
-                    }
+        return localAndOutboundConfiguration;
+    }
 
-                    List<FederatedAuthenticatorConfig> idpAuths = stepFedIdps.get(authenticatorInfo
-                            .get(ApplicationConstants.IDP_NAME));
-                    FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
-                    fedAuthenticator.setName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_NAME));
-                    fedAuthenticator.setDisplayName(authenticatorInfo
-                            .get(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME));
-                    idpAuths.add(fedAuthenticator);
-                }
+    /**
+     * Set the authentication steps, authentication type and script of the application to the given configuration.
+     * Step orders are made consecutive, and the authentication type falls back to default if a federated or flow
+     * based application has no steps.
+     *
+     * @param localAndOutboundConfiguration Configuration to populate.
+     * @param applicationId                 Application ID.
+     * @param authenticationSteps           Authentication steps of the application.
+     * @param authType                      Authentication type of the application.
+     * @param authenticationScriptConfig    Authentication script of the application, or null.
+     */
+    private void populateAuthenticationConfig(LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration,
+                                              int applicationId, AuthenticationStep[] authenticationSteps,
+                                              String authType,
+                                              AuthenticationScriptConfig authenticationScriptConfig) {
 
-                authStep.setSubjectStep("1".equals(stepInfoResultSet.getString(3)));
-                authStep.setAttributeStep("1".equals(stepInfoResultSet.getString(4)));
+        Arrays.sort(authenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
 
-                authSteps.put(step, authStep);
+        int numSteps = authenticationSteps.length;
+        // We check if the steps have consecutive step numbers.
+        if (numSteps > 0 && authenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
+            if (log.isDebugEnabled()) {
+                log.debug("Authentication steps of Application with id: " + applicationId + "  do not have " +
+                        "consecutive numbers. This was possibility due to a IDP force deletion. Fixing the step " +
+                        "order.");
             }
+            // Iterate through the steps and fix step order.
+            int count = 1;
+            for (AuthenticationStep step : authenticationSteps) {
+                step.setStepOrder(count++);
+            }
+        }
 
-            LocalAndOutboundAuthenticationConfig localAndOutboundConfiguration
-                    = new LocalAndOutboundAuthenticationConfig();
-
-            AuthenticationStep[] authenticationSteps = new AuthenticationStep[authSteps.size()];
+        localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
 
-            int authStepCount = 0;
+        if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
+                || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
+            if (ArrayUtils.isEmpty(authenticationSteps)) {
+                // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
+                // happen due to a force delete of a federated identity provider referred by the SP. So we change
+                // the authType to 'default'.
+                if (log.isDebugEnabled()) {
+                    log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
+                            applicationId +
+                            " has zero authentication step. This was possibility due to a IDP force deletion. " +
+                            " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
+                }
+                authType = ApplicationConstants.AUTH_TYPE_DEFAULT;
+            }
+        }
 
-            for (Entry<String, AuthenticationStep> entry : authSteps.entrySet()) {
+        localAndOutboundConfiguration.setAuthenticationType(authType);
 
-                AuthenticationStep authStep = entry.getValue();
-                String stepId = entry.getKey();
+        if (authenticationScriptConfig != null) {
+            localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
+        }
+    }
 
-                List<LocalAuthenticatorConfig> localAuthenticatorList = stepLocalAuth.get(stepId);
+    /**
+     * Load the authentication steps of the application with their local authenticators and federated identity
+     * providers. Steps, authenticators and identity providers are read with a single query, instead of resolving
+     * each authenticator and identity provider separately.
+     *
+     * @param applicationId Application ID.
+     * @param connection    Database connection.
+     * @param tenantId      Tenant ID of the application.
+     * @return Authentication steps in the order they were read.
+     * @throws SQLException If an error occurs while reading the steps.
+     */
+    private AuthenticationStep[] getAuthenticationSteps(int applicationId, Connection connection, int tenantId)
+            throws SQLException {
 
-                if (localAuthenticatorList != null && localAuthenticatorList.size() > 0) {
-                    authStep.setLocalAuthenticatorConfigs(
-                            localAuthenticatorList.toArray(
-                                    new LocalAuthenticatorConfig[localAuthenticatorList.size()]));
+        AuthenticationStepsBuilder authenticationSteps = new AuthenticationStepsBuilder(tenantId);
+        try (PreparedStatement prepStmt = connection.prepareStatement(
+                ApplicationMgtDBQueries.LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID)) {
+            prepStmt.setInt(1, applicationId);
+            prepStmt.setInt(2, tenantId);
+            prepStmt.setInt(3, tenantId);
+            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
+            prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
+            try (ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    authenticationSteps.addRow(rs, 0);
                 }
+            }
+        }
+        return authenticationSteps.build();
+    }
 
-                Map<String, List<FederatedAuthenticatorConfig>> idpList = stepFedIdPAuthenticators
-                        .get(stepId);
-
-                if (idpList != null && idpList.size() > 0) {
-                    IdentityProvider[] fedIdpList = new IdentityProvider[idpList.size()];
-                    int idpCount = 0;
+    /**
+     * Assembles the authentication steps of an application from the rows of the steps and authenticators query.
+     */
+    private static class AuthenticationStepsBuilder {
 
-                    for (Entry<String, List<FederatedAuthenticatorConfig>> idpEntry : idpList
-                            .entrySet()) {
-                        String idpName = idpEntry.getKey();
-                        List<FederatedAuthenticatorConfig> fedAuthenticators = idpEntry.getValue();
-                        IdentityProvider idp = new IdentityProvider();
-                        idp.setIdentityProviderName(idpName);
-                        idp.setFederationHub(isFederationHubIdP(idpName, connection, tenantId));
-                        idp.setFederatedAuthenticatorConfigs(
-                                fedAuthenticators.toArray(new FederatedAuthenticatorConfig[fedAuthenticators.size()]));
-                        idp.setDefaultAuthenticatorConfig(idp.getFederatedAuthenticatorConfigs()[0]);
-                        fedIdpList[idpCount++] = idp;
-                    }
-                    authStep.setFederatedIdentityProviders(fedIdpList);
-                }
+        private final int tenantId;
+        // Step order -> step, keeping the order the steps were read.
+        private final Map<Integer, AuthenticationStep> authSteps = new LinkedHashMap<>();
+        private final Map<Integer, List<LocalAuthenticatorConfig>> stepLocalAuth = new HashMap<>();
+        private final Map<Integer, Map<String, IdentityProvider>> stepFedIdPs = new HashMap<>();
+        private final Map<Integer, Map<String, List<FederatedAuthenticatorConfig>>> stepFedAuthenticators =
+                new HashMap<>();
 
-                authenticationSteps[authStepCount++] = authStep;
-            }
+        AuthenticationStepsBuilder(int tenantId) {
 
-            Arrays.sort(authenticationSteps, Comparator.comparingInt(AuthenticationStep::getStepOrder));
+            this.tenantId = tenantId;
+        }
 
-            int numSteps = authenticationSteps.length;
-            // We check if the steps have consecutive step numbers.
-            if (numSteps > 0 && authenticationSteps[numSteps - 1].getStepOrder() != numSteps) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Authentication steps of Application with id: " + applicationId + "  do not have " +
-                            "consecutive numbers. This was possibility due to a IDP force deletion. Fixing the step " +
-                            "order.");
-                }
-                // Iterate through the steps and fix step order.
-                int count = 1;
-                for (AuthenticationStep step : authenticationSteps) {
-                    step.setStepOrder(count++);
-                }
+        /**
+         * Add a row of the steps and authenticators query.
+         *
+         * @param rs     Result set positioned at the row.
+         * @param offset Number of columns preceding STEP_ORDER in the row.
+         * @throws SQLException If an error occurs while reading the row.
+         */
+        void addRow(ResultSet rs, int offset) throws SQLException {
+
+            // STEP_ORDER, IS_SUBJECT_STEP, IS_ATTRIBUTE_STEP, IDP_NAME, IDP_TENANT_ID, IS_FEDERATION_HUB,
+            // AUTHENTICATOR_NAME, AUTHENTICATOR_DISPLAY_NAME
+            int stepOrder = rs.getInt(offset + 1);
+            AuthenticationStep authStep = authSteps.get(stepOrder);
+            if (authStep == null) {
+                authStep = new AuthenticationStep();
+                authStep.setStepOrder(stepOrder);
+                authSteps.put(stepOrder, authStep);
+                stepLocalAuth.put(stepOrder, new ArrayList<>());
+                stepFedIdPs.put(stepOrder, new LinkedHashMap<>());
+                stepFedAuthenticators.put(stepOrder, new HashMap<>());
             }
-
-            localAndOutboundConfiguration.setAuthenticationSteps(authenticationSteps);
-
-            String authType = getAuthenticationType(applicationId, connection);
-            if (StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FEDERATED)
-                    || StringUtils.equalsIgnoreCase(authType, ApplicationConstants.AUTH_TYPE_FLOW)) {
-                if (ArrayUtils.isEmpty(authenticationSteps)) {
-                    // Although auth type is 'federated' or 'flow' we don't have any authentication steps. This can
-                    // happen due to a force delete of a federated identity provider referred by the SP. So we change
-                    // the authType to 'default'.
-                    if (log.isDebugEnabled()) {
-                        log.debug("Authentication type is '" + authType + "' eventhough the application with id: " +
-                                applicationId +
-                                " has zero authentication step. This was possibility due to a IDP force deletion. " +
-                                " Defaulting authentication type to " + ApplicationConstants.AUTH_TYPE_DEFAULT);
-                    }
-                    authType = ApplicationConstants.AUTH_TYPE_DEFAULT;
+            authStep.setSubjectStep("1".equals(rs.getString(offset + 2)));
+            authStep.setAttributeStep("1".equals(rs.getString(offset + 3)));
+
+            String idpName = rs.getString(offset + 4);
+            if (ApplicationConstants.LOCAL_IDP_NAME.equals(idpName)) {
+                LocalAuthenticatorConfig localAuthenticator = new LocalAuthenticatorConfig();
+                localAuthenticator.setName(rs.getString(offset + 7));
+                localAuthenticator.setDisplayName(rs.getString(offset + 8));
+                stepLocalAuth.get(stepOrder).add(localAuthenticator);
+            } else {
+                IdentityProvider idp = stepFedIdPs.get(stepOrder).get(idpName);
+                if (idp == null) {
+                    idp = new IdentityProvider();
+                    idp.setIdentityProviderName(idpName);
+                    // Shared identity providers of the super tenant are not federation hubs of the tenant.
+                    idp.setFederationHub(rs.getInt(offset + 5) == tenantId && "1".equals(rs.getString(offset + 6)));
+                    stepFedIdPs.get(stepOrder).put(idpName, idp);
+                    stepFedAuthenticators.get(stepOrder).put(idpName, new ArrayList<>());
                 }
+                FederatedAuthenticatorConfig fedAuthenticator = new FederatedAuthenticatorConfig();
+                fedAuthenticator.setName(rs.getString(offset + 7));
+                fedAuthenticator.setDisplayName(rs.getString(offset + 8));
+                stepFedAuthenticators.get(stepOrder).get(idpName).add(fedAuthenticator);
             }
+        }
 
-            localAndOutboundConfiguration.setAuthenticationType(authType);
-
-            AuthenticationScriptConfig authenticationScriptConfig = getScriptConfiguration(applicationId, connection);
-            if (authenticationScriptConfig != null) {
-                localAndOutboundConfiguration.setAuthenticationScriptConfig(authenticationScriptConfig);
-            }
-
-            PreparedStatement localAndOutboundConfigPrepStmt = null;
-            ResultSet localAndOutboundConfigResultSet = null;
+        /**
+         * @return Authentication steps in the order they were read.
+         */
+        AuthenticationStep[] build() {
 
-            try {
-                localAndOutboundConfigPrepStmt = connection
-                        .prepareStatement(ApplicationMgtDBQueries.LOAD_LOCAL_AND_OUTBOUND_CONFIG_BY_APP_ID);
-                localAndOutboundConfigPrepStmt.setInt(1, tenantId);
-                localAndOutboundConfigPrepStmt.setInt(2, applicationId);
-                localAndOutboundConfigResultSet = localAndOutboundConfigPrepStmt.executeQuery();
-
-                if (localAndOutboundConfigResultSet.next()) {
-                    localAndOutboundConfiguration.setUseTenantDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(1)));
-                    localAndOutboundConfiguration.setUseUserstoreDomainInLocalSubjectIdentifier("1"
-                            .equals(localAndOutboundConfigResultSet.getString(2)));
-                    localAndOutboundConfiguration.setEnableAuthorization("1"
-                            .equals(localAndOutboundConfigResultSet.getString(3)));
-                    localAndOutboundConfiguration.setAlwaysSendBackAuthenticatedListOfIdPs("1"
-                            .equals(localAndOutboundConfigResultSet.getString(4)));
-                    localAndOutboundConfiguration.setSubjectClaimUri(localAndOutboundConfigResultSet
-                            .getString(5));
-
-                    readAndSetConfigurationsFromProperties(propertyList, localAndOutboundConfiguration);
+            for (Entry<Integer, AuthenticationStep> entry : authSteps.entrySet()) {
+                AuthenticationStep authStep = entry.getValue();
+                List<LocalAuthenticatorConfig> localAuthenticatorList = stepLocalAuth.get(entry.getKey());
+                if (!localAuthenticatorList.isEmpty()) {
+                    authStep.setLocalAuthenticatorConfigs(
+                            localAuthenticatorList.toArray(new LocalAuthenticatorConfig[0]));
+                }
+                Collection<IdentityProvider> fedIdPs = stepFedIdPs.get(entry.getKey()).values();
+                if (!fedIdPs.isEmpty()) {
+                    for (IdentityProvider idp : fedIdPs) {
+                        List<FederatedAuthenticatorConfig> fedAuthenticators = stepFedAuthenticators
+                                .get(entry.getKey()).get(idp.getIdentityProviderName());
+                        idp.setFederatedAuthenticatorConfigs(
+                                fedAuthenticators.toArray(new FederatedAuthenticatorConfig[0]));
+                        idp.setDefaultAuthenticatorConfig(fedAuthenticators.get(0));
+                    }
+                    authStep.setFederatedIdentityProviders(fedIdPs.toArray(new IdentityProvider[0]));
                 }
-            } finally {
-                IdentityApplicationManagementUtil.closeStatement(localAndOutboundConfigPrepStmt);
-                IdentityApplicationManagementUtil.closeResultSet(localAndOutboundConfigResultSet);
             }
-
-            return localAndOutboundConfiguration;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(getStepInfoPrepStmt);
-            IdentityApplicationManagementUtil.closeResultSet(stepInfoResultSet);
+            return authSteps.values().toArray(new AuthenticationStep[0]);
         }
     }
 
@@ -2824,52 +3183,43 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             try (ResultSet localAndOutboundConfigScriptResultSet = localAndOutboundConfigScriptPrepStmt
                     .executeQuery()) {
                 if (localAndOutboundConfigScriptResultSet.next()) {
-                    AuthenticationScriptConfig authenticationScriptConfig = new AuthenticationScriptConfig();
-
-                    try {
-                        boolean isEnabled = "1".equals(localAndOutboundConfigScriptResultSet.getString(2));
-                        InputStream scriptBinaryStream = localAndOutboundConfigScriptResultSet.getBinaryStream(1);
-                        String targetString = StringUtils.EMPTY;
-                        if (scriptBinaryStream != null) {
-                            targetString = IOUtils.toString(scriptBinaryStream);
-                        }
-                        authenticationScriptConfig.setContent(targetString);
-                        authenticationScriptConfig.setEnabled(isEnabled);
-                    } catch (IOException e) {
-                        throw new IdentityApplicationManagementException(
-                                "Could not read the Script for application : " + applicationId, e);
-                    }
-
-                    return authenticationScriptConfig;
+                    return buildScriptConfiguration(applicationId, localAndOutboundConfigScriptResultSet, 0);
                 }
             }
         }
         return null;
     }
 
-    private boolean isFederationHubIdP(String idPName, Connection connection, int tenantId)
-            throws SQLException {
+    /**
+     * Build the authentication script config of a row of the authentication script query.
+     *
+     * @param applicationId Application ID.
+     * @param resultSet     Result set positioned at the row.
+     * @param offset        Number of columns preceding CONTENT in the row.
+     * @return Authentication script config of the application.
+     * @throws SQLException If an error occurs while reading the row.
+     * @throws IdentityApplicationManagementException If the script could not be read.
+     */
+    private AuthenticationScriptConfig buildScriptConfiguration(int applicationId, ResultSet resultSet, int offset)
+            throws SQLException, IdentityApplicationManagementException {
 
-        PreparedStatement get = null;
-        ResultSet resultSet = null;
+        AuthenticationScriptConfig authenticationScriptConfig = new AuthenticationScriptConfig();
 
         try {
-            get = connection.prepareStatement(ApplicationMgtDBQueries.LOAD_HUB_IDP_BY_NAME);
-
-            get.setString(1, idPName);
-            get.setInt(2, tenantId);
-            resultSet = get.executeQuery();
-
-            if (resultSet.next()) {
-                return "1".equals(resultSet.getString(1));
+            boolean isEnabled = "1".equals(resultSet.getString(offset + 2));
+            InputStream scriptBinaryStream = resultSet.getBinaryStream(offset + 1);
+            String targetString = StringUtils.EMPTY;
+            if (scriptBinaryStream != null) {
+                targetString = IOUtils.toString(scriptBinaryStream);
             }
-
-            return false;
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(get);
-            IdentityApplicationManagementUtil.closeResultSet(resultSet);
+            authenticationScriptConfig.setContent(targetString);
+            authenticationScriptConfig.setEnabled(isEnabled);
+        } catch (IOException e) {
+            throw new IdentityApplicationManagementException(
+                    "Could not read the Script for application : " + applicationId, e);
         }
 
+        return authenticationScriptConfig;
     }
 
     /**
@@ -2899,50 +3249,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = get.executeQuery();
 
             while (resultSet.next()) {
-                ClaimMapping claimMapping = new ClaimMapping();
-                Claim localClaim = new Claim();
-                Claim remoteClaim = new Claim();
-
-                localClaim.setClaimUri(resultSet.getString(1));
-                remoteClaim.setClaimUri(resultSet.getString(2));
-
-                String requested = resultSet.getString(3);
-
-                if ("1".equalsIgnoreCase(requested)) {
-                    claimMapping.setRequested(true);
-                } else {
-                    claimMapping.setRequested(false);
-                }
-
-                String mandatory = resultSet.getString(4);
-
-                if ("1".equalsIgnoreCase(mandatory)) {
-                    claimMapping.setMandatory(true);
-                } else {
-                    claimMapping.setMandatory(false);
-                }
-
-                if (remoteClaim.getClaimUri() == null
-                        || remoteClaim.getClaimUri().trim().length() == 0) {
-                    remoteClaim.setClaimUri(localClaim.getClaimUri());
-                }
-
-                if (localClaim.getClaimUri() == null
-                        || localClaim.getClaimUri().trim().length() == 0) {
-                    localClaim.setClaimUri(remoteClaim.getClaimUri());
-                }
-
-                claimMapping.setDefaultValue(resultSet.getString(5));
-
-                claimMapping.setLocalClaim(localClaim);
-                claimMapping.setRemoteClaim(remoteClaim);
-
-                claimMappingList.add(claimMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
-                            + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
-                }
+                claimMappingList.add(buildClaimMapping(resultSet, 0));
             }
 
             claimConfig.setClaimMappings(claimMappingList.toArray(new ClaimMapping[claimMappingList
@@ -3004,6 +3311,61 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return claimConfig;
     }
 
+    /**
+     * Build the claim mapping of a row of the claim mappings query.
+     *
+     * @param resultSet Result set positioned at the row.
+     * @param offset    Number of columns preceding IDP_CLAIM in the row.
+     * @return Claim mapping.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private ClaimMapping buildClaimMapping(ResultSet resultSet, int offset) throws SQLException {
+
+        ClaimMapping claimMapping = new ClaimMapping();
+        Claim localClaim = new Claim();
+        Claim remoteClaim = new Claim();
+
+        localClaim.setClaimUri(resultSet.getString(offset + 1));
+        remoteClaim.setClaimUri(resultSet.getString(offset + 2));
+
+        String requested = resultSet.getString(offset + 3);
+
+        if ("1".equalsIgnoreCase(requested)) {
+            claimMapping.setRequested(true);
+        } else {
+            claimMapping.setRequested(false);
+        }
+
+        String mandatory = resultSet.getString(offset + 4);
+
+        if ("1".equalsIgnoreCase(mandatory)) {
+            claimMapping.setMandatory(true);
+        } else {
+            claimMapping.setMandatory(false);
+        }
+
+        if (remoteClaim.getClaimUri() == null
+                || remoteClaim.getClaimUri().trim().length() == 0) {
+            remoteClaim.setClaimUri(localClaim.getClaimUri());
+        }
+
+        if (localClaim.getClaimUri() == null
+                || localClaim.getClaimUri().trim().length() == 0) {
+            localClaim.setClaimUri(remoteClaim.getClaimUri());
+        }
+
+        claimMapping.setDefaultValue(resultSet.getString(offset + 5));
+
+        claimMapping.setLocalClaim(localClaim);
+        claimMapping.setRemoteClaim(remoteClaim);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Local Claim: " + claimMapping.getLocalClaim().getClaimUri()
+                    + " SPClaim: " + claimMapping.getRemoteClaim().getClaimUri());
+        }
+        return claimMapping;
+    }
+
     /**
      * @param applicationId
      * @param connection
@@ -3128,17 +3490,7 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
             resultSet = getClientInfo.executeQuery();
 
             while (resultSet.next()) {
-                RoleMapping roleMapping = new RoleMapping();
-                LocalRole localRole = new LocalRole();
-                localRole.setLocalRoleName(resultSet.getString(1));
-                roleMapping.setLocalRole(localRole);
-                roleMapping.setRemoteRole(resultSet.getString(2));
-                roleMappingList.add(roleMapping);
-
-                if (log.isDebugEnabled()) {
-                    log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
-                            + " SPRole: " + roleMapping.getRemoteRole());
-                }
+                roleMappingList.add(buildRoleMapping(resultSet, 0));
             }
 
         } catch (SQLException e) {
@@ -3150,6 +3502,29 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return roleMappingList;
     }
 
+    /**
+     * Build the role mapping of a row of the role mappings query.
+     *
+     * @param resultSet Result set positioned at the row.
+     * @param offset    Number of columns preceding IDP_ROLE in the row.
+     * @return Role mapping.
+     * @throws SQLException If an error occurs while reading the row.
+     */
+    private RoleMapping buildRoleMapping(ResultSet resultSet, int offset) throws SQLException {
+
+        RoleMapping roleMapping = new RoleMapping();
+        LocalRole localRole = new LocalRole();
+        localRole.setLocalRoleName(resultSet.getString(offset + 1));
+        roleMapping.setLocalRole(localRole);
+        roleMapping.setRemoteRole(resultSet.getString(offset + 2));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Local Role: " + roleMapping.getLocalRole().getLocalRoleName()
+                    + " SPRole: " + roleMapping.getRemoteRole());
+        }
+        return roleMapping;
+    }
+
     /**
      * Get count of applications for user
      *
@@ -4307,40 +4682,6 @@ public class ApplicationDAOImpl extends AbstractApplicationDAOImpl implements Pa
         return authId;
     }
 
-    /**
-     * @param conn
-     * @param tenantId
-     * @param authenticatorId
-     * @return
-     * @throws SQLException
-     */
-    private Map<String, String> getAuthenticatorInfo(Connection conn, int tenantId,
-                                                     int authenticatorId) throws SQLException {
-
-        PreparedStatement prepStmt = null;
-        ResultSet rs = null;
-        String sqlStmt = ApplicationMgtDBQueries.LOAD_IDP_AND_AUTHENTICATOR_NAMES;
-        Map<String, String> returnData = new HashMap<String, String>();
-        try {
-            prepStmt = conn.prepareStatement(sqlStmt);
-            prepStmt.setInt(1, authenticatorId);
-            prepStmt.setInt(2, tenantId);
-            prepStmt.setInt(3, tenantId);
-            prepStmt.setInt(4, MultitenantConstants.SUPER_TENANT_ID);
-            prepStmt.setInt(5, MultitenantConstants.SUPER_TENANT_ID);
-            rs = prepStmt.executeQuery();
-            while (rs.next()) {
-                returnData.put(ApplicationConstants.IDP_NAME, rs.getString(1));
-                returnData.put(ApplicationConstants.IDP_AUTHENTICATOR_NAME, rs.getString(2));
-                returnData
-                        .put(ApplicationConstants.IDP_AUTHENTICATOR_DISPLAY_NAME, rs.getString(3));
-            }
-        } finally {
-            IdentityApplicationManagementUtil.closeStatement(prepStmt);
-        }
-        return returnData;
-    }
-
     /**
      * @param conn
      * @param tenantId
@@ -192,15 +192,67 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_APP_NAME_BY_APP_ID = "SELECT APP_NAME FROM SP_APP WHERE ID = ? AND TENANT_ID = ?";
     public static final String LOAD_CLIENTS_INFO_BY_APP_ID = "SELECT INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, PROP_NAME, " +
             "PROP_VALUE,INBOUND_CONFIG_TYPE FROM  SP_INBOUND_AUTH WHERE APP_ID = ? AND TENANT_ID = ?";
+    /**
+     * @deprecated Authentication steps are loaded with {@link #LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID}.
+     */
+    @Deprecated
     public static final String LOAD_STEPS_INFO_BY_APP_ID = "SELECT STEP_ORDER, AUTHENTICATOR_ID, IS_SUBJECT_STEP, " +
             "IS_ATTRIBUTE_STEP "
             + "FROM SP_AUTH_STEP INNER JOIN SP_FEDERATED_IDP "
             + "ON SP_AUTH_STEP.ID=SP_FEDERATED_IDP.ID "
             + "WHERE APP_ID = ?";
     public static final String LOAD_STEP_ID_BY_APP_ID = "SELECT ID FROM SP_AUTH_STEP WHERE APP_ID = ?";
+    public static final String LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID = "SELECT S.STEP_ORDER, S.IS_SUBJECT_STEP, " +
+            "S.IS_ATTRIBUTE_STEP, A.NAME, A.TENANT_ID, A.IS_FEDERATION_HUB, B.NAME, B.DISPLAY_NAME " +
+            "FROM SP_AUTH_STEP S INNER JOIN SP_FEDERATED_IDP F ON S.ID = F.ID " +
+            "INNER JOIN IDP_AUTHENTICATOR B ON F.AUTHENTICATOR_ID = B.ID INNER JOIN IDP A ON B.IDP_ID = A.ID " +
+            "WHERE S.APP_ID = ? AND ((A.TENANT_ID = ? AND B.TENANT_ID = ?) OR " +
+            "(A.TENANT_ID = ? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID = ?))";
+    /**
+     * @deprecated The federation hub flag is loaded with {@link #LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID}.
+     */
+    @Deprecated
     public static final String LOAD_HUB_IDP_BY_NAME =
             "SELECT IS_FEDERATION_HUB FROM IDP WHERE NAME = ? AND TENANT_ID = ?";
 
+    // Queries loading the applications of a list of application ids. APP_ID_LIST_PLACEHOLDER is replaced with a
+    // parameter for each application id, and the application id is the first column of each query.
+    public static final String APP_ID_LIST_PLACEHOLDER = "_APP_ID_LIST_";
+    public static final String LOAD_BASIC_APP_INFO_BY_APP_IDS = "SELECT ID, TENANT_ID, APP_NAME, USER_STORE, " +
+            "USERNAME, DESCRIPTION, ROLE_CLAIM, AUTH_TYPE, PROVISIONING_USERSTORE_DOMAIN, IS_DUMB_MODE, " +
+            "IS_LOCAL_CLAIM_DIALECT, IS_SEND_LOCAL_SUBJECT_ID, IS_SEND_AUTH_LIST_OF_IDPS, " +
+            "IS_USE_TENANT_DOMAIN_SUBJECT, IS_USE_USER_DOMAIN_SUBJECT, ENABLE_AUTHORIZATION, SUBJECT_CLAIM_URI, " +
+            "IS_SAAS_APP, UUID, IMAGE_URL, ACCESS_URL, IS_DISCOVERABLE " +
+            "FROM SP_APP WHERE ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String GET_SP_METADATA_BY_SP_IDS = "SELECT SP_ID, NAME, VALUE, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String GET_SP_METADATA_BY_SP_IDS_H2 = "SELECT SP_ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
+            "SP_METADATA WHERE SP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_CLIENTS_INFO_BY_APP_IDS = "SELECT APP_ID, INBOUND_AUTH_KEY, INBOUND_AUTH_TYPE, " +
+            "PROP_NAME, PROP_VALUE, INBOUND_CONFIG_TYPE FROM SP_INBOUND_AUTH WHERE TENANT_ID = ? AND " +
+            "APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_IDS = "SELECT S.APP_ID, S.STEP_ORDER, " +
+            "S.IS_SUBJECT_STEP, S.IS_ATTRIBUTE_STEP, A.NAME, A.TENANT_ID, A.IS_FEDERATION_HUB, B.NAME, " +
+            "B.DISPLAY_NAME FROM SP_AUTH_STEP S INNER JOIN SP_FEDERATED_IDP F ON S.ID = F.ID " +
+            "INNER JOIN IDP_AUTHENTICATOR B ON F.AUTHENTICATOR_ID = B.ID INNER JOIN IDP A ON B.IDP_ID = A.ID " +
+            "WHERE ((A.TENANT_ID = ? AND B.TENANT_ID = ?) OR " +
+            "(A.TENANT_ID = ? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID = ?)) AND " +
+            "S.APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_SCRIPTS_BY_APP_IDS = "SELECT APP_ID, CONTENT, IS_ENABLED FROM SP_AUTH_SCRIPT " +
+            "WHERE APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_CLAIM_MAPPINGS_BY_APP_IDS = "SELECT APP_ID, IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
+            "IS_MANDATORY, DEFAULT_VALUE FROM SP_CLAIM_MAPPING WHERE TENANT_ID = ? AND " +
+            "APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_SP_DIALECTS_BY_APP_IDS = "SELECT APP_ID, SP_DIALECT FROM SP_CLAIM_DIALECT " +
+            "WHERE TENANT_ID = ? AND APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_ROLE_MAPPINGS_BY_APP_IDS = "SELECT APP_ID, IDP_ROLE, SP_ROLE FROM " +
+            "SP_ROLE_MAPPING WHERE TENANT_ID = ? AND APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_REQ_PATH_AUTHENTICATORS_BY_APP_IDS = "SELECT APP_ID, AUTHENTICATOR_NAME FROM " +
+            "SP_REQ_PATH_AUTHENTICATOR WHERE TENANT_ID = ? AND APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+    public static final String LOAD_PRO_CONNECTORS_BY_APP_IDS = "SELECT APP_ID, IDP_NAME, CONNECTOR_NAME, " +
+            "IS_JIT_ENABLED, BLOCKING, RULE_ENABLED FROM SP_PROVISIONING_CONNECTOR WHERE TENANT_ID = ? AND " +
+            "APP_ID IN (" + APP_ID_LIST_PLACEHOLDER + ")";
+
     public static final String LOAD_CLAIM_MAPPING_BY_APP_ID = "SELECT IDP_CLAIM, SP_CLAIM, IS_REQUESTED, " +
             "IS_MANDATORY, DEFAULT_VALUE " +
             "FROM SP_CLAIM_MAPPING WHERE APP_ID = ? AND TENANT_ID = ?";
@@ -265,6 +317,10 @@ public class ApplicationMgtDBQueries {
     public static final String LOAD_IDP_AUTHENTICATOR_ID = "SELECT A.ID FROM IDP_AUTHENTICATOR A JOIN IDP B ON A" +
             ".IDP_ID= B.ID WHERE A.NAME =? AND B.NAME=? AND ((A.TENANT_ID =? AND B.TENANT_ID =?) OR (B.TENANT_ID=? " +
             "AND B.NAME LIKE 'SHARED_%'))";
+    /**
+     * @deprecated The IdP and authenticator names are loaded with {@link #LOAD_STEPS_AND_AUTHENTICATORS_BY_APP_ID}.
+     */
+    @Deprecated
     public static final String LOAD_IDP_AND_AUTHENTICATOR_NAMES = "SELECT A.NAME, B.NAME, " +
             "B.DISPLAY_NAME FROM IDP A JOIN IDP_AUTHENTICATOR B ON A.ID = B.IDP_ID WHERE B.ID =? AND ((A.TENANT_ID =?" +
             " AND B.TENANT_ID =?) OR  (A.TENANT_ID=? AND A.NAME LIKE 'SHARED_%' AND B.TENANT_ID=?))";
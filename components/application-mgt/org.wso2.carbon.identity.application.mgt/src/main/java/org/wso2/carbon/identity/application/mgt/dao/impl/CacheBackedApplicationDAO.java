@@ -50,8 +50,10 @@ import org.wso2.carbon.identity.application.mgt.internal.cache.ServiceProviderRe
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Cached DAO layer for the application management. All the DAO access has to be happen through this layer to ensure
@@ -115,6 +117,50 @@ public class CacheBackedApplicationDAO extends ApplicationDAOImpl {
         return serviceProvider;
     }
 
+    /**
+     * Get the service providers of the given application ids. Applications missing in the cache are loaded together
+     * and added to the cache, so this can be used to preload the application caches.
+     *
+     * @param applicationIds The application ids.
+     * @return Service providers of the applications that exist.
+     * @throws IdentityApplicationManagementException throws when an error occurs in retrieving the service providers.
+     */
+    @Override
+    public List<ServiceProvider> getApplications(List<Integer> applicationIds)
+            throws IdentityApplicationManagementException {
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<Integer, ServiceProvider> foundApplications = new HashMap<>();
+        Set<Integer> missingApplicationIds = new LinkedHashSet<>();
+        for (int applicationId : applicationIds) {
+            if (foundApplications.containsKey(applicationId) || missingApplicationIds.contains(applicationId)) {
+                continue;
+            }
+            ServiceProvider serviceProvider = getApplicationFromCache(applicationId, tenantDomain);
+            if (serviceProvider == null) {
+                missingApplicationIds.add(applicationId);
+            } else {
+                foundApplications.put(applicationId, serviceProvider);
+            }
+        }
+        if (!missingApplicationIds.isEmpty()) {
+            for (ServiceProvider serviceProvider : appDAO.getApplications(new ArrayList<>(missingApplicationIds))) {
+                addToCache(serviceProvider, serviceProvider.getTenantDomain());
+                foundApplications.put(serviceProvider.getApplicationID(), serviceProvider);
+            }
+        }
+
+        // Return the applications in the order of the given ids.
+        List<ServiceProvider> serviceProviders = new ArrayList<>();
+        for (int applicationId : applicationIds) {
+            ServiceProvider serviceProvider = foundApplications.get(applicationId);
+            if (serviceProvider != null) {
+                serviceProviders.add(serviceProvider);
+            }
+        }
+        return serviceProviders;
+    }
+
     public String getApplicationName(int applicationID) throws IdentityApplicationManagementException {
 
         ServiceProvider applicationFromCache = getApplicationFromCache(applicationID,
@@ -52,6 +52,8 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.common.model.RequestPathAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.dao.impl.ApplicationDAOImpl;
+import org.wso2.carbon.identity.application.mgt.dao.impl.CacheBackedApplicationDAO;
 import org.wso2.carbon.identity.application.mgt.internal.ApplicationManagementServiceComponentHolder;
 import org.wso2.carbon.identity.common.testng.WithH2Database;
 import org.wso2.carbon.identity.common.testng.realm.InMemoryRealmService;
@@ -71,6 +73,8 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import java.lang.reflect.Field;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -790,6 +794,76 @@ public class ApplicationManagementServiceImplTest extends PowerMockTestCase {
                 REGISTRY_SYSTEM_USERNAME);
     }
 
+    @Test
+    public void testGetApplications() throws Exception {
+
+        ServiceProvider inputSP1 = new ServiceProvider();
+        inputSP1.setApplicationName(APPLICATION_NAME_1);
+        addApplicationConfigurations(inputSP1);
+        ServiceProvider inputSP2 = new ServiceProvider();
+        inputSP2.setApplicationName(APPLICATION_NAME_2);
+        addApplicationConfigurations(inputSP2);
+        int applicationId1 = applicationManagementService.addApplication(inputSP1, SUPER_TENANT_DOMAIN_NAME,
+                USERNAME_1).getApplicationID();
+        int applicationId2 = applicationManagementService.addApplication(inputSP2, SUPER_TENANT_DOMAIN_NAME,
+                USERNAME_1).getApplicationID();
+
+        try {
+            ApplicationDAOImpl applicationDAO = new ApplicationDAOImpl();
+            // Applications are returned in the order of the given ids, skipping the ids that do not exist.
+            List<ServiceProvider> serviceProviders = applicationDAO.getApplications(
+                    Arrays.asList(applicationId2, -1, applicationId1));
+            Assert.assertEquals(serviceProviders.size(), 2);
+            Assert.assertEquals(serviceProviders.get(0).getApplicationID(), applicationId2);
+            Assert.assertEquals(serviceProviders.get(1).getApplicationID(), applicationId1);
+
+            // Applications loaded together match the applications loaded one by one.
+            for (ServiceProvider serviceProvider : serviceProviders) {
+                ServiceProvider expected = applicationDAO.getApplication(serviceProvider.getApplicationID());
+                Assert.assertEquals(serviceProvider.getApplicationName(), expected.getApplicationName());
+                Assert.assertEquals(serviceProvider.getApplicationResourceId(), expected.getApplicationResourceId());
+                Assert.assertEquals(serviceProvider.getDescription(), expected.getDescription());
+                Assert.assertEquals(serviceProvider.getOwner().getUserName(), expected.getOwner().getUserName());
+                Assert.assertEquals(serviceProvider.isSaasApp(), expected.isSaasApp());
+                Assert.assertEquals(serviceProvider.getInboundAuthenticationConfig()
+                                .getInboundAuthenticationRequestConfigs()[0].getInboundAuthKey(),
+                        expected.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs()[0]
+                                .getInboundAuthKey());
+                Assert.assertEquals(serviceProvider.getInboundProvisioningConfig().getProvisioningUserStore(),
+                        expected.getInboundProvisioningConfig().getProvisioningUserStore());
+                Assert.assertEquals(serviceProvider.getOutboundProvisioningConfig()
+                                .getProvisioningIdentityProviders().length,
+                        expected.getOutboundProvisioningConfig().getProvisioningIdentityProviders().length);
+                Assert.assertEquals(serviceProvider.getLocalAndOutBoundAuthenticationConfig().getAuthenticationType(),
+                        expected.getLocalAndOutBoundAuthenticationConfig().getAuthenticationType());
+                Assert.assertEquals(
+                        serviceProvider.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps().length,
+                        expected.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps().length);
+                Assert.assertEquals(serviceProvider.getRequestPathAuthenticatorConfigs()[0].getName(),
+                        expected.getRequestPathAuthenticatorConfigs()[0].getName());
+                Assert.assertEquals(serviceProvider.getClaimConfig().getRoleClaimURI(),
+                        expected.getClaimConfig().getRoleClaimURI());
+                Assert.assertEquals(serviceProvider.getClaimConfig().getClaimMappings()[0].getLocalClaim()
+                        .getClaimUri(), expected.getClaimConfig().getClaimMappings()[0].getLocalClaim().getClaimUri());
+                Assert.assertEquals(serviceProvider.getClaimConfig().getSpClaimDialects(),
+                        expected.getClaimConfig().getSpClaimDialects());
+                Assert.assertEquals(serviceProvider.getSpProperties().length, expected.getSpProperties().length);
+            }
+
+            // The order is kept when a part of the applications is served from the cache.
+            CacheBackedApplicationDAO cacheBackedApplicationDAO = new CacheBackedApplicationDAO(applicationDAO);
+            cacheBackedApplicationDAO.getApplication(applicationId1);
+            serviceProviders = cacheBackedApplicationDAO.getApplications(Arrays.asList(applicationId2,
+                    applicationId1));
+            Assert.assertEquals(serviceProviders.size(), 2);
+            Assert.assertEquals(serviceProviders.get(0).getApplicationID(), applicationId2);
+            Assert.assertEquals(serviceProviders.get(1).getApplicationID(), applicationId1);
+        } finally {
+            applicationManagementService.deleteApplication(APPLICATION_NAME_1, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+            applicationManagementService.deleteApplication(APPLICATION_NAME_2, SUPER_TENANT_DOMAIN_NAME, USERNAME_1);
+        }
+    }
+
     private void addApplicationConfigurations(ServiceProvider serviceProvider) {
 
         serviceProvider.setDescription("Created for testing");
@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.application.authentication.framework;
 
+import java.util.List;
+
 /**
  * Defines the session management service operations.
  */
@@ -31,4 +33,21 @@ public interface ServerSessionManagementService {
      */
     boolean removeSession(String sessionId);
 
+    /**
+     * Terminate the sessions related to the given session IDs.
+     *
+     * @param sessionIds - Session ids to be terminated
+     * @return number of sessions terminated
+     */
+    default int removeSessions(List<String> sessionIds) {
+
+        int removedSessions = 0;
+        for (String sessionId : sessionIds) {
+            if (removeSession(sessionId)) {
+                removedSessions++;
+            }
+        }
+        return removedSessions;
+    }
+
 }
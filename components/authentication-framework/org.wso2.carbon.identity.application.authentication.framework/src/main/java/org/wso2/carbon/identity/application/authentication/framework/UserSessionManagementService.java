@@ -68,6 +68,20 @@ public interface UserSessionManagementService {
         return false;
     }
 
+    /**
+     * Terminate all the active sessions of the given user IDs in bulk. The sessions of all the users are resolved
+     * and terminated in batches, instead of user by user. The user IDs are matched against the user session
+     * mapping as they are, without resolving the federated associations of the users.
+     *
+     * @param userIds Unique IDs of the users.
+     * @return Whether the sessions termination is success or not. In default method, false is returned.
+     * @throws SessionManagementException if the session termination fails.
+     */
+    default boolean terminateSessionsByUserIds(List<String> userIds) throws SessionManagementException {
+
+        return false;
+    }
+
     /**
      * Get a specific session of the given user ID.
      *
@@ -30,6 +30,9 @@ import org.wso2.carbon.identity.core.cache.BaseCache;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils.getLoginTenantDomainFromContext;
@@ -247,6 +250,27 @@ public class SessionContextCache extends BaseCache<SessionContextCacheKey, Sessi
 
     }
 
+    /**
+     * Clear the given session contexts from the cache, and write their DELETE operations to the session data store
+     * in batches.
+     *
+     * @param keys              Session context cache keys.
+     * @param loginTenantDomain Login tenant domain.
+     */
+    @Override
+    public void clearCacheEntries(Collection<SessionContextCacheKey> keys, String loginTenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clear " + keys.size() + " session contexts in tenant " + loginTenantDomain);
+        }
+        super.clearCacheEntries(keys, resolveLoginTenantDomain(loginTenantDomain));
+        List<String> contextIds = new ArrayList<>(keys.size());
+        for (SessionContextCacheKey key : keys) {
+            contextIds.add(key.getContextId());
+        }
+        SessionDataStore.getInstance().clearSessionData(contextIds, SESSION_CONTEXT_CACHE_NAME);
+    }
+
     /**
      * Check whether the given session context is valid according to idle session timeout restrictions.
      *
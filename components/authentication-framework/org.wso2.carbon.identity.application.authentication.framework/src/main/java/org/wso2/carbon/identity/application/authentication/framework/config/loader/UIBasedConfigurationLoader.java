@@ -30,7 +30,6 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilderFactory;
 import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
-import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceComponent;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
@@ -221,13 +220,10 @@ public class UIBasedConfigurationLoader implements SequenceLoader {
                 authConfig.setName(authenticatorName);
                 authConfig.setEnabled(true);
 
-                // iterate through each system authentication config
-                for (ApplicationAuthenticator appAuthenticator : FrameworkServiceComponent.getAuthenticators()) {
-
-                    if (authenticatorName.equalsIgnoreCase(appAuthenticator.getName())) {
-                        authConfig.setApplicationAuthenticator(appAuthenticator);
-                        break;
-                    }
+                ApplicationAuthenticator appAuthenticator = FrameworkServiceDataHolder.getInstance()
+                        .getAuthenticators().getByNameIgnoreCase(authenticatorName);
+                if (appAuthenticator != null) {
+                    authConfig.setApplicationAuthenticator(appAuthenticator);
                 }
                 requestPathAuthenticators.add(authConfig);
             }
@@ -299,12 +295,10 @@ public class UIBasedConfigurationLoader implements SequenceLoader {
             authenticatorConfig = new AuthenticatorConfig();
             authenticatorConfig.setName(authenticatorName);
 
-            for (ApplicationAuthenticator appAuthenticator : FrameworkServiceComponent.getAuthenticators()) {
-
-                if (authenticatorName.equalsIgnoreCase(appAuthenticator.getName())) {
-                    authenticatorConfig.setApplicationAuthenticator(appAuthenticator);
-                    break;
-                }
+            ApplicationAuthenticator appAuthenticator = FrameworkServiceDataHolder.getInstance()
+                    .getAuthenticators().getByNameIgnoreCase(authenticatorName);
+            if (appAuthenticator != null) {
+                authenticatorConfig.setApplicationAuthenticator(appAuthenticator);
             }
 
             stepConfig.getAuthenticatorList().add(authenticatorConfig);
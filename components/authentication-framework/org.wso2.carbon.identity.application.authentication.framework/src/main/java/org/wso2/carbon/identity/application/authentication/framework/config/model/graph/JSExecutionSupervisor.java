@@ -21,36 +21,68 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import java.lang.management.ManagementFactory;
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Supervises the execution of any script engine, and kills the thread if the time taken is too much.
+ * <p>
+ * All the executions are supervised by a single thread. The time based deadlines of the executions are kept in a
+ * hashed timer wheel, so that each tick only visits the deadlines falling on that tick. When a memory limit is
+ * configured, the allocated bytes of all the active executions are checked in one pass on each tick.
  */
 public class JSExecutionSupervisor {
 
     private static final Log LOG = LogFactory.getLog(JSExecutionSupervisor.class);
     private static final String JS_EXECUTION_MONITOR = "JS-Exec-Monitor";
-    private final long timeoutInMillis;
-    private final long memoryLimitInBytes;
-    private long taskExecutionRateInMillis = 50L;
-    private Map<String, TaskHolder> currentScriptExecutions = new HashMap<>();
-    private ScheduledExecutorService monitoringService;
+    private static final int WHEEL_SIZE = 512;
     private static final int MONITOR_TYPE_TIME = 0;
     private static final int MONITOR_TYPE_MEMORY = 1;
     private static final int WARN_THRESHOLD = 70;
+    private final long timeoutInMillis;
+    private final long memoryLimitInBytes;
+    private long taskExecutionRateInMillis = 50L;
+    private ThreadMXBean memoryCounter = null;
+    private final Map<String, MonitoredExecution> currentScriptExecutions = new ConcurrentHashMap<>();
+    private final Queue<Deadline> pendingDeadlines = new ConcurrentLinkedQueue<>();
+    private final ArrayDeque<Deadline>[] wheel;
+    private final Thread supervisorThread;
+    private volatile boolean running = true;
+    // Accessed only by the supervisor thread.
+    private long currentTick;
+
+    private final AtomicLong monitoredCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong memoryLimitExceededCount = new AtomicLong();
+    private final AtomicLong supervisionTimeInNanos = new AtomicLong();
+    private final AtomicLong supervisionTickCount = new AtomicLong();
 
     public JSExecutionSupervisor(int threadCount, long timeoutInMillis) {
 
         this(threadCount, timeoutInMillis, 0L);
     }
 
+    /**
+     * @param threadCount     Not used, as all the executions are supervised by a single thread. Retained for
+     *                        compatibility.
+     * @param timeoutInMillis Maximum time an adaptive auth flow can spend executing scripts. Must be positive.
+     * @param memoryLimit     Maximum bytes an adaptive auth flow can allocate while executing scripts. Memory is not
+     *                        supervised if this is not positive.
+     * @throws IllegalArgumentException If the timeout is not positive.
+     */
+    @SuppressWarnings("unchecked")
     public JSExecutionSupervisor(int threadCount, long timeoutInMillis, long memoryLimit) {
 
+        if (timeoutInMillis <= 0) {
+            throw new IllegalArgumentException("Adaptive authentication execution supervisor timeout must be " +
+                    "positive, but was: " + timeoutInMillis);
+        }
         if (taskExecutionRateInMillis > timeoutInMillis) {
             taskExecutionRateInMillis = timeoutInMillis;
         }
@@ -59,12 +91,19 @@ public class JSExecutionSupervisor {
 
         if (memoryLimit > 0) {
             this.memoryLimitInBytes = memoryLimit;
+            initializeMemoryCounter();
         } else {
             // We are not checking for memory usage.
             memoryLimitInBytes = -1;
         }
 
-        monitoringService = new ScheduledThreadPoolExecutor(threadCount, r -> new Thread(r, JS_EXECUTION_MONITOR));
+        wheel = new ArrayDeque[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        supervisorThread = new Thread(this::supervise, JS_EXECUTION_MONITOR);
+        supervisorThread.setDaemon(true);
+        supervisorThread.start();
     }
 
     /**
@@ -72,7 +111,8 @@ public class JSExecutionSupervisor {
      */
     public void shutdown() {
 
-        monitoringService.shutdown();
+        running = false;
+        supervisorThread.interrupt();
     }
 
     /**
@@ -103,12 +143,15 @@ public class JSExecutionSupervisor {
     public void monitor(String identifier, String serviceProvider, String tenantDomain, long elapsedTimeInMillis,
                         long consumedMemoryInBytes) {
 
-        MonitoringTask monitoringTask = new MonitoringTask(Thread.currentThread(), identifier, serviceProvider,
+        MonitoredExecution execution = new MonitoredExecution(Thread.currentThread(), identifier, serviceProvider,
                 tenantDomain, elapsedTimeInMillis, consumedMemoryInBytes);
-        ScheduledFuture<?> monitoredFuture = monitoringService.
-                scheduleAtFixedRate(monitoringTask, taskExecutionRateInMillis, taskExecutionRateInMillis,
-                        TimeUnit.MILLISECONDS);
-        currentScriptExecutions.put(identifier, new TaskHolder(monitoringTask, monitoredFuture));
+        currentScriptExecutions.put(identifier, execution);
+        monitoredCount.incrementAndGet();
+
+        long remainingTime = timeoutInMillis - elapsedTimeInMillis;
+        long remainingTimeToWarn = (timeoutInMillis * WARN_THRESHOLD) / 100 - elapsedTimeInMillis;
+        pendingDeadlines.add(new Deadline(execution, execution.timeCreated + remainingTimeToWarn, true));
+        pendingDeadlines.add(new Deadline(execution, execution.timeCreated + remainingTime, false));
     }
 
     /**
@@ -119,71 +162,232 @@ public class JSExecutionSupervisor {
      */
     public JSExecutionMonitorData completed(String identifier) {
 
-        TaskHolder taskHolder = currentScriptExecutions.remove(identifier);
-        if (taskHolder == null) {
+        MonitoredExecution execution = currentScriptExecutions.remove(identifier);
+        if (execution == null) {
             // Nothing to be done as there was no such task with the given identifier.
             return null;
         }
+        execution.completed = true;
+        return new JSExecutionMonitorData(execution.getTotalElapsedTime(), execution.getTotalConsumedMemory());
+    }
 
-        ScheduledFuture<?> monitoredFuture = taskHolder.getScheduledFuture();
-        if (taskHolder.getScheduledFuture() != null) {
-            monitoredFuture.cancel(true);
-        }
+    /**
+     * Get the number of script executions currently being supervised.
+     *
+     * @return Active execution count.
+     */
+    public int getActiveExecutionCount() {
+
+        return currentScriptExecutions.size();
+    }
+
+    public long getMonitoredCount() {
+
+        return monitoredCount.get();
+    }
+
+    /**
+     * Get the number of script executions killed for exceeding the time limit.
+     *
+     * @return Timeout count.
+     */
+    public long getTimeoutCount() {
+
+        return timeoutCount.get();
+    }
+
+    /**
+     * Get the number of script executions killed for exceeding the memory limit.
+     *
+     * @return Memory limit exceeded count.
+     */
+    public long getMemoryLimitExceededCount() {
 
-        MonitoringTask task = taskHolder.getMonitoringTask();
-        long elapsedTime = 0L;
-        long consumedMemory = 0L;
-        if (task != null) {
-            elapsedTime = task.getTotalElapsedTime();
-            consumedMemory = task.getTotalConsumedMemory();
-            task.turnOffThreadMemoryCounting();
+        return memoryLimitExceededCount.get();
+    }
+
+    /**
+     * Get the total time spent by the supervisor thread in checking the executions.
+     *
+     * @return Supervision time in nanoseconds.
+     */
+    public long getSupervisionTimeInNanos() {
+
+        return supervisionTimeInNanos.get();
+    }
+
+    public long getSupervisionTickCount() {
+
+        return supervisionTickCount.get();
+    }
+
+    /**
+     * Get the average time spent by the supervisor thread in checking the executions on a tick.
+     *
+     * @return Average supervision time per tick in nanoseconds.
+     */
+    public double getAverageSupervisionTimeInNanos() {
+
+        long ticks = supervisionTickCount.get();
+        return ticks == 0 ? 0 : (double) supervisionTimeInNanos.get() / ticks;
+    }
+
+    private void initializeMemoryCounter() {
+
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            try {
+                ((ThreadMXBean) threadMXBean).setThreadAllocatedMemoryEnabled(true);
+                memoryCounter = (ThreadMXBean) threadMXBean;
+                return;
+            } catch (UnsupportedOperationException e) {
+                LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                        "supervision will not be done for adaptive auth script executions.", e);
+                return;
+            }
         }
+        LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
+                "supervision will not be done for adaptive auth script executions.");
+    }
 
-        return new JSExecutionMonitorData(elapsedTime, consumedMemory);
+    private void supervise() {
+
+        long tickDurationInNanos = TimeUnit.MILLISECONDS.toNanos(taskExecutionRateInMillis);
+        long nextTickTime = System.nanoTime();
+        while (running) {
+            nextTickTime += tickDurationInNanos;
+            long sleepTime = nextTickTime - System.nanoTime();
+            if (sleepTime > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepTime);
+                } catch (InterruptedException e) {
+                    // Interrupted only when the supervisor is shut down.
+                    continue;
+                }
+            }
+            long startTime = System.nanoTime();
+            try {
+                processTick();
+            } catch (RuntimeException e) {
+                LOG.error("Error while supervising adaptive auth script executions.", e);
+            }
+            supervisionTimeInNanos.addAndGet(System.nanoTime() - startTime);
+            supervisionTickCount.incrementAndGet();
+        }
     }
 
-    private class TaskHolder {
+    private void processTick() {
 
-        private MonitoringTask monitoringTask;
-        private ScheduledFuture<?> scheduledFuture;
+        long now = System.currentTimeMillis();
+        Deadline pendingDeadline;
+        while ((pendingDeadline = pendingDeadlines.poll()) != null) {
+            if (!pendingDeadline.execution.completed) {
+                schedule(pendingDeadline, now);
+            }
+        }
 
-        public TaskHolder(MonitoringTask monitoringTask, ScheduledFuture<?> scheduledFuture) {
+        Iterator<Deadline> deadlines = wheel[(int) (currentTick % WHEEL_SIZE)].iterator();
+        while (deadlines.hasNext()) {
+            Deadline deadline = deadlines.next();
+            if (deadline.execution.completed) {
+                deadlines.remove();
+            } else if (deadline.remainingRounds > 0) {
+                deadline.remainingRounds--;
+            } else {
+                deadlines.remove();
+                expire(deadline);
+            }
+        }
+        currentTick++;
 
-            this.monitoringTask = monitoringTask;
-            this.scheduledFuture = scheduledFuture;
+        if (memoryCounter != null) {
+            for (MonitoredExecution execution : currentScriptExecutions.values()) {
+                checkMemory(execution);
+            }
         }
+    }
+
+    private void schedule(Deadline deadline, long now) {
 
-        public MonitoringTask getMonitoringTask() {
+        long delay = deadline.deadlineInMillis - now;
+        long ticks = delay <= 0 ? 0 : (delay + taskExecutionRateInMillis - 1) / taskExecutionRateInMillis;
+        deadline.remainingRounds = ticks / WHEEL_SIZE;
+        wheel[(int) ((currentTick + ticks) % WHEEL_SIZE)].add(deadline);
+    }
+
+    private void expire(Deadline deadline) {
 
-            return monitoringTask;
+        MonitoredExecution execution = deadline.execution;
+        long elapsedTime = execution.getTotalElapsedTime();
+        if (deadline.warning) {
+            if (isTimeBasedWarnThresholdReached(elapsedTime)) {
+                execution.printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
+            } else {
+                pendingDeadlines.add(deadline);
+            }
+        } else if (elapsedTime > timeoutInMillis) {
+            execution.terminateScriptExecutingThread(MONITOR_TYPE_TIME, elapsedTime);
+        } else {
+            // The deadline was rounded up to a tick ahead of the timeout.
+            pendingDeadlines.add(deadline);
         }
+    }
 
-        public ScheduledFuture<?> getScheduledFuture() {
+    private void checkMemory(MonitoredExecution execution) {
 
-            return scheduledFuture;
+        long consumedMemory = execution.getTotalConsumedMemory();
+        if (consumedMemory > memoryLimitInBytes) {
+            execution.terminateScriptExecutingThread(MONITOR_TYPE_MEMORY, consumedMemory);
+        } else if (!execution.memoryWarningLogged && isMemoryBasedWarnThresholdReached(consumedMemory)) {
+            execution.memoryWarningLogged = true;
+            execution.printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
         }
     }
 
-    private class MonitoringTask implements Runnable {
+    private boolean isTimeBasedWarnThresholdReached(long elapsedTime) {
+
+        return ((elapsedTime * 100) / timeoutInMillis) >= WARN_THRESHOLD;
+    }
+
+    private boolean isMemoryBasedWarnThresholdReached(long consumedMemory) {
+
+        return ((consumedMemory * 100) / memoryLimitInBytes) >= WARN_THRESHOLD;
+    }
+
+    /**
+     * Time based deadline of an execution, placed in a bucket of the timer wheel.
+     */
+    private static class Deadline {
 
-        private Thread originalThread;
-        private String id;
-        private String serviceProvider;
-        private String tenantDomain;
-        private long timeCreated;
-        private long elapsedTimeInMillis;
-        private long startMemoryInBytes;
-        private long consumedMemoryInBytes;
-        private ThreadMXBean memoryCounter = null;
+        private final MonitoredExecution execution;
+        private final long deadlineInMillis;
+        private final boolean warning;
+        private long remainingRounds;
 
-        public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
-                              long elapsedTimeInMillis) {
+        Deadline(MonitoredExecution execution, long deadlineInMillis, boolean warning) {
 
-            this(originalThread, id, serviceProvider, tenantDomain, elapsedTimeInMillis, 0L);
+            this.execution = execution;
+            this.deadlineInMillis = deadlineInMillis;
+            this.warning = warning;
         }
+    }
+
+    private class MonitoredExecution {
 
-        public MonitoringTask(Thread originalThread, String id, String serviceProvider, String tenantDomain,
-                              long elapsedTimeInMillis, long consumedMemoryInBytes) {
+        private final Thread originalThread;
+        private final String id;
+        private final String serviceProvider;
+        private final String tenantDomain;
+        private final long timeCreated;
+        private final long elapsedTimeInMillis;
+        private final long startMemoryInBytes;
+        private final long consumedMemoryInBytes;
+        private volatile boolean completed;
+        // Accessed only by the supervisor thread.
+        private boolean memoryWarningLogged;
+
+        MonitoredExecution(Thread originalThread, String id, String serviceProvider, String tenantDomain,
+                           long elapsedTimeInMillis, long consumedMemoryInBytes) {
 
             this.originalThread = originalThread;
             this.id = id;
@@ -192,60 +396,21 @@ public class JSExecutionSupervisor {
             this.timeCreated = System.currentTimeMillis();
             this.elapsedTimeInMillis = elapsedTimeInMillis;
             this.consumedMemoryInBytes = consumedMemoryInBytes;
-
-            if (memoryLimitInBytes > 0) {
-                java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-                if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
-                    memoryCounter = (ThreadMXBean) threadMXBean;
-                    try {
-                        turnOnThreadMemoryCounting();
-                        startMemoryInBytes = getCurrentMemory(originalThread.getId());
-                    } catch (UnsupportedOperationException e) {
-                        LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                                "supervision will not be done for adaptive auth script executions.", e);
-                    }
-                } else {
-                    LOG.error("Thread allocated memory measurement is not supported by the JVM. Therefore memory " +
-                            "supervision will not be done for adaptive auth script executions.");
-                }
-            }
+            this.startMemoryInBytes = getCurrentMemory(originalThread.getId());
         }
 
-        @Override
-        public void run() {
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(String.format("JS execution monitoring task running. Thread: %s, service " +
-                        "provider: %s, tenant: %s.", originalThread.getName(), serviceProvider, tenantDomain));
-            }
-
-            long elapsedTime = getTotalElapsedTime();
-
-            if (elapsedTime > timeoutInMillis) {
-                terminateScriptExecutingThread(MONITOR_TYPE_TIME, elapsedTime);
-                return;
-            }
+        private void terminateScriptExecutingThread(int monitorType, long consumedResourceValue) {
 
-            if (isTimeBasedWarnThresholdReached(elapsedTime)) {
-                printThresholdReachedWarnLog(MONITOR_TYPE_TIME, elapsedTime);
+            // Marking current execution as complete, unless it has been completed concurrently.
+            if (!currentScriptExecutions.remove(id, this)) {
                 return;
             }
-
-            if (memoryCounter != null) {
-                long consumedMemory = getTotalConsumedMemory();
-                if (consumedMemory > memoryLimitInBytes) {
-                    terminateScriptExecutingThread(MONITOR_TYPE_MEMORY, consumedMemory);
-                    return;
-                }
-
-                if (isMemoryBasedWarnThresholdReached(consumedMemory)) {
-                    printThresholdReachedWarnLog(MONITOR_TYPE_MEMORY, consumedMemory);
-                    return;
-                }
+            completed = true;
+            if (MONITOR_TYPE_TIME == monitorType) {
+                timeoutCount.incrementAndGet();
+            } else {
+                memoryLimitExceededCount.incrementAndGet();
             }
-        }
-
-        private void terminateScriptExecutingThread(int monitorType, long consumedResourceValue) {
 
             String warnLog;
             if (MONITOR_TYPE_TIME == monitorType) {
@@ -264,9 +429,6 @@ public class JSExecutionSupervisor {
             LOG.warn(warnLog, throwable);
             originalThread.interrupt();
             originalThread.stop();
-
-            // Marking current monitoring task as complete.
-            completed(id);
         }
 
         private void printThresholdReachedWarnLog(int monitorType, long consumedResourceValue) {
@@ -302,29 +464,5 @@ public class JSExecutionSupervisor {
             }
             return 0L;
         }
-
-        private void turnOnThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(true);
-            }
-        }
-
-        private void turnOffThreadMemoryCounting() {
-
-            if (memoryCounter != null) {
-                memoryCounter.setThreadAllocatedMemoryEnabled(false);
-            }
-        }
-
-        private boolean isTimeBasedWarnThresholdReached(long elapsedTime) {
-
-            return ((elapsedTime * 100) / timeoutInMillis) >= WARN_THRESHOLD;
-        }
-
-        private boolean isMemoryBasedWarnThresholdReached(long consumedMemory) {
-
-            return ((consumedMemory * 100) / memoryLimitInBytes) >= WARN_THRESHOLD;
-        }
     }
 }
@@ -41,6 +41,18 @@ public interface JsBaseGraphBuilderFactory {
 
     ScriptEngine createEngine(AuthenticationContext authenticationContext);
 
+    /**
+     * Get a script engine to evaluate a script of the given authentication context. The engine should be released
+     * with {@link JsScriptEnginePool#release(ScriptEngine)} once the evaluation is completed.
+     *
+     * @param authenticationContext Authentication context.
+     * @return Script engine.
+     */
+    default ScriptEngine borrowEngine(AuthenticationContext authenticationContext) {
+
+        return createEngine(authenticationContext);
+    }
+
     JsSerializer getJsUtil();
 
     JsBaseGraphBuilder getCurrentBuilder();
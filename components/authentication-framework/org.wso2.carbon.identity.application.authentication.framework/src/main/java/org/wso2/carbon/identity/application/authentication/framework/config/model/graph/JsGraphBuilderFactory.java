@@ -54,11 +54,13 @@ public class JsGraphBuilderFactory implements JsBaseGraphBuilderFactory {
     @SuppressWarnings("removal")
     private NashornScriptEngineFactory factory;
 
+    private JsScriptEnginePool enginePool;
 
     public void init() {
 
         factory = new NashornScriptEngineFactory();
         classFilter = new RestrictedClassFilter();
+        enginePool = JsScriptEnginePool.createFromConfig(this::newEngine, this::initializeBindings);
     }
 
     public static void restoreCurrentContext(AuthenticationContext context, ScriptEngine engine)
@@ -88,7 +90,24 @@ public class JsGraphBuilderFactory implements JsBaseGraphBuilderFactory {
 
     public ScriptEngine createEngine(AuthenticationContext authenticationContext) {
 
-        ScriptEngine engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+        ScriptEngine engine = newEngine();
+        initializeBindings(engine);
+        return engine;
+    }
+
+    @Override
+    public ScriptEngine borrowEngine(AuthenticationContext authenticationContext) {
+
+        return enginePool.borrowEngine();
+    }
+
+    private ScriptEngine newEngine() {
+
+        return factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+    }
+
+    private void initializeBindings(ScriptEngine engine) {
+
         Bindings bindings = engine.createBindings();
         engine.setBindings(bindings, ScriptContext.GLOBAL_SCOPE);
         engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
@@ -99,7 +118,6 @@ public class JsGraphBuilderFactory implements JsBaseGraphBuilderFactory {
 
         JsLogger jsLogger = new JsLogger();
         bindings.put(FrameworkConstants.JSAttributes.JS_LOG, jsLogger);
-        return engine;
     }
 
     @Override
@@ -123,13 +141,13 @@ public class JsGraphBuilderFactory implements JsBaseGraphBuilderFactory {
     public JsNashornGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                                Map<Integer, StepConfig> stepConfigMap) {
 
-        return new JsNashornGraphBuilder(authenticationContext, stepConfigMap, createEngine(authenticationContext));
+        return new JsNashornGraphBuilder(authenticationContext, stepConfigMap, borrowEngine(authenticationContext));
     }
 
     public JsNashornGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                                Map<Integer, StepConfig> stepConfigMap, AuthGraphNode currentNode) {
 
-        return new JsNashornGraphBuilder(authenticationContext, stepConfigMap,
-                createEngine(authenticationContext), currentNode);
+        // The functions of an existing graph are evaluated with an engine borrowed by the evaluator.
+        return new JsNashornGraphBuilder(authenticationContext, stepConfigMap, null, currentNode);
     }
 }
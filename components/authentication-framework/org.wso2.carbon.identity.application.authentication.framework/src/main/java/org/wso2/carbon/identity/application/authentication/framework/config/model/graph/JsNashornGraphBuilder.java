@@ -107,7 +107,8 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
      *
      * @param authenticationContext current authentication context.
      * @param stepConfigMap         The Step map from the service provider configuration.
-     * @param scriptEngine          Script engine.
+     * @param scriptEngine          Script engine. May be null, as the functions are evaluated with an engine
+     *                              borrowed by the evaluator.
      * @param currentNode           Current authentication graph node.
      */
     public JsNashornGraphBuilder(AuthenticationContext authenticationContext, Map<Integer, StepConfig> stepConfigMap,
@@ -166,14 +167,14 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
                 functionMap.forEach(globalBindings::put);
             }
             Invocable invocable = (Invocable) engine;
-            engine.eval(FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction());
+            JsScriptEnginePool.eval(engine, FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction());
             removeDefaultFunctions(engine);
 
             String identifier = UUID.randomUUID().toString();
             JSExecutionMonitorData scriptExecutionData;
             try {
                 startScriptExecutionMonitor(identifier, authenticationContext);
-                engine.eval(script);
+                JsScriptEnginePool.eval(engine, script);
                 invocable.invokeFunction(FrameworkConstants.JSAttributes.JS_FUNC_ON_LOGIN_REQUEST,
                         new JsNashornAuthenticationContext(authenticationContext));
             } finally {
@@ -198,6 +199,7 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
             }
         } finally {
             clearCurrentBuilder();
+            JsScriptEnginePool.release(engine);
         }
         return this;
     }
@@ -1029,7 +1031,7 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
 
     private void removeDefaultFunctions(ScriptEngine engine) throws ScriptException {
 
-        engine.eval(REMOVE_FUNCTIONS);
+        JsScriptEnginePool.eval(engine, REMOVE_FUNCTIONS);
     }
 
     private JSExecutionSupervisor getJSExecutionSupervisor() {
@@ -1192,6 +1194,7 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
                     contextForJs.remove();
                     dynamicallyBuiltBaseNode.remove();
                     clearCurrentBuilder();
+                    JsScriptEnginePool.release(scriptEngine);
                 }
 
             } else {
@@ -1215,7 +1218,7 @@ public class JsNashornGraphBuilder extends JsGraphBuilder {
         private ScriptEngine getEngine(AuthenticationContext authenticationContext) {
 
             return FrameworkServiceDataHolder.getInstance().getJsGraphBuilderFactory()
-                    .createEngine(authenticationContext);
+                    .borrowEngine(authenticationContext);
         }
     }
 }
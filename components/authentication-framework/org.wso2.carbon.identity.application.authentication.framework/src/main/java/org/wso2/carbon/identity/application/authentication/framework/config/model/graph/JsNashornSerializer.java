@@ -139,7 +139,7 @@ public class JsNashornSerializer implements JsSerializer {
         if (value instanceof SerializableJsFunction) {
             SerializableJsFunction serializableJsFunction = (SerializableJsFunction) value;
             try {
-                return engine.eval(serializableJsFunction.getSource());
+                return JsScriptEnginePool.eval(engine, serializableJsFunction.getSource());
             } catch (ScriptException e) {
                 throw new FrameworkException("Error in resurrecting a Javascript Function : " + serializableJsFunction);
             }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
+
+/**
+ * Bounded pool of prepared script engines used to evaluate the adaptive authentication scripts.
+ * <p>
+ * Creating a script engine is expensive, and a new engine does not benefit from the scripts compiled by the
+ * previous engines. Engines created by the pool are reused after they are returned, and each of them keeps a bounded
+ * cache of the scripts compiled with it, keyed by the script source. The bindings of an engine are reset with the
+ * given initializer whenever the engine is borrowed, so that no script state is shared between two evaluations.
+ * <p>
+ * An engine borrowed with {@link #borrowEngine()} must be released with {@link #release(ScriptEngine)} once the
+ * evaluation is completed, and must not be used after that.
+ */
+public class JsScriptEnginePool {
+
+    private static final Log LOG = LogFactory.getLog(JsScriptEnginePool.class);
+
+    // Engines created by the pools, which are either idle or borrowed.
+    private static final Map<ScriptEngine, PooledEngine> POOLED_ENGINES = new ConcurrentHashMap<>();
+
+    private final Supplier<ScriptEngine> engineCreator;
+    private final Consumer<ScriptEngine> bindingsInitializer;
+    private final BlockingQueue<ScriptEngine> idleEngines;
+    private final int compiledScriptCacheSize;
+
+    /**
+     * @param engineCreator           Creates a new script engine with the class filter set up.
+     * @param bindingsInitializer     Sets fresh bindings with the default functions to the given engine.
+     * @param maxIdleEngines          Maximum number of engines kept in the pool. Engines are not pooled if this is
+     *                                not positive.
+     * @param compiledScriptCacheSize Maximum number of compiled scripts kept per engine.
+     */
+    public JsScriptEnginePool(Supplier<ScriptEngine> engineCreator, Consumer<ScriptEngine> bindingsInitializer,
+                              int maxIdleEngines, int compiledScriptCacheSize) {
+
+        this.engineCreator = engineCreator;
+        this.bindingsInitializer = bindingsInitializer;
+        this.idleEngines = maxIdleEngines > 0 ? new ArrayBlockingQueue<>(maxIdleEngines) : null;
+        this.compiledScriptCacheSize = compiledScriptCacheSize;
+    }
+
+    /**
+     * Creates a pool sized with the AdaptiveAuth.ScriptEnginePool configuration of identity.xml.
+     *
+     * @param engineCreator       Creates a new script engine with the class filter set up.
+     * @param bindingsInitializer Sets fresh bindings with the default functions to the given engine.
+     * @return Script engine pool.
+     */
+    public static JsScriptEnginePool createFromConfig(Supplier<ScriptEngine> engineCreator,
+                                                      Consumer<ScriptEngine> bindingsInitializer) {
+
+        int maxIdleEngines = readIntProperty(
+                FrameworkConstants.AdaptiveAuthentication.CONF_SCRIPT_ENGINE_POOL_MAX_IDLE_ENGINES,
+                FrameworkConstants.AdaptiveAuthentication.DEFAULT_SCRIPT_ENGINE_POOL_MAX_IDLE_ENGINES);
+        int compiledScriptCacheSize = readIntProperty(
+                FrameworkConstants.AdaptiveAuthentication.CONF_SCRIPT_ENGINE_POOL_COMPILED_SCRIPT_CACHE_SIZE,
+                FrameworkConstants.AdaptiveAuthentication.DEFAULT_SCRIPT_ENGINE_POOL_COMPILED_SCRIPT_CACHE_SIZE);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Script engine pool is created with maximum idle engines: " + maxIdleEngines
+                    + " and compiled script cache size: " + compiledScriptCacheSize);
+        }
+        return new JsScriptEnginePool(engineCreator, bindingsInitializer, maxIdleEngines, compiledScriptCacheSize);
+    }
+
+    /**
+     * Borrows an engine from the pool, or creates a new one if there is no idle engine. The engine is returned
+     * with fresh bindings.
+     *
+     * @return Script engine.
+     */
+    public ScriptEngine borrowEngine() {
+
+        ScriptEngine engine = idleEngines == null ? null : idleEngines.poll();
+        if (engine == null) {
+            engine = engineCreator.get();
+            if (idleEngines != null) {
+                POOLED_ENGINES.put(engine, new PooledEngine(this, compiledScriptCacheSize));
+            }
+        }
+        bindingsInitializer.accept(engine);
+        return engine;
+    }
+
+    /**
+     * Releases the given engine to the pool which created it. Engines which were not created by a pool, and engines
+     * released when their pool is full are discarded.
+     *
+     * @param engine Script engine.
+     */
+    public static void release(ScriptEngine engine) {
+
+        PooledEngine pooledEngine = engine == null ? null : POOLED_ENGINES.get(engine);
+        if (pooledEngine == null) {
+            return;
+        }
+        BlockingQueue<ScriptEngine> idleEngines = pooledEngine.pool.idleEngines;
+        // Release the bindings of the completed evaluation, so that they are not retained by an idle engine.
+        engine.setContext(new SimpleScriptContext());
+        if (idleEngines.contains(engine)) {
+            return;
+        }
+        if (!idleEngines.offer(engine)) {
+            POOLED_ENGINES.remove(engine);
+        }
+    }
+
+    /**
+     * Evaluates the given script source with the given engine. If the engine was created by a pool, the compiled
+     * form of the script is cached and reused by the later evaluations of the same source with that engine.
+     *
+     * @param engine Script engine.
+     * @param source Script source.
+     * @return Result of the evaluation.
+     * @throws ScriptException If the script can not be compiled or evaluated.
+     */
+    public static Object eval(ScriptEngine engine, String source) throws ScriptException {
+
+        PooledEngine pooledEngine = POOLED_ENGINES.get(engine);
+        if (pooledEngine == null || pooledEngine.compiledScripts == null || !(engine instanceof Compilable)) {
+            return engine.eval(source);
+        }
+        Map<String, CompiledScript> compiledScripts = pooledEngine.compiledScripts;
+        CompiledScript compiledScript;
+        synchronized (compiledScripts) {
+            compiledScript = compiledScripts.get(source);
+        }
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) engine).compile(source);
+            synchronized (compiledScripts) {
+                compiledScripts.put(source, compiledScript);
+            }
+        }
+        return compiledScript.eval();
+    }
+
+    private static int readIntProperty(String key, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOG.error("Error while parsing the config: " + key + " with value: " + value
+                    + ". Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Pool and compiled scripts of an engine created by a pool.
+     */
+    private static class PooledEngine {
+
+        private final JsScriptEnginePool pool;
+        private final Map<String, CompiledScript> compiledScripts;
+
+        PooledEngine(JsScriptEnginePool pool, int compiledScriptCacheSize) {
+
+            this.pool = pool;
+            this.compiledScripts = compiledScriptCacheSize > 0 ? new CompiledScriptCache(compiledScriptCacheSize)
+                    : null;
+        }
+    }
+
+    /**
+     * Least recently used cache of the scripts compiled with a single engine.
+     */
+    private static class CompiledScriptCache extends LinkedHashMap<String, CompiledScript> {
+
+        private static final long serialVersionUID = 5526312948563374213L;
+
+        private final int maxSize;
+
+        CompiledScriptCache(int maxSize) {
+
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+
+            return size() > maxSize;
+        }
+    }
+}
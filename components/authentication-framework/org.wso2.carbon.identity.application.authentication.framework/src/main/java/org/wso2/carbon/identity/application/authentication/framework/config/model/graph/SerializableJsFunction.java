@@ -25,8 +25,6 @@ import jdk.nashorn.internal.runtime.ScriptFunction;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import javax.script.Compilable;
-import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
@@ -71,10 +69,8 @@ public class SerializableJsFunction implements BaseSerializableJsFunction {
     @Override
     public Object apply(ScriptEngine scriptEngine, Object... params) {
 
-        Compilable compilable = (Compilable) scriptEngine;
         try {
-            CompiledScript compiledScript = compilable.compile(this.getSource());
-            JSObject jsObject = (JSObject) compiledScript.eval();
+            JSObject jsObject = (JSObject) JsScriptEnginePool.eval(scriptEngine, this.getSource());
             if (jsObject instanceof ScriptObjectMirror) {
                 ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) jsObject;
                 if (!scriptObjectMirror.isFunction()) {
@@ -38,6 +38,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionMonitorData;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JSExecutionSupervisor;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsGraphBuilder;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsScriptEnginePool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.LongWaitNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.ShowPromptNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.StepConfigGraphNode;
@@ -122,7 +123,8 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
      *
      * @param authenticationContext current authentication context.
      * @param stepConfigMap         The Step map from the service provider configuration.
-     * @param scriptEngine          Script engine.
+     * @param scriptEngine          Script engine. May be null, as the functions are evaluated with an engine
+     *                              borrowed by the evaluator.
      * @param currentNode           Current authentication graph node.
      */
     public JsOpenJdkNashornGraphBuilder(AuthenticationContext authenticationContext, Map<Integer,
@@ -188,14 +190,14 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
                 functionMap.forEach(globalBindings::put);
             }
             Invocable invocable = (Invocable) engine;
-            engine.eval(FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction());
+            JsScriptEnginePool.eval(engine, FrameworkServiceDataHolder.getInstance().getCodeForRequireFunction());
             removeDefaultFunctions(engine);
 
             String identifier = UUID.randomUUID().toString();
             JSExecutionMonitorData scriptExecutionData;
             try {
                 startScriptExecutionMonitor(identifier, authenticationContext);
-                engine.eval(script);
+                JsScriptEnginePool.eval(engine, script);
                 invocable.invokeFunction(FrameworkConstants.JSAttributes.JS_FUNC_ON_LOGIN_REQUEST,
                         new JsOpenJdkNashornAuthenticationContext(authenticationContext));
             } finally {
@@ -220,6 +222,7 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
             }
         } finally {
             clearCurrentBuilder();
+            JsScriptEnginePool.release(engine);
         }
         return this;
     }
@@ -1051,7 +1054,7 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
 
     private void removeDefaultFunctions(ScriptEngine engine) throws ScriptException {
 
-        engine.eval(REMOVE_FUNCTIONS);
+        JsScriptEnginePool.eval(engine, REMOVE_FUNCTIONS);
     }
 
     private JSExecutionSupervisor getJSExecutionSupervisor() {
@@ -1208,6 +1211,7 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
                     contextForJs.remove();
                     dynamicallyBuiltBaseNode.remove();
                     clearCurrentBuilder();
+                    JsScriptEnginePool.release(scriptEngine);
                 }
 
             } else {
@@ -1232,7 +1236,7 @@ public class JsOpenJdkNashornGraphBuilder extends JsGraphBuilder {
         private ScriptEngine getEngine(AuthenticationContext authenticationContext) {
 
             return FrameworkServiceDataHolder.getInstance().getJsGraphBuilderFactory()
-                    .createEngine(authenticationContext);
+                    .borrowEngine(authenticationContext);
         }
     }
 }
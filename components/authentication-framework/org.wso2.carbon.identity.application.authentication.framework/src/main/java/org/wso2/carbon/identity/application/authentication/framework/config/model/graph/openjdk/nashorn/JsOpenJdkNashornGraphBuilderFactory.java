@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.application.authentication.framework.config.mode
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.AuthGraphNode;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilder;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsBaseGraphBuilderFactory;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsScriptEnginePool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.AbstractJSObjectWrapper;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.js.JsLogger;
@@ -59,11 +60,13 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
     @SuppressWarnings("removal")
     private NashornScriptEngineFactory factory;
 
+    private JsScriptEnginePool enginePool;
 
     public void init() {
 
         factory = new NashornScriptEngineFactory();
         classFilter = new OpenJdkNashornRestrictedClassFilter();
+        enginePool = JsScriptEnginePool.createFromConfig(this::newEngine, this::initializeBindings);
     }
 
     public static void restoreCurrentContext(AuthenticationContext context, ScriptEngine engine)
@@ -96,7 +99,24 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
 
     public ScriptEngine createEngine(AuthenticationContext authenticationContext) {
 
-        ScriptEngine engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+        ScriptEngine engine = newEngine();
+        initializeBindings(engine);
+        return engine;
+    }
+
+    @Override
+    public ScriptEngine borrowEngine(AuthenticationContext authenticationContext) {
+
+        return enginePool.borrowEngine();
+    }
+
+    private ScriptEngine newEngine() {
+
+        return factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+    }
+
+    private void initializeBindings(ScriptEngine engine) {
+
         Bindings bindings = engine.createBindings();
         engine.setBindings(bindings, ScriptContext.GLOBAL_SCOPE);
         engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
@@ -107,7 +127,6 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
 
         JsLogger jsLogger = new JsLogger();
         bindings.put(FrameworkConstants.JSAttributes.JS_LOG, jsLogger);
-        return engine;
     }
 
     private ClassLoader getClassLoader() {
@@ -120,14 +139,14 @@ public class JsOpenJdkNashornGraphBuilderFactory implements JsBaseGraphBuilderFa
                                         Map<Integer, StepConfig> stepConfigMap) {
 
         return new JsOpenJdkNashornGraphBuilder(authenticationContext, stepConfigMap,
-                createEngine(authenticationContext));
+                borrowEngine(authenticationContext));
     }
 
     public JsOpenJdkNashornGraphBuilder createBuilder(AuthenticationContext authenticationContext,
                                         Map<Integer, StepConfig> stepConfigMap, AuthGraphNode currentNode) {
 
-        return new JsOpenJdkNashornGraphBuilder(authenticationContext, stepConfigMap,
-                createEngine(authenticationContext), currentNode);
+        // The functions of an existing graph are evaluated with an engine borrowed by the evaluator.
+        return new JsOpenJdkNashornGraphBuilder(authenticationContext, stepConfigMap, null, currentNode);
     }
 
     @Override
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.application.authentication.framework.config.mod
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsScriptEnginePool;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.exception.FrameworkException;
 
@@ -140,7 +141,7 @@ public class JsOpenJdkNashornSerializer implements JsSerializer {
         if (value instanceof OpenJdkNashornSerializableJsFunction) {
             OpenJdkNashornSerializableJsFunction serializableJsFunction = (OpenJdkNashornSerializableJsFunction) value;
             try {
-                return engine.eval(serializableJsFunction.getSource());
+                return JsScriptEnginePool.eval(engine, serializableJsFunction.getSource());
             } catch (ScriptException e) {
                 throw new FrameworkException("Error in resurrecting a Javascript Function : " + serializableJsFunction);
             }
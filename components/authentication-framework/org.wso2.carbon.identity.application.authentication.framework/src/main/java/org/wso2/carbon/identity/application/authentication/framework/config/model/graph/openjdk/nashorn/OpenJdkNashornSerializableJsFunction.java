@@ -25,9 +25,8 @@ import org.openjdk.nashorn.api.scripting.ScriptObjectMirror;
 import org.openjdk.nashorn.api.scripting.ScriptUtils;
 import org.openjdk.nashorn.internal.runtime.ScriptFunction;
 import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.BaseSerializableJsFunction;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.graph.JsScriptEnginePool;
 
-import javax.script.Compilable;
-import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
@@ -73,10 +72,8 @@ public class OpenJdkNashornSerializableJsFunction implements BaseSerializableJsF
     @Override
     public Object apply(ScriptEngine scriptEngine, Object... params) {
 
-        Compilable compilable = (Compilable) scriptEngine;
         try {
-            CompiledScript compiledScript = compilable.compile(this.getSource());
-            JSObject jsObject = (JSObject) compiledScript.eval();
+            JSObject jsObject = (JSObject) JsScriptEnginePool.eval(scriptEngine, this.getSource());
             if (jsObject instanceof ScriptObjectMirror) {
                 ScriptObjectMirror scriptObjectMirror = (ScriptObjectMirror) jsObject;
                 if (!scriptObjectMirror.isFunction()) {
@@ -55,7 +55,11 @@ import java.util.stream.Collectors;
  */
 public class UserSessionDAOImpl implements UserSessionDAO {
 
-    public static final String SCOPE_LIST_PLACEHOLDER = "_SCOPE_LIST_";
+    /**
+     * @deprecated Use {@link SQLQueries#SCOPE_LIST_PLACEHOLDER}.
+     */
+    @Deprecated
+    public static final String SCOPE_LIST_PLACEHOLDER = SQLQueries.SCOPE_LIST_PLACEHOLDER;
 
     public UserSessionDAOImpl() {
     }
@@ -314,7 +318,7 @@ public class UserSessionDAOImpl implements UserSessionDAO {
                 applications.stream().collect(Collectors.groupingBy(Application::getAppId));
         String placeholder = String.join(", ", Collections.nCopies(appIdMap.keySet().size(), "?"));
         // TODO:: Get applications using application-mgt services and remove component unrelated queries.
-        String sql = SQLQueries.SQL_GET_APPLICATION.replace(SCOPE_LIST_PLACEHOLDER, placeholder);
+        String sql = SQLQueries.SQL_GET_APPLICATION.replace(SQLQueries.SCOPE_LIST_PLACEHOLDER, placeholder);
         try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
              PreparedStatement ps = connection.prepareStatement(sql)) {
             int index = 1;
@@ -348,7 +352,7 @@ public class UserSessionDAOImpl implements UserSessionDAO {
         Map<String, Application> applications = new HashMap<>();
         String placeholder = String.join(", ", applicationIds);
         // TODO:: Get applications using application-mgt services and remove component unrelated queries.
-        String sql = SQLQueries.SQL_GET_APPLICATION.replace(SCOPE_LIST_PLACEHOLDER, placeholder);
+        String sql = SQLQueries.SQL_GET_APPLICATION.replace(SQLQueries.SCOPE_LIST_PLACEHOLDER, placeholder);
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(JdbcUtils.Database.IDENTITY);
         List<Application> result = jdbcTemplate.executeQuery(sql, (rs, rowNumber) ->
                 new Application(null, rs.getString("APP_NAME"), rs.getString("ID"), rs.getString("UUID"))
@@ -391,7 +395,8 @@ public class UserSessionDAOImpl implements UserSessionDAO {
         }
         Map<String, String> userIdpMap = new HashMap<>();
         String placeholder = userIdList.stream().collect(Collectors.joining("', '", "'", "'"));
-        String sql = SQLQueries.SQL_GET_IDP_IDS_BY_USER_ID_LIST.replace(SCOPE_LIST_PLACEHOLDER, placeholder);
+        String sql = SQLQueries.SQL_GET_IDP_IDS_BY_USER_ID_LIST.replace(SQLQueries.SCOPE_LIST_PLACEHOLDER,
+                placeholder);
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate(JdbcUtils.Database.SESSION);
         List<UserSession> userIdpList = jdbcTemplate.executeQuery(sql,
                 ((resultSet, rowNumber) -> {
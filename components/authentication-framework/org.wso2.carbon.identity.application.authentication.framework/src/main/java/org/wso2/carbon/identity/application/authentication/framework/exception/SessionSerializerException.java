@@ -25,6 +25,10 @@ import org.wso2.carbon.identity.base.IdentityException;
  */
 public class SessionSerializerException extends IdentityException {
 
+    public SessionSerializerException(String message) {
+        super(message);
+    }
+
     public SessionSerializerException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -48,6 +48,7 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataHandler;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.core.util.IdentityCoreConstants;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.user.api.ClaimManager;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserStoreException;
@@ -57,7 +58,9 @@ import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -498,17 +501,25 @@ public class DefaultClaimHandler implements ClaimHandler {
         // key:value -> sp_dialect:claim_value
         Map<String, String> spRequestedClaims = new HashMap<>();
 
-        // Retrieve all non-null user claim values against local claim uris.
-        allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore);
+        // if standard dialect get all claim mappings from standard dialect to carbon dialect
+        spToLocalClaimMappings = getStandardDialectToCarbonMapping(spStandardDialect, context, spToLocalClaimMappings,
+                tenantDomain);
+
+        if (isFetchRequestedClaimsOnly()) {
+            // Retrieve only the user claim values required to build the claims of the service provider.
+            Set<String> requiredLocalClaimURIs = getRequiredLocalClaimURIs(appConfig, spToLocalClaimMappings,
+                    context.getRequestType());
+            allLocalClaims = retrieveUserClaimValues(authenticatedUser, requiredLocalClaimURIs, userStore);
+        } else {
+            // Retrieve all non-null user claim values against local claim uris.
+            allLocalClaims = retrieveAllNunNullUserClaimValues(authenticatedUser, claimManager, appConfig, userStore);
+        }
 
         // Insert the runtime claims from the context. The priority is for runtime claims.
         allLocalClaims.putAll(context.getRuntimeClaims());
 
         handleRoleClaim(context, allLocalClaims);
 
-        // if standard dialect get all claim mappings from standard dialect to carbon dialect
-        spToLocalClaimMappings = getStandardDialectToCarbonMapping(spStandardDialect, context, spToLocalClaimMappings,
-                tenantDomain);
         if (StringUtils.isNotBlank(spStandardDialect) && (!StringUtils.equals(spStandardDialect, ApplicationConstants
                 .LOCAL_IDP_DEFAULT_CLAIM_DIALECT))) {
             carbonToStandardClaimMapping = getCarbonToStandardDialectMapping(spStandardDialect, context,
@@ -652,16 +663,32 @@ public class DefaultClaimHandler implements ClaimHandler {
 
         String tenantDomain = authenticatedUser.getTenantDomain();
 
-        Map<String, String> allLocalClaims = new HashMap<>();
+        List<String> localClaimURIs = new ArrayList<>();
         try {
-
             org.wso2.carbon.user.api.ClaimMapping[] claimMappings = claimManager
                     .getAllClaimMappings(ApplicationConstants.LOCAL_IDP_DEFAULT_CLAIM_DIALECT);
-            List<String> localClaimURIs = new ArrayList<>();
             for (org.wso2.carbon.user.api.ClaimMapping mapping : claimMappings) {
                 String claimURI = mapping.getClaim().getClaimUri();
                 localClaimURIs.add(claimURI);
             }
+        } catch (UserStoreException e) {
+            throw new FrameworkException("Error occurred while getting all local claims in " + tenantDomain, e);
+        }
+        return retrieveUserClaimValues(authenticatedUser, localClaimURIs, userStore);
+    }
+
+    private Map<String, String> retrieveUserClaimValues(AuthenticatedUser authenticatedUser,
+                                                        Collection<String> localClaimURIs,
+                                                        AbstractUserStoreManager userStore)
+            throws FrameworkException {
+
+        String tenantDomain = authenticatedUser.getTenantDomain();
+
+        Map<String, String> allLocalClaims = new HashMap<>();
+        if (localClaimURIs.isEmpty()) {
+            return allLocalClaims;
+        }
+        try {
             allLocalClaims = userStore.getUserClaimValuesWithID(authenticatedUser.getUserId(),
                     localClaimURIs.toArray(new String[0]), null);
 
@@ -684,6 +711,77 @@ public class DefaultClaimHandler implements ClaimHandler {
         return allLocalClaims;
     }
 
+    /**
+     * Get the local claim URIs whose values are needed to build the claims of the service provider. These are the
+     * requested and mandatory claims, the subject claim and the role claim of the service provider. For OpenID
+     * Connect requests all the claims mapped to the standard dialect are included, since the claims are filtered
+     * by the requested scopes afterwards.
+     *
+     * @param appConfig              Application config with the requested and mandatory claims of the request.
+     * @param spToLocalClaimMappings Service provider claim to local claim mappings.
+     * @param requestType            Request type of the authentication request.
+     * @return Set of local claim URIs.
+     */
+    protected Set<String> getRequiredLocalClaimURIs(ApplicationConfig appConfig,
+                                                    Map<String, String> spToLocalClaimMappings,
+                                                    String requestType) {
+
+        Set<String> localClaimURIs = new HashSet<>();
+        if (FrameworkConstants.RequestType.CLAIM_TYPE_OPENID.equals(requestType)) {
+            addLocalClaimURIs(localClaimURIs, spToLocalClaimMappings.values());
+        }
+        if (appConfig.getRequestedClaimMappings() != null) {
+            addLocalClaimURIs(localClaimURIs, appConfig.getRequestedClaimMappings().values());
+        }
+        if (appConfig.getMandatoryClaimMappings() != null) {
+            addLocalClaimURIs(localClaimURIs, appConfig.getMandatoryClaimMappings().values());
+        }
+        addMappedLocalClaimURI(localClaimURIs, appConfig.getSubjectClaimUri(), appConfig.getClaimMappings(),
+                spToLocalClaimMappings);
+        addMappedLocalClaimURI(localClaimURIs, appConfig.getRoleClaim(), appConfig.getClaimMappings(),
+                spToLocalClaimMappings);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving " + localClaimURIs.size() + " local claims required by the service provider: "
+                    + appConfig.getApplicationName());
+        }
+        return localClaimURIs;
+    }
+
+    private void addLocalClaimURIs(Set<String> localClaimURIs, Collection<String> claimURIs) {
+
+        for (String claimURI : claimURIs) {
+            if (StringUtils.isNotBlank(claimURI)) {
+                localClaimURIs.add(claimURI);
+            }
+        }
+    }
+
+    private void addMappedLocalClaimURI(Set<String> localClaimURIs, String claimURI, Map<String, String>
+            appClaimMappings, Map<String, String> spToLocalClaimMappings) {
+
+        if (StringUtils.isBlank(claimURI)) {
+            return;
+        }
+        // The claim can either be a service provider claim or a local claim, depending on the claim dialect.
+        String mappedClaimURI = spToLocalClaimMappings.get(claimURI);
+        if (StringUtils.isBlank(mappedClaimURI) && appClaimMappings != null) {
+            mappedClaimURI = appClaimMappings.get(claimURI);
+        }
+        localClaimURIs.add(StringUtils.isNotBlank(mappedClaimURI) ? mappedClaimURI : claimURI);
+    }
+
+    /**
+     * Checks whether only the claims required by the service provider should be retrieved from the user store,
+     * instead of all the local claims of the user.
+     *
+     * @return True if only the required claims should be retrieved.
+     */
+    private boolean isFetchRequestedClaimsOnly() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(FrameworkConstants.Config.FETCH_REQUESTED_CLAIMS_ONLY));
+    }
+
     private AbstractUserStoreManager getUserStoreManager(String tenantDomain, UserRealm realm) throws
             FrameworkException {
         AbstractUserStoreManager userStore;
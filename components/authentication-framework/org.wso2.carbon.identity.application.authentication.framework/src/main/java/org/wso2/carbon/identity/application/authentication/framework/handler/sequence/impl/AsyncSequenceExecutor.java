@@ -27,33 +27,98 @@ import org.wso2.carbon.identity.application.authentication.framework.exception.F
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.model.LongWaitStatus;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Asynchronous authentication sequence executor.
+ * <p>
+ * Async processes are executed in a fixed size thread pool with a bounded queue. An async process is rejected when
+ * the queue is full, while its return function is then executed in the returning thread. Once the return function
+ * is executed, the completion of the long wait is notified to the threads and status requests waiting for it.
  */
 public class AsyncSequenceExecutor {
 
     private static final Log log = LogFactory.getLog(AsyncSequenceExecutor.class);
+    private static final String ASYNC_SEQUENCE_EXECUTOR = "AsyncSequenceExecutor";
+    private static final int DEFAULT_POOL_SIZE = 5;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
 
-    private ExecutorService executorService;
+    private ThreadPoolExecutor executorService;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
 
     public void init() {
 
-        String poolSizeString = IdentityUtil.getProperty("AdaptiveAuth.AsyncSequenceExecutorPoolSize");
-        int poolSize;
-        if (poolSizeString != null) {
-            poolSize = Integer.parseInt(poolSizeString);
-        } else {
-            poolSize = 5;
-        }
+        int poolSize = readIntProperty(
+                FrameworkConstants.AdaptiveAuthentication.ADAPTIVE_AUTH_ASYNC_SEQUENCE_EXECUTOR_POOL_SIZE,
+                DEFAULT_POOL_SIZE);
+        int queueSize = readIntProperty(
+                FrameworkConstants.AdaptiveAuthentication.ADAPTIVE_AUTH_ASYNC_SEQUENCE_EXECUTOR_QUEUE_SIZE,
+                DEFAULT_QUEUE_SIZE);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, ASYNC_SEQUENCE_EXECUTOR + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executorService = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory);
+    }
+
+    /**
+     * Get the number of async tasks waiting in the queue.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return executorService.getQueue().size();
+    }
+
+    public int getQueueRemainingCapacity() {
+
+        return executorService.getQueue().remainingCapacity();
+    }
+
+    public int getActiveCount() {
+
+        return executorService.getActiveCount();
+    }
+
+    public long getCompletedTaskCount() {
 
-        executorService = Executors.newFixedThreadPool(poolSize);
+        return executorService.getCompletedTaskCount();
+    }
+
+    /**
+     * Get the number of async processes rejected as the queue was full.
+     *
+     * @return Rejected async process count.
+     */
+    public long getRejectedCount() {
+
+        return rejectedCount.get();
+    }
+
+    /**
+     * Get the number of return functions executed in the returning thread as the queue was full.
+     *
+     * @return Caller runs count.
+     */
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.get();
     }
 
     public void exec(AsyncCaller caller, AsyncReturn returnFunction, AuthenticationContext authenticationContext)
@@ -68,15 +133,44 @@ public class AsyncSequenceExecutor {
             this.execReturn(returnFunction, ctx, m, r);
         };
 
-        executorService.submit(
-                new AsyncCallerTask(
-                        new ObservingAsyncProcess(caller, wrappedReturn, authenticationContext)));
+        try {
+            executorService.execute(
+                    new AsyncCallerTask(
+                            new ObservingAsyncProcess(caller, wrappedReturn, authenticationContext)));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new FrameworkException("Can not execute the async process of the context: "
+                    + authenticationContext.getContextIdentifier() + ", as the async sequence executor queue is "
+                    + "full.", e);
+        }
     }
 
     private void execReturn(AsyncReturn returnFunction,
                             AuthenticationContext authenticationContext, Map<String, Object> data, String result) {
 
-        executorService.execute(new AsyncReturnWorker(returnFunction, authenticationContext, data, result));
+        AsyncReturnWorker returnWorker = new AsyncReturnWorker(returnFunction, authenticationContext, data, result);
+        try {
+            executorService.execute(returnWorker);
+        } catch (RejectedExecutionException e) {
+            // Complete the wait in the returning thread, rather than leaving it to time out.
+            callerRunsCount.incrementAndGet();
+            returnWorker.run();
+        }
+    }
+
+    private int readIntProperty(String key, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.error("Error while parsing the config: " + key + " with value: " + value
+                    + ". Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
     }
 
     private class AsyncCallerTask implements Runnable {
@@ -133,6 +227,7 @@ public class AsyncSequenceExecutor {
                 }
                 longWaitStatus.setStatus(LongWaitStatus.Status.COMPLETED);
                 returnFunction.accept(authenticationContext, data, result);
+                longWaitStatusStoreService.completeWait(authenticationContext.getContextIdentifier());
             } catch (FrameworkException e) {
                 log.error("Error while resuming from the wait. ", e);
             } finally {
@@ -624,26 +624,20 @@ public class GraphBasedSequenceHandler extends DefaultStepBasedSequenceHandler i
                     FrameworkConstants.JSAttributes.JS_CALL_AND_WAIT_STATUS, result);
             authenticationContext.setProperty(
                     FrameworkConstants.JSAttributes.JS_CALL_AND_WAIT_DATA, data);
-
-            if (!promptOnLongWait()) {
-                synchronized (context) {
-                    context.notify();
-                }
-            }
         });
 
         if (caller != null) {
             FrameworkServiceDataHolder.getInstance().getAsyncSequenceExecutor().exec(caller, asyncReturn, context);
             if (!promptOnLongWait()) {
                 int waitTimeout = getLongWaitTimeout();
-                synchronized (context) {
-                    try {
-                        context.wait(waitTimeout);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        log.error("Thread interrupted while waiting for the external call to complete for session " +
-                                "data key: " + context.getContextIdentifier() + ". ", e);
-                    }
+                try {
+                    // Woken by the async sequence executor as soon as the async process returns.
+                    FrameworkServiceDataHolder.getInstance().getLongWaitStatusStoreService()
+                            .awaitCompletion(context.getContextIdentifier(), waitTimeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.error("Thread interrupted while waiting for the external call to complete for session " +
+                            "data key: " + context.getContextIdentifier() + ". ", e);
                 }
                 resumeLongWait(request, response, context);
             }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.internal;
+
+import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.FederatedApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.LocalApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.RequestPathApplicationAuthenticator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * List of the application authenticators registered in the framework, which keeps an immutable index of the
+ * authenticators by name and by type.
+ * <p>
+ * Authenticators are resolved by name several times in each authentication request, while they are only added and
+ * removed when the authenticator bundles are bound and unbound. The index is rebuilt on the first lookup after the
+ * list is modified, so that the lookups do not scan the list.
+ * <p>
+ * Iterators and spliterators are those of the underlying copy on write list, so that they iterate over a snapshot of
+ * the list and are not affected by authenticators bound and unbound meanwhile. They do not support modifying the
+ * list. Use the modifying methods of the list instead.
+ */
+public class ApplicationAuthenticatorList extends AbstractList<ApplicationAuthenticator> {
+
+    private final List<ApplicationAuthenticator> authenticators = new CopyOnWriteArrayList<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Index index;
+
+    @Override
+    public ApplicationAuthenticator get(int i) {
+
+        return authenticators.get(i);
+    }
+
+    @Override
+    public int size() {
+
+        return authenticators.size();
+    }
+
+    @Override
+    public ApplicationAuthenticator set(int i, ApplicationAuthenticator authenticator) {
+
+        ApplicationAuthenticator previous = authenticators.set(i, authenticator);
+        version.incrementAndGet();
+        return previous;
+    }
+
+    @Override
+    public void add(int i, ApplicationAuthenticator authenticator) {
+
+        authenticators.add(i, authenticator);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public ApplicationAuthenticator remove(int i) {
+
+        ApplicationAuthenticator removed = authenticators.remove(i);
+        version.incrementAndGet();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+
+        authenticators.clear();
+        version.incrementAndGet();
+    }
+
+    @Override
+    public boolean remove(Object authenticator) {
+
+        return modified(authenticators.remove(authenticator));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> authenticatorsToRemove) {
+
+        return modified(authenticators.removeAll(authenticatorsToRemove));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> authenticatorsToRetain) {
+
+        return modified(authenticators.retainAll(authenticatorsToRetain));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super ApplicationAuthenticator> filter) {
+
+        return modified(authenticators.removeIf(filter));
+    }
+
+    @Override
+    public Iterator<ApplicationAuthenticator> iterator() {
+
+        return authenticators.iterator();
+    }
+
+    @Override
+    public ListIterator<ApplicationAuthenticator> listIterator() {
+
+        return authenticators.listIterator();
+    }
+
+    @Override
+    public ListIterator<ApplicationAuthenticator> listIterator(int i) {
+
+        return authenticators.listIterator(i);
+    }
+
+    @Override
+    public Spliterator<ApplicationAuthenticator> spliterator() {
+
+        return authenticators.spliterator();
+    }
+
+    /**
+     * Get the first registered authenticator with the given name.
+     *
+     * @param name Name of the authenticator.
+     * @return Authenticator, or null if there is no authenticator with the given name.
+     */
+    public ApplicationAuthenticator getByName(String name) {
+
+        return name == null ? null : getIndex().byName.get(name);
+    }
+
+    /**
+     * Get the first registered authenticator with the given name, ignoring the case of the name.
+     *
+     * @param name Name of the authenticator.
+     * @return Authenticator, or null if there is no authenticator with the given name.
+     */
+    public ApplicationAuthenticator getByNameIgnoreCase(String name) {
+
+        return name == null ? null : getIndex().byLowerCaseName.get(name.toLowerCase(Locale.ENGLISH));
+    }
+
+    public List<ApplicationAuthenticator> getLocalAuthenticators() {
+
+        return getIndex().localAuthenticators;
+    }
+
+    public List<ApplicationAuthenticator> getFederatedAuthenticators() {
+
+        return getIndex().federatedAuthenticators;
+    }
+
+    public List<ApplicationAuthenticator> getRequestPathAuthenticators() {
+
+        return getIndex().requestPathAuthenticators;
+    }
+
+    private boolean modified(boolean modified) {
+
+        if (modified) {
+            version.incrementAndGet();
+        }
+        return modified;
+    }
+
+    private Index getIndex() {
+
+        Index current = index;
+        long currentVersion = version.get();
+        if (current == null || current.version != currentVersion) {
+            // The version is read before the list, so that a modification made while building is seen by the
+            // next lookup.
+            current = new Index(currentVersion, authenticators);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Immutable index of the authenticators in a version of the list.
+     */
+    private static class Index {
+
+        private final long version;
+        private final Map<String, ApplicationAuthenticator> byName = new HashMap<>();
+        private final Map<String, ApplicationAuthenticator> byLowerCaseName = new HashMap<>();
+        private final List<ApplicationAuthenticator> localAuthenticators;
+        private final List<ApplicationAuthenticator> federatedAuthenticators;
+        private final List<ApplicationAuthenticator> requestPathAuthenticators;
+
+        Index(long version, List<ApplicationAuthenticator> authenticators) {
+
+            this.version = version;
+            List<ApplicationAuthenticator> local = new ArrayList<>();
+            List<ApplicationAuthenticator> federated = new ArrayList<>();
+            List<ApplicationAuthenticator> requestPath = new ArrayList<>();
+            for (ApplicationAuthenticator authenticator : authenticators) {
+                String name = authenticator.getName();
+                if (name != null) {
+                    byName.putIfAbsent(name, authenticator);
+                    byLowerCaseName.putIfAbsent(name.toLowerCase(Locale.ENGLISH), authenticator);
+                }
+                if (authenticator instanceof LocalApplicationAuthenticator) {
+                    local.add(authenticator);
+                }
+                if (authenticator instanceof FederatedApplicationAuthenticator) {
+                    federated.add(authenticator);
+                }
+                if (authenticator instanceof RequestPathApplicationAuthenticator) {
+                    requestPath.add(authenticator);
+                }
+            }
+            this.localAuthenticators = Collections.unmodifiableList(local);
+            this.federatedAuthenticators = Collections.unmodifiableList(federated);
+            this.requestPathAuthenticators = Collections.unmodifiableList(requestPath);
+        }
+    }
+}
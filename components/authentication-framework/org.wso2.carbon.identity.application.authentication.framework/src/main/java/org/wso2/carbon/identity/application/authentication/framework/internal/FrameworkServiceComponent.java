@@ -79,6 +79,7 @@ import org.wso2.carbon.identity.application.authentication.framework.internal.im
 import org.wso2.carbon.identity.application.authentication.framework.internal.impl.UserSessionManagementServiceImpl;
 import org.wso2.carbon.identity.application.authentication.framework.listener.AuthenticationEndpointTenantActivityListener;
 import org.wso2.carbon.identity.application.authentication.framework.listener.SessionContextMgtListener;
+import org.wso2.carbon.identity.application.authentication.framework.publisher.AsyncAuthenticationDataPublisher;
 import org.wso2.carbon.identity.application.authentication.framework.services.PostAuthenticationMgtService;
 import org.wso2.carbon.identity.application.authentication.framework.servlet.CommonAuthenticationServlet;
 import org.wso2.carbon.identity.application.authentication.framework.servlet.LoginContextServlet;
@@ -86,7 +87,9 @@ import org.wso2.carbon.identity.application.authentication.framework.servlet.Lon
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.processor.SessionExtenderProcessor;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.request.SessionExtenderRequestFactory;
 import org.wso2.carbon.identity.application.authentication.framework.session.extender.response.SessionExtenderResponseFactory;
+import org.wso2.carbon.identity.application.authentication.framework.store.CompactSessionSerializer;
 import org.wso2.carbon.identity.application.authentication.framework.store.JavaSessionSerializer;
+import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitCompletionRegistry;
 import org.wso2.carbon.identity.application.authentication.framework.store.LongWaitStatusStoreService;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionDataStore;
 import org.wso2.carbon.identity.application.authentication.framework.store.SessionSerializer;
@@ -119,6 +122,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.Servlet;
 
@@ -140,6 +144,7 @@ public class FrameworkServiceComponent {
     private static final String IDENTITY_SERVLET_URL = "/identity";
     private static final String LOGIN_CONTEXT_SERVLET_URL = "/logincontext";
     private static final String LONGWAITSTATUS_SERVLET_URL = "/longwaitstatus";
+    private static final String COMPACT_SESSION_SERIALIZER = "compact";
     private static final Log log = LogFactory.getLog(FrameworkServiceComponent.class);
 
     private static final String OPENJDK_SCRIPTER_CLASS_NAME = "org.openjdk.nashorn.api.scripting.ScriptObjectMirror";
@@ -340,8 +345,21 @@ public class FrameworkServiceComponent {
             }
         }
 
-        LongWaitStatusStoreService longWaitStatusStoreService =
-                new LongWaitStatusStoreService(cacheBackedDao, connectionTimeout);
+        String statusRequestTimeoutString = IdentityUtil.getProperty(
+                FrameworkConstants.AdaptiveAuthentication.ADAPTIVE_AUTH_LONG_WAIT_STATUS_REQUEST_TIMEOUT);
+        long statusRequestTimeout = 0;
+        if (statusRequestTimeoutString != null) {
+            try {
+                statusRequestTimeout = Long.parseLong(statusRequestTimeoutString);
+            } catch (NumberFormatException e) {
+                log.error("Error while parsing long wait status request timeout : " + statusRequestTimeoutString, e);
+            }
+        }
+
+        LongWaitCompletionRegistry completionRegistry = new LongWaitCompletionRegistry(
+                TimeUnit.MINUTES.toMillis(IdentityUtil.getTempDataCleanUpTimeout()));
+        LongWaitStatusStoreService longWaitStatusStoreService = new LongWaitStatusStoreService(cacheBackedDao,
+                connectionTimeout, completionRegistry, statusRequestTimeout);
         dataHolder.setLongWaitStatusStoreService(longWaitStatusStoreService);
 
         // Registering JIT, association and domain handler as post authentication handler
@@ -370,7 +388,7 @@ public class FrameworkServiceComponent {
         FrameworkServiceDataHolder.getInstance().setUserSessionMappingEnabled(FrameworkUtils
                 .isUserSessionMappingEnabled());
         if (FrameworkServiceDataHolder.getInstance().getSessionSerializer() == null) {
-            FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+            FrameworkServiceDataHolder.getInstance().setSessionSerializer(getConfiguredSessionSerializer());
         }
 
         bundleContext.registerService(ApplicationAuthenticationService.class.getName(), new
@@ -379,6 +397,36 @@ public class FrameworkServiceComponent {
         // to make sure the server doesn't start up if any activation failures
     }
 
+    /**
+     * Get the session serializer selected by the deployment configuration. The Java session serializer is used
+     * unless the compact serializer is configured.
+     *
+     * @return Session serializer.
+     */
+    private SessionSerializer getConfiguredSessionSerializer() {
+
+        String serializerType = IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_TYPE);
+        if (!COMPACT_SESSION_SERIALIZER.equalsIgnoreCase(StringUtils.trim(serializerType))) {
+            return new JavaSessionSerializer();
+        }
+
+        boolean compressionEnabled = !"none".equalsIgnoreCase(StringUtils.trim(
+                IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_COMPRESSION)));
+        int compressionThreshold = 1024;
+        String thresholdString =
+                IdentityUtil.getProperty(FrameworkConstants.Config.SESSION_SERIALIZER_COMPRESSION_THRESHOLD);
+        if (StringUtils.isNotBlank(thresholdString)) {
+            try {
+                compressionThreshold = Integer.parseInt(thresholdString.trim());
+            } catch (NumberFormatException e) {
+                log.error("Error while parsing session serializer compression threshold: " + thresholdString
+                        + ". Using the default value: " + compressionThreshold, e);
+            }
+        }
+        log.info("Compact session serializer is enabled. Compression enabled: " + compressionEnabled);
+        return new CompactSessionSerializer(compressionEnabled, compressionThreshold);
+    }
+
     private void setAdaptiveAuthExecutionSupervisor() {
 
         String isEnabled = IdentityUtil.getProperty(
@@ -413,6 +461,11 @@ public class FrameworkServiceComponent {
                         + timeoutString + ", setting timeout to default value: " + timeoutInMillis, e);
             }
         }
+        if (timeoutInMillis <= 0) {
+            timeoutInMillis = FrameworkConstants.AdaptiveAuthentication.DEFAULT_EXECUTION_SUPERVISOR_TIMEOUT;
+            log.error("Adaptive authentication execution supervisor timeout config: " + timeoutString
+                    + " is not positive, setting timeout to default value: " + timeoutInMillis);
+        }
 
         String memoryLimitString = IdentityUtil.getProperty(
                 FrameworkConstants.AdaptiveAuthentication.CONF_EXECUTION_SUPERVISOR_MEMORY_LIMIT);
@@ -567,7 +620,7 @@ public class FrameworkServiceComponent {
 
     protected void unsetSessionSerializer(SessionSerializer sessionSerializer) {
 
-        FrameworkServiceDataHolder.getInstance().setSessionSerializer(new JavaSessionSerializer());
+        FrameworkServiceDataHolder.getInstance().setSessionSerializer(getConfiguredSessionSerializer());
 
         if (log.isDebugEnabled()) {
             log.debug("Removed session serializer.");
@@ -708,6 +761,9 @@ public class FrameworkServiceComponent {
 
         if (FrameworkConstants.AnalyticsAttributes.AUTHN_DATA_PUBLISHER_PROXY.equalsIgnoreCase(publisher.getName())
                 && publisher.isEnabled(null)) {
+            if (AsyncAuthenticationDataPublisher.isEnabled()) {
+                publisher = AsyncAuthenticationDataPublisher.createFromConfig(publisher);
+            }
             FrameworkServiceDataHolder.getInstance().setAuthnDataPublisherProxy(publisher);
         }
     }
@@ -716,7 +772,12 @@ public class FrameworkServiceComponent {
 
         if (FrameworkConstants.AnalyticsAttributes.AUTHN_DATA_PUBLISHER_PROXY.equalsIgnoreCase(publisher.getName())
                 && publisher.isEnabled(null)) {
+            AuthenticationDataPublisher currentPublisher =
+                    FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy();
             FrameworkServiceDataHolder.getInstance().setAuthnDataPublisherProxy(null);
+            if (currentPublisher instanceof AsyncAuthenticationDataPublisher) {
+                ((AsyncAuthenticationDataPublisher) currentPublisher).shutdown();
+            }
         }
     }
 
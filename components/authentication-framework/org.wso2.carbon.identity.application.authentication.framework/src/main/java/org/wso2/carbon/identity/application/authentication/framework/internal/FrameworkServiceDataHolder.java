@@ -72,7 +72,7 @@ public class FrameworkServiceDataHolder {
     private BundleContext bundleContext = null;
     private RealmService realmService = null;
     private RegistryService registryService = null;
-    private List<ApplicationAuthenticator> authenticators = new ArrayList<>();
+    private final ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
     private long nanoTimeReference = 0;
     private long unixTimeReference = 0;
     private List<IdentityProcessor> identityProcessors = new ArrayList<>();
@@ -156,7 +156,7 @@ public class FrameworkServiceDataHolder {
         this.bundleContext = bundleContext;
     }
 
-    public List<ApplicationAuthenticator> getAuthenticators() {
+    public ApplicationAuthenticatorList getAuthenticators() {
 
         return authenticators;
     }
@@ -26,6 +26,7 @@ import org.wso2.carbon.CarbonConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.application.authentication.framework.ServerSessionManagementService;
 import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCache;
+import org.wso2.carbon.identity.application.authentication.framework.cache.SessionContextCacheKey;
 import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
@@ -35,6 +36,11 @@ import org.wso2.carbon.identity.application.authentication.framework.util.Sessio
 import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * A service to terminate the sessions of federated users
  */
@@ -57,6 +63,46 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
         return true;
     }
 
+    /**
+     * Terminate the given sessions. The session contexts are cleared from the cache of each tenant domain, and their
+     * DELETE operations are written to the session data store, in batches.
+     *
+     * @param sessionIds - Session ids to be terminated
+     * @return number of sessions terminated
+     */
+    @Override
+    public int removeSessions(List<String> sessionIds) {
+
+        String loginTenantDomain = FrameworkUtils.getLoginTenantDomainFromContext();
+        Map<String, List<SessionContextCacheKey>> sessionKeysOfTenantDomains = new HashMap<>();
+        int removedSessions = 0;
+        for (String sessionId : sessionIds) {
+            if (StringUtils.isBlank(sessionId)) {
+                continue;
+            }
+            removedSessions++;
+            SessionContext sessionContext = FrameworkUtils.getSessionContextFromCache(sessionId, loginTenantDomain);
+            AuthenticatedUser authenticatedUser = publishSessionTerminateEvent(sessionContext, sessionId);
+            if (sessionContext == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("The session context is not available for " + sessionId);
+                }
+                continue;
+            }
+            Object tenantDomainObj = sessionContext.getProperty(FrameworkUtils.TENANT_DOMAIN);
+            String sessionTenantDomain = tenantDomainObj != null ? (String) tenantDomainObj : loginTenantDomain;
+            sessionKeysOfTenantDomains.computeIfAbsent(sessionTenantDomain, tenantDomain -> new ArrayList<>())
+                    .add(new SessionContextCacheKey(sessionId));
+            addAuditLogs(sessionId, CarbonContext.getThreadLocalCarbonContext().getUsername(),
+                    authenticatedUser.getUserName(), (String) tenantDomainObj, FrameworkUtils.getCorrelation(),
+                    System.currentTimeMillis());
+        }
+        for (Map.Entry<String, List<SessionContextCacheKey>> sessionKeys : sessionKeysOfTenantDomains.entrySet()) {
+            SessionContextCache.getInstance().clearCacheEntries(sessionKeys.getValue(), sessionKeys.getKey());
+        }
+        return removedSessions;
+    }
+
     /**
      * Terminate the session by sessionId
      *
@@ -65,17 +111,7 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
      */
     private void terminateSession(SessionContext sessionContext, String sessionId) {
 
-        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
-        if (FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy() != null && FrameworkServiceDataHolder
-                .getInstance().getAuthnDataPublisherProxy().isEnabled(null) && sessionContext != null) {
-
-            Object authenticatedUserObj = sessionContext.getProperty(FrameworkConstants.AUTHENTICATED_USER);
-            if (authenticatedUserObj != null) {
-                authenticatedUser = (AuthenticatedUser) authenticatedUserObj;
-            }
-            FrameworkUtils.publishSessionEvent(sessionId, null, null, sessionContext, authenticatedUser,
-                    FrameworkConstants.AnalyticsAttributes.SESSION_TERMINATE);
-        }
+        AuthenticatedUser authenticatedUser = publishSessionTerminateEvent(sessionContext, sessionId);
         if (sessionContext == null) {
             if (log.isDebugEnabled()) {
                 log.debug("The session context is not available for " + sessionId);
@@ -93,6 +129,29 @@ public class ServerSessionManagementServiceImpl implements ServerSessionManageme
                 System.currentTimeMillis());
     }
 
+    /**
+     * Publish the session terminate event of the given session, if the authentication data publisher is enabled.
+     *
+     * @param sessionContext - session context for the sessionId
+     * @param sessionId - Session id
+     * @return authenticated user of the session, or an empty user if the event is not published
+     */
+    private AuthenticatedUser publishSessionTerminateEvent(SessionContext sessionContext, String sessionId) {
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        if (FrameworkServiceDataHolder.getInstance().getAuthnDataPublisherProxy() != null && FrameworkServiceDataHolder
+                .getInstance().getAuthnDataPublisherProxy().isEnabled(null) && sessionContext != null) {
+
+            Object authenticatedUserObj = sessionContext.getProperty(FrameworkConstants.AUTHENTICATED_USER);
+            if (authenticatedUserObj != null) {
+                authenticatedUser = (AuthenticatedUser) authenticatedUserObj;
+            }
+            FrameworkUtils.publishSessionEvent(sessionId, null, null, sessionContext, authenticatedUser,
+                    FrameworkConstants.AnalyticsAttributes.SESSION_TERMINATE);
+        }
+        return authenticatedUser;
+    }
+
     private void addAuditLogs(String sessionKey, String initiator, String authenticatedUser, String userTenantDomain,
                               String traceId, Long terminatedTimestamp) {
 
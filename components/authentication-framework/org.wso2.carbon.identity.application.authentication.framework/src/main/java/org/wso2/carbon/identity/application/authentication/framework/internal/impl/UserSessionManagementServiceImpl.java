@@ -58,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.CURRENT_SESSION_IDENTIFIER;
@@ -74,6 +75,7 @@ import static org.wso2.carbon.identity.application.authentication.framework.util
 public class UserSessionManagementServiceImpl implements UserSessionManagementService {
 
     private static final Log log = LogFactory.getLog(UserSessionManagementServiceImpl.class);
+    private static final int SESSION_TERMINATION_CHUNK_SIZE = 1000;
     private SessionManagementService sessionManagementService = new SessionManagementService();
 
     @Override
@@ -203,8 +205,8 @@ public class UserSessionManagementServiceImpl implements UserSessionManagementSe
 
     private void terminateSessionsOfUser(List<String> sessionList) {
 
-        for (String session : sessionList) {
-            sessionManagementService.removeSession(session);
+        if (!sessionList.isEmpty()) {
+            FrameworkServiceDataHolder.getInstance().getServerSessionManagementService().removeSessions(sessionList);
         }
     }
 
@@ -317,6 +319,51 @@ public class UserSessionManagementServiceImpl implements UserSessionManagementSe
         return true;
     }
 
+    @Override
+    public boolean terminateSessionsByUserIds(List<String> userIds) throws SessionManagementException {
+
+        if (userIds == null || userIds.isEmpty()) {
+            throw handleSessionManagementClientException(ERROR_CODE_INVALID_USER, null);
+        }
+        List<String> sessionIdList;
+        try {
+            sessionIdList = UserSessionStore.getInstance().getSessionIdsOfUsers(userIds);
+        } catch (UserSessionException e) {
+            throw handleSessionManagementServerException(ERROR_CODE_UNABLE_TO_GET_SESSIONS,
+                    userIds.size() + " users", e);
+        }
+
+        if (Boolean.parseBoolean(IdentityUtil.getProperty(PRESERVE_LOGGED_IN_SESSION_AT_PASSWORD_UPDATE))) {
+            Object currentSessionId = IdentityUtil.threadLocalProperties.get().get(CURRENT_SESSION_IDENTIFIER);
+            if (currentSessionId != null && sessionIdList.remove(currentSessionId)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Skipping the termination of the current session.");
+                }
+            }
+        }
+
+        int totalSessions = sessionIdList.size();
+        if (log.isDebugEnabled()) {
+            log.debug("Terminating " + totalSessions + " active sessions of " + userIds.size() + " users.");
+        }
+        long startTime = System.currentTimeMillis();
+        int terminatedSessions = 0;
+        for (int start = 0; start < totalSessions; start += SESSION_TERMINATION_CHUNK_SIZE) {
+            List<String> sessionIdChunk = sessionIdList.subList(start,
+                    Math.min(start + SESSION_TERMINATION_CHUNK_SIZE, totalSessions));
+            terminateSessionsOfUser(sessionIdChunk);
+            UserSessionStore.getInstance().removeTerminatedSessionRecords(sessionIdChunk);
+            terminatedSessions += sessionIdChunk.size();
+            if (totalSessions > SESSION_TERMINATION_CHUNK_SIZE) {
+                long elapsedTime = System.currentTimeMillis() - startTime;
+                log.info(String.format("Terminated %d of %d sessions of %d users in %d ms (%.1f sessions/s).",
+                        terminatedSessions, totalSessions, userIds.size(), elapsedTime,
+                        terminatedSessions * (double) TimeUnit.SECONDS.toMillis(1) / Math.max(elapsedTime, 1)));
+            }
+        }
+        return true;
+    }
+
     @Override
     public Optional<UserSession> getSessionBySessionId(String userId, String sessionId)
             throws SessionManagementException {
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.publisher;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.AuthenticationDataPublisher;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.core.handler.InitConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Authentication data publisher which takes the publishing callbacks off the login thread.
+ * <p>
+ * Each callback is converted to an {@link AuthenticationDataEvent}, which holds a snapshot of the request and the
+ * scalar fields of the authentication and session contexts, and is added to a bounded lock-free ring buffer.
+ * Dispatcher threads drain the buffer in batches and hand the events to the wrapped publisher, within the carbon
+ * context and the logging context in which each event was created. Idle dispatchers wait on the buffer until an
+ * event is added. When the buffer is full, the
+ * configured {@link OverflowPolicy} is applied.
+ */
+public class AsyncAuthenticationDataPublisher implements AuthenticationDataPublisher {
+
+    private static final Log log = LogFactory.getLog(AsyncAuthenticationDataPublisher.class);
+    private static final String DISPATCHER_THREAD_NAME = "AuthenticationDataPublisher-";
+    private static final long IDLE_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(1);
+
+    private static final int DEFAULT_QUEUE_SIZE = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_THREAD_COUNT = 1;
+
+    /**
+     * Action taken when a callback is received while the buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Drop the event of the callback.
+         */
+        DROP_NEWEST,
+        /**
+         * Drop the oldest buffered event to make space for the event of the callback.
+         */
+        DROP_OLDEST,
+        /**
+         * Publish the event in the login thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final AuthenticationDataPublisher publisher;
+    private final BoundedRingBuffer<AuthenticationDataEvent> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final List<Thread> dispatchers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * @param publisher      Publisher to which the events are handed.
+     * @param queueSize      Maximum number of buffered events. Rounded up to a power of two.
+     * @param batchSize      Maximum number of events handed to the publisher in a batch.
+     * @param threadCount    Number of dispatcher threads.
+     * @param overflowPolicy Action taken when the buffer is full.
+     */
+    public AsyncAuthenticationDataPublisher(AuthenticationDataPublisher publisher, int queueSize, int batchSize,
+                                            int threadCount, OverflowPolicy overflowPolicy) {
+
+        this.publisher = publisher;
+        this.buffer = new BoundedRingBuffer<>(Math.max(queueSize, 1));
+        this.batchSize = Math.max(batchSize, 1);
+        this.overflowPolicy = overflowPolicy;
+        for (int i = 1; i <= Math.max(threadCount, 1); i++) {
+            Thread dispatcher = new Thread(this::dispatch, DISPATCHER_THREAD_NAME + i);
+            dispatcher.setDaemon(true);
+            dispatchers.add(dispatcher);
+            dispatcher.start();
+        }
+    }
+
+    /**
+     * Check whether asynchronous publishing is enabled in identity.xml.
+     *
+     * @return true if asynchronous publishing is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(FrameworkConstants.Config.ASYNC_PUBLISHER_ENABLE));
+    }
+
+    /**
+     * Creates an asynchronous publisher configured with the Analytics.AsyncPublisher configuration of identity.xml.
+     *
+     * @param publisher Publisher to which the events are handed.
+     * @return Asynchronous publisher.
+     */
+    public static AsyncAuthenticationDataPublisher createFromConfig(AuthenticationDataPublisher publisher) {
+
+        int queueSize = readIntProperty(FrameworkConstants.Config.ASYNC_PUBLISHER_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        int batchSize = readIntProperty(FrameworkConstants.Config.ASYNC_PUBLISHER_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        int threadCount = readIntProperty(FrameworkConstants.Config.ASYNC_PUBLISHER_THREAD_COUNT,
+                DEFAULT_THREAD_COUNT);
+        OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+        String overflowPolicyValue =
+                IdentityUtil.getProperty(FrameworkConstants.Config.ASYNC_PUBLISHER_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(overflowPolicyValue)) {
+            try {
+                overflowPolicy = OverflowPolicy.valueOf(overflowPolicyValue.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid authentication data publisher overflow policy: " + overflowPolicyValue
+                        + ". Using the default policy: " + overflowPolicy, e);
+            }
+        }
+        log.info("Asynchronous authentication data publishing is enabled with queue size: " + queueSize
+                + ", batch size: " + batchSize + ", thread count: " + threadCount + " and overflow policy: "
+                + overflowPolicy);
+        return new AsyncAuthenticationDataPublisher(publisher, queueSize, batchSize, threadCount, overflowPolicy);
+    }
+
+    /**
+     * Get the publisher to which the events are handed.
+     *
+     * @return Wrapped publisher.
+     */
+    public AuthenticationDataPublisher getPublisher() {
+
+        return publisher;
+    }
+
+    /**
+     * Stop the dispatcher threads and publish the remaining buffered events in the calling thread.
+     */
+    public void shutdown() {
+
+        running = false;
+        buffer.wakeUpConsumers();
+        for (Thread dispatcher : dispatchers) {
+            try {
+                dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        AuthenticationDataEvent event;
+        while ((event = buffer.poll()) != null) {
+            publish(event);
+        }
+    }
+
+    @Override
+    public void publishAuthenticationStepSuccess(HttpServletRequest request, AuthenticationContext context,
+                                                 Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.AUTHENTICATION_STEP_SUCCESS, request, context, null, params);
+    }
+
+    @Override
+    public void publishAuthenticationStepFailure(HttpServletRequest request, AuthenticationContext context,
+                                                 Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.AUTHENTICATION_STEP_FAILURE, request, context, null, params);
+    }
+
+    @Override
+    public void publishAuthenticationSuccess(HttpServletRequest request, AuthenticationContext context,
+                                             Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.AUTHENTICATION_SUCCESS, request, context, null, params);
+    }
+
+    @Override
+    public void publishAuthenticationFailure(HttpServletRequest request, AuthenticationContext context,
+                                             Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.AUTHENTICATION_FAILURE, request, context, null, params);
+    }
+
+    @Override
+    public void publishSessionCreation(HttpServletRequest request, AuthenticationContext context,
+                                       SessionContext sessionContext, Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.SESSION_CREATION, request, context, sessionContext, params);
+    }
+
+    @Override
+    public void publishSessionUpdate(HttpServletRequest request, AuthenticationContext context,
+                                     SessionContext sessionContext, Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.SESSION_UPDATE, request, context, sessionContext, params);
+    }
+
+    @Override
+    public void publishSessionTermination(HttpServletRequest request, AuthenticationContext context,
+                                          SessionContext sessionContext, Map<String, Object> params) {
+
+        enqueue(AuthenticationDataEvent.Type.SESSION_TERMINATION, request, context, sessionContext, params);
+    }
+
+    @Override
+    public void init(InitConfig initConfig) {
+
+        publisher.init(initConfig);
+    }
+
+    @Override
+    public String getName() {
+
+        return publisher.getName();
+    }
+
+    @Override
+    public boolean isEnabled(MessageContext messageContext) {
+
+        return publisher.isEnabled(messageContext);
+    }
+
+    @Override
+    public int getPriority(MessageContext messageContext) {
+
+        return publisher.getPriority(messageContext);
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) {
+
+        return publisher.canHandle(messageContext);
+    }
+
+    /**
+     * Get the number of events waiting in the buffer.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return buffer.size();
+    }
+
+    public int getQueueCapacity() {
+
+        return buffer.capacity();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    public long getQueuedCount() {
+
+        return queuedCount.get();
+    }
+
+    public long getPublishedCount() {
+
+        return publishedCount.get();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of events dropped as the buffer was full, or as the publisher was shut down.
+     *
+     * @return Dropped event count.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    /**
+     * Get the number of events published in the login thread due to the CALLER_RUNS policy.
+     *
+     * @return Caller runs count.
+     */
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.get();
+    }
+
+    public long getBatchCount() {
+
+        return batchCount.get();
+    }
+
+    private void enqueue(AuthenticationDataEvent.Type type, HttpServletRequest request,
+                         AuthenticationContext context, SessionContext sessionContext, Map<String, Object> params) {
+
+        AuthenticationDataEvent event = AuthenticationDataEvent.of(type, request, context, sessionContext, params);
+        if (!running) {
+            droppedCount.incrementAndGet();
+            log.warn("Authentication data publisher is shut down. Dropping the " + type + " event.");
+            return;
+        }
+        if (buffer.offer(event)) {
+            queuedCount.incrementAndGet();
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                }
+                queuedCount.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Authentication data publisher queue is full. Dropped the oldest event.");
+                }
+                break;
+            case DROP_NEWEST:
+                droppedCount.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Authentication data publisher queue is full. Dropped the " + type + " event.");
+                }
+                break;
+            default:
+                callerRunsCount.incrementAndGet();
+                publish(event);
+        }
+    }
+
+    private void dispatch() {
+
+        List<AuthenticationDataEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            AuthenticationDataEvent event;
+            try {
+                // Wait for an event, waking up periodically to check whether the publisher is shut down.
+                event = buffer.poll(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (event == null) {
+                continue;
+            }
+            batch.add(event);
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                batch.add(event);
+            }
+            for (AuthenticationDataEvent batchedEvent : batch) {
+                publish(batchedEvent);
+            }
+            batchCount.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Published a batch of " + batch.size() + " authentication data events. Queue depth: "
+                        + buffer.size());
+            }
+            batch.clear();
+        }
+    }
+
+    private void publish(AuthenticationDataEvent event) {
+
+        Map<String, String> loggingContext = MDC.getCopyOfContextMap();
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(event.getTenantDomain());
+            carbonContext.setTenantId(event.getTenantId());
+            carbonContext.setUsername(event.getUsername());
+            setLoggingContext(event.getLoggingContext());
+            HttpServletRequest request = event.getRequest();
+            AuthenticationContext context = event.toAuthenticationContext();
+            switch (event.getType()) {
+                case AUTHENTICATION_STEP_SUCCESS:
+                    publisher.publishAuthenticationStepSuccess(request, context, event.getParams());
+                    break;
+                case AUTHENTICATION_STEP_FAILURE:
+                    publisher.publishAuthenticationStepFailure(request, context, event.getParams());
+                    break;
+                case AUTHENTICATION_SUCCESS:
+                    publisher.publishAuthenticationSuccess(request, context, event.getParams());
+                    break;
+                case AUTHENTICATION_FAILURE:
+                    publisher.publishAuthenticationFailure(request, context, event.getParams());
+                    break;
+                case SESSION_CREATION:
+                    publisher.publishSessionCreation(request, context, event.toSessionContext(), event.getParams());
+                    break;
+                case SESSION_UPDATE:
+                    publisher.publishSessionUpdate(request, context, event.toSessionContext(), event.getParams());
+                    break;
+                default:
+                    publisher.publishSessionTermination(request, context, event.toSessionContext(),
+                            event.getParams());
+            }
+            publishedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("Error while publishing the " + event.getType() + " authentication data event.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+            setLoggingContext(loggingContext);
+        }
+    }
+
+    private static void setLoggingContext(Map<String, String> loggingContext) {
+
+        if (loggingContext != null) {
+            MDC.setContextMap(loggingContext);
+        } else {
+            MDC.clear();
+        }
+    }
+
+    private static int readIntProperty(String key, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.error("Error while parsing the config: " + key + " with value: " + value
+                    + ". Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.publisher;
+
+import org.slf4j.MDC;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.SequenceConfig;
+import org.wso2.carbon.identity.application.authentication.framework.context.AuthenticationContext;
+import org.wso2.carbon.identity.application.authentication.framework.context.SessionContext;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedIdPData;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Immutable record of an authentication data publishing callback, queued to be published asynchronously.
+ * <p>
+ * The record never holds the live authentication context, session context or request, which keep changing, and
+ * are recycled once the login request is completed. Creating the record on the login thread only reads the scalar
+ * fields which the publishers report: the context and session ids, the tenant, the service provider, the
+ * authenticated user, the authenticated identity provider names, the timestamps and the analytics data, and takes a
+ * {@link RequestSnapshot} of the request. The publisher thread builds a detached authentication context and session
+ * context from these fields with {@link #toAuthenticationContext()} and {@link #toSessionContext()}. It also records
+ * the carbon context and the logging context of the thread which created it, so that the event is published in the
+ * same context.
+ */
+public final class AuthenticationDataEvent {
+
+    /**
+     * Callback of {@link org.wso2.carbon.identity.application.authentication.framework.AuthenticationDataPublisher}
+     * which created the event.
+     */
+    public enum Type {
+        AUTHENTICATION_STEP_SUCCESS,
+        AUTHENTICATION_STEP_FAILURE,
+        AUTHENTICATION_SUCCESS,
+        AUTHENTICATION_FAILURE,
+        SESSION_CREATION,
+        SESSION_UPDATE,
+        SESSION_TERMINATION
+    }
+
+    private final Type type;
+    private final HttpServletRequest request;
+    private final Map<String, Object> params;
+    private final String tenantDomain;
+    private final int tenantId;
+    private final String username;
+    private final Map<String, String> loggingContext;
+    private final long createdTime = System.currentTimeMillis();
+
+    // Scalar fields of the authentication context. Null if the callback did not have a context.
+    private final ContextData contextData;
+    // Scalar fields of the session context. Null if the callback did not have a session context.
+    private final SessionData sessionData;
+
+    private AuthenticationDataEvent(Type type, HttpServletRequest request, AuthenticationContext context,
+                                    SessionContext sessionContext, Map<String, Object> params) {
+
+        this.type = type;
+        this.request = request != null ? new RequestSnapshot(request) : null;
+        this.contextData = context != null ? new ContextData(context) : null;
+        this.sessionData = sessionContext != null ? new SessionData(sessionContext) : null;
+        this.params = params != null ? Collections.unmodifiableMap(new HashMap<>(params)) : null;
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        this.tenantDomain = carbonContext.getTenantDomain();
+        this.tenantId = carbonContext.getTenantId();
+        this.username = carbonContext.getUsername();
+        this.loggingContext = MDC.getCopyOfContextMap();
+    }
+
+    /**
+     * Create an event of the given callback, reading the scalar fields of the authentication context and the
+     * session context, and taking a snapshot of the request.
+     *
+     * @param type           Callback type.
+     * @param request        Incoming request.
+     * @param context        Authentication context.
+     * @param sessionContext Session context.
+     * @param params         Other parameters passed to the callback.
+     * @return Authentication data event.
+     */
+    public static AuthenticationDataEvent of(Type type, HttpServletRequest request, AuthenticationContext context,
+                                             SessionContext sessionContext, Map<String, Object> params) {
+
+        return new AuthenticationDataEvent(type, request, context, sessionContext, params);
+    }
+
+    public Type getType() {
+
+        return type;
+    }
+
+    public HttpServletRequest getRequest() {
+
+        return request;
+    }
+
+    /**
+     * Build a detached authentication context from the fields recorded by the event. A new context is built on each
+     * call, so that a publisher cannot change the context seen by another publisher.
+     *
+     * @return Authentication context, or null if the callback did not have a context.
+     */
+    public AuthenticationContext toAuthenticationContext() {
+
+        return contextData != null ? contextData.toAuthenticationContext() : null;
+    }
+
+    /**
+     * Build a detached session context from the fields recorded by the event. A new session context is built on
+     * each call.
+     *
+     * @return Session context, or null if the callback did not have a session context.
+     */
+    public SessionContext toSessionContext() {
+
+        return sessionData != null ? sessionData.toSessionContext() : null;
+    }
+
+    public Map<String, Object> getParams() {
+
+        return params;
+    }
+
+    /**
+     * Get the tenant domain of the carbon context in which the event was created.
+     *
+     * @return Tenant domain.
+     */
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * Get the tenant id of the carbon context in which the event was created.
+     *
+     * @return Tenant id.
+     */
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    /**
+     * Get the username of the carbon context in which the event was created.
+     *
+     * @return Username, or null if the carbon context did not have a user.
+     */
+    public String getUsername() {
+
+        return username;
+    }
+
+    /**
+     * Get the logging (MDC) context of the thread which created the event, such as the correlation id.
+     *
+     * @return Copy of the logging context, or null if the thread did not have one.
+     */
+    public Map<String, String> getLoggingContext() {
+
+        return loggingContext;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    private static List<String> idPNamesOf(Map<String, AuthenticatedIdPData> idPs) {
+
+        if (idPs == null || idPs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(new ArrayList<>(idPs.keySet()));
+    }
+
+    private static Map<String, AuthenticatedIdPData> idPsOf(List<String> idPNames, AuthenticatedUser user) {
+
+        Map<String, AuthenticatedIdPData> idPs = new HashMap<>(idPNames.size());
+        for (String idPName : idPNames) {
+            AuthenticatedIdPData idPData = new AuthenticatedIdPData();
+            idPData.setIdpName(idPName);
+            idPData.setUser(user);
+            idPs.put(idPName, idPData);
+        }
+        return idPs;
+    }
+
+    /**
+     * Scalar fields of the authentication context.
+     */
+    private static final class ContextData {
+
+        private final String contextIdentifier;
+        private final String sessionIdentifier;
+        private final String requestType;
+        private final String relyingParty;
+        private final String serviceProviderName;
+        private final String tenantDomain;
+        private final String loginTenantDomain;
+        private final String applicationId;
+        private final String sequenceName;
+        private final String authenticatedIdPsOfSequence;
+        private final boolean sequenceCompleted;
+        private final int currentStep;
+        private final String currentAuthenticator;
+        private final boolean requestAuthenticated;
+        private final boolean rememberMe;
+        private final boolean forceAuthenticate;
+        private final boolean passiveAuthenticate;
+        private final boolean retrying;
+        private final boolean logoutRequest;
+        private final UserData subject;
+        private final List<String> currentAuthenticatedIdPs;
+        private final Map<String, Serializable> analyticsData;
+
+        @SuppressWarnings("unchecked")
+        private ContextData(AuthenticationContext context) {
+
+            contextIdentifier = context.getContextIdentifier();
+            sessionIdentifier = context.getSessionIdentifier();
+            requestType = context.getRequestType();
+            relyingParty = context.getRelyingParty();
+            serviceProviderName = context.getServiceProviderName();
+            tenantDomain = context.getTenantDomain();
+            loginTenantDomain = context.getLoginTenantDomain();
+            SequenceConfig sequenceConfig = context.getSequenceConfig();
+            applicationId = sequenceConfig != null ? sequenceConfig.getApplicationId() : null;
+            sequenceName = sequenceConfig != null ? sequenceConfig.getName() : null;
+            authenticatedIdPsOfSequence = sequenceConfig != null ? sequenceConfig.getAuthenticatedIdPs() : null;
+            sequenceCompleted = sequenceConfig != null && sequenceConfig.isCompleted();
+            currentStep = context.getCurrentStep();
+            currentAuthenticator = context.getCurrentAuthenticator();
+            requestAuthenticated = context.isRequestAuthenticated();
+            rememberMe = context.isRememberMe();
+            forceAuthenticate = context.isForceAuthenticate();
+            passiveAuthenticate = context.isPassiveAuthenticate();
+            retrying = context.isRetrying();
+            logoutRequest = context.isLogoutRequest();
+            AuthenticatedUser user = context.getSubject();
+            if (user == null && sequenceConfig != null) {
+                user = sequenceConfig.getAuthenticatedUser();
+            }
+            subject = user != null ? new UserData(user) : null;
+            currentAuthenticatedIdPs = idPNamesOf(context.getCurrentAuthenticatedIdPs());
+            Object data = context.getProperty(FrameworkConstants.AnalyticsData.DATA_MAP);
+            analyticsData = data instanceof Map ?
+                    Collections.unmodifiableMap(new HashMap<>((Map<String, Serializable>) data)) : null;
+        }
+
+        private AuthenticationContext toAuthenticationContext() {
+
+            AuthenticationContext context = new AuthenticationContext();
+            context.setContextIdentifier(contextIdentifier);
+            context.setSessionIdentifier(sessionIdentifier);
+            context.setRequestType(requestType);
+            context.setRelyingParty(relyingParty);
+            context.setServiceProviderName(serviceProviderName);
+            context.setTenantDomain(tenantDomain);
+            context.setLoginTenantDomain(loginTenantDomain);
+            context.setCurrentStep(currentStep);
+            context.setCurrentAuthenticator(currentAuthenticator);
+            context.setRequestAuthenticated(requestAuthenticated);
+            context.setRememberMe(rememberMe);
+            context.setForceAuthenticate(forceAuthenticate);
+            context.setPassiveAuthenticate(passiveAuthenticate);
+            context.setRetrying(retrying);
+            context.setLogoutRequest(logoutRequest);
+            AuthenticatedUser user = subject != null ? subject.toAuthenticatedUser() : null;
+            context.setSubject(user);
+            SequenceConfig sequenceConfig = new SequenceConfig();
+            sequenceConfig.setApplicationId(applicationId);
+            sequenceConfig.setName(sequenceName);
+            sequenceConfig.setAuthenticatedIdPs(authenticatedIdPsOfSequence);
+            sequenceConfig.setCompleted(sequenceCompleted);
+            sequenceConfig.setAuthenticatedUser(user);
+            context.setSequenceConfig(sequenceConfig);
+            context.setCurrentAuthenticatedIdPs(idPsOf(currentAuthenticatedIdPs, user));
+            if (analyticsData != null) {
+                context.setProperty(FrameworkConstants.AnalyticsData.DATA_MAP, new HashMap<>(analyticsData));
+            }
+            return context;
+        }
+    }
+
+    /**
+     * Scalar fields of the session context.
+     */
+    private static final class SessionData {
+
+        private final boolean rememberMe;
+        private final Object createdTimestamp;
+        private final Object updatedTimestamp;
+        private final List<String> authenticatedIdPs;
+
+        private SessionData(SessionContext sessionContext) {
+
+            rememberMe = sessionContext.isRememberMe();
+            createdTimestamp = sessionContext.getProperty(FrameworkConstants.CREATED_TIMESTAMP);
+            updatedTimestamp = sessionContext.getProperty(FrameworkConstants.UPDATED_TIMESTAMP);
+            authenticatedIdPs = idPNamesOf(sessionContext.getAuthenticatedIdPs());
+        }
+
+        private SessionContext toSessionContext() {
+
+            SessionContext sessionContext = new SessionContext();
+            sessionContext.setRememberMe(rememberMe);
+            if (createdTimestamp != null) {
+                sessionContext.addProperty(FrameworkConstants.CREATED_TIMESTAMP, createdTimestamp);
+            }
+            if (updatedTimestamp != null) {
+                sessionContext.addProperty(FrameworkConstants.UPDATED_TIMESTAMP, updatedTimestamp);
+            }
+            sessionContext.setAuthenticatedIdPs(idPsOf(authenticatedIdPs, null));
+            return sessionContext;
+        }
+    }
+
+    /**
+     * Name fields of the authenticated user. The user id is not read, as reading it may look it up in the user
+     * store. It is resolved by the user built on the publisher thread when a publisher asks for it.
+     */
+    private static final class UserData {
+
+        private final String userName;
+        private final String userStoreDomain;
+        private final String tenantDomain;
+        private final String authenticatedSubjectIdentifier;
+        private final boolean federatedUser;
+        private final String federatedIdPName;
+
+        private UserData(AuthenticatedUser user) {
+
+            userName = user.getUserName();
+            userStoreDomain = user.getUserStoreDomain();
+            tenantDomain = user.getTenantDomain();
+            authenticatedSubjectIdentifier = user.getAuthenticatedSubjectIdentifier();
+            federatedUser = user.isFederatedUser();
+            federatedIdPName = user.getFederatedIdPName();
+        }
+
+        private AuthenticatedUser toAuthenticatedUser() {
+
+            AuthenticatedUser user = new AuthenticatedUser();
+            user.setUserName(userName);
+            user.setUserStoreDomain(userStoreDomain);
+            user.setTenantDomain(tenantDomain);
+            user.setAuthenticatedSubjectIdentifier(authenticatedSubjectIdentifier);
+            user.setFederatedUser(federatedUser);
+            user.setFederatedIdPName(federatedIdPName);
+            return user;
+        }
+    }
+}
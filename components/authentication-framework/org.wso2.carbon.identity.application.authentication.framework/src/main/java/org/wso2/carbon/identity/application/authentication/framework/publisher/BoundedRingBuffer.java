@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.publisher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, lock-free, multi-producer multi-consumer ring buffer. Each slot carries a sequence number which tells
+ * whether the slot is ready to be written or read at the current position, so producers and consumers only compete
+ * with a compare-and-set on their own position. Consumers which find the buffer empty may wait for an element with
+ * {@link #poll(long, TimeUnit)}; producers only take the lock to wake them when a consumer is waiting.
+ *
+ * @param <E> Element type.
+ */
+class BoundedRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+    private final ReentrantLock waitLock = new ReentrantLock();
+    private final Condition notEmpty = waitLock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+
+    /**
+     * @param capacity Minimum capacity of the buffer. The capacity is rounded up to a power of two.
+     */
+    BoundedRingBuffer(int capacity) {
+
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.elements = new AtomicReferenceArray<>(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add the given element to the buffer.
+     *
+     * @param element Element to be added.
+     * @return false if the buffer is full.
+     */
+    boolean offer(E element) {
+
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    if (waitingConsumers.get() > 0) {
+                        signal(false);
+                    }
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element of the buffer.
+     *
+     * @return The oldest element, or null if the buffer is empty.
+     */
+    E poll() {
+
+        long position = consumerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (consumerPosition.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = consumerPosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = consumerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest element of the buffer, waiting up to the given time for an element if the buffer is empty.
+     *
+     * @param timeout Maximum time to wait.
+     * @param unit    Unit of the timeout.
+     * @return The oldest element, or null if the buffer is still empty when the timeout elapses or when the waiting
+     * consumers are woken up with {@link #wakeUpConsumers()}.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+        E element = poll();
+        if (element != null) {
+            return element;
+        }
+        long nanos = unit.toNanos(timeout);
+        waitLock.lockInterruptibly();
+        try {
+            // Register as waiting before checking the buffer again, so that a producer which adds an element after
+            // the check sees the waiting consumer and signals it.
+            waitingConsumers.incrementAndGet();
+            try {
+                element = poll();
+                if (element == null && nanos > 0) {
+                    notEmpty.awaitNanos(nanos);
+                    element = poll();
+                }
+                return element;
+            } finally {
+                waitingConsumers.decrementAndGet();
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+
+    /**
+     * Wake up all the consumers waiting in {@link #poll(long, TimeUnit)}.
+     */
+    void wakeUpConsumers() {
+
+        signal(true);
+    }
+
+    int size() {
+
+        return (int) Math.max(0, producerPosition.get() - consumerPosition.get());
+    }
+
+    int capacity() {
+
+        return mask + 1;
+    }
+
+    private void signal(boolean all) {
+
+        waitLock.lock();
+        try {
+            if (all) {
+                notEmpty.signalAll();
+            } else {
+                notEmpty.signal();
+            }
+        } finally {
+            waitLock.unlock();
+        }
+    }
+}
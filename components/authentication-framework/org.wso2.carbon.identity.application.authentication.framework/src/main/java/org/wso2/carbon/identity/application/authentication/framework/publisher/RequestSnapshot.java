@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.publisher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Copy of the data of an incoming request which is commonly read by the authentication data publishers, taken so that
+ * the data can be published after the request is completed and recycled by the container. The headers, parameters,
+ * attributes and the connection and URL details of the request are copied, while any other method is delegated to
+ * the original request.
+ */
+class RequestSnapshot extends HttpServletRequestWrapper {
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, String[]> parameters;
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final String method;
+    private final String scheme;
+    private final String serverName;
+    private final int serverPort;
+    private final String remoteAddr;
+    private final String remoteHost;
+    private final int remotePort;
+    private final String contextPath;
+    private final String servletPath;
+    private final String requestURI;
+    private final String requestURL;
+    private final String queryString;
+
+    RequestSnapshot(HttpServletRequest request) {
+
+        super(request);
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames != null && headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            headers.put(headerName, Collections.list(request.getHeaders(headerName)));
+        }
+        parameters = Collections.unmodifiableMap(new LinkedHashMap<>(request.getParameterMap()));
+        Enumeration<String> attributeNames = request.getAttributeNames();
+        while (attributeNames != null && attributeNames.hasMoreElements()) {
+            String attributeName = attributeNames.nextElement();
+            attributes.put(attributeName, request.getAttribute(attributeName));
+        }
+        method = request.getMethod();
+        scheme = request.getScheme();
+        serverName = request.getServerName();
+        serverPort = request.getServerPort();
+        remoteAddr = request.getRemoteAddr();
+        remoteHost = request.getRemoteHost();
+        remotePort = request.getRemotePort();
+        contextPath = request.getContextPath();
+        servletPath = request.getServletPath();
+        requestURI = request.getRequestURI();
+        StringBuffer url = request.getRequestURL();
+        requestURL = url != null ? url.toString() : null;
+        queryString = request.getQueryString();
+    }
+
+    @Override
+    public String getHeader(String name) {
+
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values == null ? Collections.<String>emptyList() : values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+
+        return Collections.enumeration(new ArrayList<>(headers.keySet()));
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+
+        String value = getHeader(name);
+        return value == null ? -1 : Integer.parseInt(value);
+    }
+
+    @Override
+    public String getParameter(String name) {
+
+        String[] values = parameters.get(name);
+        return values == null || values.length == 0 ? null : values[0];
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+
+        return parameters;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+
+        return parameters.get(name);
+    }
+
+    @Override
+    public synchronized Object getAttribute(String name) {
+
+        return attributes.get(name);
+    }
+
+    @Override
+    public synchronized Enumeration<String> getAttributeNames() {
+
+        return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+    }
+
+    @Override
+    public synchronized void setAttribute(String name, Object value) {
+
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public synchronized void removeAttribute(String name) {
+
+        attributes.remove(name);
+    }
+
+    @Override
+    public String getMethod() {
+
+        return method;
+    }
+
+    @Override
+    public String getScheme() {
+
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+
+        return serverPort;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+
+        return remoteAddr;
+    }
+
+    @Override
+    public String getRemoteHost() {
+
+        return remoteHost;
+    }
+
+    @Override
+    public int getRemotePort() {
+
+        return remotePort;
+    }
+
+    @Override
+    public String getContextPath() {
+
+        return contextPath;
+    }
+
+    @Override
+    public String getServletPath() {
+
+        return servletPath;
+    }
+
+    @Override
+    public String getRequestURI() {
+
+        return requestURI;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+
+        return requestURL != null ? new StringBuffer(requestURL) : null;
+    }
+
+    @Override
+    public String getQueryString() {
+
+        return queryString;
+    }
+}
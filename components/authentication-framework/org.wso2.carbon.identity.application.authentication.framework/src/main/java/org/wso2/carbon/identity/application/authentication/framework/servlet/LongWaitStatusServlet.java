@@ -82,7 +82,7 @@ public class LongWaitStatusServlet extends HttpServlet {
             } else {
                 LongWaitStatus longWaitStatus = null;
                 try {
-                    longWaitStatus = longWaitStatusStoreService.getWait(id);
+                    longWaitStatus = longWaitStatusStoreService.getWaitForStatusRequest(id);
                 } catch (FrameworkException e) {
                     response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
                 }
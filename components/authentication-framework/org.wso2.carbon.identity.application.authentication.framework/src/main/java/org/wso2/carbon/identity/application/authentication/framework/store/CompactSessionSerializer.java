@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org).
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes a compact, versioned binary encoding of the session objects.
+ * <p>
+ * Each serialized object starts with a small header carrying a format version and the codec used for the payload.
+ * Class descriptors of the payload are reduced to the class name, the serial version UID and a fingerprint of the
+ * serializable fields of the class, and the payload is deflated when it is larger than the configured threshold.
+ * Objects written by {@link JavaSessionSerializer} are still readable, so that the serializer of an existing
+ * deployment can be switched without clearing the store.
+ */
+public class CompactSessionSerializer implements SessionSerializer {
+
+    static final int FORMAT_VERSION = 2;
+    static final int CODEC_NONE = 0;
+    static final int CODEC_DEFLATE = 1;
+
+    private static final int MAGIC_HIGH = 0x57;
+    private static final int MAGIC_LOW = 0x53;
+    private static final int JAVA_STREAM_MAGIC_HIGH = 0xAC;
+    private static final int JAVA_STREAM_MAGIC_LOW = 0xED;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    private final boolean compressionEnabled;
+    private final int compressionThreshold;
+    private final JavaSessionSerializer javaSessionSerializer = new JavaSessionSerializer();
+
+    public CompactSessionSerializer() {
+
+        this(true, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * @param compressionEnabled   Whether payloads should be deflated.
+     * @param compressionThreshold Minimum payload size in bytes for a payload to be deflated.
+     */
+    public CompactSessionSerializer(boolean compressionEnabled, int compressionThreshold) {
+
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public InputStream serializeSessionObject(Object value) throws SessionSerializerException {
+
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            ObjectOutputStream oos = new CompactObjectOutputStream(payload);
+            oos.writeObject(value);
+            oos.flush();
+            oos.close();
+
+            int codec = compressionEnabled && payload.size() >= compressionThreshold ? CODEC_DEFLATE : CODEC_NONE;
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(payload.size() + 4);
+            baos.write(MAGIC_HIGH);
+            baos.write(MAGIC_LOW);
+            baos.write(FORMAT_VERSION);
+            baos.write(codec);
+            if (codec == CODEC_DEFLATE) {
+                Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (OutputStream deflaterOutputStream = new DeflaterOutputStream(baos, deflater)) {
+                    payload.writeTo(deflaterOutputStream);
+                } finally {
+                    deflater.end();
+                }
+            } else {
+                payload.writeTo(baos);
+            }
+            return new ByteArrayInputStream(baos.toByteArray());
+        } catch (IOException e) {
+            throw new SessionSerializerException("Error while serializing the session object", e);
+        }
+    }
+
+    @Override
+    public Object deSerializeSessionObject(InputStream inputStream) throws SessionSerializerException {
+
+        try {
+            InputStream stream = inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream);
+            stream.mark(2);
+            int high = stream.read();
+            int low = stream.read();
+            stream.reset();
+            if (high == JAVA_STREAM_MAGIC_HIGH && low == JAVA_STREAM_MAGIC_LOW) {
+                // Written by the Java session serializer.
+                return javaSessionSerializer.deSerializeSessionObject(stream);
+            }
+            if (stream.read() != MAGIC_HIGH || stream.read() != MAGIC_LOW) {
+                throw new SessionSerializerException("Unknown session object format");
+            }
+            int version = stream.read();
+            if (version != FORMAT_VERSION) {
+                throw new SessionSerializerException("Unsupported session object format version: " + version);
+            }
+            int codec = stream.read();
+            InputStream payload;
+            if (codec == CODEC_DEFLATE) {
+                payload = new InflaterInputStream(stream);
+            } else if (codec == CODEC_NONE) {
+                payload = stream;
+            } else {
+                throw new SessionSerializerException("Unsupported session object codec: " + codec);
+            }
+            ObjectInputStream ois = new CompactObjectInputStream(payload);
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new SessionSerializerException("Error while de serializing the session object", e);
+        }
+    }
+
+    /**
+     * Computes a fingerprint of the serializable fields of the given class descriptor. A class which keeps its serial
+     * version UID but changes its fields gets a different fingerprint, which lets the reader reject a stream written
+     * against another version of the class instead of silently mapping the field values to the local layout.
+     *
+     * @param desc Class descriptor.
+     * @return Fingerprint of the field names and types of the class.
+     */
+    static long getSchemaFingerprint(ObjectStreamClass desc) {
+
+        // 64 bit FNV-1a over the field names and type signatures, which are ordered by the descriptor.
+        long hash = 0xcbf29ce484222325L;
+        for (ObjectStreamField field : desc.getFields()) {
+            String signature = field.getName() + ':' + (field.isPrimitive() ? String.valueOf(field.getTypeCode())
+                    : field.getTypeString()) + ';';
+            for (int i = 0; i < signature.length(); i++) {
+                hash ^= signature.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Object output stream which writes only the class name, the serial version UID and the schema fingerprint as
+     * the class descriptor.
+     */
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+            writeLong(getSchemaFingerprint(desc));
+        }
+    }
+
+    /**
+     * Object input stream which resolves the compact class descriptors against the local classes. Classes are loaded
+     * with the thread context class loader first, so that the classes of the session attributes contributed by other
+     * bundles can be resolved, and then with the class loader of this bundle.
+     */
+    private static class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+
+            super(in);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+
+            String className = readUTF();
+            long serialVersionUID = readLong();
+            long schemaFingerprint = readLong();
+            Class<?> clazz = loadClass(className);
+            ObjectStreamClass localDesc = ObjectStreamClass.lookup(clazz);
+            if (localDesc == null) {
+                throw new InvalidClassException(className, "Class is not serializable");
+            }
+            if (localDesc.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Serial version UID mismatch. Stream: "
+                        + serialVersionUID + ", local: " + localDesc.getSerialVersionUID());
+            }
+            if (getSchemaFingerprint(localDesc) != schemaFingerprint) {
+                throw new InvalidClassException(className, "Serializable fields of the class do not match the "
+                        + "fields of the stored object");
+            }
+            return localDesc;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+
+            return loadClass(desc.getName());
+        }
+
+        private static Class<?> loadClass(String className) throws ClassNotFoundException {
+
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try {
+                    return Class.forName(className, false, contextClassLoader);
+                } catch (ClassNotFoundException e) {
+                    // Fall back to the class loader of this bundle.
+                }
+            }
+            return Class.forName(className, false, CompactSessionSerializer.class.getClassLoader());
+        }
+    }
+}
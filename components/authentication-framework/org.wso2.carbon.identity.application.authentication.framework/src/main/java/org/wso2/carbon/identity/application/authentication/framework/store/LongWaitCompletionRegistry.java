@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local registry of the long waits started in this node. Completing a wait wakes the threads waiting for it
+ * immediately, instead of them finding the completion by polling the wait status store.
+ * <p>
+ * Waits which are neither completed nor removed are discarded once they are older than the given timeout.
+ */
+public class LongWaitCompletionRegistry {
+
+    private static final long SWEEP_INTERVAL_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Map<String, Completion> completions = new ConcurrentHashMap<>();
+    private final long entryTimeoutInMillis;
+    private final AtomicLong nextSweepTime = new AtomicLong();
+
+    private final AtomicLong registeredCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    /**
+     * @param entryTimeoutInMillis Time after which a wait which was not completed or removed is discarded.
+     */
+    public LongWaitCompletionRegistry(long entryTimeoutInMillis) {
+
+        this.entryTimeoutInMillis = entryTimeoutInMillis;
+    }
+
+    /**
+     * Register a wait started in this node.
+     *
+     * @param waitKey Wait key.
+     */
+    public void register(String waitKey) {
+
+        long now = System.currentTimeMillis();
+        sweepExpiredCompletions(now);
+        completions.put(waitKey, new Completion(now + entryTimeoutInMillis));
+        registeredCount.incrementAndGet();
+    }
+
+    /**
+     * Mark the given wait as completed and wake the threads waiting for it.
+     *
+     * @param waitKey Wait key.
+     * @return true if the wait was registered in this node.
+     */
+    public boolean complete(String waitKey) {
+
+        Completion completion = completions.get(waitKey);
+        if (completion == null) {
+            return false;
+        }
+        if (completion.complete(null)) {
+            completedCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Remove the given wait from the registry.
+     *
+     * @param waitKey Wait key.
+     */
+    public void remove(String waitKey) {
+
+        completions.remove(waitKey);
+    }
+
+    /**
+     * Check whether the given wait was registered in this node.
+     *
+     * @param waitKey Wait key.
+     * @return true if the wait is known to this registry.
+     */
+    public boolean isRegistered(String waitKey) {
+
+        return completions.containsKey(waitKey);
+    }
+
+    /**
+     * Wait until the given wait is completed or the timeout elapses.
+     *
+     * @param waitKey         Wait key.
+     * @param timeoutInMillis Maximum time to wait. The status is returned without waiting if this is not positive.
+     * @return true if the wait is completed, false if it is still pending or is not registered in this node.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitCompletion(String waitKey, long timeoutInMillis) throws InterruptedException {
+
+        Completion completion = completions.get(waitKey);
+        if (completion == null) {
+            return false;
+        }
+        if (completion.isDone() || timeoutInMillis <= 0) {
+            return completion.isDone();
+        }
+        try {
+            completion.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of waits registered in this node which are not completed.
+     *
+     * @return Pending wait count.
+     */
+    public int getPendingCount() {
+
+        int pending = 0;
+        for (Completion completion : completions.values()) {
+            if (!completion.isDone()) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    public long getRegisteredCount() {
+
+        return registeredCount.get();
+    }
+
+    public long getCompletedCount() {
+
+        return completedCount.get();
+    }
+
+    /**
+     * Get the number of waits discarded as they were neither completed nor removed within the timeout.
+     *
+     * @return Expired wait count.
+     */
+    public long getExpiredCount() {
+
+        return expiredCount.get();
+    }
+
+    private void sweepExpiredCompletions(long now) {
+
+        long sweepTime = nextSweepTime.get();
+        if (now < sweepTime || !nextSweepTime.compareAndSet(sweepTime, now + SWEEP_INTERVAL_IN_MILLIS)) {
+            return;
+        }
+        Iterator<Completion> iterator = completions.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiryTime <= now) {
+                iterator.remove();
+                expiredCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Completion of a single wait.
+     */
+    private static class Completion extends CompletableFuture<Void> {
+
+        private final long expiryTime;
+
+        Completion(long expiryTime) {
+
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -24,19 +24,43 @@ import org.wso2.carbon.identity.application.authentication.framework.model.LongW
 
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The service holds long wait status.
+ * <p>
+ * The waits started in this node are also tracked in a local {@link LongWaitCompletionRegistry}, so that the
+ * completion of a wait is notified to the waiting threads and status requests of this node without reading the
+ * status from the store. The store is used for the waits started in the other nodes of the cluster.
  */
 public class LongWaitStatusStoreService {
 
+    private static final long DEFAULT_COMPLETION_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
+
     private LongWaitStatusDAO statusDAO;
     private int connectionTimeout;
+    private LongWaitCompletionRegistry completionRegistry;
+    private long statusRequestTimeout;
 
     public LongWaitStatusStoreService(LongWaitStatusDAO statusDAO, int connectionTimeout) {
 
+        this(statusDAO, connectionTimeout, new LongWaitCompletionRegistry(DEFAULT_COMPLETION_TIMEOUT), 0L);
+    }
+
+    /**
+     * @param statusDAO            Long wait status DAO.
+     * @param connectionTimeout    Connection timeout used to compute the expiry time of a wait.
+     * @param completionRegistry   Registry of the waits started in this node.
+     * @param statusRequestTimeout Maximum time a status request of a pending wait of this node is held until the
+     *                             wait is completed.
+     */
+    public LongWaitStatusStoreService(LongWaitStatusDAO statusDAO, int connectionTimeout,
+                                      LongWaitCompletionRegistry completionRegistry, long statusRequestTimeout) {
+
         this.statusDAO = statusDAO;
         this.connectionTimeout = connectionTimeout;
+        this.completionRegistry = completionRegistry;
+        this.statusRequestTimeout = statusRequestTimeout;
     }
 
     public void addWait(int tenantId, String sessionId, LongWaitStatus longWaitStatus) throws FrameworkException {
@@ -45,6 +69,7 @@ public class LongWaitStatusStoreService {
         Timestamp createdTime = new Timestamp(now.getTime());
         Timestamp expireTime = new Timestamp(now.getTime() + connectionTimeout);
         statusDAO.addWaitStatus(tenantId, sessionId, longWaitStatus, createdTime, expireTime);
+        completionRegistry.register(sessionId);
     }
 
     public LongWaitStatus getWait(String sessionId) throws FrameworkException {
@@ -54,6 +79,60 @@ public class LongWaitStatusStoreService {
 
     public void removeWait(String sessionId) throws FrameworkException {
 
+        completionRegistry.remove(sessionId);
         statusDAO.removeWaitStatus(sessionId);
     }
+
+    /**
+     * Notify the completion of the given wait to the threads and status requests waiting for it in this node.
+     *
+     * @param sessionId Wait key.
+     */
+    public void completeWait(String sessionId) {
+
+        completionRegistry.complete(sessionId);
+    }
+
+    /**
+     * Get the status of a wait for a status request. If the wait was started in this node, the status is resolved
+     * from the local registry, holding the request until the wait is completed or the status request timeout
+     * elapses. Otherwise the status is read from the store.
+     *
+     * @param sessionId Wait key.
+     * @return Wait status.
+     * @throws FrameworkException If the status can not be read from the store.
+     */
+    public LongWaitStatus getWaitForStatusRequest(String sessionId) throws FrameworkException {
+
+        if (!completionRegistry.isRegistered(sessionId)) {
+            return getWait(sessionId);
+        }
+        LongWaitStatus longWaitStatus = new LongWaitStatus();
+        try {
+            longWaitStatus.setStatus(completionRegistry.awaitCompletion(sessionId, statusRequestTimeout) ?
+                    LongWaitStatus.Status.COMPLETED : LongWaitStatus.Status.WAITING);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            longWaitStatus.setStatus(LongWaitStatus.Status.WAITING);
+        }
+        return longWaitStatus;
+    }
+
+    /**
+     * Wait until the given wait of this node is completed or the timeout elapses.
+     *
+     * @param sessionId       Wait key.
+     * @param timeoutInMillis Maximum time to wait.
+     * @return true if the wait is completed.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean awaitCompletion(String sessionId, long timeoutInMillis) throws InterruptedException {
+
+        return completionRegistry.awaitCompletion(sessionId, timeoutInMillis);
+    }
+
+    public LongWaitCompletionRegistry getCompletionRegistry() {
+
+        return completionRegistry;
+    }
 }
@@ -17,8 +17,6 @@
  */
 package org.wso2.carbon.identity.application.authentication.framework.store;
 
-import static org.wso2.carbon.identity.application.authentication.framework.dao.impl.UserSessionDAOImpl.SCOPE_LIST_PLACEHOLDER;
-
 /**
  * This class holds the SQL queries used by {@link UserSessionStore}.
  */
@@ -27,6 +25,11 @@ public class SQLQueries {
     private static final String SESSION_CONTEXT_CACHE_NAME = "AppAuthFrameworkSessionContextCache";
     private static final String DELETE_OPERATION = "DELETE";
 
+    /**
+     * Placeholder of the parameter list of an IN clause, to be replaced with a parameter for each value.
+     */
+    public static final String SCOPE_LIST_PLACEHOLDER = "_SCOPE_LIST_";
+
     /**
      * Queries to store session data.
      */
@@ -59,6 +62,9 @@ public class SQLQueries {
     public static final String SQL_SELECT_SESSION_ID_OF_USER_ID =
             "SELECT SESSION_ID FROM IDN_AUTH_USER_SESSION_MAPPING WHERE USER_ID = ?";
 
+    public static final String SQL_SELECT_SESSION_IDS_OF_USER_IDS =
+            "SELECT SESSION_ID FROM IDN_AUTH_USER_SESSION_MAPPING WHERE USER_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
     public static final String SQL_SELECT_TERMINATED_SESSION_IDS =
             "SELECT SESSION_ID FROM IDN_AUTH_SESSION_STORE WHERE SESSION_TYPE = '" + SESSION_CONTEXT_CACHE_NAME
                     + "' AND EXPIRY_TIME < ?";
@@ -156,6 +162,15 @@ public class SQLQueries {
     public static final String SQL_DELETE_TERMINATED_SESSION_DATA =
             "DELETE FROM IDN_AUTH_USER_SESSION_MAPPING WHERE SESSION_ID = ?";
 
+    public static final String SQL_DELETE_TERMINATED_SESSION_DATA_OF_SESSION_IDS =
+            "DELETE FROM IDN_AUTH_USER_SESSION_MAPPING WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
+    public static final String SQL_DELETE_IDN_AUTH_SESSION_APP_INFO_OF_SESSION_IDS =
+            "DELETE FROM IDN_AUTH_SESSION_APP_INFO WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
+    public static final String SQL_DELETE_IDN_AUTH_SESSION_META_DATA_OF_SESSION_IDS =
+            "DELETE FROM IDN_AUTH_SESSION_META_DATA WHERE SESSION_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
     // Retrieve data for the Application model.
     public static final String SQL_GET_APPS_FOR_SESSION_ID = "SELECT SUBJECT, APP_ID FROM IDN_AUTH_SESSION_APP_INFO " +
             "WHERE SESSION_ID = ?";
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the runtime statistics of the expired session data cleanup, per cleaned up table.
+ */
+public class SessionCleanUpMetrics {
+
+    private static final SessionCleanUpMetrics instance = new SessionCleanUpMetrics();
+
+    private final Map<String, TableStatistics> tableStatistics = new ConcurrentHashMap<>();
+
+    private SessionCleanUpMetrics() {
+
+    }
+
+    public static SessionCleanUpMetrics getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Get the statistics of each cleaned up table, keyed by the table name.
+     *
+     * @return Unmodifiable map of table statistics.
+     */
+    public Map<String, TableStatistics> getTableStatistics() {
+
+        return Collections.unmodifiableMap(tableStatistics);
+    }
+
+    TableStatistics getTableStatistics(String tableName) {
+
+        return tableStatistics.computeIfAbsent(tableName, key -> new TableStatistics());
+    }
+
+    /**
+     * Cleanup statistics of a single table.
+     */
+    public static class TableStatistics {
+
+        private final AtomicLong totalDeletedRows = new AtomicLong();
+        private final AtomicLong backOffCount = new AtomicLong();
+        private final AtomicLong truncatedRunCount = new AtomicLong();
+        private volatile long lastRunDeletedRows;
+        private volatile long lastRunDurationMillis;
+        private volatile long lastRunEndTime;
+        private volatile boolean lastRunTruncated;
+
+        void recordRun(long deletedRows, long durationMillis, boolean truncated) {
+
+            totalDeletedRows.addAndGet(deletedRows);
+            lastRunDeletedRows = deletedRows;
+            lastRunDurationMillis = durationMillis;
+            lastRunEndTime = System.currentTimeMillis();
+            lastRunTruncated = truncated;
+            if (truncated) {
+                truncatedRunCount.incrementAndGet();
+            }
+        }
+
+        void recordBackOff() {
+
+            backOffCount.incrementAndGet();
+        }
+
+        public long getTotalDeletedRows() {
+
+            return totalDeletedRows.get();
+        }
+
+        public long getBackOffCount() {
+
+            return backOffCount.get();
+        }
+
+        public long getTruncatedRunCount() {
+
+            return truncatedRunCount.get();
+        }
+
+        public long getLastRunDeletedRows() {
+
+            return lastRunDeletedRows;
+        }
+
+        public long getLastRunDurationMillis() {
+
+            return lastRunDurationMillis;
+        }
+
+        /**
+         * Get the delete throughput of the last run.
+         *
+         * @return Deleted rows per second.
+         */
+        public double getLastRunRowsPerSecond() {
+
+            long duration = lastRunDurationMillis;
+            return duration == 0 ? lastRunDeletedRows : lastRunDeletedRows * 1000.0 / duration;
+        }
+
+        /**
+         * Whether the last run stopped due to the run time budget while expired rows were still remaining. In that
+         * case the remaining rows are deleted in the next run, and the cleanup is lagging behind the expiry.
+         *
+         * @return True if the last run was truncated.
+         */
+        public boolean isLastRunTruncated() {
+
+            return lastRunTruncated;
+        }
+
+        public long getLastRunEndTime() {
+
+            return lastRunEndTime;
+        }
+    }
+}
@@ -18,13 +18,18 @@
 
 package org.wso2.carbon.identity.application.authentication.framework.store;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.internal.FrameworkServiceDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Database cleanup. Timer task is running for pre-defined period to clear the
@@ -33,8 +38,11 @@ import java.util.concurrent.TimeUnit;
 public final class SessionCleanUpService {
 
     private static final int NUM_THREADS = 1;
+    private static final String CLEANUP_CONCURRENCY_PROPERTY =
+            "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Concurrency";
     private static final Log log = LogFactory.getLog(SessionCleanUpService.class);
     private final ScheduledExecutorService scheduler;
+    private final ExecutorService cleanUpExecutor;
     private final long initialDelay;
     private final long delayBetweenRuns;
 
@@ -43,38 +51,114 @@ public final class SessionCleanUpService {
      * @param delayBetweenRuns
      */
     public SessionCleanUpService(long initialDelay, long delayBetweenRuns) {
+
+        this(initialDelay, delayBetweenRuns, getCleanUpConcurrency());
+    }
+
+    SessionCleanUpService(long initialDelay, long delayBetweenRuns, int concurrency) {
+
         this.initialDelay = initialDelay;
         this.delayBetweenRuns = delayBetweenRuns;
         this.scheduler = Executors.newScheduledThreadPool(NUM_THREADS);
+        this.cleanUpExecutor = concurrency > 1 ? Executors.newFixedThreadPool(concurrency,
+                new CleanUpThreadFactory()) : null;
     }
 
     /**
      *
      */
     public void activateCleanUp() {
-        Runnable databaseCleanUpTask = new DatabaseCleanUpTask();
+        Runnable databaseCleanUpTask = new DatabaseCleanUpTask(cleanUpExecutor);
         scheduler.scheduleWithFixedDelay(databaseCleanUpTask, initialDelay, delayBetweenRuns,
                                          TimeUnit.MINUTES);
 
     }
 
     /**
-     *
-     *
+     * Stop the cleanup task and the cleanup threads, when the component is deactivated. A cleanup run in progress is
+     * interrupted and the remaining expired data is deleted by the next run after activation.
+     */
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+        if (cleanUpExecutor != null) {
+            cleanUpExecutor.shutdownNow();
+        }
+    }
+
+    ExecutorService getCleanUpExecutor() {
+
+        return cleanUpExecutor;
+    }
+
+    boolean isShutdown() {
+
+        return scheduler.isShutdown() && (cleanUpExecutor == null || cleanUpExecutor.isShutdown());
+    }
+
+    private static int getCleanUpConcurrency() {
+
+        String concurrency = IdentityUtil.getProperty(CLEANUP_CONCURRENCY_PROPERTY);
+        if (StringUtils.isBlank(concurrency)) {
+            return NUM_THREADS;
+        }
+        try {
+            return Integer.parseInt(concurrency.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid session data cleanup concurrency: " + concurrency + ". Default value would be used");
+            return NUM_THREADS;
+        }
+    }
+
+    /**
+     * Removes the expired session data. When a cleanup executor is available the session mapping tables are
+     * cleaned up in parallel first, followed by the session store tables in parallel. The session mapping tables
+     * are cleaned up first since the expired sessions are resolved from the session store.
      */
     private static final class DatabaseCleanUpTask implements Runnable {
 
+        private final ExecutorService cleanUpExecutor;
+
+        DatabaseCleanUpTask(ExecutorService cleanUpExecutor) {
+
+            this.cleanUpExecutor = cleanUpExecutor;
+        }
+
         @Override
         public void run() {
 
             log.debug("Start running the Session Data cleanup task.");
             if (FrameworkServiceDataHolder.getInstance().isUserSessionMappingEnabled()) {
-                UserSessionStore.getInstance().removeExpiredSessionRecords();
+                if (cleanUpExecutor != null) {
+                    UserSessionStore.getInstance().removeExpiredSessionRecords(cleanUpExecutor);
+                } else {
+                    UserSessionStore.getInstance().removeExpiredSessionRecords();
+                }
             }
 
-            SessionDataStore.getInstance().removeExpiredSessionData();
+            if (cleanUpExecutor != null) {
+                SessionDataStore.getInstance().removeExpiredSessionData(cleanUpExecutor);
+            } else {
+                SessionDataStore.getInstance().removeExpiredSessionData();
+            }
             log.debug("Stop running the Session Data cleanup task.");
             log.info("Session Data cleanup task is running successfully for removing expired Data");
         }
     }
+
+    /**
+     * Creates the daemon threads which clean up the session tables in parallel.
+     */
+    private static final class CleanUpThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "SessionDataCleanUp-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
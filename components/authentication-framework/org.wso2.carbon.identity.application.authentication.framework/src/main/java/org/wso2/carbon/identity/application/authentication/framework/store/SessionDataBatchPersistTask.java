@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind task to persist and remove session data in batches.
+ * Operations are drained from the queue until either the batch size or the flush interval is reached. Operations
+ * superseded by a later operation for the same session key and type are dropped before the batch is flushed.
+ */
+public class SessionDataBatchPersistTask implements Runnable {
+
+    private static final Log log = LogFactory.getLog(SessionDataBatchPersistTask.class);
+    private BlockingDeque<SessionContextDO> sessionContextQueue;
+    private int batchSize;
+    private long flushIntervalMillis;
+    private static volatile boolean running;
+
+    public SessionDataBatchPersistTask(BlockingDeque<SessionContextDO> sessionContextQueue, int batchSize,
+                                       long flushIntervalMillis) {
+
+        this.sessionContextQueue = sessionContextQueue;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @Override
+    public void run() {
+
+        log.debug("Session Context batch persist consumer is started");
+
+        running = true;
+        while (running) {
+            try {
+                List<SessionContextDO> batch = drainBatch();
+                if (!batch.isEmpty()) {
+                    SessionDataStore.getInstance().persistSessionDataBatch(coalesce(batch));
+                }
+            } catch (InterruptedException e) {
+                log.error("Session data batch persist consumer was interrupted while waiting for operations.", e);
+            } catch (RuntimeException e) {
+                log.error("Error while persisting a batch of session data operations.", e);
+            }
+        }
+    }
+
+    public static void shutdown() {
+
+        running = false;
+    }
+
+    /**
+     * Blocks until at least one operation is available and then keeps collecting operations until the batch is
+     * full or the flush interval has elapsed.
+     *
+     * @return Drained operations.
+     * @throws InterruptedException If interrupted while waiting for the first operation.
+     */
+    private List<SessionContextDO> drainBatch() throws InterruptedException {
+
+        List<SessionContextDO> batch = new ArrayList<>(batchSize);
+        batch.add(sessionContextQueue.take());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            SessionContextDO sessionContextDO = sessionContextQueue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (sessionContextDO == null) {
+                break;
+            }
+            batch.add(sessionContextDO);
+        }
+        return batch;
+    }
+
+    /**
+     * Collapses the operations of a batch so that only the latest operation (by nano time) is kept for each
+     * session key and type. The relative order of the first occurrence of each key and type is preserved.
+     *
+     * @param batch Drained operations.
+     * @return Operations that need to be written to the store.
+     */
+    static List<SessionContextDO> coalesce(List<SessionContextDO> batch) {
+
+        Map<Map.Entry<String, String>, SessionContextDO> latestOperations = new LinkedHashMap<>();
+        for (SessionContextDO sessionContextDO : batch) {
+            Map.Entry<String, String> operationKey =
+                    new AbstractMap.SimpleImmutableEntry<>(sessionContextDO.getKey(), sessionContextDO.getType());
+            SessionContextDO existing = latestOperations.get(operationKey);
+            if (existing == null || existing.getNanoTime() <= sessionContextDO.getNanoTime()) {
+                latestOperations.put(operationKey, sessionContextDO);
+            }
+        }
+        int superseded = batch.size() - latestOperations.size();
+        if (superseded > 0) {
+            SessionDataPersistMetrics.getInstance().recordCoalesced(superseded);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Collapsed %d superseded session data operations out of %d.", superseded,
+                        batch.size()));
+            }
+        }
+        return new ArrayList<>(latestOperations.values());
+    }
+}
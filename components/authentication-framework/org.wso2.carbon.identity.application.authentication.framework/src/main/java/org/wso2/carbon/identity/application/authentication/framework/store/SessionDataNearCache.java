@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded node local cache which sits between the Carbon session caches and the JDBC read path of
+ * {@link SessionDataStore}.
+ * <p>
+ * Entries are keyed by session key and type and hold either the latest known STORE operation or a tombstone for a
+ * deleted or expired key, together with the TIME_CREATED value of that operation. Entries are served without going
+ * to the database. An entry is only replaced by an operation with the same or a later nano time, so a write made by
+ * this node is never overwritten by an older operation read from the database while it waits in the persistence
+ * queue. Writes made by other nodes are seen once the entry is invalidated or has expired, so the time to live bounds
+ * how stale a node can be. Session objects are held by reference, the same way the Carbon session caches hold them,
+ * and must be treated as read only by the callers.
+ */
+public class SessionDataNearCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments;
+    private final long timeToLiveNanos;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong negativeHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * @param maxEntries      Maximum number of entries held in the cache.
+     * @param timeToLiveNanos Time to live of an entry in nano seconds.
+     */
+    public SessionDataNearCache(int maxEntries, long timeToLiveNanos) {
+
+        this.timeToLiveNanos = timeToLiveNanos;
+        int segmentCapacity = Math.max(1, maxEntries / SEGMENT_COUNT);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Get the cached entry of the given session key and type.
+     *
+     * @param key  Session key.
+     * @param type Session type.
+     * @return Cached entry, or null if the key is not cached or the entry has expired.
+     */
+    public Entry get(String key, String type) {
+
+        Map.Entry<String, String> cacheKey = new AbstractMap.SimpleImmutableEntry<>(key, type);
+        Segment segment = segmentFor(cacheKey);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(cacheKey);
+            if (entry != null && entry.isExpired()) {
+                segment.remove(cacheKey);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.incrementAndGet();
+        } else if (entry.isTombstone()) {
+            negativeHitCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Cache a STORE operation. The operation may still be waiting in the persistence queue.
+     *
+     * @param sessionContextDO STORE operation.
+     */
+    public void put(SessionContextDO sessionContextDO) {
+
+        if (sessionContextDO.getEntry() == null) {
+            invalidate(sessionContextDO.getKey(), sessionContextDO.getType());
+            return;
+        }
+        put(sessionContextDO.getKey(), sessionContextDO.getType(), new Entry(sessionContextDO.getEntry(),
+                sessionContextDO.getNanoTime(), sessionContextDO.getTenantId(), expiryTime()));
+    }
+
+    /**
+     * Cache a tombstone for a deleted or expired session key and type.
+     *
+     * @param key      Session key.
+     * @param type     Session type.
+     * @param nanoTime Time of the DELETE operation, or 0 if the key is not found in the store.
+     */
+    public void putTombstone(String key, String type, long nanoTime) {
+
+        put(key, type, new Entry(null, nanoTime, -1, expiryTime()));
+    }
+
+    /**
+     * Remove the entry of a session key and type, so that the next read goes to the database.
+     *
+     * @param key  Session key.
+     * @param type Session type.
+     */
+    public void invalidate(String key, String type) {
+
+        Map.Entry<String, String> cacheKey = new AbstractMap.SimpleImmutableEntry<>(key, type);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            segment.remove(cacheKey);
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    public long getNegativeHitCount() {
+
+        return negativeHitCount.get();
+    }
+
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    public int size() {
+
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private long expiryTime() {
+
+        return System.nanoTime() + timeToLiveNanos;
+    }
+
+    private void put(String key, String type, Entry entry) {
+
+        Map.Entry<String, String> cacheKey = new AbstractMap.SimpleImmutableEntry<>(key, type);
+        Segment segment = segmentFor(cacheKey);
+        synchronized (segment) {
+            Entry existing = segment.get(cacheKey);
+            if (existing == null || existing.isExpired() || existing.nanoTime <= entry.nanoTime) {
+                segment.put(cacheKey, entry);
+            }
+        }
+    }
+
+    private Segment segmentFor(Map.Entry<String, String> cacheKey) {
+
+        int hash = cacheKey.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Cached STORE operation or tombstone.
+     */
+    public static class Entry {
+
+        private final Object sessionObject;
+        private final long nanoTime;
+        private final int tenantId;
+        private final long expiryTime;
+
+        Entry(Object sessionObject, long nanoTime, int tenantId, long expiryTime) {
+
+            this.sessionObject = sessionObject;
+            this.nanoTime = nanoTime;
+            this.tenantId = tenantId;
+            this.expiryTime = expiryTime;
+        }
+
+        /**
+         * Get the cached STORE operation.
+         *
+         * @param key  Session key.
+         * @param type Session type.
+         * @return STORE operation holding the cached session object, or null for a tombstone.
+         */
+        public SessionContextDO getSessionContextDO(String key, String type) {
+
+            if (sessionObject == null) {
+                return null;
+            }
+            return new SessionContextDO(key, type, sessionObject, nanoTime, tenantId);
+        }
+
+        public long getNanoTime() {
+
+            return nanoTime;
+        }
+
+        public boolean isTombstone() {
+
+            return sessionObject == null;
+        }
+
+        boolean isExpired() {
+
+            return System.nanoTime() - expiryTime > 0;
+        }
+    }
+
+    /**
+     * Access ordered map which evicts the least recently used entry once the capacity is exceeded.
+     */
+    private static class Segment extends LinkedHashMap<Map.Entry<String, String>, Entry> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Map.Entry<String, String>, Entry> eldest) {
+
+            return size() > capacity;
+        }
+    }
+}
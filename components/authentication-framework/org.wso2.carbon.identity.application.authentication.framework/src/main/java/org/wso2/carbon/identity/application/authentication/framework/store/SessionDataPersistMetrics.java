@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the runtime statistics of the batched session data persistence.
+ */
+public class SessionDataPersistMetrics {
+
+    private static final SessionDataPersistMetrics instance = new SessionDataPersistMetrics();
+
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedOperationCount = new AtomicLong();
+    private final AtomicLong coalescedOperationCount = new AtomicLong();
+    private final AtomicLong failedFlushCount = new AtomicLong();
+    private final AtomicLong totalFlushTimeNanos = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastFlushTimeNanos;
+
+    private SessionDataPersistMetrics() {
+
+    }
+
+    public static SessionDataPersistMetrics getInstance() {
+
+        return instance;
+    }
+
+    void recordFlush(int batchSize, long flushTimeNanos, boolean successful) {
+
+        flushCount.incrementAndGet();
+        flushedOperationCount.addAndGet(batchSize);
+        totalFlushTimeNanos.addAndGet(flushTimeNanos);
+        lastBatchSize = batchSize;
+        lastFlushTimeNanos = flushTimeNanos;
+        if (!successful) {
+            failedFlushCount.incrementAndGet();
+        }
+    }
+
+    void recordCoalesced(int count) {
+
+        coalescedOperationCount.addAndGet(count);
+    }
+
+    /**
+     * Get the number of session data operations waiting to be persisted.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return SessionDataStore.getSessionContextQueueSize();
+    }
+
+    public long getFlushCount() {
+
+        return flushCount.get();
+    }
+
+    public long getFlushedOperationCount() {
+
+        return flushedOperationCount.get();
+    }
+
+    public long getCoalescedOperationCount() {
+
+        return coalescedOperationCount.get();
+    }
+
+    public long getFailedFlushCount() {
+
+        return failedFlushCount.get();
+    }
+
+    public int getLastBatchSize() {
+
+        return lastBatchSize;
+    }
+
+    public long getLastFlushTimeNanos() {
+
+        return lastFlushTimeNanos;
+    }
+
+    /**
+     * Get the average number of operations written per flush.
+     *
+     * @return Average batch size.
+     */
+    public double getAverageBatchSize() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : (double) flushedOperationCount.get() / flushes;
+    }
+
+    /**
+     * Get the average flush latency in nano seconds.
+     *
+     * @return Average flush latency.
+     */
+    public long getAverageFlushTimeNanos() {
+
+        long flushes = flushCount.get();
+        return flushes == 0 ? 0 : totalFlushTimeNanos.get() / flushes;
+    }
+}
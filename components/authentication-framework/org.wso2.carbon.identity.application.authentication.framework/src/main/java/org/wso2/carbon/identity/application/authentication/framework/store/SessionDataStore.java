@@ -42,9 +42,15 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
@@ -127,11 +133,17 @@ public class SessionDataStore {
     private static final String INFORMIX_DATABASE = "Informix";
 
     private static final int DEFAULT_DELETE_LIMIT = 50000;
+    private static final int DEFAULT_NEAR_CACHE_MAX_ENTRIES = 10000;
+    private static final long DEFAULT_NEAR_CACHE_TIMEOUT = 60;
     public static final String DEFAULT_SESSION_STORE_TABLE_NAME = "IDN_AUTH_SESSION_STORE";
     private static final String CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
     public static final String DEFAULT_TEMP_SESSION_STORE_TABLE_NAME = "IDN_AUTH_TEMP_SESSION_STORE";
     private static int maxSessionDataPoolSize = 100;
     private static int maxTempDataPoolSize = 50;
+    private static boolean batchPersistEnabled = false;
+    private static int batchSize = 100;
+    private static long batchFlushInterval = 100;
+    private static int batchPoolSize = 4;
     private static BlockingDeque<SessionContextDO> sessionContextQueue = new LinkedBlockingDeque();
     private static BlockingDeque<SessionContextDO> tempAuthnContextDataDeleteQueue = new LinkedBlockingDeque();
     private static volatile SessionDataStore instance;
@@ -144,9 +156,14 @@ public class SessionDataStore {
     private String sqlSelect;
     private String sqlDeleteExpiredDataTask;
     private int deleteChunkSize = DEFAULT_DELETE_LIMIT;
+    private long chunkPause = 0;
+    private long maxChunkLatency = 0;
+    private long maxCleanUpRunTime = 0;
     private boolean sessionDataCleanupEnabled = true;
     private boolean operationDataCleanupEnabled = false;
     private static boolean tempDataCleanupEnabled = false;
+    private SessionDataNearCache nearCache;
+    private SessionCleanUpService sessionCleanUpService;
 
     static {
         try {
@@ -173,13 +190,44 @@ public class SessionDataStore {
                 maxTempDataPoolSize = Integer.parseInt(maxTempDataPoolSizeValue);
             }
 
+            String isBatchPersistEnabledVal
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Enable");
+            if (StringUtils.isNotBlank(isBatchPersistEnabledVal)) {
+                batchPersistEnabled = Boolean.parseBoolean(isBatchPersistEnabledVal);
+            }
+
+            String batchSizeValue = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.Size");
+            if (StringUtils.isNotBlank(batchSizeValue)) {
+                batchSize = Integer.parseInt(batchSizeValue);
+            }
+
+            String batchFlushIntervalValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.FlushInterval");
+            if (StringUtils.isNotBlank(batchFlushIntervalValue)) {
+                batchFlushInterval = Long.parseLong(batchFlushIntervalValue);
+            }
+
+            String batchPoolSizeValue
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.Batch.PoolSize");
+            if (StringUtils.isNotBlank(batchPoolSizeValue)) {
+                batchPoolSize = Integer.parseInt(batchPoolSizeValue);
+            }
+
         } catch (NumberFormatException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Exception ignored : ", e);
             }
             log.warn("One or more pool size configurations cause NumberFormatException. Default values would be used");
         }
-        if (maxSessionDataPoolSize > 0) {
+        if (maxSessionDataPoolSize > 0 && batchPersistEnabled && batchSize > 1 && batchPoolSize > 0) {
+            log.info("Thread pool size for session batch persistent consumer : " + batchPoolSize + ", batch size : "
+                    + batchSize + ", flush interval : " + batchFlushInterval + "ms");
+            ExecutorService threadPool = Executors.newFixedThreadPool(batchPoolSize);
+            for (int i = 0; i < batchPoolSize; i++) {
+                threadPool.execute(new SessionDataBatchPersistTask(sessionContextQueue, batchSize,
+                        batchFlushInterval));
+            }
+        } else if (maxSessionDataPoolSize > 0) {
             log.info("Thread pool size for session persistent consumer : " + maxSessionDataPoolSize);
             ExecutorService threadPool = Executors.newFixedThreadPool(maxSessionDataPoolSize);
             for (int i = 0; i < maxSessionDataPoolSize; i++) {
@@ -248,6 +296,12 @@ public class SessionDataStore {
         if (StringUtils.isNotBlank(deleteChunkSizeString)) {
             deleteChunkSize = Integer.parseInt(deleteChunkSizeString);
         }
+        chunkPause = getNonNegativeLongProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.ChunkPause");
+        maxChunkLatency = getNonNegativeLongProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.MaxChunkLatency");
+        maxCleanUpRunTime = getNonNegativeLongProperty(
+                "JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.MaxRunTime");
 
         if (StringUtils.isNotBlank(deleteExpiredDataTaskSQL)) {
             sqlDeleteExpiredDataTask = String.format(deleteExpiredDataTaskSQL, deleteChunkSize);
@@ -256,6 +310,7 @@ public class SessionDataStore {
         if (!enablePersist) {
             log.info("Session Data Persistence of Authentication framework is not enabled.");
         }
+        initNearCache();
         String isCleanUpEnabledVal
                 = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.SessionDataCleanUp.Enable");
 
@@ -276,12 +331,55 @@ public class SessionDataStore {
                 log.debug(String.format("Session clean up task enabled to run in %d minutes intervals",
                         sessionCleanupPeriod));
             }
-            SessionCleanUpService sessionCleanUpService = new SessionCleanUpService(sessionCleanupPeriod / 4,
-                    sessionCleanupPeriod);
+            sessionCleanUpService = new SessionCleanUpService(sessionCleanupPeriod / 4, sessionCleanupPeriod);
             sessionCleanUpService.activateCleanUp();
         }
     }
 
+    private void initNearCache() {
+
+        String isNearCacheEnabledVal
+                = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.NearCache.Enable");
+        if (!enablePersist || !Boolean.parseBoolean(isNearCacheEnabledVal)) {
+            return;
+        }
+        int maxEntries = DEFAULT_NEAR_CACHE_MAX_ENTRIES;
+        long timeout = DEFAULT_NEAR_CACHE_TIMEOUT;
+        try {
+            String maxEntriesVal
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.NearCache.MaxEntries");
+            if (StringUtils.isNotBlank(maxEntriesVal)) {
+                maxEntries = Integer.parseInt(maxEntriesVal);
+            }
+            String timeoutVal
+                    = IdentityUtil.getProperty("JDBCPersistenceManager.SessionDataPersist.NearCache.Timeout");
+            if (StringUtils.isNotBlank(timeoutVal)) {
+                timeout = Long.parseLong(timeoutVal);
+            }
+        } catch (NumberFormatException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Exception ignored : ", e);
+            }
+            log.warn("One or more session data near cache configurations cause NumberFormatException. Default " +
+                    "values would be used");
+        }
+        if (maxEntries > 0 && timeout > 0) {
+            log.info(String.format("Session data near cache enabled with %d max entries and %d seconds timeout",
+                    maxEntries, timeout));
+            nearCache = new SessionDataNearCache(maxEntries, TimeUnit.SECONDS.toNanos(timeout));
+        }
+    }
+
+    /**
+     * Get the node local near cache in front of the session data reads.
+     *
+     * @return Near cache, or null if the near cache is not enabled.
+     */
+    public SessionDataNearCache getNearCache() {
+
+        return nearCache;
+    }
+
     public static SessionDataStore getInstance() {
         if (instance == null) {
             synchronized (SessionDataStore.class) {
@@ -306,6 +404,15 @@ public class SessionDataStore {
         if (!enablePersist) {
             return null;
         }
+        if (nearCache != null) {
+            SessionDataNearCache.Entry cachedEntry = nearCache.get(key, type);
+            if (cachedEntry != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("SessionContextData found in the near cache. key : " + key + " type : " + type);
+                }
+                return cachedEntry.getSessionContextDO(key, type);
+            }
+        }
         Connection connection = null;
         try {
             connection = IdentityDatabaseUtil.getSessionDBConnection(false);
@@ -343,8 +450,18 @@ public class SessionDataStore {
                 String operation = resultSet.getString(1);
                 long nanoTime = resultSet.getLong(3);
                 if ((OPERATION_STORE.equals(operation))) {
-                    return new SessionContextDO(key, type, getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
+                    SessionContextDO sessionContextDO = new SessionContextDO(key, type,
+                            getBlobObject(resultSet.getBinaryStream(2)), nanoTime);
+                    if (nearCache != null) {
+                        nearCache.put(sessionContextDO);
+                    }
+                    return sessionContextDO;
+                }
+                if (nearCache != null) {
+                    nearCache.putTombstone(key, type, nanoTime);
                 }
+            } else if (nearCache != null) {
+                nearCache.putTombstone(key, type, 0L);
             }
         } catch (ClassNotFoundException | IOException | SQLException | SessionSerializerException |
                 IdentityApplicationManagementException e) {
@@ -367,6 +484,9 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
+        if (nearCache != null) {
+            nearCache.put(new SessionContextDO(key, type, entry, nanoTime, tenantId));
+        }
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
             sessionContextQueue.push(new SessionContextDO(key, type, entry, nanoTime, tenantId));
         } else {
@@ -379,6 +499,9 @@ public class SessionDataStore {
             return;
         }
         long nanoTime = FrameworkUtils.getCurrentStandardNano();
+        if (nearCache != null) {
+            nearCache.putTombstone(key, type, nanoTime);
+        }
         if (maxSessionDataPoolSize > 0 && !isTempCache(type)) {
             sessionContextQueue.push(new SessionContextDO(key, type, null, nanoTime));
         } else {
@@ -386,6 +509,55 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Clear the session data of the given keys. Unlike {@link #clearSessionData(String, String)}, the DELETE
+     * operations are not queued, but written directly with JDBC batch updates of the configured batch size, so that
+     * terminating a large number of sessions does not flood the session data queue. If a batch cannot be written, its
+     * DELETE operations are handed over to the session data queue, or removed one by one when the queue is disabled,
+     * the same way as {@link #clearSessionData(String, String)}.
+     *
+     * @param keys Session data keys.
+     * @param type Session data type.
+     */
+    public void clearSessionData(List<String> keys, String type) {
+
+        if (!enablePersist || keys.isEmpty()) {
+            return;
+        }
+        if (isTempCache(type)) {
+            for (String key : keys) {
+                clearSessionData(key, type);
+            }
+            return;
+        }
+        long nanoTime = FrameworkUtils.getCurrentStandardNano();
+        List<SessionContextDO> deleteOperations = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            if (nearCache != null) {
+                nearCache.putTombstone(key, type, nanoTime);
+            }
+            deleteOperations.add(new SessionContextDO(key, type, null, nanoTime));
+        }
+        int chunkSize = Math.max(batchSize, 1);
+        for (int start = 0; start < deleteOperations.size(); start += chunkSize) {
+            List<SessionContextDO> deleteBatch = deleteOperations.subList(start,
+                    Math.min(start + chunkSize, deleteOperations.size()));
+            if (writeSessionDataBatch(deleteBatch)) {
+                continue;
+            }
+            log.warn("Failed to write a batch of " + deleteBatch.size() + " session data DELETE operations. " +
+                    "Retrying them individually.");
+            for (SessionContextDO deleteOperation : deleteBatch) {
+                if (maxSessionDataPoolSize > 0) {
+                    sessionContextQueue.push(deleteOperation);
+                } else {
+                    removeSessionData(deleteOperation.getKey(), deleteOperation.getType(),
+                            deleteOperation.getNanoTime());
+                }
+            }
+        }
+    }
+
     /**
      * Method to stop running tasks, when the component is deactivated.
      */
@@ -393,6 +565,20 @@ public class SessionDataStore {
 
         TempAuthContextDataDeleteTask.shutdown();
         SessionDataPersistTask.shutdown();
+        SessionDataBatchPersistTask.shutdown();
+        if (sessionCleanUpService != null) {
+            sessionCleanUpService.shutdown();
+        }
+    }
+
+    /**
+     * Get the number of session data operations waiting in the persistence queue.
+     *
+     * @return Number of queued operations.
+     */
+    public static int getSessionContextQueueSize() {
+
+        return sessionContextQueue.size();
     }
 
     /**
@@ -436,34 +622,71 @@ public class SessionDataStore {
 
     /**
      * Removes the records related to expired sessions from DB.
+     * Records are deleted in chunks, each committed separately. When a chunk takes longer than the configured
+     * maximum chunk latency, the pause before the next chunk is increased so that the cleanup backs off while the
+     * database is under load, and it is reduced again once chunks complete within the limit. The run stops when the
+     * configured maximum run time is exceeded, and the remaining records are deleted in the next run.
      */
-    private void removeExpiredSessionData(String sqlQuery) {
+    private void removeExpiredSessionData(String sqlQuery, String tableName) {
 
         if (log.isDebugEnabled()) {
             log.debug("DB query for removing expired data: " + sqlQuery);
         }
         long currentTime = FrameworkUtils.getCurrentStandardNano();
+        long startTime = System.currentTimeMillis();
+        int totalDeletedEntries = 0;
+        boolean truncated = false;
+        SessionCleanUpMetrics.TableStatistics statistics =
+                SessionCleanUpMetrics.getInstance().getTableStatistics(tableName);
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
             boolean deleteCompleted = false;
-            int totalDeletedEntries = 0;
+            long pause = chunkPause;
             while (!deleteCompleted) {
                 try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+                    long chunkStartTime = System.currentTimeMillis();
                     statement.setLong(1, currentTime);
                     int noOfDeletedRecords = statement.executeUpdate();
                     deleteCompleted = noOfDeletedRecords < deleteChunkSize;
                     totalDeletedEntries += noOfDeletedRecords;
                     // Commit the chunk deletion.
                     IdentityDatabaseUtil.commitTransaction(connection);
+                    long chunkLatency = System.currentTimeMillis() - chunkStartTime;
                     if (log.isDebugEnabled()) {
-                        log.debug(String.format("Removed %d expired session records.", noOfDeletedRecords));
+                        log.debug(String.format("Removed %d expired session records from %s in %d ms.",
+                                noOfDeletedRecords, tableName, chunkLatency));
+                    }
+                    if (deleteCompleted) {
+                        break;
+                    }
+                    if (maxCleanUpRunTime > 0 && System.currentTimeMillis() - startTime > maxCleanUpRunTime) {
+                        truncated = true;
+                        break;
+                    }
+                    if (maxChunkLatency > 0 && chunkLatency > maxChunkLatency) {
+                        pause = Math.min(Math.max(pause * 2, chunkLatency), maxChunkLatency * 10);
+                        statistics.recordBackOff();
+                    } else {
+                        pause = Math.max(chunkPause, pause / 2);
+                    }
+                    if (pause > 0) {
+                        Thread.sleep(pause);
                     }
                 }
             }
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Deleted total of %d entries", totalDeletedEntries));
-            }
         } catch (SQLException | IdentityRuntimeException e) {
             log.error("Error while removing session data from the database for nano time: " + currentTime, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            truncated = true;
+            log.warn("Session data cleanup of " + tableName + " was interrupted.");
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        statistics.recordRun(totalDeletedEntries, duration, truncated);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Deleted total of %d entries from %s in %d ms (%.1f rows/sec).%s",
+                    totalDeletedEntries, tableName, duration, statistics.getLastRunRowsPerSecond(),
+                    truncated ? " Remaining entries will be deleted in the next run." : ""));
         }
     }
 
@@ -472,6 +695,60 @@ public class SessionDataStore {
      */
     public void removeExpiredSessionData() {
 
+        boolean expiredDataRemovalQueryAvailable = initExpiredDataRemovalQuery();
+        if (sessionDataCleanupEnabled && expiredDataRemovalQueryAvailable) {
+            removeExpiredSessionData(sqlDeleteExpiredDataTask, DEFAULT_SESSION_STORE_TABLE_NAME);
+        }
+        if (tempDataCleanupEnabled && expiredDataRemovalQueryAvailable) {
+            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask),
+                    DEFAULT_TEMP_SESSION_STORE_TABLE_NAME);
+        }
+        if (operationDataCleanupEnabled) {
+            removeInvalidatedSTOREOperations();
+        }
+    }
+
+    /**
+     * Cleans the session data, temporary session data and operation data (if enabled) from the DB, running the
+     * session store and the temporary session store cleanup in parallel on the given executor. The operation data
+     * cleanup runs after the session store cleanup as a part of the same task, to avoid the deadlock mentioned in
+     * IDENTITY-5131.
+     *
+     * @param executor Executor to run the cleanup of each table.
+     */
+    public void removeExpiredSessionData(ExecutorService executor) {
+
+        boolean expiredDataRemovalQueryAvailable = initExpiredDataRemovalQuery();
+        List<Future<?>> cleanUpTasks = new ArrayList<>();
+        if (sessionDataCleanupEnabled || operationDataCleanupEnabled) {
+            cleanUpTasks.add(executor.submit(() -> {
+                if (sessionDataCleanupEnabled && expiredDataRemovalQueryAvailable) {
+                    removeExpiredSessionData(sqlDeleteExpiredDataTask, DEFAULT_SESSION_STORE_TABLE_NAME);
+                }
+                if (operationDataCleanupEnabled) {
+                    removeInvalidatedSTOREOperations();
+                }
+            }));
+        }
+        if (tempDataCleanupEnabled && expiredDataRemovalQueryAvailable) {
+            cleanUpTasks.add(executor.submit(() -> removeExpiredSessionData(
+                    replaceTableName(sqlDeleteExpiredDataTask), DEFAULT_TEMP_SESSION_STORE_TABLE_NAME)));
+        }
+        for (Future<?> cleanUpTask : cleanUpTasks) {
+            try {
+                cleanUpTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the session data cleanup to complete.");
+                return;
+            } catch (ExecutionException e) {
+                log.error("Error while removing expired session data.", e.getCause());
+            }
+        }
+    }
+
+    private boolean initExpiredDataRemovalQuery() {
+
         if (StringUtils.isBlank(sqlDeleteExpiredDataTask)) {
             try {
                 sqlDeleteExpiredDataTask = getDBSpecificSessionDataRemovalQuery();
@@ -479,14 +756,20 @@ public class SessionDataStore {
                 log.error("Error when initializing the db specific cleanup query.", e);
             }
         }
-        if (sessionDataCleanupEnabled) {
-            removeExpiredSessionData(sqlDeleteExpiredDataTask);
-        }
-        if (tempDataCleanupEnabled) {
-            removeExpiredSessionData(replaceTableName(sqlDeleteExpiredDataTask));
+        return StringUtils.isNotBlank(sqlDeleteExpiredDataTask);
+    }
+
+    private static long getNonNegativeLongProperty(String propertyName) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return 0;
         }
-        if (operationDataCleanupEnabled) {
-            removeInvalidatedSTOREOperations();
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value: " + value + " configured for " + propertyName + ". Default value would be used");
+            return 0;
         }
     }
 
@@ -546,10 +829,151 @@ public class SessionDataStore {
         }
     }
 
+    /**
+     * Persists a batch of STORE and DELETE operations using one connection and a single JDBC batch update per
+     * statement. Operations of temporary caches are delegated to the non batched methods since they may be
+     * written to a different table or removed by the temporary data delete task. If the batch cannot be written,
+     * its operations are written one by one, so that a single failing operation does not discard the others.
+     *
+     * @param sessionContextDOs Operations to be persisted. Each operation is expected to be the latest operation of
+     *                          its session key and type within the batch.
+     */
+    public void persistSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        if (!enablePersist || sessionContextDOs.isEmpty()) {
+            return;
+        }
+        List<SessionContextDO> batch = new ArrayList<>(sessionContextDOs.size());
+        for (SessionContextDO sessionContextDO : sessionContextDOs) {
+            if (isTempCache(sessionContextDO.getType())) {
+                persistSessionDataOperation(sessionContextDO);
+            } else {
+                batch.add(sessionContextDO);
+            }
+        }
+        if (batch.isEmpty() || writeSessionDataBatch(batch) || batch.size() == 1) {
+            return;
+        }
+        log.warn("Failed to write a batch of " + batch.size() + " session data operations. Retrying them " +
+                "individually.");
+        for (SessionContextDO sessionContextDO : batch) {
+            persistSessionDataOperation(sessionContextDO);
+        }
+    }
+
+    private void persistSessionDataOperation(SessionContextDO sessionContextDO) {
+
+        if (sessionContextDO.getEntry() == null) {
+            removeSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getNanoTime());
+        } else {
+            persistSessionData(sessionContextDO.getKey(), sessionContextDO.getType(), sessionContextDO.getEntry(),
+                    sessionContextDO.getNanoTime(), sessionContextDO.getTenantId());
+        }
+    }
+
+    /**
+     * Write a batch of STORE and DELETE operations of non temporary caches with a single JDBC batch update per
+     * statement.
+     *
+     * @param sessionContextDOs Operations to be persisted.
+     * @return true if the batch was written, false if it was rolled back.
+     */
+    private boolean writeSessionDataBatch(List<SessionContextDO> sessionContextDOs) {
+
+        long startTime = System.nanoTime();
+        Connection connection;
+        try {
+            connection = IdentityDatabaseUtil.getSessionDBConnection(true);
+        } catch (IdentityRuntimeException e) {
+            log.error(e.getMessage(), e);
+            SessionDataPersistMetrics.getInstance().recordFlush(sessionContextDOs.size(),
+                    System.nanoTime() - startTime, false);
+            return false;
+        }
+
+        Map<String, PreparedStatement> statements = new HashMap<>();
+        boolean successful = false;
+        try {
+            for (SessionContextDO sessionContextDO : sessionContextDOs) {
+                String key = sessionContextDO.getKey();
+                String type = sessionContextDO.getType();
+                long nanoTime = sessionContextDO.getNanoTime();
+                if (sessionContextDO.getEntry() == null) {
+                    PreparedStatement preparedStatement = getBatchStatement(connection, statements,
+                            getSessionStoreDBQuery(sqlInsertDELETE, type));
+                    preparedStatement.setString(1, key);
+                    preparedStatement.setString(2, type);
+                    preparedStatement.setString(3, OPERATION_DELETE);
+                    preparedStatement.setLong(4, nanoTime);
+                    preparedStatement.setLong(5, nanoTime + getCleanupTimeout(type,
+                            MultitenantConstants.INVALID_TENANT_ID));
+                    preparedStatement.addBatch();
+                } else {
+                    Object entry = sessionContextDO.getEntry();
+                    int tenantId = sessionContextDO.getTenantId();
+                    long validityPeriodNano = 0L;
+                    if (entry instanceof CacheEntry) {
+                        validityPeriodNano = ((CacheEntry) entry).getValidityPeriod();
+                    }
+                    if (validityPeriodNano == 0L) {
+                        validityPeriodNano = getCleanupTimeout(type, tenantId);
+                    }
+                    PreparedStatement preparedStatement = getBatchStatement(connection, statements,
+                            getSessionStoreDBQuery(sqlInsertSTORE, type));
+                    preparedStatement.setString(1, key);
+                    preparedStatement.setString(2, type);
+                    preparedStatement.setString(3, OPERATION_STORE);
+                    setBlobObject(preparedStatement, entry, 4);
+                    preparedStatement.setLong(5, nanoTime);
+                    preparedStatement.setLong(6, nanoTime + validityPeriodNano);
+                    preparedStatement.setInt(7, tenantId);
+                    preparedStatement.addBatch();
+                }
+            }
+            for (PreparedStatement preparedStatement : statements.values()) {
+                preparedStatement.executeBatch();
+            }
+            IdentityDatabaseUtil.commitTransaction(connection);
+            successful = true;
+        } catch (SQLException | IOException | SessionSerializerException e) {
+            IdentityDatabaseUtil.rollbackTransaction(connection);
+            log.error("Error while persisting a batch of " + sessionContextDOs.size() + " session data operations",
+                    e);
+        } finally {
+            for (PreparedStatement preparedStatement : statements.values()) {
+                IdentityDatabaseUtil.closeStatement(preparedStatement);
+            }
+            IdentityDatabaseUtil.closeConnection(connection);
+        }
+
+        long flushTime = System.nanoTime() - startTime;
+        SessionDataPersistMetrics.getInstance().recordFlush(sessionContextDOs.size(), flushTime, successful);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Flushed %d session data operations to DB in %d ms. Queue depth : %d",
+                    sessionContextDOs.size(), TimeUnit.NANOSECONDS.toMillis(flushTime),
+                    sessionContextQueue.size()));
+        }
+        return successful;
+    }
+
+    private PreparedStatement getBatchStatement(Connection connection, Map<String, PreparedStatement> statements,
+                                                String sqlQuery) throws SQLException {
+
+        PreparedStatement preparedStatement = statements.get(sqlQuery);
+        if (preparedStatement == null) {
+            preparedStatement = connection.prepareStatement(sqlQuery);
+            statements.put(sqlQuery, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
     public void removeSessionData(String key, String type, long nanoTime) {
         if (!enablePersist) {
             return;
         }
+        if (nearCache != null) {
+            nearCache.putTombstone(key, type, nanoTime);
+        }
 
         if (tempDataCleanupEnabled && maxTempDataPoolSize > 0 && isTempCache(type)) {
             tempAuthnContextDataDeleteQueue.push(new SessionContextDO(key, type, null, nanoTime));
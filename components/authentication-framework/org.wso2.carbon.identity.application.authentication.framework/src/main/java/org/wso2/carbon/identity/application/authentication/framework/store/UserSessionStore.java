@@ -41,10 +41,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -62,6 +66,9 @@ public class UserSessionStore {
     private static final String IDN_AUTH_SESSION_APP_INFO_TABLE = "IDN_AUTH_SESSION_APP_INFO_TABLE";
     private static final String IDN_AUTH_SESSION_META_DATA_TABLE = "IDN_AUTH_SESSION_META_DATA";
 
+    // Oracle limits the number of expressions in an IN list to 1000.
+    private static final int SET_QUERY_CHUNK_SIZE = 1000;
+
     private int deleteChunkSize = 10000;
 
     private UserSessionStore() {
@@ -409,6 +416,44 @@ public class UserSessionStore {
         return sessionIdList;
     }
 
+    /**
+     * Method to get the session ids of the given users. The session ids are retrieved with a set query for each
+     * chunk of user ids, instead of a query for each user.
+     *
+     * @param userIds ids of the users
+     * @return the list of session ids
+     * @throws UserSessionException if an error occurs when retrieving the session id list from the database
+     */
+    public List<String> getSessionIdsOfUsers(List<String> userIds) throws UserSessionException {
+
+        List<String> sessionIdList = new ArrayList<>();
+        if (userIds.isEmpty()) {
+            return sessionIdList;
+        }
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+            for (int start = 0; start < userIds.size(); start += SET_QUERY_CHUNK_SIZE) {
+                List<String> userIdChunk = userIds.subList(start,
+                        Math.min(start + SET_QUERY_CHUNK_SIZE, userIds.size()));
+                String query = SQLQueries.SQL_SELECT_SESSION_IDS_OF_USER_IDS.replace(
+                        SQLQueries.SCOPE_LIST_PLACEHOLDER,
+                        String.join(", ", Collections.nCopies(userIdChunk.size(), "?")));
+                try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                    for (int i = 0; i < userIdChunk.size(); i++) {
+                        preparedStatement.setString(i + 1, userIdChunk.get(i));
+                    }
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        while (resultSet.next()) {
+                            sessionIdList.add(resultSet.getString(1));
+                        }
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new UserSessionException("Error while retrieving session Ids of " + userIds.size() + " users.", e);
+        }
+        return sessionIdList;
+    }
+
     /**
      * Removes all the expired session records from relevant tables.
      */
@@ -448,6 +493,79 @@ public class UserSessionStore {
         }
     }
 
+    /**
+     * Removes all the expired session records from relevant tables, cleaning up each table in parallel on the given
+     * executor. Each table is cleaned up with its own connection and every chunk is committed separately, so that
+     * row locks are held only for the duration of a chunk.
+     *
+     * @param executor Executor to run the cleanup of each table.
+     */
+    public void removeExpiredSessionRecords(ExecutorService executor) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Removing information of expired and deleted sessions.");
+        }
+
+        String[] sessionsToRemove;
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(false)) {
+            Set<String> terminatedAuthSessionIds = getSessionsTerminated(connection);
+            sessionsToRemove = terminatedAuthSessionIds.toArray(new String[0]);
+        } catch (SQLException e) {
+            log.error("Error while retrieving expired session information from the database.", e);
+            return;
+        }
+
+        if (sessionsToRemove.length == 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("No expired sessions found to remove.");
+            }
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(sessionsToRemove.length + " number of sessions should be removed from the database. " +
+                    "Removing in " + deleteChunkSize + " size batches.");
+        }
+
+        List<Future<?>> cleanUpTasks = new ArrayList<>();
+        cleanUpTasks.add(executor.submit(() -> removeExpiredSessionRecordsFromTable(sessionsToRemove,
+                IDN_AUTH_USER_SESSION_MAPPING_TABLE, SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA)));
+        cleanUpTasks.add(executor.submit(() -> removeExpiredSessionRecordsFromTable(sessionsToRemove,
+                IDN_AUTH_SESSION_APP_INFO_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO)));
+        cleanUpTasks.add(executor.submit(() -> removeExpiredSessionRecordsFromTable(sessionsToRemove,
+                IDN_AUTH_SESSION_META_DATA_TABLE, SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA)));
+        for (Future<?> cleanUpTask : cleanUpTasks) {
+            try {
+                cleanUpTask.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the expired session information cleanup to complete.");
+                return;
+            } catch (ExecutionException e) {
+                log.error("Error while removing expired session information from the database.", e.getCause());
+            }
+        }
+    }
+
+    private void removeExpiredSessionRecordsFromTable(String[] sessionsToRemove, String tableName,
+                                                      String deleteQuery) {
+
+        long startTime = System.currentTimeMillis();
+        int[] deletedRows = new int[1];
+        try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
+            try {
+                deleteSessionDataFromTable(sessionsToRemove, connection, tableName, deleteQuery, deletedRows);
+            } catch (SQLException e) {
+                IdentityDatabaseUtil.rollbackTransaction(connection);
+                log.error("Error while removing expired session information from " + tableName, e);
+            }
+        } catch (SQLException e) {
+            log.error("Error while obtaining the db connection to remove expired session information from "
+                    + tableName, e);
+        }
+        SessionCleanUpMetrics.getInstance().getTableStatistics(tableName)
+                .recordRun(deletedRows[0], System.currentTimeMillis() - startTime, false);
+    }
+
     /**
      * Remove the session information records of a given set of session IDs from the relevant tables.
      *
@@ -463,12 +581,12 @@ public class UserSessionStore {
 
         try (Connection connection = IdentityDatabaseUtil.getSessionDBConnection(true)) {
             try {
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
-                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO);
-                deleteSessionDataFromTable(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
-                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA);
+                deleteSessionDataOfSessionIds(sessionsToRemove, connection, IDN_AUTH_USER_SESSION_MAPPING_TABLE,
+                        SQLQueries.SQL_DELETE_TERMINATED_SESSION_DATA_OF_SESSION_IDS);
+                deleteSessionDataOfSessionIds(sessionsToRemove, connection, IDN_AUTH_SESSION_APP_INFO_TABLE,
+                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_APP_INFO_OF_SESSION_IDS);
+                deleteSessionDataOfSessionIds(sessionsToRemove, connection, IDN_AUTH_SESSION_META_DATA_TABLE,
+                        SQLQueries.SQL_DELETE_IDN_AUTH_SESSION_META_DATA_OF_SESSION_IDS);
                 IdentityDatabaseUtil.commitTransaction(connection);
             } catch (SQLException e1) {
                 IdentityDatabaseUtil.rollbackTransaction(connection);
@@ -516,6 +634,23 @@ public class UserSessionStore {
     private void deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
                                             String deleteQuery) throws SQLException {
 
+        deleteSessionDataFromTable(sessionsToRemove, connection, tableName, deleteQuery, null);
+    }
+
+    /**
+     * This method is used to chunk-wise deletion of records of a given table.
+     *
+     * @param sessionsToRemove array of session ids which should be removed
+     * @param connection       db connection
+     * @param tableName        table name from which the records are removed
+     * @param deleteQuery      delete query for the relevant table
+     * @param committedRows    if not null, each chunk is committed separately and the number of committed rows is
+     *                         added to its first element
+     * @throws SQLException if the DB execution fails
+     */
+    private void deleteSessionDataFromTable(String[] sessionsToRemove, Connection connection, String tableName,
+                                            String deleteQuery, int[] committedRows) throws SQLException {
+
         int totalSessionsToRemove = sessionsToRemove.length;
         int iterations = (totalSessionsToRemove / deleteChunkSize) + 1;
         int startCount = 0;
@@ -532,7 +667,16 @@ public class UserSessionStore {
                     preparedStatementForDelete.setString(1, sessionsToRemove[j]);
                     preparedStatementForDelete.addBatch();
                 }
-                preparedStatementForDelete.executeBatch();
+                int[] updateCounts = preparedStatementForDelete.executeBatch();
+                if (committedRows != null) {
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                    for (int updateCount : updateCounts) {
+                        // Drivers which do not report the count of a batched statement return SUCCESS_NO_INFO.
+                        if (updateCount > 0) {
+                            committedRows[0] += updateCount;
+                        }
+                    }
+                }
 
                 if (log.isDebugEnabled()) {
                     log.debug("Removed  " + (endCount - startCount) + " records from " + tableName + ".");
@@ -546,6 +690,39 @@ public class UserSessionStore {
         }
     }
 
+    /**
+     * This method is used to delete the records of the given sessions from a given table, with a set delete for each
+     * chunk of session ids.
+     *
+     * @param sessionsToRemove array of session ids which should be removed
+     * @param connection       db connection
+     * @param tableName        table name from which the records are removed
+     * @param deleteQuery      set delete query for the relevant table
+     * @throws SQLException if the DB execution fails
+     */
+    private void deleteSessionDataOfSessionIds(String[] sessionsToRemove, Connection connection, String tableName,
+                                               String deleteQuery) throws SQLException {
+
+        int chunkSize = Math.max(1, Math.min(deleteChunkSize, SET_QUERY_CHUNK_SIZE));
+        int removedRecords = 0;
+        for (int start = 0; start < sessionsToRemove.length; start += chunkSize) {
+            int end = Math.min(start + chunkSize, sessionsToRemove.length);
+            String query = deleteQuery.replace(SQLQueries.SCOPE_LIST_PLACEHOLDER,
+                    String.join(", ", Collections.nCopies(end - start, "?")));
+            try (PreparedStatement preparedStatementForDelete = connection.prepareStatement(query)) {
+                for (int i = start; i < end; i++) {
+                    preparedStatementForDelete.setString(i - start + 1, sessionsToRemove[i]);
+                }
+                removedRecords += preparedStatementForDelete.executeUpdate();
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Removed total " + removedRecords + " records of " + sessionsToRemove.length + " sessions from "
+                    + tableName + ".");
+        }
+    }
+
     /**
      * Method to store app session data.
      *
@@ -299,11 +299,38 @@ public abstract class FrameworkConstants {
         public static final String USER_SESSION_MAPPING_ENABLED =
                 "JDBCPersistenceManager.SessionDataPersist.UserSessionMapping.Enable";
 
+        /**
+         * Configurations used to select the session serializer.
+         */
+        public static final String SESSION_SERIALIZER_TYPE =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Type";
+        public static final String SESSION_SERIALIZER_COMPRESSION =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.Compression";
+        public static final String SESSION_SERIALIZER_COMPRESSION_THRESHOLD =
+                "JDBCPersistenceManager.SessionDataPersist.Serializer.CompressionThreshold";
+
         /**
          * Configuration to enable publishing the active session count in analytics event.
          */
         public static final String PUBLISH_ACTIVE_SESSION_COUNT = "Analytics.PublishActiveSessionCount";
 
+        /**
+         * Configurations of the asynchronous authentication data publishing, which hands the authentication and
+         * session events to the data publisher proxy in dispatcher threads instead of the login thread.
+         */
+        public static final String ASYNC_PUBLISHER_ENABLE = "Analytics.AsyncPublisher.Enable";
+        public static final String ASYNC_PUBLISHER_QUEUE_SIZE = "Analytics.AsyncPublisher.QueueSize";
+        public static final String ASYNC_PUBLISHER_BATCH_SIZE = "Analytics.AsyncPublisher.BatchSize";
+        public static final String ASYNC_PUBLISHER_THREAD_COUNT = "Analytics.AsyncPublisher.ThreadCount";
+        public static final String ASYNC_PUBLISHER_OVERFLOW_POLICY = "Analytics.AsyncPublisher.OverflowPolicy";
+
+        /**
+         * Configuration to retrieve only the claims required by the service provider from the user store, instead of
+         * all the local claims of the user, when handling the claims of a locally authenticated user.
+         */
+        public static final String FETCH_REQUESTED_CLAIMS_ONLY =
+                "Authentication.ClaimHandling.FetchRequestedClaimsOnly";
+
         /**
          * Configuration to enable preserving user from being logged out at password update by skipping current
          * session and token from being terminated.
@@ -576,6 +603,12 @@ public abstract class FrameworkConstants {
     public static class AdaptiveAuthentication {
 
         public static final String ADAPTIVE_AUTH_LONG_WAIT_TIMEOUT = "AdaptiveAuth.LongWaitTimeout";
+        public static final String ADAPTIVE_AUTH_LONG_WAIT_STATUS_REQUEST_TIMEOUT =
+                "AdaptiveAuth.LongWaitStatusRequestTimeout";
+        public static final String ADAPTIVE_AUTH_ASYNC_SEQUENCE_EXECUTOR_POOL_SIZE =
+                "AdaptiveAuth.AsyncSequenceExecutorPoolSize";
+        public static final String ADAPTIVE_AUTH_ASYNC_SEQUENCE_EXECUTOR_QUEUE_SIZE =
+                "AdaptiveAuth.AsyncSequenceExecutorQueueSize";
         public static final String CONF_EXECUTION_SUPERVISOR_ENABLE =
                 "AdaptiveAuth.ExecutionSupervisor.Enable";
         public static final String CONF_EXECUTION_SUPERVISOR_THREAD_COUNT =
@@ -591,6 +624,12 @@ public abstract class FrameworkConstants {
                 = "AdaptiveAuthExecutionSupervisorResult";
         public static final String AUTHENTICATOR_NAME_IN_AUTH_CONFIG
                 = "AdaptiveAuth.AuthenticatorNameInAuthConfig.Enable";
+        public static final String CONF_SCRIPT_ENGINE_POOL_MAX_IDLE_ENGINES =
+                "AdaptiveAuth.ScriptEnginePool.MaxIdleEngines";
+        public static final String CONF_SCRIPT_ENGINE_POOL_COMPILED_SCRIPT_CACHE_SIZE =
+                "AdaptiveAuth.ScriptEnginePool.CompiledScriptCacheSize";
+        public static final int DEFAULT_SCRIPT_ENGINE_POOL_MAX_IDLE_ENGINES = 10;
+        public static final int DEFAULT_SCRIPT_ENGINE_POOL_COMPILED_SCRIPT_CACHE_SIZE = 100;
     }
 
     /**
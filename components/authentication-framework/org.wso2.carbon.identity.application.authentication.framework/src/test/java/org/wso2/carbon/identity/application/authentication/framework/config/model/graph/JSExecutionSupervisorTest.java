@@ -167,4 +167,44 @@ public class JSExecutionSupervisorTest {
             supervisor.shutdown();
         }
     }
+
+    @Test
+    public void testSupervisionMetrics() throws InterruptedException {
+
+        final JSExecutionSupervisor supervisor = new JSExecutionSupervisor(1, 50L);
+        try {
+            String completedIdentifier = UUID.randomUUID().toString();
+            supervisor.monitor(completedIdentifier, "dummySP", "dummyTenant", 0L);
+            Assert.assertEquals(1, supervisor.getActiveExecutionCount());
+            supervisor.completed(completedIdentifier);
+            Assert.assertEquals(0, supervisor.getActiveExecutionCount());
+
+            Thread testExecutionThread = new Thread(() -> {
+                try {
+                    supervisor.monitor(UUID.randomUUID().toString(), "dummySP", "dummyTenant", 0L);
+                    Thread.sleep(2000L);
+                } catch (InterruptedException ignored) {
+                    // We are expecting that a exception will be thrown as the monitor will kill the thread.
+                }
+            });
+            testExecutionThread.start();
+            testExecutionThread.join(1000L);
+
+            Assert.assertFalse("The monitor should have killed the testExecutionThread but it didn't happen.",
+                    testExecutionThread.isAlive());
+            Assert.assertEquals(1, supervisor.getTimeoutCount());
+            Assert.assertEquals(0, supervisor.getMemoryLimitExceededCount());
+            Assert.assertEquals(0, supervisor.getActiveExecutionCount());
+            Assert.assertEquals(2, supervisor.getMonitoredCount());
+            Assert.assertTrue(supervisor.getSupervisionTickCount() > 0);
+        } finally {
+            supervisor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNonPositiveTimeoutIsRejected() {
+
+        new JSExecutionSupervisor(1, 0L);
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.config.model.graph;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class JsScriptEnginePoolTest {
+
+    private final NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+
+    @Test
+    public void testEngineIsReusedWithFreshBindings() throws Exception {
+
+        AtomicInteger createdEngines = new AtomicInteger();
+        JsScriptEnginePool pool = createPool(1, 10, createdEngines);
+
+        ScriptEngine engine = pool.borrowEngine();
+        JsScriptEnginePool.eval(engine, "var counter = 1;");
+        assertEquals(((Number) engine.getBindings(ScriptContext.ENGINE_SCOPE).get("counter")).intValue(), 1);
+        JsScriptEnginePool.release(engine);
+
+        ScriptEngine reusedEngine = pool.borrowEngine();
+        assertSame(reusedEngine, engine);
+        assertNull(reusedEngine.getBindings(ScriptContext.ENGINE_SCOPE).get("counter"));
+        assertEquals(reusedEngine.getBindings(ScriptContext.GLOBAL_SCOPE).get("defaultFunction"), "default");
+        assertEquals(createdEngines.get(), 1);
+        JsScriptEnginePool.release(reusedEngine);
+    }
+
+    @Test
+    public void testCompiledScriptIsEvaluatedInCurrentBindings() throws Exception {
+
+        JsScriptEnginePool pool = createPool(1, 10, new AtomicInteger());
+        String script = "var value = typeof value === 'undefined' ? 1 : value + 1; value;";
+
+        ScriptEngine engine = pool.borrowEngine();
+        assertEquals(((Number) JsScriptEnginePool.eval(engine, script)).intValue(), 1);
+        assertEquals(((Number) JsScriptEnginePool.eval(engine, script)).intValue(), 2);
+        JsScriptEnginePool.release(engine);
+
+        engine = pool.borrowEngine();
+        assertEquals(((Number) JsScriptEnginePool.eval(engine, script)).intValue(), 1);
+        JsScriptEnginePool.release(engine);
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+
+        AtomicInteger createdEngines = new AtomicInteger();
+        JsScriptEnginePool pool = createPool(1, 10, createdEngines);
+
+        ScriptEngine engine1 = pool.borrowEngine();
+        ScriptEngine engine2 = pool.borrowEngine();
+        assertNotSame(engine1, engine2);
+        JsScriptEnginePool.release(engine1);
+        JsScriptEnginePool.release(engine2);
+
+        assertSame(pool.borrowEngine(), engine1);
+        pool.borrowEngine();
+        assertEquals(createdEngines.get(), 3);
+    }
+
+    @Test
+    public void testEnginesAreNotPooledWhenDisabled() {
+
+        AtomicInteger createdEngines = new AtomicInteger();
+        JsScriptEnginePool pool = createPool(0, 10, createdEngines);
+
+        ScriptEngine engine = pool.borrowEngine();
+        JsScriptEnginePool.release(engine);
+        assertNotSame(pool.borrowEngine(), engine);
+        assertEquals(createdEngines.get(), 2);
+    }
+
+    private JsScriptEnginePool createPool(int maxIdleEngines, int compiledScriptCacheSize,
+                                          AtomicInteger createdEngines) {
+
+        return new JsScriptEnginePool(() -> {
+            createdEngines.incrementAndGet();
+            return factory.getScriptEngine("--no-java");
+        }, engine -> {
+            engine.setBindings(engine.createBindings(), ScriptContext.GLOBAL_SCOPE);
+            engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+            engine.getBindings(ScriptContext.GLOBAL_SCOPE).put("defaultFunction", "default");
+        }, maxIdleEngines, compiledScriptCacheSize);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.handler.claims.impl;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.config.model.ApplicationConfig;
+import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class DefaultClaimHandlerTest {
+
+    private static final String EMAIL_LOCAL_CLAIM_URI = "http://wso2.org/claims/emailaddress";
+    private static final String EMAIL_SP_CLAIM_URI = "email";
+    private static final String USERNAME_LOCAL_CLAIM_URI = "http://wso2.org/claims/username";
+    private static final String USERNAME_SP_CLAIM_URI = "username";
+    private static final String ROLE_LOCAL_CLAIM_URI = "http://wso2.org/claims/roles";
+    private static final String ROLE_SP_CLAIM_URI = "roles";
+    private static final String COUNTRY_LOCAL_CLAIM_URI = "http://wso2.org/claims/country";
+    private static final String COUNTRY_SP_CLAIM_URI = "country";
+
+    private ApplicationConfig appConfig;
+    private Map<String, String> spToLocalClaimMappings;
+
+    @BeforeMethod
+    public void setUp() {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationName("testApp");
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setSubjectClaimUri(USERNAME_SP_CLAIM_URI);
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setRoleClaimURI(ROLE_SP_CLAIM_URI);
+        claimConfig.setClaimMappings(new ClaimMapping[]{
+                ClaimMapping.build(EMAIL_LOCAL_CLAIM_URI, EMAIL_SP_CLAIM_URI, null, true, true),
+                ClaimMapping.build(USERNAME_LOCAL_CLAIM_URI, USERNAME_SP_CLAIM_URI, null, false),
+                ClaimMapping.build(ROLE_LOCAL_CLAIM_URI, ROLE_SP_CLAIM_URI, null, false),
+                ClaimMapping.build(COUNTRY_LOCAL_CLAIM_URI, COUNTRY_SP_CLAIM_URI, null, false)
+        });
+        serviceProvider.setClaimConfig(claimConfig);
+
+        appConfig = new ApplicationConfig(serviceProvider, "carbon.super");
+        spToLocalClaimMappings = new HashMap<>(appConfig.getClaimMappings());
+    }
+
+    @Test
+    public void testGetRequiredLocalClaimURIs() {
+
+        Set<String> localClaimURIs = DefaultClaimHandler.getInstance().getRequiredLocalClaimURIs(appConfig,
+                spToLocalClaimMappings, "samlsso");
+
+        assertEquals(localClaimURIs.size(), 3, "Unexpected number of required local claims.");
+        assertTrue(localClaimURIs.contains(EMAIL_LOCAL_CLAIM_URI), "Requested claim is not retrieved.");
+        assertTrue(localClaimURIs.contains(USERNAME_LOCAL_CLAIM_URI), "Subject claim is not retrieved.");
+        assertTrue(localClaimURIs.contains(ROLE_LOCAL_CLAIM_URI), "Role claim is not retrieved.");
+        assertFalse(localClaimURIs.contains(COUNTRY_LOCAL_CLAIM_URI), "Claim which is not requested is retrieved.");
+    }
+
+    @Test
+    public void testGetRequiredLocalClaimURIsForOpenIDConnect() {
+
+        Set<String> localClaimURIs = DefaultClaimHandler.getInstance().getRequiredLocalClaimURIs(appConfig,
+                spToLocalClaimMappings, FrameworkConstants.RequestType.CLAIM_TYPE_OPENID);
+
+        assertTrue(localClaimURIs.contains(COUNTRY_LOCAL_CLAIM_URI),
+                "Mapped claims are not retrieved for OpenID Connect requests.");
+        assertTrue(localClaimURIs.containsAll(spToLocalClaimMappings.values()),
+                "Mapped claims are not retrieved for OpenID Connect requests.");
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.internal;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.ApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.LocalApplicationAuthenticator;
+import org.wso2.carbon.identity.application.authentication.framework.MockAuthenticator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class ApplicationAuthenticatorListTest {
+
+    @Test
+    public void testLookupByName() {
+
+        ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
+        ApplicationAuthenticator basicAuthenticator = new MockAuthenticator("BasicAuthenticator");
+        authenticators.add(basicAuthenticator);
+        authenticators.add(new MockAuthenticator("BasicAuthenticator"));
+
+        assertSame(authenticators.getByName("BasicAuthenticator"), basicAuthenticator);
+        assertNull(authenticators.getByName("basicauthenticator"));
+        assertSame(authenticators.getByNameIgnoreCase("basicauthenticator"), basicAuthenticator);
+        assertNull(authenticators.getByName("NonExistingAuthenticator"));
+        assertNull(authenticators.getByName(null));
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenListIsModified() {
+
+        ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
+        ApplicationAuthenticator basicAuthenticator = new MockAuthenticator("BasicAuthenticator");
+        authenticators.add(basicAuthenticator);
+        assertSame(authenticators.getByName("BasicAuthenticator"), basicAuthenticator);
+
+        ApplicationAuthenticator localAuthenticator = mock(LocalApplicationAuthenticator.class);
+        when(localAuthenticator.getName()).thenReturn("LocalAuthenticator");
+        authenticators.add(localAuthenticator);
+        assertSame(authenticators.getByName("LocalAuthenticator"), localAuthenticator);
+        assertEquals(authenticators.getLocalAuthenticators().size(), 1);
+        assertTrue(authenticators.getFederatedAuthenticators().isEmpty());
+
+        authenticators.remove(basicAuthenticator);
+        assertNull(authenticators.getByName("BasicAuthenticator"));
+
+        authenticators.clear();
+        assertNull(authenticators.getByName("LocalAuthenticator"));
+        assertTrue(authenticators.getLocalAuthenticators().isEmpty());
+    }
+
+    @Test
+    public void testIterationIsNotAffectedByConcurrentModification() {
+
+        ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
+        ApplicationAuthenticator basicAuthenticator = new MockAuthenticator("BasicAuthenticator");
+        ApplicationAuthenticator totpAuthenticator = new MockAuthenticator("TOTPAuthenticator");
+        ApplicationAuthenticator fidoAuthenticator = new MockAuthenticator("FIDOAuthenticator");
+        authenticators.addAll(Arrays.asList(basicAuthenticator, totpAuthenticator, fidoAuthenticator));
+
+        // Unbind and bind authenticators while iterating, as the bundle listeners do.
+        List<ApplicationAuthenticator> iterated = new ArrayList<>();
+        for (ApplicationAuthenticator authenticator : authenticators) {
+            iterated.add(authenticator);
+            authenticators.remove(basicAuthenticator);
+            authenticators.add(0, new MockAuthenticator("SMSOTPAuthenticator"));
+        }
+        assertEquals(iterated, Arrays.asList(basicAuthenticator, totpAuthenticator, fidoAuthenticator));
+
+        List<String> streamed = authenticators.stream()
+                .peek(authenticator -> authenticators.clear())
+                .map(ApplicationAuthenticator::getName)
+                .collect(Collectors.toList());
+        assertEquals(streamed, Arrays.asList("SMSOTPAuthenticator", "SMSOTPAuthenticator", "SMSOTPAuthenticator",
+                "TOTPAuthenticator", "FIDOAuthenticator"));
+        assertTrue(authenticators.isEmpty());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testIteratorDoesNotSupportRemove() {
+
+        ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
+        authenticators.add(new MockAuthenticator("BasicAuthenticator"));
+
+        Iterator<ApplicationAuthenticator> iterator = authenticators.iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    @Test
+    public void testIndexIsRebuiltWhenAuthenticatorsAreRemovedInBulk() {
+
+        ApplicationAuthenticatorList authenticators = new ApplicationAuthenticatorList();
+        ApplicationAuthenticator basicAuthenticator = new MockAuthenticator("BasicAuthenticator");
+        ApplicationAuthenticator totpAuthenticator = new MockAuthenticator("TOTPAuthenticator");
+        authenticators.add(basicAuthenticator);
+        authenticators.add(totpAuthenticator);
+        assertSame(authenticators.getByName("BasicAuthenticator"), basicAuthenticator);
+
+        authenticators.removeIf(authenticator -> authenticator == basicAuthenticator);
+        assertNull(authenticators.getByName("BasicAuthenticator"));
+
+        authenticators.removeAll(Arrays.asList(totpAuthenticator));
+        assertNull(authenticators.getByName("TOTPAuthenticator"));
+    }
+}
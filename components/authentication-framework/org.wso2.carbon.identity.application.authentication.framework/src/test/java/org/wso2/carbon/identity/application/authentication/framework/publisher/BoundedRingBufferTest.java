@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.publisher;
+
+import org.testng.annotations.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BoundedRingBufferTest {
+
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo() {
+
+        assertEquals(new BoundedRingBuffer<String>(1).capacity(), 1);
+        assertEquals(new BoundedRingBuffer<String>(5).capacity(), 8);
+        assertEquals(new BoundedRingBuffer<String>(8).capacity(), 8);
+    }
+
+    @Test
+    public void testOfferAndPollInOrderUntilFull() {
+
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(buffer.size(), 4);
+
+        // Wrap around the end of the buffer a few times.
+        for (int i = 0; i < 10; i++) {
+            assertEquals(buffer.poll(), Integer.valueOf(i));
+            assertTrue(buffer.offer(i + 4));
+        }
+        for (int i = 10; i < 14; i++) {
+            assertEquals(buffer.poll(), Integer.valueOf(i));
+        }
+        assertNull(buffer.poll());
+        assertEquals(buffer.size(), 0);
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+
+        int producers = 4;
+        int elementsPerProducer = 10000;
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger consumedCount = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * 2);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * elementsPerProducer;
+            new Thread(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }).start();
+            new Thread(() -> {
+                while (consumedCount.get() < producers * elementsPerProducer) {
+                    Integer element = buffer.poll();
+                    if (element == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    consumed.add(element);
+                    consumedCount.incrementAndGet();
+                }
+                done.countDown();
+            }).start();
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(consumedCount.get(), producers * elementsPerProducer);
+        assertEquals(consumed.size(), producers * elementsPerProducer);
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    public void testPollWaitsForAnElement() throws Exception {
+
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        assertNull(buffer.poll(10, TimeUnit.MILLISECONDS));
+
+        AtomicReference<Integer> polled = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Thread consumer = new Thread(() -> {
+            try {
+                polled.set(buffer.poll(30, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        consumer.start();
+        Thread.sleep(100);
+        assertTrue(buffer.offer(1));
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(polled.get(), Integer.valueOf(1));
+    }
+
+    @Test
+    public void testWakeUpConsumers() throws Exception {
+
+        BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(4);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Integer> polled = new AtomicReference<>(-1);
+        Thread consumer = new Thread(() -> {
+            try {
+                polled.set(buffer.poll(30, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+        consumer.start();
+        // Keep waking up until the consumer has started waiting and returned.
+        for (int i = 0; i < 100 && !done.await(50, TimeUnit.MILLISECONDS); i++) {
+            buffer.wakeUpConsumers();
+        }
+
+        assertEquals(done.getCount(), 0);
+        assertNull(polled.get());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.exception.SessionSerializerException;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CompactSessionSerializer}.
+ */
+public class CompactSessionSerializerTest {
+
+    @DataProvider
+    public Object[][] getSerializers() {
+
+        return new Object[][]{
+                {new CompactSessionSerializer(true, 0)},
+                {new CompactSessionSerializer(true, Integer.MAX_VALUE)},
+                {new CompactSessionSerializer(false, 0)}
+        };
+    }
+
+    @Test(dataProvider = "getSerializers")
+    public void testRoundTrip(CompactSessionSerializer serializer) throws Exception {
+
+        HashMap<String, Object> sessionObject = createSessionObject();
+
+        Object result = serializer.deSerializeSessionObject(serializer.serializeSessionObject(sessionObject));
+
+        assertEquals(result, sessionObject);
+    }
+
+    @Test
+    public void testReadJavaSerializedObject() throws Exception {
+
+        HashMap<String, Object> sessionObject = createSessionObject();
+        InputStream javaSerialized = new JavaSessionSerializer().serializeSessionObject(sessionObject);
+
+        Object result = new CompactSessionSerializer().deSerializeSessionObject(javaSerialized);
+
+        assertEquals(result, sessionObject);
+    }
+
+    @Test
+    public void testSerializedSizeIsSmallerThanJavaSerialization() throws Exception {
+
+        HashMap<String, Object> sessionObject = createSessionObject();
+
+        int javaSize = new JavaSessionSerializer().serializeSessionObject(sessionObject).available();
+        int compactSize = new CompactSessionSerializer(false, 0).serializeSessionObject(sessionObject).available();
+        int compressedSize = new CompactSessionSerializer(true, 0).serializeSessionObject(sessionObject).available();
+
+        assertTrue(compactSize < javaSize);
+        assertTrue(compressedSize < compactSize);
+    }
+
+    @Test
+    public void testSchemaFingerprintDependsOnFields() {
+
+        long fingerprint = CompactSessionSerializer.getSchemaFingerprint(
+                ObjectStreamClass.lookup(SessionEntryV1.class));
+
+        assertEquals(CompactSessionSerializer.getSchemaFingerprint(ObjectStreamClass.lookup(SessionEntryV1.class)),
+                fingerprint);
+        assertNotEquals(CompactSessionSerializer.getSchemaFingerprint(
+                ObjectStreamClass.lookup(SessionEntryV2.class)), fingerprint);
+    }
+
+    @Test(expectedExceptions = SessionSerializerException.class)
+    public void testRejectSchemaMismatch() throws Exception {
+
+        SessionEntryV1 entry = new SessionEntryV1();
+        entry.value = "value";
+        byte[] serialized = IOUtils.toByteArray(new CompactSessionSerializer(false, 0).serializeSessionObject(entry));
+
+        // Replace the fingerprint written for the class with the fingerprint of a class with different fields.
+        ByteBuffer buffer = ByteBuffer.wrap(serialized);
+        long fingerprint = CompactSessionSerializer.getSchemaFingerprint(
+                ObjectStreamClass.lookup(SessionEntryV1.class));
+        long otherFingerprint = CompactSessionSerializer.getSchemaFingerprint(
+                ObjectStreamClass.lookup(SessionEntryV2.class));
+        boolean replaced = false;
+        for (int i = 0; i <= serialized.length - Long.BYTES; i++) {
+            if (buffer.getLong(i) == fingerprint) {
+                buffer.putLong(i, otherFingerprint);
+                replaced = true;
+                break;
+            }
+        }
+        assertTrue(replaced);
+
+        new CompactSessionSerializer().deSerializeSessionObject(new ByteArrayInputStream(serialized));
+    }
+
+    @Test
+    public void testResolveClassesWithContextClassLoader() throws Exception {
+
+        SessionEntryV1 entry = new SessionEntryV1();
+        entry.value = "value";
+        CompactSessionSerializer serializer = new CompactSessionSerializer(false, 0);
+        InputStream serialized = serializer.serializeSessionObject(entry);
+
+        Set<String> loadedClasses = new HashSet<>();
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new ClassLoader(getClass().getClassLoader()) {
+
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+
+                loadedClasses.add(name);
+                return super.loadClass(name);
+            }
+        });
+        try {
+            SessionEntryV1 result = (SessionEntryV1) serializer.deSerializeSessionObject(serialized);
+            assertEquals(result.value, "value");
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+        assertTrue(loadedClasses.contains(SessionEntryV1.class.getName()));
+    }
+
+    private HashMap<String, Object> createSessionObject() {
+
+        HashMap<String, Object> sessionObject = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            AuthenticatedUser user = new AuthenticatedUser();
+            user.setUserName("user" + i);
+            user.setTenantDomain("carbon.super");
+            user.setUserStoreDomain("PRIMARY");
+            user.setAuthenticatedSubjectIdentifier("user" + i + "@carbon.super");
+            Map<String, String> properties = new HashMap<>();
+            properties.put("step", String.valueOf(i));
+            properties.put("idp", "LOCAL");
+            sessionObject.put("user" + i, user);
+            sessionObject.put("properties" + i, properties);
+        }
+        return sessionObject;
+    }
+
+    private static class SessionEntryV1 implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String value;
+    }
+
+    private static class SessionEntryV2 implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String value;
+        private int count;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link LongWaitCompletionRegistry}.
+ */
+public class LongWaitCompletionRegistryTest {
+
+    @Test
+    public void testCompletionWakesWaitingThread() throws Exception {
+
+        LongWaitCompletionRegistry registry = new LongWaitCompletionRegistry(TimeUnit.MINUTES.toMillis(1));
+        registry.register("wait1");
+        assertFalse(registry.awaitCompletion("wait1", 0));
+        assertEquals(registry.getPendingCount(), 1);
+
+        Thread completer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            registry.complete("wait1");
+        });
+        completer.start();
+
+        long start = System.currentTimeMillis();
+        assertTrue(registry.awaitCompletion("wait1", TimeUnit.SECONDS.toMillis(10)));
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10));
+        assertEquals(registry.getCompletedCount(), 1);
+        assertEquals(registry.getPendingCount(), 0);
+        completer.join();
+    }
+
+    @Test
+    public void testAwaitTimesOutForPendingWait() throws Exception {
+
+        LongWaitCompletionRegistry registry = new LongWaitCompletionRegistry(TimeUnit.MINUTES.toMillis(1));
+        registry.register("wait1");
+        assertFalse(registry.awaitCompletion("wait1", 50));
+        assertTrue(registry.isRegistered("wait1"));
+    }
+
+    @Test
+    public void testUnknownAndRemovedWaits() throws Exception {
+
+        LongWaitCompletionRegistry registry = new LongWaitCompletionRegistry(TimeUnit.MINUTES.toMillis(1));
+        assertFalse(registry.complete("unknown"));
+        assertFalse(registry.awaitCompletion("unknown", 50));
+
+        registry.register("wait1");
+        registry.remove("wait1");
+        assertFalse(registry.isRegistered("wait1"));
+        assertFalse(registry.complete("wait1"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionCleanUpService}.
+ */
+public class SessionCleanUpServiceTest {
+
+    @Test
+    public void testCleanUpThreadsAreDaemonThreads() throws Exception {
+
+        SessionCleanUpService sessionCleanUpService = new SessionCleanUpService(1, 1, 2);
+        try {
+            assertTrue(sessionCleanUpService.getCleanUpExecutor()
+                    .submit(() -> Thread.currentThread().isDaemon()).get(10, TimeUnit.SECONDS));
+        } finally {
+            sessionCleanUpService.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdown() throws Exception {
+
+        SessionCleanUpService sessionCleanUpService = new SessionCleanUpService(1, 1, 2);
+        assertFalse(sessionCleanUpService.isShutdown());
+
+        sessionCleanUpService.shutdown();
+
+        assertTrue(sessionCleanUpService.isShutdown());
+        assertTrue(sessionCleanUpService.getCleanUpExecutor().awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSequentialCleanUpHasNoCleanUpExecutor() {
+
+        SessionCleanUpService sessionCleanUpService = new SessionCleanUpService(1, 1, 1);
+        assertNull(sessionCleanUpService.getCleanUpExecutor());
+
+        sessionCleanUpService.shutdown();
+
+        assertTrue(sessionCleanUpService.isShutdown());
+    }
+}
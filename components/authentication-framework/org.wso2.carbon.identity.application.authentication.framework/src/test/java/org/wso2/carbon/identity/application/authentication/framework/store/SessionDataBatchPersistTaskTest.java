@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link SessionDataBatchPersistTask}.
+ */
+public class SessionDataBatchPersistTaskTest {
+
+    @Test
+    public void testCoalesceKeepsLatestOperationPerKeyAndType() {
+
+        SessionContextDO store1 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v1", 1L);
+        SessionContextDO otherType = new SessionContextDO("key1", "AuthenticationContextCache", "v1", 2L);
+        SessionContextDO store2 = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v2", 3L);
+        SessionContextDO otherKey = new SessionContextDO("key2", "AppAuthFrameworkSessionContextCache", "v1", 4L);
+        SessionContextDO delete = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", null, 5L);
+
+        List<SessionContextDO> result = SessionDataBatchPersistTask.coalesce(
+                Arrays.asList(store1, otherType, store2, otherKey, delete));
+
+        assertEquals(result.size(), 3);
+        assertNull(result.get(0).getEntry());
+        assertEquals(result.get(0).getNanoTime(), 5L);
+        assertEquals(result.get(1), otherType);
+        assertEquals(result.get(2), otherKey);
+    }
+
+    @Test
+    public void testCoalesceIgnoresOlderOperationArrivingLater() {
+
+        SessionContextDO newer = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v2", 10L);
+        SessionContextDO older = new SessionContextDO("key1", "AppAuthFrameworkSessionContextCache", "v1", 5L);
+
+        List<SessionContextDO> result = SessionDataBatchPersistTask.coalesce(Arrays.asList(newer, older));
+
+        assertEquals(result.size(), 1);
+        assertEquals(result.get(0), newer);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.application.authentication.framework.store;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link SessionDataNearCache}.
+ */
+public class SessionDataNearCacheTest {
+
+    private static final String TYPE = "AppAuthFrameworkSessionContextCache";
+
+    @Test
+    public void testStoreAndTombstone() {
+
+        SessionDataNearCache nearCache = createNearCache(100, TimeUnit.MINUTES.toNanos(1));
+        nearCache.put(new SessionContextDO("key1", TYPE, "value", 10L, 1));
+
+        SessionDataNearCache.Entry entry = nearCache.get("key1", TYPE);
+        assertEquals(entry.getSessionContextDO("key1", TYPE).getEntry(), "value");
+        assertEquals(entry.getSessionContextDO("key1", TYPE).getTenantId(), 1);
+        assertEquals(entry.getNanoTime(), 10L);
+
+        nearCache.putTombstone("key1", TYPE, 20L);
+
+        assertTrue(nearCache.get("key1", TYPE).isTombstone());
+        assertNull(nearCache.get("key1", TYPE).getSessionContextDO("key1", TYPE));
+        assertNull(nearCache.get("key2", TYPE));
+        assertEquals(nearCache.getHitCount(), 1);
+        assertEquals(nearCache.getNegativeHitCount(), 2);
+        assertEquals(nearCache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testSessionObjectIsHeldByReference() {
+
+        SessionDataNearCache nearCache = createNearCache(100, TimeUnit.MINUTES.toNanos(1));
+        List<String> sessionObject = new ArrayList<>();
+        sessionObject.add("step1");
+        nearCache.put(new SessionContextDO("key1", TYPE, sessionObject, 10L));
+
+        SessionDataNearCache.Entry entry = nearCache.get("key1", TYPE);
+        assertSame(entry.getSessionContextDO("key1", TYPE).getEntry(), sessionObject);
+        assertSame(nearCache.get("key1", TYPE).getSessionContextDO("key1", TYPE).getEntry(), sessionObject);
+    }
+
+    @Test
+    public void testOlderOperationDoesNotReplaceNewerOperation() {
+
+        SessionDataNearCache nearCache = createNearCache(100, TimeUnit.MINUTES.toNanos(1));
+        nearCache.putTombstone("key1", TYPE, 20L);
+        nearCache.put(new SessionContextDO("key1", TYPE, "value", 10L));
+
+        assertTrue(nearCache.get("key1", TYPE).isTombstone());
+
+        nearCache.put(new SessionContextDO("key1", TYPE, "value", 30L));
+        assertEquals(nearCache.get("key1", TYPE).getSessionContextDO("key1", TYPE).getEntry(), "value");
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        SessionDataNearCache nearCache = createNearCache(100, TimeUnit.MINUTES.toNanos(1));
+        nearCache.put(new SessionContextDO("key1", TYPE, "value", 10L));
+        nearCache.invalidate("key1", TYPE);
+
+        assertNull(nearCache.get("key1", TYPE));
+    }
+
+    @Test
+    public void testExpiredEntryIsNotReturned() {
+
+        SessionDataNearCache nearCache = createNearCache(100, 0L);
+        nearCache.put(new SessionContextDO("key1", TYPE, "value", 10L));
+
+        assertNull(nearCache.get("key1", TYPE));
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+
+        SessionDataNearCache nearCache = createNearCache(32, TimeUnit.MINUTES.toNanos(1));
+        for (int i = 0; i < 1000; i++) {
+            nearCache.put(new SessionContextDO("key" + i, TYPE, "value", i));
+        }
+
+        assertTrue(nearCache.size() <= 32);
+
+        nearCache.clear();
+        assertEquals(nearCache.size(), 0);
+    }
+
+    private SessionDataNearCache createNearCache(int maxEntries, long timeToLiveNanos) {
+
+        return new SessionDataNearCache(maxEntries, timeToLiveNanos);
+    }
+}
@@ -35,13 +35,17 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.withSettings;
 import static org.mockito.MockitoAnnotations.initMocks;
+import static org.testng.Assert.assertEquals;
 import static org.powermock.api.mockito.PowerMockito.doNothing;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.spy;
@@ -94,6 +98,26 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         SessionDataStore.getInstance().persistSessionData(key, type, entry, nanoTime, tenantId);
     }
 
+    @Test
+    public void testPersistSessionDataBatchWithFailingOperation() throws Exception {
+
+        Connection connection = getConnection(DB_NAME);
+        mockIdentityDataBaseUtilConnection(connection, true);
+        mockCarbonContext();
+        mockIdentityUtils();
+        mockDataHolder();
+        Object entry = mock(Object.class, withSettings().serializable());
+        // Objects which are not serializable fail the whole batch.
+        SessionContextDO failingOperation = new SessionContextDO("00000003", "sessionType", new Object(), 30002, 1);
+        SessionDataStore.getInstance().persistSessionDataBatch(Arrays.asList(
+                new SessionContextDO("00000002", "sessionType", entry, 30001, 1), failingOperation,
+                new SessionContextDO("00000004", "sessionType", entry, 30003, 1)));
+
+        assertEquals(countStoredSessions(connection, "00000002"), 1);
+        assertEquals(countStoredSessions(connection, "00000003"), 0);
+        assertEquals(countStoredSessions(connection, "00000004"), 1);
+    }
+
     @Test(dependsOnMethods = "testPersistSessionData")
     public void testRemoveExpiredSessionData() throws Exception {
 
@@ -104,6 +128,18 @@ public class SessionDataStoreTest extends DataStoreBaseTest {
         SessionDataStore.getInstance().removeExpiredSessionData();
     }
 
+    private int countStoredSessions(Connection connection, String key) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM IDN_AUTH_SESSION_STORE WHERE SESSION_ID = ?")) {
+            preparedStatement.setString(1, key);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+
     private void mockCarbonContext() {
 
         mockStatic(CarbonContext.class);
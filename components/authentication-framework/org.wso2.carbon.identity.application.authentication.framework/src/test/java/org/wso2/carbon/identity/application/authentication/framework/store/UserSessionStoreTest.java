@@ -33,9 +33,13 @@ import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -271,6 +275,18 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         }
     }
 
+    @Test(dependsOnMethods = {"testStoreUserSessionData"})
+    public void testGetSessionIdsOfUsers() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            mockIdentityDataBaseUtilConnection(connection, false);
+            List<String> sessionIdsOfUsers = UserSessionStore.getInstance()
+                    .getSessionIdsOfUsers(Arrays.asList("00000001", "00000002", "00000003"));
+            Assert.assertEquals(sessionIdsOfUsers.size(), 3);
+            Assert.assertTrue(sessionIdsOfUsers.containsAll(Arrays.asList("00000001", "00000002")));
+        }
+    }
+
     @Test(dataProvider = "getSessionAppsData", dependsOnMethods = {"testStoreUserSessionData"})
     public void testStoreAppSessionData(String sessionId, String subject, int appID, String inboundAuth)
             throws Exception {
@@ -286,6 +302,54 @@ public class UserSessionStoreTest extends DataStoreBaseTest {
         UserSessionStore.getInstance().storeSessionMetaData(sessionId, metaData);
     }
 
+    @Test
+    public void testRemoveExpiredSessionRecordsRecordsDeletedRows() throws Exception {
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO IDN_AUTH_SESSION_STORE " +
+                    "(SESSION_ID, SESSION_TYPE, OPERATION, TIME_CREATED, EXPIRY_TIME) VALUES (?, ?, ?, ?, ?)")) {
+                for (String sessionId : new String[]{"expired1", "expired2"}) {
+                    statement.setString(1, sessionId);
+                    statement.setString(2, "AppAuthFrameworkSessionContextCache");
+                    statement.setString(3, "STORE");
+                    statement.setLong(4, 1L);
+                    statement.setLong(5, Long.MIN_VALUE);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO IDN_AUTH_USER_SESSION_MAPPING (USER_ID, SESSION_ID) VALUES (?, ?)")) {
+                // Three mapping rows of one expired session, and no mapping row of the other.
+                for (String userId : new String[]{"expiredUser1", "expiredUser2", "expiredUser3"}) {
+                    statement.setString(1, userId);
+                    statement.setString(2, "expired1");
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+
+            Connection connection1 = spy(connection);
+            doNothing().when(connection1).close();
+            mockStatic(IdentityDatabaseUtil.class);
+            when(IdentityDatabaseUtil.getSessionDBConnection(true)).thenReturn(connection1);
+            when(IdentityDatabaseUtil.getSessionDBConnection(false)).thenReturn(connection1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+            try {
+                UserSessionStore.getInstance().removeExpiredSessionRecords(executor);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Assert.assertEquals(SessionCleanUpMetrics.getInstance().getTableStatistics()
+                    .get("IDN_AUTH_USER_SESSION_MAPPING").getLastRunDeletedRows(), 3);
+            Assert.assertEquals(SessionCleanUpMetrics.getInstance().getTableStatistics()
+                    .get("IDN_AUTH_SESSION_META_DATA").getLastRunDeletedRows(), 0);
+            Assert.assertFalse(UserSessionStore.getInstance().isExistingMapping("expiredUser1", "expired1"));
+        }
+    }
+
     private void mockIdentityDataBaseUtilConnection(Connection connection, Boolean shouldApplyTransaction) throws
             SQLException {
 
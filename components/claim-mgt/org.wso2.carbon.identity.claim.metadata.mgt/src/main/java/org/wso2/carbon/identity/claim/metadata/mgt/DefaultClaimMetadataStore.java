@@ -19,6 +19,8 @@ package org.wso2.carbon.identity.claim.metadata.mgt;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimIndex;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimIndexCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedClaimDialectDAO;
 import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedExternalClaimDAO;
 import org.wso2.carbon.identity.claim.metadata.mgt.dao.CacheBackedLocalClaimDAO;
@@ -60,6 +62,7 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
     private ClaimDialectDAO claimDialectDAO = new CacheBackedClaimDialectDAO();
     private CacheBackedLocalClaimDAO localClaimDAO = new CacheBackedLocalClaimDAO(new LocalClaimDAO());
     private CacheBackedExternalClaimDAO externalClaimDAO = new CacheBackedExternalClaimDAO(new ExternalClaimDAO());
+    private ClaimIndexCache claimIndexCache = ClaimIndexCache.getInstance();
 
     private int tenantId;
 
@@ -74,6 +77,7 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
             if (claimDialectDAO.getClaimDialects(tenantId).size() == 0) {
                 IdentityClaimManagementServiceDataHolder.getInstance().getClaimConfigInitDAO()
                         .initClaimConfig(claimConfig, tenantId);
+                claimIndexCache.clearClaimIndex(tenantId);
             }
         } catch (ClaimMetadataException e) {
             log.error("Error while retrieving claim dialects", e);
@@ -134,45 +138,20 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
         }
 
         try {
-            // Add listener
-
-            List<LocalClaim> localClaimList = this.localClaimDAO.getLocalClaims(tenantId);
-
-            // Add listener
-
-            for (LocalClaim localClaim : localClaimList) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    return getMappedAttribute(domainName, localClaim, tenantId);
-                }
+            ClaimIndex claimIndex = getClaimIndex();
+            LocalClaim localClaim = claimIndex.getLocalClaim(claimURI);
+            if (localClaim != null) {
+                return getMappedAttribute(domainName, localClaim, claimIndex, tenantId);
             }
 
-
             // For backward compatibility
-            List<ClaimDialect> claimDialects = claimDialectDAO.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = externalClaimDAO.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaimList) {
-                            if (localClaim.getClaimURI().equalsIgnoreCase(externalClaim.getMappedLocalClaim())) {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Picking mapped attribute for external claim : " + externalClaim
-                                            .getClaimURI() + " using mapped local claim : " + localClaim.getClaimURI());
-                                }
-                                return getMappedAttribute(domainName, localClaim, tenantId);
-                            }
-                        }
-
-                    }
+            localClaim = claimIndex.getMappedLocalClaim(claimURI);
+            if (localClaim != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Picking mapped attribute for external claim : " + claimURI + " using mapped local " +
+                            "claim : " + localClaim.getClaimURI());
                 }
+                return getMappedAttribute(domainName, localClaim, claimIndex, tenantId);
             }
 
             if (log.isDebugEnabled()) {
@@ -187,10 +166,10 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
         }
     }
 
-    private String getMappedAttribute(String domainName, LocalClaim localClaim, int tenantId) throws
-            UserStoreException {
+    private String getMappedAttribute(String domainName, LocalClaim localClaim, ClaimIndex claimIndex, int tenantId)
+            throws UserStoreException {
 
-        String mappedAttribute = localClaim.getMappedAttribute(domainName);
+        String mappedAttribute = claimIndex.getMappedAttribute(localClaim, domainName);
 
         if (StringUtils.isNotBlank(mappedAttribute)) {
             if (log.isDebugEnabled()) {
@@ -217,7 +196,7 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
                 .getTenantUserRealm(tenantId);
         String primaryDomainName = realm.getRealmConfiguration().getUserStoreProperty
                 (UserCoreConstants.RealmConfig.PROPERTY_DOMAIN_NAME);
-        mappedAttribute = localClaim.getMappedAttribute(primaryDomainName);
+        mappedAttribute = claimIndex.getMappedAttribute(localClaim, primaryDomainName);
 
         if (StringUtils.isNotBlank(mappedAttribute)) {
             if (log.isDebugEnabled()) {
@@ -246,88 +225,25 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
     @Override
     @Deprecated
     public Claim getClaim(String claimURI) throws UserStoreException {
-        try {
-            List<LocalClaim> localClaims = localClaimDAO.getLocalClaims(this.tenantId);
-
-            for (LocalClaim localClaim : localClaims) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this
-                            .tenantId);
-                    return claimMapping.getClaim();
-                }
-            }
-
-            // For backward compatibility
-            List<ClaimDialect> claimDialects = claimDialectDAO.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = externalClaimDAO.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaims) {
-                            ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping
-                                    (localClaim, this.tenantId);
-                            return claimMapping.getClaim();
-                        }
-
-                    }
-                }
-            }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Returning NULL for getClaim() for claim URI : " + claimURI);
-            }
-            return null;
-        } catch (ClaimMetadataException e) {
-            throw new UserStoreException(e.getMessage(), e);
+        ClaimMapping claimMapping = getClaimMapping(claimURI);
+        if (claimMapping != null) {
+            return claimMapping.getClaim();
         }
+        if (log.isDebugEnabled()) {
+            log.debug("Returning NULL for getClaim() for claim URI : " + claimURI);
+        }
+        return null;
     }
 
     @Override
     @Deprecated
     public ClaimMapping getClaimMapping(String claimURI) throws UserStoreException {
         try {
-            List<LocalClaim> localClaims = localClaimDAO.getLocalClaims(this.tenantId);
-
-            for (LocalClaim localClaim : localClaims) {
-                if (localClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-                    ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this
-                            .tenantId);
-                    return claimMapping;
-                }
-            }
-
-            // For backward compatibility
-            List<ClaimDialect> claimDialects = claimDialectDAO.getClaimDialects(tenantId);
-
-            for (ClaimDialect claimDialect : claimDialects) {
-                if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
-                    continue;
-                }
-
-                List<ExternalClaim> externalClaims = externalClaimDAO.getExternalClaims(claimDialect
-                        .getClaimDialectURI(), tenantId);
-
-                for (ExternalClaim externalClaim : externalClaims) {
-                    if (externalClaim.getClaimURI().equalsIgnoreCase(claimURI)) {
-
-                        for (LocalClaim localClaim : localClaims) {
-                            if (localClaim.getClaimURI().equalsIgnoreCase(externalClaim.getMappedLocalClaim())) {
-                                ClaimMapping claimMapping = ClaimMetadataUtils.convertLocalClaimToClaimMapping
-                                        (localClaim, this.tenantId);
-                                return claimMapping;
-                            }
-                        }
-
-                    }
-                }
+            // External claim URIs are resolved to the mapped local claim for backward compatibility.
+            LocalClaim localClaim = getClaimIndex().resolveLocalClaim(claimURI);
+            if (localClaim != null) {
+                return ClaimMetadataUtils.convertLocalClaimToClaimMapping(localClaim, this.tenantId);
             }
 
             if (log.isDebugEnabled()) {
@@ -461,6 +377,38 @@ public class DefaultClaimMetadataStore implements ClaimMetadataStore {
         }
     }
 
+    /**
+     * Get the claim index of the tenant, building it from the cached claim dialects, local claims and external
+     * claims if it is not cached.
+     *
+     * @return Claim index of the tenant.
+     * @throws ClaimMetadataException If an error occurred while retrieving the claims.
+     */
+    private ClaimIndex getClaimIndex() throws ClaimMetadataException {
+
+        ClaimIndex claimIndex = claimIndexCache.getClaimIndex(tenantId);
+        if (claimIndex != null) {
+            return claimIndex;
+        }
+
+        List<LocalClaim> localClaims = localClaimDAO.getLocalClaims(tenantId);
+        List<List<ExternalClaim>> externalClaimsByDialect = new ArrayList<>();
+        for (ClaimDialect claimDialect : claimDialectDAO.getClaimDialects(tenantId)) {
+            if (ClaimConstants.LOCAL_CLAIM_DIALECT_URI.equalsIgnoreCase(claimDialect.getClaimDialectURI())) {
+                continue;
+            }
+            externalClaimsByDialect.add(externalClaimDAO.getExternalClaims(claimDialect.getClaimDialectURI(),
+                    tenantId));
+        }
+        claimIndex = new ClaimIndex(localClaims, externalClaimsByDialect);
+        claimIndexCache.putClaimIndex(tenantId, claimIndex);
+        if (log.isDebugEnabled()) {
+            log.debug("Built claim index with " + claimIndex.getLocalClaimCount() + " local claims and " +
+                    claimIndex.getExternalClaimCount() + " external claims for tenant : " + tenantId);
+        }
+        return claimIndex;
+    }
+
     private boolean isFilterableClaim(LocalClaim localClaim) {
 
         // Filter the local claim `role` when groups vs roles separation is enabled. This claim is
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index of the claims of a tenant, used to resolve a local or external claim URI to the local claim and
+ * the mapped attribute of a user store, without iterating over the claim dialects and claims on each lookup.
+ * Claim URIs are matched case insensitively.
+ */
+public class ClaimIndex implements Serializable {
+
+    private static final long serialVersionUID = 3518208476364930571L;
+
+    private final Map<String, LocalClaim> localClaims;
+    private final Map<String, LocalClaim> externalClaims;
+    private final Map<String, Map<String, String>> mappedAttributes;
+
+    /**
+     * Build the index. When a claim URI occurs more than once, the first occurrence is indexed.
+     *
+     * @param localClaimList          Local claims of the tenant.
+     * @param externalClaimsByDialect External claims of the tenant, in the order of the claim dialects.
+     */
+    public ClaimIndex(List<LocalClaim> localClaimList, List<List<ExternalClaim>> externalClaimsByDialect) {
+
+        Map<String, LocalClaim> localClaimMap = new HashMap<>();
+        Map<String, Map<String, String>> mappedAttributeMap = new HashMap<>();
+        for (LocalClaim localClaim : localClaimList) {
+            String key = toKey(localClaim.getClaimURI());
+            if (localClaimMap.containsKey(key)) {
+                continue;
+            }
+            localClaimMap.put(key, localClaim);
+            Map<String, String> attributes = new HashMap<>();
+            if (localClaim.getMappedAttributes() != null) {
+                for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                    if (!attributes.containsKey(attributeMapping.getUserStoreDomain())) {
+                        attributes.put(attributeMapping.getUserStoreDomain(), attributeMapping.getAttributeName());
+                    }
+                }
+            }
+            mappedAttributeMap.put(key, attributes);
+        }
+
+        Map<String, LocalClaim> externalClaimMap = new HashMap<>();
+        for (List<ExternalClaim> externalClaims : externalClaimsByDialect) {
+            for (ExternalClaim externalClaim : externalClaims) {
+                String key = toKey(externalClaim.getClaimURI());
+                if (externalClaimMap.containsKey(key) || externalClaim.getMappedLocalClaim() == null) {
+                    continue;
+                }
+                LocalClaim mappedLocalClaim = localClaimMap.get(toKey(externalClaim.getMappedLocalClaim()));
+                if (mappedLocalClaim != null) {
+                    externalClaimMap.put(key, mappedLocalClaim);
+                }
+            }
+        }
+
+        this.localClaims = Collections.unmodifiableMap(localClaimMap);
+        this.externalClaims = Collections.unmodifiableMap(externalClaimMap);
+        this.mappedAttributes = Collections.unmodifiableMap(mappedAttributeMap);
+    }
+
+    /**
+     * Get the local claim of the given local claim URI.
+     *
+     * @param claimURI Local claim URI.
+     * @return Local claim, or null if there is no such local claim.
+     */
+    public LocalClaim getLocalClaim(String claimURI) {
+
+        return localClaims.get(toKey(claimURI));
+    }
+
+    /**
+     * Get the local claim which the given external claim URI is mapped to, in any of the external claim dialects.
+     *
+     * @param claimURI External claim URI.
+     * @return Mapped local claim, or null if there is no such external claim.
+     */
+    public LocalClaim getMappedLocalClaim(String claimURI) {
+
+        return externalClaims.get(toKey(claimURI));
+    }
+
+    /**
+     * Resolve the given local or external claim URI to a local claim. Local claims take precedence.
+     *
+     * @param claimURI Local or external claim URI.
+     * @return Local claim, or null if the claim URI is not known.
+     */
+    public LocalClaim resolveLocalClaim(String claimURI) {
+
+        LocalClaim localClaim = getLocalClaim(claimURI);
+        if (localClaim == null) {
+            localClaim = getMappedLocalClaim(claimURI);
+        }
+        return localClaim;
+    }
+
+    /**
+     * Get the attribute which the given local claim is mapped to in the given user store.
+     *
+     * @param localClaim      Indexed local claim.
+     * @param userStoreDomain User store domain name.
+     * @return Mapped attribute, or null if the claim is not mapped for the user store.
+     */
+    public String getMappedAttribute(LocalClaim localClaim, String userStoreDomain) {
+
+        Map<String, String> attributes = mappedAttributes.get(toKey(localClaim.getClaimURI()));
+        if (attributes == null) {
+            return localClaim.getMappedAttribute(userStoreDomain);
+        }
+        return attributes.get(userStoreDomain.toUpperCase());
+    }
+
+    public int getLocalClaimCount() {
+
+        return localClaims.size();
+    }
+
+    public int getExternalClaimCount() {
+
+        return externalClaims.size();
+    }
+
+    private static String toKey(String claimURI) {
+
+        return claimURI.toLowerCase(Locale.ENGLISH);
+    }
+}
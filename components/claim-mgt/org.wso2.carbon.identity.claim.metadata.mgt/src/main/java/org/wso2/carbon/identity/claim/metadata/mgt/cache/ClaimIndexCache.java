@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+
+/**
+ * Cache of the {@link ClaimIndex} of each tenant. The index of a tenant is cleared whenever a claim dialect, local
+ * claim or external claim of the tenant is changed.
+ */
+public class ClaimIndexCache extends BaseCache<Integer, ClaimIndex> {
+
+    private static final String CACHE_NAME = "ClaimIndexCache";
+    private static final ClaimIndexCache instance = new ClaimIndexCache();
+
+    private ClaimIndexCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public static ClaimIndexCache getInstance() {
+
+        return instance;
+    }
+
+    public ClaimIndex getClaimIndex(int tenantId) {
+
+        return super.getValueFromCache(tenantId, tenantId);
+    }
+
+    public void putClaimIndex(int tenantId, ClaimIndex claimIndex) {
+
+        super.addToCache(tenantId, claimIndex, tenantId);
+    }
+
+    public void clearClaimIndex(int tenantId) {
+
+        super.clearCacheEntry(tenantId, tenantId);
+    }
+}
@@ -19,6 +19,7 @@ package org.wso2.carbon.identity.claim.metadata.mgt.dao;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.cache.ClaimIndexCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.cache.LocalClaimCache;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
@@ -38,6 +39,7 @@ public class CacheBackedLocalClaimDAO {
     LocalClaimDAO localClaimDAO;
 
     LocalClaimCache localClaimInvalidationCache = LocalClaimCache.getInstance();
+    ClaimIndexCache claimIndexCache = ClaimIndexCache.getInstance();
 
     public CacheBackedLocalClaimDAO(LocalClaimDAO localClaimDAO) {
         this.localClaimDAO = localClaimDAO;
@@ -67,12 +69,14 @@ public class CacheBackedLocalClaimDAO {
 
         localClaimDAO.addLocalClaim(localClaim, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        claimIndexCache.clearClaimIndex(tenantId);
     }
 
     public void updateLocalClaim(LocalClaim localClaim, int tenantId) throws ClaimMetadataException {
 
         localClaimDAO.updateLocalClaim(localClaim, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        claimIndexCache.clearClaimIndex(tenantId);
     }
 
     /**
@@ -88,12 +92,14 @@ public class CacheBackedLocalClaimDAO {
 
         localClaimDAO.updateLocalClaimMappings(localClaimList, tenantId, userStoreDomain);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        claimIndexCache.clearClaimIndex(tenantId);
     }
 
     public void removeLocalClaim(String localClaimURI, int tenantId) throws ClaimMetadataException {
 
         localClaimDAO.removeLocalClaim(localClaimURI, tenantId);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        claimIndexCache.clearClaimIndex(tenantId);
     }
 
     /**
@@ -114,5 +120,6 @@ public class CacheBackedLocalClaimDAO {
         }
         localClaimDAO.deleteClaimMappingAttributes(tenantId, userstoreDomain);
         localClaimInvalidationCache.clearCacheEntry(tenantId, tenantId);
+        claimIndexCache.clearClaimIndex(tenantId);
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.wso2.carbon.identity.claim.metadata.mgt.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Covers unit tests for ClaimIndex class
+ */
+public class ClaimIndexTest {
+
+    private static final String LOCAL_DIALECT = "http://wso2.org/claims";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String USERNAME_CLAIM = "http://wso2.org/claims/username";
+    private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
+    private static final String SCIM_DIALECT = "urn:scim:schemas:core:1.0";
+
+    private ClaimIndex claimIndex;
+    private LocalClaim emailClaim;
+    private LocalClaim usernameClaim;
+
+    @BeforeClass
+    public void setUp() {
+
+        emailClaim = new LocalClaim(EMAIL_CLAIM, Arrays.asList(new AttributeMapping("PRIMARY", "mail"),
+                new AttributeMapping("SECONDARY", "email")), new HashMap<String, String>());
+        usernameClaim = new LocalClaim(USERNAME_CLAIM, Collections.singletonList(new AttributeMapping("PRIMARY",
+                "uid")), new HashMap<String, String>());
+
+        List<ExternalClaim> oidcClaims = Arrays.asList(
+                new ExternalClaim(OIDC_DIALECT, "email", EMAIL_CLAIM),
+                new ExternalClaim(OIDC_DIALECT, "missing", "http://wso2.org/claims/missing"));
+        List<ExternalClaim> scimClaims = Arrays.asList(
+                new ExternalClaim(SCIM_DIALECT, "email", USERNAME_CLAIM),
+                new ExternalClaim(SCIM_DIALECT, "urn:scim:schemas:core:1.0:userName", USERNAME_CLAIM));
+
+        claimIndex = new ClaimIndex(Arrays.asList(emailClaim, usernameClaim), Arrays.asList(oidcClaims, scimClaims));
+    }
+
+    @Test
+    public void testGetLocalClaim() {
+
+        Assert.assertSame(claimIndex.getLocalClaim(EMAIL_CLAIM), emailClaim);
+        Assert.assertSame(claimIndex.getLocalClaim(EMAIL_CLAIM.toUpperCase()), emailClaim);
+        Assert.assertNull(claimIndex.getLocalClaim("email"));
+        Assert.assertEquals(claimIndex.getLocalClaimCount(), 2);
+    }
+
+    @Test
+    public void testGetMappedLocalClaim() {
+
+        // The first dialect which maps the external claim URI takes precedence.
+        Assert.assertSame(claimIndex.getMappedLocalClaim("email"), emailClaim);
+        Assert.assertSame(claimIndex.getMappedLocalClaim("URN:SCIM:SCHEMAS:CORE:1.0:USERNAME"), usernameClaim);
+        Assert.assertNull(claimIndex.getMappedLocalClaim("missing"));
+        Assert.assertEquals(claimIndex.getExternalClaimCount(), 2);
+    }
+
+    @Test
+    public void testResolveLocalClaim() {
+
+        Assert.assertSame(claimIndex.resolveLocalClaim(USERNAME_CLAIM), usernameClaim);
+        Assert.assertSame(claimIndex.resolveLocalClaim("urn:scim:schemas:core:1.0:userName"), usernameClaim);
+        Assert.assertNull(claimIndex.resolveLocalClaim(LOCAL_DIALECT + "/unknown"));
+    }
+
+    @Test
+    public void testGetMappedAttribute() {
+
+        Assert.assertEquals(claimIndex.getMappedAttribute(emailClaim, "primary"), "mail");
+        Assert.assertEquals(claimIndex.getMappedAttribute(emailClaim, "SECONDARY"), "email");
+        Assert.assertNull(claimIndex.getMappedAttribute(usernameClaim, "SECONDARY"));
+    }
+}
@@ -224,6 +224,22 @@ public interface ConfigurationManager {
     Attribute getAttribute(String resourceTypeName, String resourceName, String attributeKey)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to retrieve only the given attributes of a resource, without retrieving the rest of the
+     * resource. Keys which do not exist in the resource are ignored.
+     *
+     * @param resourceTypeName Name of the {@link ResourceType}.
+     * @param resourceName     Name of the {@link Resource}.
+     * @param attributeKeys    Keys of the requested {@link Attribute}s.
+     * @return The existing {@link Attribute}s for the given keys. An empty list if the resource does not exist.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default List<Attribute> getAttributes(String resourceTypeName, String resourceName, List<String> attributeKeys)
+            throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to retrieve the given attribute.
      *
@@ -293,6 +309,24 @@ public interface ConfigurationManager {
     InputStream getFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException;
 
+    /**
+     * This API is used to get a range of the given file. Files stored in chunks are streamed from the chunks of the
+     * requested range only.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id representing the file.
+     * @param offset       Position of the first byte of the range.
+     * @param length       Maximum number of bytes in the range.
+     * @return 200 ok. Returns {@link InputStream} of the requested range of the file.
+     * @throws ConfigurationManagementException Resource management exception.
+     */
+    default InputStream getFileById(String resourceType, String resourceName, String fileId, long offset,
+                                    long length) throws ConfigurationManagementException {
+
+        throw new NotImplementedException("This functionality is not implemented.");
+    }
+
     /**
      * This API is used to delete the given file.
      *
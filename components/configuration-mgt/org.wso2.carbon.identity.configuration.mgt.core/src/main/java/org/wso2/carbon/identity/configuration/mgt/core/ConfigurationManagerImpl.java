@@ -43,6 +43,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
@@ -61,6 +62,8 @@ import static org.wso2.carbon.identity.configuration.mgt.core.constant.Configura
         .ERROR_CODE_FILE_IDENTIFIERS_REQUIRED;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_GET_DAO;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
+        .ERROR_CODE_INVALID_FILE_RANGE;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
         .ERROR_CODE_INVALID_RESOURCE_ID;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
@@ -375,14 +378,17 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
             throws ConfigurationManagementException {
 
         validateAttributeGetRequest(resourceTypeName, resourceName, attributeKey);
-        String resourceId = getResourceId(resourceTypeName, resourceName);
-        Attribute attribute = getConfigurationDAO().getAttributeByKey(resourceId, attributeKey);
-        if (attribute == null || attribute.getKey() == null) {
+        List<Attribute> attributes = getAttributesByKeys(resourceTypeName, resourceName,
+                Collections.singletonList(attributeKey));
+        if (attributes.isEmpty()) {
+            // Resolve the resource to fail with the resource error, if the resource itself does not exist.
+            getResourceId(resourceTypeName, resourceName);
             if (log.isDebugEnabled()) {
                 log.debug("Resource Type: " + attributeKey + " does not exist.");
             }
             throw handleClientException(ERROR_CODE_ATTRIBUTE_DOES_NOT_EXISTS, attributeKey);
         }
+        Attribute attribute = attributes.get(0);
 
         if (log.isDebugEnabled()) {
             log.debug("Resource type: " + attributeKey + " retrieved successfully.");
@@ -390,6 +396,27 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return attribute;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Attribute> getAttributes(String resourceTypeName, String resourceName, List<String> attributeKeys)
+            throws ConfigurationManagementException {
+
+        if (StringUtils.isEmpty(resourceName) || StringUtils.isEmpty(resourceTypeName) || attributeKeys == null
+                || attributeKeys.isEmpty()) {
+            String attributeIdentifiers = "resourceName = " + resourceName + ", resourceTypeName = " + resourceTypeName
+                    + ", attributeKeys = " + attributeKeys;
+            throw handleClientException(ERROR_CODE_ATTRIBUTE_IDENTIFIERS_REQUIRED, attributeIdentifiers);
+        }
+        List<Attribute> attributes = getAttributesByKeys(resourceTypeName, resourceName, attributeKeys);
+        if (log.isDebugEnabled()) {
+            log.debug(attributes.size() + " of " + attributeKeys.size() + " requested attributes of the resource: "
+                    + resourceName + " retrieved successfully.");
+        }
+        return attributes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -856,6 +883,13 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return getResourceType(resourceTypeName).getId();
     }
 
+    private List<Attribute> getAttributesByKeys(String resourceTypeName, String resourceName,
+                                                List<String> attributeKeys) throws ConfigurationManagementException {
+
+        return getConfigurationDAO().getAttributesByKeys(getTenantId(), getResourceTypeId(resourceTypeName),
+                resourceName, attributeKeys);
+    }
+
     /**
      * Select highest priority Resource DAO from an already sorted list of Resource DAOs.
      *
@@ -957,6 +991,29 @@ public class ConfigurationManagerImpl implements ConfigurationManager {
         return fileStream;
     }
 
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        validateRequest(resourceType, resourceName, fileId);
+        if (offset < 0 || length <= 0) {
+            throw handleClientException(ERROR_CODE_INVALID_FILE_RANGE, "offset: " + offset + ", length: " + length);
+        }
+        InputStream fileStream = getConfigurationDAO().getFileById(resourceType, resourceName, fileId, offset,
+                length);
+        if (fileStream == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Resource File: " + fileId + " does not exists.");
+            }
+            throw handleClientException(ERROR_CODE_FILE_DOES_NOT_EXISTS, fileId);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Range: " + offset + "-" + (offset + length) + " of the resource file: " + fileId
+                    + " retrieved successfully.");
+        }
+        return fileStream;
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId)
             throws ConfigurationManagementException {
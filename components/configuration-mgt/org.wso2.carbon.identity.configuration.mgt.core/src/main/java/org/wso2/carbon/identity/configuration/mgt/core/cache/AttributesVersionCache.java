@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+
+/**
+ * Cache for the version of the cached resource attributes of a tenant. The version is changed on every resource
+ * or attribute update of the tenant, which invalidates all the attributes cached in {@link ResourceAttributesCache}.
+ */
+public class AttributesVersionCache extends BaseCache<AttributesVersionCacheKey, AttributesVersionCacheEntry> {
+
+    public static final String CACHE_NAME = "ConfigurationAttributesVersionCache";
+
+    private static volatile AttributesVersionCache instance;
+
+    private AttributesVersionCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public AttributesVersionCache(String cacheName) {
+
+        super(cacheName);
+    }
+
+    public AttributesVersionCache(String cacheName, boolean isTemp) {
+
+        super(cacheName, isTemp);
+    }
+
+    public static AttributesVersionCache getInstance() {
+
+        if (instance == null) {
+            synchronized (AttributesVersionCache.class) {
+                if (instance == null) {
+                    instance = new AttributesVersionCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
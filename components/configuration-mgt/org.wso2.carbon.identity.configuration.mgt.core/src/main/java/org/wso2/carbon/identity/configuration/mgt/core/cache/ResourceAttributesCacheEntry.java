@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.CacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a cache entry for the attributes of a resource, which were requested by their keys. Requested keys
+ * which do not exist in the resource are also recorded, so that they are not read from the database again.
+ * <p>
+ * The entry is immutable and new {@link Attribute} instances are returned on each read. The entry is only valid
+ * while its version matches the version of the tenant in {@link AttributesVersionCache}.
+ */
+public class ResourceAttributesCacheEntry extends CacheEntry {
+
+    private final String version;
+    private final Map<String, Attribute> attributes;
+
+    /**
+     * @param version    Version of the tenant attributes at the time the attributes were read.
+     * @param keys       Requested attribute keys.
+     * @param attributes Attributes read for the requested keys.
+     */
+    public ResourceAttributesCacheEntry(String version, Collection<String> keys, List<Attribute> attributes) {
+
+        this(version, new HashMap<>(), keys, attributes);
+    }
+
+    private ResourceAttributesCacheEntry(String version, Map<String, Attribute> cachedAttributes,
+                                         Collection<String> keys, List<Attribute> attributes) {
+
+        this.version = version;
+        this.attributes = cachedAttributes;
+        for (String key : keys) {
+            this.attributes.putIfAbsent(key, null);
+        }
+        for (Attribute attribute : attributes) {
+            this.attributes.put(attribute.getKey(), copy(attribute));
+        }
+    }
+
+    public String getVersion() {
+
+        return version;
+    }
+
+    /**
+     * Check whether all the given keys were already requested.
+     *
+     * @param keys Attribute keys.
+     * @return true if the entry can serve all the given keys.
+     */
+    public boolean containsKeys(Collection<String> keys) {
+
+        return attributes.keySet().containsAll(keys);
+    }
+
+    /**
+     * Get the existing attributes of the given keys.
+     *
+     * @param keys Attribute keys.
+     * @return New instances of the attributes which exist in the resource.
+     */
+    public List<Attribute> getAttributes(Collection<String> keys) {
+
+        List<Attribute> result = new ArrayList<>();
+        for (String key : keys) {
+            Attribute attribute = attributes.get(key);
+            if (attribute != null) {
+                result.add(copy(attribute));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create a new entry of the same version with the attributes of this entry and the given attributes.
+     *
+     * @param keys       Newly requested attribute keys.
+     * @param attributes Attributes read for the newly requested keys.
+     * @return Merged cache entry.
+     */
+    public ResourceAttributesCacheEntry merge(Collection<String> keys, List<Attribute> attributes) {
+
+        return new ResourceAttributesCacheEntry(version, new HashMap<>(this.attributes), keys, attributes);
+    }
+
+    private static Attribute copy(Attribute attribute) {
+
+        return new Attribute(attribute.getKey(), attribute.getValue(), attribute.getAttributeId());
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+/**
+ * Cache key for {@link ResourceAttributesCache}, which identifies a resource by the tenant, the resource type id
+ * and the resource name.
+ */
+public class ResourceAttributesCacheKey extends ResourceCacheKey {
+
+    public ResourceAttributesCacheKey(String resourceTypeId, String resourceName, String tenantDomain) {
+
+        // Resource type id is an UUID, hence the separator can not appear in it.
+        super(resourceTypeId + ":" + resourceName, tenantDomain);
+    }
+}
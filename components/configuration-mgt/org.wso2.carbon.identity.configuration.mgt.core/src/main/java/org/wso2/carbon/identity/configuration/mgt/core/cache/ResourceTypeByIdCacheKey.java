@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+/**
+ * Cache key for {@link org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType} caches by it's id.
+ * Resource types are not tenant specific, hence they are cached in the super tenant.
+ */
+public class ResourceTypeByIdCacheKey extends ResourceCacheKey {
+
+    public ResourceTypeByIdCacheKey(String resourceTypeId) {
+
+        super(resourceTypeId, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.cache;
+
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+
+/**
+ * Cache for {@link org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType} from it's name.
+ */
+public class ResourceTypeByNameCache extends BaseCache<ResourceTypeByNameCacheKey, ResourceTypeCacheEntry> {
+
+    public static final String CACHE_NAME = "ConfigurationResourceTypeByNameCache";
+
+    private static volatile ResourceTypeByNameCache instance;
+
+    private ResourceTypeByNameCache() {
+
+        super(CACHE_NAME);
+    }
+
+    public ResourceTypeByNameCache(String cacheName) {
+
+        super(cacheName);
+    }
+
+    public ResourceTypeByNameCache(String cacheName, boolean isTemp) {
+
+        super(cacheName, isTemp);
+    }
+
+    public static ResourceTypeByNameCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResourceTypeByNameCache.class) {
+                if (instance == null) {
+                    instance = new ResourceTypeByNameCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
@@ -64,12 +64,19 @@ public class ConfigurationConstants {
     public static final String DB_SCHEMA_COLUMN_NAME_CREATED_TIME = "CREATED_TIME";
     public static final String DB_SCHEMA_COLUMN_NAME_RESOURCE_NAME = "RESOURCE_NAME";
     public static final String DB_SCHEMA_COLUMN_NAME_RESOURCE_TYPE_NAME = "TYPE_NAME";
+    public static final String DB_SCHEMA_COLUMN_NAME_CONTENT_ID = "CONTENT_ID";
+    public static final String DB_SCHEMA_COLUMN_NAME_CONTENT_LENGTH = "CONTENT_LENGTH";
+    public static final String DB_SCHEMA_COLUMN_NAME_CHUNK_SIZE = "CHUNK_SIZE";
+    public static final String DB_SCHEMA_COLUMN_NAME_CHUNK_DATA = "CHUNK_DATA";
     public static final String FILE = "file";
     public static final String SERVER_API_PATH_COMPONENT = "/api/identity/config-mgt/v1.0";
     public static final String TENANT_CONTEXT_PATH_COMPONENT = "/t/%s";
     public static final String TENANT_NAME_FROM_CONTEXT = "TenantNameFromContext";
     public static final String PATH_SEPARATOR = "/";
     public static final String CORRELATION_ID_MDC = "Correlation-ID";
+    public static final String CHUNKED_FILE_STORAGE_ENABLED = "ConfigurationStore.ChunkedFileStorage.Enable";
+    public static final String CHUNKED_FILE_STORAGE_CHUNK_SIZE = "ConfigurationStore.ChunkedFileStorage.ChunkSize";
+    public static final int DEFAULT_FILE_CHUNK_SIZE = 256 * 1024;
 
 
     public enum ErrorMessages {
@@ -129,7 +136,8 @@ public class ConfigurationConstants {
         ERROR_CODE_RESOURCE_ID_DOES_NOT_EXISTS("CONFIGM_00046", "Resource with the id: %s does not exists."),
         ERROR_CODE_INVALID_RESOURCE_ID("CONFIGM_00047", "Invalid resource id: %s."),
         ERROR_CODE_DELETE_RESOURCE("CONFIGM_00048", "Error while deleting the resource: %s."),
-        ERROR_CODE_CHECK_DB_METADATA("CONFIGM_00049", "Error occurred while checking the DB metadata.");
+        ERROR_CODE_CHECK_DB_METADATA("CONFIGM_00049", "Error occurred while checking the DB metadata."),
+        ERROR_CODE_INVALID_FILE_RANGE("CONFIGM_00050", "Invalid range: %s requested for the file.");
 
 
         private final String code;
@@ -184,6 +184,19 @@ public class SQLConstants {
             "WHERE\n" +
             "  ATTR_KEY = ?\n" +
             "  AND RESOURCE_ID = ?";
+    // The IN clause of the attribute keys is appended at runtime.
+    public static final String GET_ATTRIBUTES_BY_KEYS_SQL = "SELECT\n" +
+            "  A.ID,\n" +
+            "  A.ATTR_KEY,\n" +
+            "  A.ATTR_VALUE\n" +
+            "FROM\n" +
+            "  IDN_CONFIG_ATTRIBUTE A\n" +
+            "  INNER JOIN IDN_CONFIG_RESOURCE R ON A.RESOURCE_ID = R.ID\n" +
+            "WHERE\n" +
+            "  R.NAME = ?\n" +
+            "  AND R.TENANT_ID = ?\n" +
+            "  AND R.TYPE_ID = ?\n" +
+            "  AND A.ATTR_KEY IN (";
     public static final String DELETE_ATTRIBUTE_SQL = "DELETE FROM IDN_CONFIG_ATTRIBUTE WHERE ID = ?";
     public static final String GET_RESOURCE_TYPE_BY_NAME_SQL = "SELECT ID, NAME, DESCRIPTION FROM IDN_CONFIG_TYPE " +
             "WHERE NAME = ? ";
@@ -475,6 +488,50 @@ public class SQLConstants {
             "  IDN_CONFIG_FILE\n" +
             "WHERE\n" +
             "  RESOURCE_ID = ?";
+    public static final String INSERT_FILE_WITHOUT_VALUE_SQL = "INSERT INTO IDN_CONFIG_FILE(ID, RESOURCE_ID, NAME) " +
+            "VALUES(?, ?, ?)";
+    public static final String INSERT_FILE_CHUNK_SQL = "INSERT INTO IDN_CONFIG_FILE_CHUNK(CONTENT_ID, CHUNK_INDEX, " +
+            "CHUNK_DATA) VALUES(?, ?, ?)";
+    public static final String GET_FILE_CHUNK_SQL = "SELECT CHUNK_DATA FROM IDN_CONFIG_FILE_CHUNK WHERE " +
+            "CONTENT_ID = ? AND CHUNK_INDEX = ?";
+    public static final String LOCK_FILE_CHUNKS_SQL = "SELECT CHUNK_INDEX FROM IDN_CONFIG_FILE_CHUNK WHERE " +
+            "CONTENT_ID = ? AND CHUNK_INDEX = 0 FOR UPDATE";
+    public static final String LOCK_FILE_CHUNKS_SQL_MSSQL = "SELECT CHUNK_INDEX FROM IDN_CONFIG_FILE_CHUNK WITH " +
+            "(UPDLOCK, ROWLOCK) WHERE CONTENT_ID = ? AND CHUNK_INDEX = 0";
+    public static final String LOCK_FILE_CHUNKS_SQL_DB2 = "SELECT CHUNK_INDEX FROM IDN_CONFIG_FILE_CHUNK WHERE " +
+            "CONTENT_ID = ? AND CHUNK_INDEX = 0 FOR UPDATE WITH RS USE AND KEEP UPDATE LOCKS";
+    public static final String DELETE_FILE_CHUNKS_SQL = "DELETE FROM IDN_CONFIG_FILE_CHUNK WHERE CONTENT_ID = ?";
+    public static final String DELETE_ORPHAN_FILE_CHUNKS_SQL = "DELETE FROM IDN_CONFIG_FILE_CHUNK WHERE " +
+            "CONTENT_ID = ? AND NOT EXISTS (SELECT 1 FROM IDN_CONFIG_FILE_CONTENT WHERE CONTENT_ID = ?)";
+    public static final String INSERT_FILE_CONTENT_SQL = "INSERT INTO IDN_CONFIG_FILE_CONTENT(FILE_ID, " +
+            "CONTENT_ID, CONTENT_HASH, CONTENT_LENGTH, CHUNK_SIZE) VALUES(?, ?, ?, ?, ?)";
+    // Contents are only shared by the files of the same tenant as the given file.
+    public static final String GET_FILE_CONTENT_BY_HASH_SQL = "SELECT DISTINCT IDN_CONFIG_FILE_CONTENT.CONTENT_ID, "
+            + "IDN_CONFIG_FILE_CONTENT.CHUNK_SIZE FROM IDN_CONFIG_FILE_CONTENT INNER JOIN IDN_CONFIG_FILE ON "
+            + "IDN_CONFIG_FILE_CONTENT.FILE_ID = IDN_CONFIG_FILE.ID INNER JOIN IDN_CONFIG_RESOURCE ON "
+            + "IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID WHERE IDN_CONFIG_FILE_CONTENT.CONTENT_HASH = ? AND "
+            + "IDN_CONFIG_FILE_CONTENT.CONTENT_LENGTH = ? AND IDN_CONFIG_RESOURCE.TENANT_ID = (SELECT "
+            + "FILE_RESOURCE.TENANT_ID FROM IDN_CONFIG_FILE NEW_FILE INNER JOIN IDN_CONFIG_RESOURCE FILE_RESOURCE ON "
+            + "NEW_FILE.RESOURCE_ID = FILE_RESOURCE.ID WHERE NEW_FILE.ID = ?)";
+    public static final String GET_FILE_CONTENT_BY_FILE_ID_SQL = "SELECT IDN_CONFIG_FILE_CONTENT.CONTENT_ID, "
+            + "IDN_CONFIG_FILE_CONTENT.CONTENT_LENGTH, IDN_CONFIG_FILE_CONTENT.CHUNK_SIZE FROM IDN_CONFIG_FILE_CONTENT "
+            + "INNER JOIN IDN_CONFIG_FILE ON IDN_CONFIG_FILE_CONTENT.FILE_ID = IDN_CONFIG_FILE.ID INNER JOIN "
+            + "IDN_CONFIG_RESOURCE ON IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE "
+            + "ON IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID where IDN_CONFIG_FILE.ID = ? and "
+            + "IDN_CONFIG_RESOURCE.NAME = ? and IDN_CONFIG_TYPE.NAME = ?";
+    public static final String GET_FILE_CONTENT_ID_BY_FILE_ID_SQL = "SELECT CONTENT_ID FROM " +
+            "IDN_CONFIG_FILE_CONTENT WHERE FILE_ID = ?";
+    public static final String GET_FILE_CONTENT_IDS_BY_RESOURCE_ID_SQL = "SELECT DISTINCT " +
+            "IDN_CONFIG_FILE_CONTENT.CONTENT_ID FROM IDN_CONFIG_FILE_CONTENT INNER JOIN IDN_CONFIG_FILE ON " +
+            "IDN_CONFIG_FILE_CONTENT.FILE_ID = IDN_CONFIG_FILE.ID WHERE IDN_CONFIG_FILE.RESOURCE_ID = ?";
+    public static final String GET_FILE_CONTENT_IDS_BY_RESOURCE_TYPE_NAME_SQL = "SELECT DISTINCT "
+            + "IDN_CONFIG_FILE_CONTENT.CONTENT_ID FROM IDN_CONFIG_FILE_CONTENT INNER JOIN IDN_CONFIG_FILE ON "
+            + "IDN_CONFIG_FILE_CONTENT.FILE_ID = IDN_CONFIG_FILE.ID INNER JOIN IDN_CONFIG_RESOURCE ON "
+            + "IDN_CONFIG_FILE.RESOURCE_ID = IDN_CONFIG_RESOURCE.ID INNER JOIN IDN_CONFIG_TYPE ON "
+            + "IDN_CONFIG_RESOURCE.TYPE_ID = IDN_CONFIG_TYPE.ID WHERE IDN_CONFIG_TYPE.NAME = ?";
+    public static final String DELETE_FILE_CONTENT_SQL = "DELETE FROM IDN_CONFIG_FILE_CONTENT WHERE FILE_ID = ?";
+    public static final String DELETE_FILE_CONTENTS_BY_RESOURCE_ID_SQL = "DELETE FROM IDN_CONFIG_FILE_CONTENT " +
+            "WHERE FILE_ID IN (SELECT ID FROM IDN_CONFIG_FILE WHERE RESOURCE_ID = ?)";
     public static final String DELETE_FILE_SQL = "DELETE FROM IDN_CONFIG_FILE WHERE ID = ?";
     public static final String DELETE_FILES_SQL = "DELETE FROM IDN_CONFIG_FILE WHERE RESOURCE_ID = ?";
     public static final String UPDATE_HAS_FILE_SQL = "UPDATE IDN_CONFIG_RESOURCE SET HAS_FILE = ? " +
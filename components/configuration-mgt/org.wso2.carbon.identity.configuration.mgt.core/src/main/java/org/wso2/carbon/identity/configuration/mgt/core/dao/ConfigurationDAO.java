@@ -25,6 +25,7 @@ import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
 import org.wso2.carbon.identity.configuration.mgt.core.search.Condition;
 
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -175,6 +176,37 @@ public interface ConfigurationDAO {
      */
     Attribute getAttributeByKey(String resourceId, String attributeKey) throws ConfigurationManagementException;
 
+    /**
+     * Get only the requested {@link Attribute}s of a {@link Resource}, without reading the rest of the resource.
+     * <p>
+     * The default implementation reads the whole {@link Resource} and picks the requested {@link Attribute}s.
+     *
+     * @param tenantId       Id of the tenant.
+     * @param resourceTypeId Id of the {@link ResourceType}.
+     * @param resourceName   Name of the {@link Resource}.
+     * @param attributeKeys  Keys of the requested {@link Attribute}s.
+     * @return A list of the existing {@link Attribute}s for the given keys.
+     * @throws ConfigurationManagementException Configuration Management Exception.
+     */
+    default List<Attribute> getAttributesByKeys(int tenantId, String resourceTypeId, String resourceName,
+                                                List<String> attributeKeys) throws ConfigurationManagementException {
+
+        List<Attribute> attributes = new ArrayList<>();
+        Resource resource = getResourceByName(tenantId, resourceTypeId, resourceName);
+        if (resource == null || resource.getAttributes() == null) {
+            return attributes;
+        }
+        for (String attributeKey : attributeKeys) {
+            for (Attribute attribute : resource.getAttributes()) {
+                if (attributeKey.equals(attribute.getKey())) {
+                    attributes.add(attribute);
+                    break;
+                }
+            }
+        }
+        return attributes;
+    }
+
     /**
      * Update {@link Attribute} by Id.
      *
@@ -239,6 +271,35 @@ public interface ConfigurationDAO {
     InputStream getFileById(String resourceType, String resourceName, String fileId) throws
             ConfigurationManagementException;
 
+    /**
+     * Get a range of the file.
+     *
+     * @param resourceType resource type name.
+     * @param resourceName resource name.
+     * @param fileId       Id of the file.
+     * @param offset       Position of the first byte of the range.
+     * @param length       Maximum number of bytes in the range.
+     * @return {@link InputStream} for the given range of the file.
+     */
+    default InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        List<Attribute> attributes = new ArrayList<>();
+        Resource resource = getResourceByName(tenantId, resourceTypeId, resourceName);
+        if (resource == null || resource.getAttributes() == null) {
+            return attributes;
+        }
+        for (String attributeKey : attributeKeys) {
+            for (Attribute attribute : resource.getAttributes()) {
+                if (attributeKey.equals(attribute.getKey())) {
+                    attributes.add(attribute);
+                    break;
+                }
+            }
+        }
+        return attributes;
+    }
+
     /**
      * Get files for the {@link Resource}.
      *
@@ -259,7 +320,20 @@ public interface ConfigurationDAO {
      */
     default List<ResourceFile> getFilesByResourceType(String resourceTypeId) throws ConfigurationManagementException {
 
-        throw new ConfigurationManagementException("This method is not implemented", null);
+        List<Attribute> attributes = new ArrayList<>();
+        Resource resource = getResourceByName(tenantId, resourceTypeId, resourceName);
+        if (resource == null || resource.getAttributes() == null) {
+            return attributes;
+        }
+        for (String attributeKey : attributeKeys) {
+            for (Attribute attribute : resource.getAttributes()) {
+                if (attributeKey.equals(attribute.getKey())) {
+                    attributes.add(attribute);
+                    break;
+                }
+            }
+        }
+        return attributes;
     }
 
     /**
@@ -272,7 +346,20 @@ public interface ConfigurationDAO {
     default List<ResourceFile> getFilesByResourceType(String resourceTypeId, int tenantId)
             throws ConfigurationManagementException {
 
-        throw new ConfigurationManagementException("This method is not implemented", null);
+        List<Attribute> attributes = new ArrayList<>();
+        Resource resource = getResourceByName(tenantId, resourceTypeId, resourceName);
+        if (resource == null || resource.getAttributes() == null) {
+            return attributes;
+        }
+        for (String attributeKey : attributeKeys) {
+            for (Attribute attribute : resource.getAttributes()) {
+                if (attributeKey.equals(attribute.getKey())) {
+                    attributes.add(attribute);
+                    break;
+                }
+            }
+        }
+        return attributes;
     }
     /**
      * Delete the file.
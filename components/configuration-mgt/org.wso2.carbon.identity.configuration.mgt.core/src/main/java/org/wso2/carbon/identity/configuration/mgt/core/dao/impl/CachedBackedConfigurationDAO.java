@@ -19,11 +19,22 @@ package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.AttributesVersionCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.AttributesVersionCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.AttributesVersionCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceAttributesCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceAttributesCacheEntry;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceAttributesCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCacheKey;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCacheKey;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeCacheEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants;
 import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -39,6 +50,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * This is a wrapper data access object to the default data access object to provide caching functionalities.
@@ -49,12 +61,20 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     private final ConfigurationDAO configurationDAO;
     private final ResourceByIdCache resourceByIdCache;
     private final ResourceByNameCache resourceByNameCache;
+    private final ResourceTypeByIdCache resourceTypeByIdCache;
+    private final ResourceTypeByNameCache resourceTypeByNameCache;
+    private final ResourceAttributesCache resourceAttributesCache;
+    private final AttributesVersionCache attributesVersionCache;
 
     public CachedBackedConfigurationDAO(ConfigurationDAO configurationDAO) {
     
         this.configurationDAO = configurationDAO;
         this.resourceByIdCache = ResourceByIdCache.getInstance();
         this.resourceByNameCache = ResourceByNameCache.getInstance();
+        this.resourceTypeByIdCache = ResourceTypeByIdCache.getInstance();
+        this.resourceTypeByNameCache = ResourceTypeByNameCache.getInstance();
+        this.resourceAttributesCache = ResourceAttributesCache.getInstance();
+        this.attributesVersionCache = AttributesVersionCache.getInstance();
     }
 
     @Override
@@ -125,6 +145,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.deleteResourceById(tenantId, resourceId);
         deleteCacheByResourceId(resourceId, tenantId);
+        invalidateAttributesOfTenant(getTenantDomain(tenantId));
     }
 
     @Override
@@ -132,6 +153,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.replaceResourceWithFiles(resource);
         deleteResourceFromCache(resource);
+        invalidateAttributesOfTenant(resource);
     }
 
     @Override
@@ -140,6 +162,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.deleteResourceByName(tenantId, resourceTypeId, name);
         deleteCacheByResourceByName(name, tenantId);
+        invalidateAttributesOfTenant(getTenantDomain(tenantId));
     }
 
     @Override
@@ -147,6 +170,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.addResource(resource);
         addResourceToCache(resource);
+        invalidateAttributesOfTenant(resource);
     }
 
     @Override
@@ -154,6 +178,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
 
         configurationDAO.replaceResource(resource);
         deleteResourceFromCache(resource);
+        invalidateAttributesOfTenant(resource);
     }
 
     @Override
@@ -165,25 +190,57 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
     @Override
     public void replaceResourceType(ResourceType resourceType) throws ConfigurationManagementException {
 
+        // Clear the entry cached by the name first, as it may hold a different id than the new resource type.
+        deleteResourceTypeFromCache(getResourceTypeFromCacheByName(resourceType.getName()));
         configurationDAO.replaceResourceType(resourceType);
+        deleteResourceTypeFromCache(resourceType);
     }
 
     @Override
     public ResourceType getResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeByName(resourceTypeName);
+        ResourceType resourceType = getResourceTypeFromCacheByName(resourceTypeName);
+        if (resourceType != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's name. Resource type name: " + resourceTypeName);
+            }
+            return resourceType;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's name. Resource type name: " + resourceTypeName);
+        }
+        resourceType = configurationDAO.getResourceTypeByName(resourceTypeName);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public ResourceType getResourceTypeById(String resourceTypeId) throws ConfigurationManagementException {
 
-        return configurationDAO.getResourceTypeById(resourceTypeId);
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByIdCache.getValueFromCache(new ResourceTypeByIdCacheKey(resourceTypeId));
+        if (resourceTypeCacheEntry != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Cache hit for resource type by it's id. Resource type id: " + resourceTypeId);
+            }
+            return resourceTypeCacheEntry.getResourceType();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Cache miss for resource type by it's id. Resource type id: " + resourceTypeId);
+        }
+        ResourceType resourceType = configurationDAO.getResourceTypeById(resourceTypeId);
+        addResourceTypeToCache(resourceType);
+        return resourceType;
     }
 
     @Override
     public void deleteResourceTypeByName(String resourceTypeName) throws ConfigurationManagementException {
 
+        ResourceType resourceType = getResourceTypeByName(resourceTypeName);
         configurationDAO.deleteResourceTypeByName(resourceTypeName);
+        deleteResourceTypeFromCache(resourceType);
+        // Resources of the type are deleted in all the tenants.
+        attributesVersionCache.clear();
     }
 
     @Override
@@ -192,11 +249,47 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getAttributeByKey(resourceId, attributeKey);
     }
 
+    @Override
+    public List<Attribute> getAttributesByKeys(int tenantId, String resourceTypeId, String resourceName,
+                                               List<String> attributeKeys) throws ConfigurationManagementException {
+
+        String tenantDomain = getTenantDomain(tenantId);
+        // The version is read before the database, so that attributes read before a concurrent update are cached
+        // against the version invalidated by that update.
+        String version = getAttributesVersion(tenantDomain);
+        ResourceAttributesCacheKey cacheKey = new ResourceAttributesCacheKey(resourceTypeId, resourceName,
+                tenantDomain);
+        ResourceAttributesCacheEntry cacheEntry = resourceAttributesCache.getValueFromCache(cacheKey);
+        if (cacheEntry != null && !version.equals(cacheEntry.getVersion())) {
+            cacheEntry = null;
+        }
+        if (cacheEntry != null && cacheEntry.containsKeys(attributeKeys)) {
+            if (log.isDebugEnabled()) {
+                String message = String.format("Cache hit for attributes of resource. Resource name: %s, Tenant " +
+                        "domain: %s, Resource type id: %s", resourceName, tenantDomain, resourceTypeId);
+                log.debug(message);
+            }
+            return cacheEntry.getAttributes(attributeKeys);
+        }
+        if (log.isDebugEnabled()) {
+            String message = String.format("Cache miss for attributes of resource. Resource name: %s, Tenant " +
+                    "domain: %s, Resource type id: %s", resourceName, tenantDomain, resourceTypeId);
+            log.debug(message);
+        }
+        List<Attribute> attributes = configurationDAO.getAttributesByKeys(tenantId, resourceTypeId, resourceName,
+                attributeKeys);
+        cacheEntry = cacheEntry == null ? new ResourceAttributesCacheEntry(version, attributeKeys, attributes)
+                : cacheEntry.merge(attributeKeys, attributes);
+        resourceAttributesCache.addToCache(cacheKey, cacheEntry);
+        return cacheEntry.getAttributes(attributeKeys);
+    }
+
     @Override
     public void updateAttribute(String attributeId, String resourceId, Attribute attribute)
             throws ConfigurationManagementException {
 
         configurationDAO.updateAttribute(attributeId, resourceId, attribute);
+        invalidateAttributesOfTenant(getThreadLocalTenantDomain());
     }
 
     @Override
@@ -204,6 +297,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.addAttribute(attributeId, resourceId, attribute);
+        invalidateAttributesOfTenant(getThreadLocalTenantDomain());
     }
 
     @Override
@@ -211,6 +305,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.replaceAttribute(attributeId, resourceId, attribute);
+        invalidateAttributesOfTenant(getThreadLocalTenantDomain());
     }
 
     @Override
@@ -218,6 +313,7 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
             throws ConfigurationManagementException {
 
         configurationDAO.deleteAttribute(attributeId, resourceId, attributeKey);
+        invalidateAttributesOfTenant(getThreadLocalTenantDomain());
     }
 
     @Override
@@ -234,6 +330,13 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         return configurationDAO.getFileById(resourceType, resourceName, fileId);
     }
 
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        return configurationDAO.getFileById(resourceType, resourceName, fileId, offset, length);
+    }
+
     @Override
     public List<ResourceFile> getFiles(String resourceId, String resourceTypeName, String resourceName)
             throws ConfigurationManagementException {
@@ -389,4 +492,89 @@ public class CachedBackedConfigurationDAO implements ConfigurationDAO {
         }
         deleteResourceFromCache(resource);
     }
+
+    private ResourceType getResourceTypeFromCacheByName(String resourceTypeName) {
+
+        ResourceTypeCacheEntry resourceTypeCacheEntry =
+                resourceTypeByNameCache.getValueFromCache(new ResourceTypeByNameCacheKey(resourceTypeName));
+        return resourceTypeCacheEntry == null ? null : resourceTypeCacheEntry.getResourceType();
+    }
+
+    private void addResourceTypeToCache(ResourceType resourceType) {
+
+        if (resourceType == null) {
+            return;
+        }
+        ResourceTypeCacheEntry resourceTypeCacheEntry = new ResourceTypeCacheEntry(resourceType);
+        if (log.isDebugEnabled()) {
+            String message = String.format("Following two cache entries created. 1. Resource type by name cache " +
+                    "%s, 2. Resource type by id cache %s.", resourceType.getName(), resourceType.getId());
+            log.debug(message);
+        }
+        resourceTypeByIdCache.addToCache(new ResourceTypeByIdCacheKey(resourceType.getId()), resourceTypeCacheEntry);
+        resourceTypeByNameCache.addToCache(new ResourceTypeByNameCacheKey(resourceType.getName()),
+                resourceTypeCacheEntry);
+    }
+
+    private void deleteResourceTypeFromCache(ResourceType resourceType) {
+
+        if (resourceType == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            String message = String.format("Following two cache entries deleted. 1. Resource type by name cache " +
+                    "%s, 2. Resource type by id cache %s.", resourceType.getName(), resourceType.getId());
+            log.debug(message);
+        }
+        if (resourceType.getId() != null) {
+            resourceTypeByIdCache.clearCacheEntry(new ResourceTypeByIdCacheKey(resourceType.getId()));
+        }
+        if (resourceType.getName() != null) {
+            resourceTypeByNameCache.clearCacheEntry(new ResourceTypeByNameCacheKey(resourceType.getName()));
+        }
+    }
+
+    private String getAttributesVersion(String tenantDomain) {
+
+        AttributesVersionCacheKey cacheKey = new AttributesVersionCacheKey(tenantDomain);
+        AttributesVersionCacheEntry cacheEntry = attributesVersionCache.getValueFromCache(cacheKey);
+        if (cacheEntry == null) {
+            cacheEntry = new AttributesVersionCacheEntry(UUID.randomUUID().toString());
+            attributesVersionCache.addToCache(cacheKey, cacheEntry);
+        }
+        return cacheEntry.getVersion();
+    }
+
+    private void invalidateAttributesOfTenant(Resource resource) {
+
+        if (resource == null) {
+            return;
+        }
+        invalidateAttributesOfTenant(resource.getTenantDomain() != null ? resource.getTenantDomain()
+                : getThreadLocalTenantDomain());
+    }
+
+    private void invalidateAttributesOfTenant(String tenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidating the cached resource attributes of the tenant: " + tenantDomain);
+        }
+        attributesVersionCache.clearCacheEntry(new AttributesVersionCacheKey(tenantDomain));
+    }
+
+    private String getThreadLocalTenantDomain() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+    }
+
+    private String getTenantDomain(int tenantId) throws ConfigurationManagementException {
+
+        try {
+            return ConfigurationManagerComponentDataHolder.getInstance().getRealmService().getTenantManager()
+                    .getDomain(tenantId);
+        } catch (UserStoreException e) {
+            throw new ConfigurationManagementException("Error when setting tenant domain. ",
+                    ConfigurationConstants.ErrorMessages.ERROR_CODE_UNEXPECTED.getCode(), e);
+        }
+    }
 }
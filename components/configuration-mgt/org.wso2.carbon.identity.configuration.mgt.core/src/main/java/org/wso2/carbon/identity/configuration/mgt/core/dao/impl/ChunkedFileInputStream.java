@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream over a range of a file stored in fixed size chunks. Chunks are read lazily when the stream reaches
+ * them, hence only a single chunk of the file is held in the memory at a time.
+ */
+public class ChunkedFileInputStream extends InputStream {
+
+    private final ChunkReader chunkReader;
+    private final int chunkSize;
+    private final long end;
+    private long position;
+
+    private byte[] chunk;
+    private int chunkIndex = -1;
+
+    /**
+     * @param chunkReader Reads a chunk of the file by its index.
+     * @param chunkSize   Size of the chunks of the file, except the last one.
+     * @param offset      Position of the first byte of the range.
+     * @param end         Position after the last byte of the range.
+     */
+    public ChunkedFileInputStream(ChunkReader chunkReader, int chunkSize, long offset, long end) {
+
+        this.chunkReader = chunkReader;
+        this.chunkSize = chunkSize;
+        this.position = offset;
+        this.end = end;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        if (position >= end || !loadChunk()) {
+            return -1;
+        }
+        return chunk[(int) (position++ % chunkSize)] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= end || !loadChunk()) {
+            return -1;
+        }
+        int chunkOffset = (int) (position % chunkSize);
+        int count = (int) Math.min(Math.min(length, chunk.length - chunkOffset), end - position);
+        System.arraycopy(chunk, chunkOffset, buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long count) {
+
+        if (count <= 0) {
+            return 0;
+        }
+        long skipped = Math.min(count, end - position);
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+
+        if (chunk == null || position / chunkSize != chunkIndex) {
+            return 0;
+        }
+        return (int) Math.min(chunk.length - position % chunkSize, end - position);
+    }
+
+    private boolean loadChunk() throws IOException {
+
+        int index = (int) (position / chunkSize);
+        if (index != chunkIndex) {
+            chunk = chunkReader.readChunk(index);
+            if (chunk == null) {
+                throw new IOException("Chunk: " + index + " of the file does not exist.");
+            }
+            chunkIndex = index;
+        }
+        return position % chunkSize < chunk.length;
+    }
+
+    /**
+     * Reads a single chunk of a file.
+     */
+    @FunctionalInterface
+    public interface ChunkReader {
+
+        /**
+         * Read the chunk of the given index.
+         *
+         * @param chunkIndex Index of the chunk.
+         * @return Content of the chunk, or null if the chunk does not exist.
+         * @throws IOException If the chunk could not be read.
+         */
+        byte[] readChunk(int chunkIndex) throws IOException;
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.database.utils.jdbc.JdbcTemplate;
+import org.wso2.carbon.database.utils.jdbc.Template;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementServerException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.core.util.JdbcUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Blob;
+import java.util.List;
+
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .CHUNKED_FILE_STORAGE_CHUNK_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .CHUNKED_FILE_STORAGE_ENABLED;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .DB_SCHEMA_COLUMN_NAME_CHUNK_DATA;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .DB_SCHEMA_COLUMN_NAME_CHUNK_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .DB_SCHEMA_COLUMN_NAME_CONTENT_ID;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .DB_SCHEMA_COLUMN_NAME_CONTENT_LENGTH;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.DEFAULT_FILE_CHUNK_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants.ErrorMessages
+        .ERROR_CODE_INSERT_FILE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.DELETE_FILE_CHUNKS_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .DELETE_FILE_CONTENTS_BY_RESOURCE_ID_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.DELETE_FILE_CONTENT_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.DELETE_ORPHAN_FILE_CHUNKS_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_FILE_CHUNK_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_FILE_CONTENT_BY_FILE_ID_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.GET_FILE_CONTENT_BY_HASH_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_FILE_CONTENT_IDS_BY_RESOURCE_ID_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_FILE_CONTENT_IDS_BY_RESOURCE_TYPE_NAME_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants
+        .GET_FILE_CONTENT_ID_BY_FILE_ID_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.INSERT_FILE_CHUNK_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.INSERT_FILE_CONTENT_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.LOCK_FILE_CHUNKS_SQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.LOCK_FILE_CHUNKS_SQL_DB2;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.SQLConstants.LOCK_FILE_CHUNKS_SQL_MSSQL;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.generateUniqueID;
+import static org.wso2.carbon.identity.configuration.mgt.core.util.ConfigurationUtils.handleServerException;
+
+/**
+ * Stores the content of the resource files in fixed size chunks, in the IDN_CONFIG_FILE_CHUNK table, instead of a
+ * single value in the IDN_CONFIG_FILE table. The chunks are keyed by a generated content id, and the
+ * IDN_CONFIG_FILE_CONTENT table maps each file to its content id and the SHA-256 hash of its content, hence identical
+ * files of the same tenant share the same chunks.
+ * <p>
+ * The first chunk of a content is locked before a file is pointed to the content, and before the chunks of the
+ * content are deleted, so that the chunks are never deleted while being shared.
+ * <p>
+ * Files are written and read one chunk at a time, so that the whole file is never held in the memory.
+ */
+public class ChunkedFileStore {
+
+    private static final Log log = LogFactory.getLog(ChunkedFileStore.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Check whether new resource files are stored in chunks. Files already stored in chunks are read and deleted
+     * regardless of this.
+     *
+     * @return true if the chunked file storage is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_ENABLED));
+    }
+
+    /**
+     * Store the content of the given file in chunks. The chunks are written under a new content id while the hash of
+     * the content is calculated, and are then discarded in favour of the existing chunks of the same content in the
+     * tenant of the file, if any.
+     *
+     * @param template   Template of the transaction adding the file.
+     * @param fileId     Id of the file, which is already added without a value.
+     * @param fileStream Content of the file.
+     * @throws DataAccessException                   If an error occurs while writing the content.
+     * @throws ConfigurationManagementServerException If an error occurs while reading the file stream.
+     */
+    public void storeContent(Template<?> template, String fileId, InputStream fileStream)
+            throws DataAccessException, ConfigurationManagementServerException {
+
+        int chunkSize = getChunkSize();
+        String contentId = generateUniqueID();
+        boolean isPostgreSQL = JdbcUtils.isPostgreSQLDB();
+        MessageDigest digest = getMessageDigest(fileId);
+        byte[] buffer = new byte[chunkSize];
+        long contentLength = 0;
+        int chunkIndex = 0;
+        try {
+            int length;
+            while ((length = readChunk(fileStream, buffer)) > 0) {
+                digest.update(buffer, 0, length);
+                contentLength += length;
+                insertChunk(template, contentId, chunkIndex++, buffer, length, isPostgreSQL);
+            }
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_INSERT_FILE, fileId, e);
+        }
+
+        String contentHash = toHex(digest.digest());
+        FileContent fileContent = new FileContent(contentId, contentLength, chunkSize);
+        if (contentLength > 0) {
+            List<FileContent> existingContents = template.executeQuery(GET_FILE_CONTENT_BY_HASH_SQL,
+                    (resultSet, rowNumber) -> new FileContent(resultSet.getString(DB_SCHEMA_COLUMN_NAME_CONTENT_ID),
+                            fileContent.getContentLength(), resultSet.getInt(DB_SCHEMA_COLUMN_NAME_CHUNK_SIZE)),
+                    preparedStatement -> {
+                        preparedStatement.setString(1, contentHash);
+                        preparedStatement.setLong(2, fileContent.getContentLength());
+                        preparedStatement.setString(3, fileId);
+                    });
+            // The lock keeps the existing chunks from being deleted as orphans until this file refers to them.
+            for (FileContent existingContent : existingContents) {
+                if (lockChunks(template, existingContent.getContentId())) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Content of the file: " + fileId + " is already stored. Reusing the existing " +
+                                "chunks.");
+                    }
+                    template.executeUpdate(DELETE_FILE_CHUNKS_SQL, preparedStatement ->
+                            preparedStatement.setString(1, contentId));
+                    insertFileContent(template, fileId, contentHash, existingContent);
+                    return;
+                }
+            }
+        }
+        insertFileContent(template, fileId, contentHash, fileContent);
+    }
+
+    /**
+     * Get the chunked content of the given file.
+     *
+     * @param resourceType Name of the resource type.
+     * @param resourceName Name of the resource.
+     * @param fileId       Id of the file.
+     * @return Content of the file, or null if the file is not stored in chunks.
+     * @throws DataAccessException If an error occurs while reading the content.
+     */
+    public FileContent getFileContent(String resourceType, String resourceName, String fileId)
+            throws DataAccessException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        return jdbcTemplate.fetchSingleRecord(GET_FILE_CONTENT_BY_FILE_ID_SQL, (resultSet, rowNumber) ->
+                        new FileContent(resultSet.getString(DB_SCHEMA_COLUMN_NAME_CONTENT_ID),
+                                resultSet.getLong(DB_SCHEMA_COLUMN_NAME_CONTENT_LENGTH),
+                                resultSet.getInt(DB_SCHEMA_COLUMN_NAME_CHUNK_SIZE)),
+                preparedStatement -> {
+                    preparedStatement.setString(1, fileId);
+                    preparedStatement.setString(2, resourceName);
+                    preparedStatement.setString(3, resourceType);
+                });
+    }
+
+    /**
+     * Open a stream over the given range of a chunked file content. Chunks are read from the database only when the
+     * stream reaches them.
+     *
+     * @param fileContent Content of the file.
+     * @param offset      Position of the first byte of the range.
+     * @param length      Maximum number of bytes in the range.
+     * @return Stream of the range.
+     * @throws DataAccessException If an error occurs while checking the database type.
+     */
+    public InputStream openStream(FileContent fileContent, long offset, long length) throws DataAccessException {
+
+        boolean isPostgreSQL = JdbcUtils.isPostgreSQLDB();
+        long end = length > fileContent.getContentLength() - offset ? fileContent.getContentLength()
+                : offset + length;
+        return new ChunkedFileInputStream(chunkIndex -> readChunk(fileContent.getContentId(), chunkIndex,
+                isPostgreSQL), fileContent.getChunkSize(), Math.min(offset, end), end);
+    }
+
+    /**
+     * Remove the given file from its content. The chunks of the content are not removed.
+     *
+     * @param template Template of the transaction deleting the file.
+     * @param fileId   Id of the file.
+     * @return Id of the content of the file, or null if the file is not stored in chunks.
+     * @throws DataAccessException If an error occurs while deleting the file content.
+     */
+    public String deleteFileContent(Template<?> template, String fileId) throws DataAccessException {
+
+        String contentId = template.fetchSingleRecord(GET_FILE_CONTENT_ID_BY_FILE_ID_SQL,
+                (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_CONTENT_ID),
+                preparedStatement -> preparedStatement.setString(1, fileId));
+        template.executeUpdate(DELETE_FILE_CONTENT_SQL, preparedStatement -> preparedStatement.setString(1, fileId));
+        return contentId;
+    }
+
+    /**
+     * Remove the files of the given resource from their contents. The chunks of the contents are not removed.
+     *
+     * @param template   Template of the transaction deleting the files.
+     * @param resourceId Id of the resource.
+     * @return Ids of the contents of the files.
+     * @throws DataAccessException If an error occurs while deleting the file contents.
+     */
+    public List<String> deleteFileContentsOfResource(Template<?> template, String resourceId)
+            throws DataAccessException {
+
+        List<String> contentIds = getContentIdsOfResource(template, resourceId);
+        template.executeUpdate(DELETE_FILE_CONTENTS_BY_RESOURCE_ID_SQL, preparedStatement ->
+                preparedStatement.setString(1, resourceId));
+        return contentIds;
+    }
+
+    /**
+     * Get the ids of the contents of the files of the given resource.
+     *
+     * @param template   Template to read the ids with.
+     * @param resourceId Id of the resource.
+     * @return Ids of the contents of the files.
+     * @throws DataAccessException If an error occurs while reading the ids.
+     */
+    public List<String> getContentIdsOfResource(Template<?> template, String resourceId)
+            throws DataAccessException {
+
+        return template.executeQuery(GET_FILE_CONTENT_IDS_BY_RESOURCE_ID_SQL,
+                (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_CONTENT_ID),
+                preparedStatement -> preparedStatement.setString(1, resourceId));
+    }
+
+    /**
+     * Get the ids of the contents of the files of all the resources of the given resource type, in all the tenants.
+     *
+     * @param template         Template to read the ids with.
+     * @param resourceTypeName Name of the resource type.
+     * @return Ids of the contents of the files.
+     * @throws DataAccessException If an error occurs while reading the ids.
+     */
+    public List<String> getContentIdsOfResourceType(Template<?> template, String resourceTypeName)
+            throws DataAccessException {
+
+        return template.executeQuery(GET_FILE_CONTENT_IDS_BY_RESOURCE_TYPE_NAME_SQL,
+                (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_CONTENT_ID),
+                preparedStatement -> preparedStatement.setString(1, resourceTypeName));
+    }
+
+    /**
+     * Delete the chunks of the given contents, which are no longer referred by any file. Each content is locked
+     * before it is checked for references, hence a file being added with the same content in another transaction
+     * either keeps the chunks, or stores its own.
+     *
+     * @param template   Template of the transaction which deleted the files.
+     * @param contentIds Ids of the contents of the deleted files.
+     * @throws DataAccessException If an error occurs while deleting the chunks.
+     */
+    public void deleteOrphanChunks(Template<?> template, List<String> contentIds) throws DataAccessException {
+
+        for (String contentId : contentIds) {
+            if (StringUtils.isEmpty(contentId) || !lockChunks(template, contentId)) {
+                continue;
+            }
+            template.executeUpdate(DELETE_ORPHAN_FILE_CHUNKS_SQL, preparedStatement -> {
+                preparedStatement.setString(1, contentId);
+                preparedStatement.setString(2, contentId);
+            });
+        }
+    }
+
+    private void insertFileContent(Template<?> template, String fileId, String contentHash,
+                                   FileContent fileContent) throws DataAccessException {
+
+        template.executeUpdate(INSERT_FILE_CONTENT_SQL, preparedStatement -> {
+            preparedStatement.setString(1, fileId);
+            preparedStatement.setString(2, fileContent.getContentId());
+            preparedStatement.setString(3, contentHash);
+            preparedStatement.setLong(4, fileContent.getContentLength());
+            preparedStatement.setInt(5, fileContent.getChunkSize());
+        });
+    }
+
+    /**
+     * Lock the first chunk of the given content until the end of the transaction.
+     *
+     * @return false if the content has no chunks.
+     */
+    private boolean lockChunks(Template<?> template, String contentId) throws DataAccessException {
+
+        String sqlStmt = LOCK_FILE_CHUNKS_SQL;
+        if (JdbcUtils.isMSSqlDB()) {
+            sqlStmt = LOCK_FILE_CHUNKS_SQL_MSSQL;
+        } else if (JdbcUtils.isDB2DB()) {
+            sqlStmt = LOCK_FILE_CHUNKS_SQL_DB2;
+        }
+        Integer chunkIndex = template.fetchSingleRecord(sqlStmt, (resultSet, rowNumber) -> resultSet.getInt(1),
+                preparedStatement -> preparedStatement.setString(1, contentId));
+        return chunkIndex != null;
+    }
+
+    private byte[] readChunk(String contentId, int chunkIndex, boolean isPostgreSQL) throws IOException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.fetchSingleRecord(GET_FILE_CHUNK_SQL, (resultSet, rowNumber) -> {
+                if (isPostgreSQL) {
+                    return resultSet.getBytes(DB_SCHEMA_COLUMN_NAME_CHUNK_DATA);
+                }
+                Blob chunkBlob = resultSet.getBlob(DB_SCHEMA_COLUMN_NAME_CHUNK_DATA);
+                return chunkBlob != null ? chunkBlob.getBytes(1, (int) chunkBlob.length()) : null;
+            }, preparedStatement -> {
+                preparedStatement.setString(1, contentId);
+                preparedStatement.setInt(2, chunkIndex);
+            });
+        } catch (DataAccessException e) {
+            throw new IOException("Error while reading the chunk: " + chunkIndex + " of the file content: "
+                    + contentId, e);
+        }
+    }
+
+    private void insertChunk(Template<?> template, String contentId, int chunkIndex, byte[] buffer, int length,
+                             boolean isPostgreSQL) throws DataAccessException {
+
+        template.executeUpdate(INSERT_FILE_CHUNK_SQL, preparedStatement -> {
+            preparedStatement.setString(1, contentId);
+            preparedStatement.setInt(2, chunkIndex);
+            if (isPostgreSQL) {
+                preparedStatement.setBinaryStream(3, new ByteArrayInputStream(buffer, 0, length), length);
+            } else {
+                preparedStatement.setBlob(3, new ByteArrayInputStream(buffer, 0, length), length);
+            }
+        });
+    }
+
+    /**
+     * Read from the given stream until the buffer is full or the stream ends.
+     */
+    private static int readChunk(InputStream fileStream, byte[] buffer) throws IOException {
+
+        int length = 0;
+        int count;
+        while (length < buffer.length && (count = fileStream.read(buffer, length, buffer.length - length)) != -1) {
+            length += count;
+        }
+        return length;
+    }
+
+    private static int getChunkSize() {
+
+        String chunkSize = IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_CHUNK_SIZE);
+        if (StringUtils.isNotBlank(chunkSize)) {
+            try {
+                int size = Integer.parseInt(chunkSize.trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid file chunk size: " + chunkSize + " configured. Using the default chunk size: "
+                        + DEFAULT_FILE_CHUNK_SIZE);
+            }
+        }
+        return DEFAULT_FILE_CHUNK_SIZE;
+    }
+
+    private static MessageDigest getMessageDigest(String fileId) throws ConfigurationManagementServerException {
+
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw handleServerException(ERROR_CODE_INSERT_FILE, fileId, e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Content of a file stored in chunks.
+     */
+    public static class FileContent {
+
+        private final String contentId;
+        private final long contentLength;
+        private final int chunkSize;
+
+        public FileContent(String contentId, long contentLength, int chunkSize) {
+
+            this.contentId = contentId;
+            this.contentLength = contentLength;
+            this.chunkSize = chunkSize;
+        }
+
+        public String getContentId() {
+
+            return contentId;
+        }
+
+        public long getContentLength() {
+
+            return contentLength;
+        }
+
+        public int getChunkSize() {
+
+            return chunkSize;
+        }
+    }
+}
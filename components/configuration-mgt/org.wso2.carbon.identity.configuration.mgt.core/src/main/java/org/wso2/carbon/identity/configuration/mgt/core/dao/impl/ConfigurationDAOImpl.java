@@ -43,6 +43,8 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.identity.core.util.LambdaExceptionUtils;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Blob;
 import java.sql.PreparedStatement;
@@ -51,6 +53,7 @@ import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -233,6 +236,7 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
     private static final Log log = LogFactory.getLog(ConfigurationDAOImpl.class);
     private static final Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(UTC));
+    private final ChunkedFileStore chunkedFileStore = new ChunkedFileStore();
 
     /**
      * {@inheritDoc}
@@ -512,15 +516,21 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
         try {
+            String resourceId = getResourceId(tenantId, resourceTypeId, resourceName);
             if (isMySQLDB()) {
-                String resourceId = getResourceId(tenantId, resourceTypeId, resourceName);
                 deleteFiles(resourceId);
             }
-            jdbcTemplate.executeUpdate(SQLConstants.DELETE_RESOURCE_SQL, preparedStatement -> {
-                int initialParameterIndex = 1;
-                preparedStatement.setString(initialParameterIndex, resourceName);
-                preparedStatement.setInt(++initialParameterIndex, tenantId);
-                preparedStatement.setString(++initialParameterIndex, resourceTypeId);
+            jdbcTemplate.withTransaction(template -> {
+                // The file contents are removed by the cascade, hence the chunks are swept in the same transaction.
+                List<String> fileContentIds = chunkedFileStore.getContentIdsOfResource(template, resourceId);
+                template.executeUpdate(SQLConstants.DELETE_RESOURCE_SQL, preparedStatement -> {
+                    int initialParameterIndex = 1;
+                    preparedStatement.setString(initialParameterIndex, resourceName);
+                    preparedStatement.setInt(++initialParameterIndex, tenantId);
+                    preparedStatement.setString(++initialParameterIndex, resourceTypeId);
+                });
+                chunkedFileStore.deleteOrphanChunks(template, fileContentIds);
+                return null;
             });
         } catch (DataAccessException | TransactionException e) {
             throw handleServerException(ERROR_CODE_DELETE_RESOURCE_TYPE, resourceName, e);
@@ -538,12 +548,18 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
             if (isMySQLDB()) {
                 deleteFiles(resourceId);
             }
-            jdbcTemplate.executeUpdate(SQLConstants.DELETE_RESOURCE_BY_ID_SQL, preparedStatement -> {
-                int initialParameterIndex = 1;
-                preparedStatement.setString(initialParameterIndex, resourceId);
-                preparedStatement.setInt(++initialParameterIndex, tenantId);
+            jdbcTemplate.withTransaction(template -> {
+                // The file contents are removed by the cascade, hence the chunks are swept in the same transaction.
+                List<String> fileContentIds = chunkedFileStore.getContentIdsOfResource(template, resourceId);
+                template.executeUpdate(SQLConstants.DELETE_RESOURCE_BY_ID_SQL, preparedStatement -> {
+                    int initialParameterIndex = 1;
+                    preparedStatement.setString(initialParameterIndex, resourceId);
+                    preparedStatement.setInt(++initialParameterIndex, tenantId);
+                });
+                chunkedFileStore.deleteOrphanChunks(template, fileContentIds);
+                return null;
             });
-        } catch (DataAccessException e) {
+        } catch (DataAccessException | TransactionException e) {
             throw handleServerException(ERROR_CODE_DELETE_RESOURCE, resourceId, e);
         }
     }
@@ -619,12 +635,15 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
                 // Update Files.
                 if (isFileExists) {
+                    List<String> fileContentIds = chunkedFileStore.deleteFileContentsOfResource(template,
+                            resource.getResourceId());
                     template.executeUpdate(DELETE_FILES_SQL, (
                             preparedStatement -> preparedStatement.setString(1, resource.getResourceId())
                     ));
                     for (ResourceFile file : resource.getFiles()) {
                         insertResourceFile(template, resource, file.getId(), file.getName(), file.getInputStream());
                     }
+                    chunkedFileStore.deleteOrphanChunks(template, fileContentIds);
                 }
                 updateResourceMetadata(template, resource, isAttributeExists, isFileExists, currentTime);
                 if (useCreatedTimeField()) {
@@ -831,10 +850,17 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
         try {
-            jdbcTemplate.executeUpdate(selectDeleteResourceTypeQuery(null), (
-                    preparedStatement -> preparedStatement.setString(1, resourceTypeName)
-            ));
-        } catch (DataAccessException e) {
+            jdbcTemplate.withTransaction(template -> {
+                // The files of the resources of the type are deleted by cascade, while their chunks are not.
+                List<String> fileContentIds = chunkedFileStore.getContentIdsOfResourceType(template,
+                        resourceTypeName);
+                template.executeUpdate(selectDeleteResourceTypeQuery(null), (
+                        preparedStatement -> preparedStatement.setString(1, resourceTypeName)
+                ));
+                chunkedFileStore.deleteOrphanChunks(template, fileContentIds);
+                return null;
+            });
+        } catch (TransactionException e) {
             throw handleServerException(ERROR_CODE_DELETE_RESOURCE_TYPE, resourceTypeName, e);
         }
     }
@@ -988,6 +1014,44 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Attribute> getAttributesByKeys(int tenantId, String resourceTypeId, String resourceName,
+                                               List<String> attributeKeys) throws ConfigurationManagementException {
+
+        if (attributeKeys == null || attributeKeys.isEmpty()) {
+            return new ArrayList<>();
+        }
+        StringBuilder sqlBuilder = new StringBuilder(SQLConstants.GET_ATTRIBUTES_BY_KEYS_SQL);
+        for (int i = 0; i < attributeKeys.size(); i++) {
+            sqlBuilder.append(i == 0 ? "?" : ", ?");
+        }
+        sqlBuilder.append(")");
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        try {
+            return jdbcTemplate.executeQuery(sqlBuilder.toString(),
+                    (resultSet, rowNumber) -> new Attribute(
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_KEY),
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_ATTRIBUTE_VALUE),
+                            resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID)
+                    ),
+                    preparedStatement -> {
+                        int initialParameterIndex = 1;
+                        preparedStatement.setString(initialParameterIndex, resourceName);
+                        preparedStatement.setInt(++initialParameterIndex, tenantId);
+                        preparedStatement.setString(++initialParameterIndex, resourceTypeId);
+                        for (String attributeKey : attributeKeys) {
+                            preparedStatement.setString(++initialParameterIndex, attributeKey);
+                        }
+                    });
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_GET_ATTRIBUTE, String.join(", ", attributeKeys), e);
+        }
+    }
+
     private void updateMetadataForMYSQL(Resource resource, String resourceTypeId, boolean isAttributeExists,
                                         Timestamp currentTime, boolean useCreatedTime)
             throws TransactionException, ConfigurationManagementServerException {
@@ -1390,19 +1454,24 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         try {
             boolean isOracleOrMssql = isOracleDB() || isMSSqlDB();
             boolean isPostgreSQL = isPostgreSQLDB();
+            boolean isChunked = ChunkedFileStore.isEnabled();
             String sqlStmt = isH2DB() ? SQLConstants.INSERT_FILE_SQL_H2 : SQLConstants.INSERT_FILE_SQL;
 
             jdbcTemplate.withTransaction(template -> {
-                template.executeUpdate(sqlStmt, preparedStatement -> {
-                    preparedStatement.setString(1, fileId);
-                    if (isPostgreSQL) {
-                        preparedStatement.setBinaryStream(2, fileStream);
-                    } else {
-                        preparedStatement.setBlob(2, fileStream);
-                    }
-                    preparedStatement.setString(3, resourceId);
-                    preparedStatement.setString(4, fileName);
-                });
+                if (isChunked) {
+                    insertChunkedFile(template, resourceId, fileId, fileName, fileStream);
+                } else {
+                    template.executeUpdate(sqlStmt, preparedStatement -> {
+                        preparedStatement.setString(1, fileId);
+                        if (isPostgreSQL) {
+                            preparedStatement.setBinaryStream(2, fileStream);
+                        } else {
+                            preparedStatement.setBlob(2, fileStream);
+                        }
+                        preparedStatement.setString(3, resourceId);
+                        preparedStatement.setString(4, fileName);
+                    });
+                }
                 template.executeUpdate(SQLConstants.UPDATE_HAS_FILE_SQL, preparedStatement -> {
                     if (isOracleOrMssql) {
                         preparedStatement.setInt(1, 1);
@@ -1426,6 +1495,11 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
         try {
+            ChunkedFileStore.FileContent fileContent = chunkedFileStore.getFileContent(resourceType, resourceName,
+                    fileId);
+            if (fileContent != null) {
+                return chunkedFileStore.openStream(fileContent, 0, fileContent.getContentLength());
+            }
             if (isPostgreSQLDB()) {
                 return jdbcTemplate.fetchSingleRecord(getFileGetByIdSQL(), (resultSet, rowNumber) ->
                                 resultSet.getBinaryStream(DB_SCHEMA_COLUMN_NAME_VALUE), preparedStatement ->
@@ -1440,6 +1514,42 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getFileById(String resourceType, String resourceName, String fileId, long offset, long length)
+            throws ConfigurationManagementException {
+
+        try {
+            ChunkedFileStore.FileContent fileContent = chunkedFileStore.getFileContent(resourceType, resourceName,
+                    fileId);
+            if (fileContent != null) {
+                // Only the chunks of the requested range are read.
+                return chunkedFileStore.openStream(fileContent, offset, length);
+            }
+        } catch (DataAccessException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+        InputStream fileStream = getFileById(resourceType, resourceName, fileId);
+        if (fileStream == null) {
+            return null;
+        }
+        try {
+            long skipped = 0;
+            while (skipped < offset) {
+                long count = fileStream.skip(offset - skipped);
+                if (count <= 0) {
+                    break;
+                }
+                skipped += count;
+            }
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_GET_FILE, fileId, e);
+        }
+        return new BoundedInputStream(fileStream, length);
+    }
+
     @Override
     public void deleteFileById(String resourceType, String resourceName, String fileId) throws ConfigurationManagementException {
 
@@ -1458,9 +1568,13 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
                             preparedStatement.setString(2, resourceName);
                             preparedStatement.setString(3, resourceType);
                         });
+                String fileContentId = chunkedFileStore.deleteFileContent(template, fileId);
                 template.executeUpdate(DELETE_FILE_SQL, (
                         preparedStatement -> preparedStatement.setString(1, fileId)
                 ));
+                if (fileContentId != null) {
+                    chunkedFileStore.deleteOrphanChunks(template, Collections.singletonList(fileContentId));
+                }
 
                 List<String> availableFilesForTheResource = template.executeQuery(GET_FILES_BY_RESOURCE_ID_SQL,
                         ((resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_ID)),
@@ -1546,9 +1660,11 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
             boolean isOracleOrMssql = isOracleDB() || isMSSqlDB();
             jdbcTemplate.withTransaction(template -> {
 
+                List<String> fileContentIds = chunkedFileStore.deleteFileContentsOfResource(template, resourceId);
                 template.executeUpdate(DELETE_FILES_SQL, (
                         preparedStatement -> preparedStatement.setString(1, resourceId)
                 ));
+                chunkedFileStore.deleteOrphanChunks(template, fileContentIds);
 
                 template.executeUpdate(UPDATE_HAS_FILE_SQL, preparedStatement -> {
                     if (isOracleOrMssql) {
@@ -1658,6 +1774,10 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
             throws ConfigurationManagementServerException {
 
         try {
+            if (ChunkedFileStore.isEnabled()) {
+                insertChunkedFile(template, resource.getResourceId(), fileId, fileName, fileStream);
+                return;
+            }
             boolean isPostgreSQL = isPostgreSQLDB();
             String sqlStmt = isH2DB() ? SQLConstants.INSERT_FILE_SQL_H2 : SQLConstants.INSERT_FILE_SQL;
 
@@ -1676,6 +1796,18 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
         }
     }
 
+    private void insertChunkedFile(Template<?> template, String resourceId, String fileId, String fileName,
+                                   InputStream fileStream)
+            throws DataAccessException, ConfigurationManagementServerException {
+
+        template.executeUpdate(SQLConstants.INSERT_FILE_WITHOUT_VALUE_SQL, preparedStatement -> {
+            preparedStatement.setString(1, fileId);
+            preparedStatement.setString(2, resourceId);
+            preparedStatement.setString(3, fileName);
+        });
+        chunkedFileStore.storeContent(template, fileId, fileStream);
+    }
+
     private void setPreparedStatementForFileGetById(String resourceType, String resourceName, String fileId,
                                                     PreparedStatement preparedStatement) throws SQLException {
 
@@ -1688,4 +1820,64 @@ public class ConfigurationDAOImpl implements ConfigurationDAO {
 
         return isH2DB() ? SQLConstants.GET_FILE_BY_ID_SQL_H2 : SQLConstants.GET_FILE_BY_ID_SQL;
     }
+
+    /**
+     * Input stream which ends after the given number of bytes of the underlying stream.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        BoundedInputStream(InputStream inputStream, long length) {
+
+            super(inputStream);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+
+            if (remaining <= 0) {
+                return -1;
+            }
+            int value = super.read();
+            if (value != -1) {
+                remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (count > 0) {
+                remaining -= count;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+
+            long skipped = super.skip(Math.min(count, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+
+            return false;
+        }
+    }
 }
@@ -50,6 +50,7 @@ import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Paths;
 import java.sql.Connection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import javax.sql.DataSource;
@@ -66,7 +67,12 @@ import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
 import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .CHUNKED_FILE_STORAGE_CHUNK_SIZE;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.ConfigurationConstants
+        .CHUNKED_FILE_STORAGE_ENABLED;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.TestConstants.SAMPLE_ATTRIBUTE_NAME1;
+import static org.wso2.carbon.identity.configuration.mgt.core.constant.TestConstants.SAMPLE_ATTRIBUTE_NAME3;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.TestConstants.SAMPLE_ATTRIBUTE_VALUE3_UPDATED;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.TestConstants.SAMPLE_RESOURCE_NAME1;
 import static org.wso2.carbon.identity.configuration.mgt.core.constant.TestConstants.SAMPLE_RESOURCE_TYPE_NAME1;
@@ -385,6 +391,21 @@ public class ConfigurationManagerTest extends PowerMockTestCase {
                 retrievedAttribute.getKey());
     }
 
+    @Test(priority = 23)
+    public void testGetAttributesByKeys() throws Exception {
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        List<Attribute> retrievedAttributes = configurationManager.getAttributes(resourceType.getName(),
+                resource.getResourceName(), Arrays.asList(SAMPLE_ATTRIBUTE_NAME1, SAMPLE_ATTRIBUTE_NAME3));
+
+        assertEquals("Only the existing requested attributes should be retrieved", 1,
+                retrievedAttributes.size());
+        assertEquals("Retrieved key should be equal to the requested key", SAMPLE_ATTRIBUTE_NAME1,
+                retrievedAttributes.get(0).getKey());
+        assertNotNull("Retrieved attribute id cannot be null", retrievedAttributes.get(0).getAttributeId());
+    }
+
     @Test(priority = 24, expectedExceptions = ConfigurationManagementClientException.class)
     public void testDeleteNonExistingAttribute() throws Exception {
 
@@ -545,6 +566,97 @@ public class ConfigurationManagerTest extends PowerMockTestCase {
         );
     }
 
+    @Test(priority = 30)
+    public void testChunkedFileStorage() throws Exception {
+
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_ENABLED)).thenReturn("true");
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_CHUNK_SIZE)).thenReturn("4");
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+
+        File sampleResourceFile = new File(getSamplesPath("sample-resource-file.txt"));
+        String fileContent = FileUtils.readFileToString(sampleResourceFile);
+
+        // Both files have the same content, hence they share the same chunks.
+        ResourceFile resourceFile = configurationManager.addFile(resourceType.getName(),
+                resource.getResourceName(), "sample-resource-file", FileUtils.openInputStream(sampleResourceFile));
+        ResourceFile duplicateResourceFile = configurationManager.addFile(resourceType.getName(),
+                resource.getResourceName(), "sample-resource-file", FileUtils.openInputStream(sampleResourceFile));
+
+        InputStream retrievedFileStream = configurationManager.getFileById(resourceType.getName(),
+                resource.getResourceName(), resourceFile.getId());
+        Assert.assertEquals("Stored file and retrieved file should be the same",
+                fileContent, TestUtils.convert(retrievedFileStream));
+
+        InputStream retrievedRangeStream = configurationManager.getFileById(resourceType.getName(),
+                resource.getResourceName(), duplicateResourceFile.getId(), 3, 6);
+        Assert.assertEquals("Retrieved range should match the stored file",
+                fileContent.substring(3, 9), TestUtils.convert(retrievedRangeStream));
+
+        // Chunks of the deleted file should be retained as they are still used by the duplicate file.
+        configurationManager.deleteFileById(resourceType.getName(), resource.getResourceName(),
+                resourceFile.getId());
+        retrievedFileStream = configurationManager.getFileById(resourceType.getName(),
+                resource.getResourceName(), duplicateResourceFile.getId());
+        Assert.assertEquals("Stored file and retrieved file should be the same",
+                fileContent, TestUtils.convert(retrievedFileStream));
+
+        // Files stored in chunks should still be readable once the chunked file storage is disabled.
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_ENABLED)).thenReturn("false");
+        retrievedFileStream = configurationManager.getFileById(resourceType.getName(),
+                resource.getResourceName(), duplicateResourceFile.getId());
+        Assert.assertEquals("Stored file and retrieved file should be the same",
+                fileContent, TestUtils.convert(retrievedFileStream));
+
+        configurationManager.deleteFiles(resourceType.getName(), resource.getResourceName());
+        Assert.assertFalse(
+                "Resource should not contain any files.",
+                configurationManager.getResource(resourceType.getName(), resource.getResourceName()).isHasFile()
+        );
+    }
+
+    @Test(priority = 30)
+    public void testChunksAreDeletedWithResourceType() throws Exception {
+
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_ENABLED)).thenReturn("true");
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_CHUNK_SIZE)).thenReturn("4");
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        configurationManager.addFile(resourceType.getName(), resource.getResourceName(), "sample-resource-file",
+                FileUtils.openInputStream(new File(getSamplesPath("sample-resource-file.txt"))));
+        assertTrue("File should be stored in chunks", countRows("IDN_CONFIG_FILE_CHUNK") > 0);
+
+        configurationManager.deleteResourceType(resourceType.getName());
+        assertEquals("Chunks of the files of the deleted resource type should be deleted", 0,
+                countRows("IDN_CONFIG_FILE_CHUNK"));
+    }
+
+    @Test(priority = 30)
+    public void testChunksAreNotSharedAcrossTenants() throws Exception {
+
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_ENABLED)).thenReturn("true");
+        when(IdentityUtil.getProperty(CHUNKED_FILE_STORAGE_CHUNK_SIZE)).thenReturn("4");
+        File sampleResourceFile = new File(getSamplesPath("sample-resource-file.txt"));
+
+        ResourceType resourceType = configurationManager.addResourceType(getSampleResourceTypeAdd());
+        Resource resource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        configurationManager.addFile(resourceType.getName(), resource.getResourceName(), "sample-resource-file",
+                FileUtils.openInputStream(sampleResourceFile));
+        configurationManager.addFile(resourceType.getName(), resource.getResourceName(), "sample-resource-file",
+                FileUtils.openInputStream(sampleResourceFile));
+        assertEquals("Identical files of a tenant should share the same chunks", 1,
+                countRows("(SELECT DISTINCT CONTENT_ID FROM IDN_CONFIG_FILE_CONTENT) CONTENTS"));
+
+        mockCarbonContextForTenant(SAMPLE_TENANT_ID_ABC, SAMPLE_TENANT_DOMAIN_ABC);
+        Resource tenantResource = configurationManager.addResource(resourceType.getName(), getSampleResource1Add());
+        configurationManager.addFile(resourceType.getName(), tenantResource.getResourceName(),
+                "sample-resource-file", FileUtils.openInputStream(sampleResourceFile));
+        assertEquals("Identical files of different tenants should not share the same chunks", 2,
+                countRows("(SELECT DISTINCT CONTENT_ID FROM IDN_CONFIG_FILE_CONTENT) CONTENTS"));
+    }
+
     @Test(priority = 31)
     public void testGetResourcesByType() throws Exception {
 
@@ -579,6 +691,14 @@ public class ConfigurationManagerTest extends PowerMockTestCase {
         assertTrue(isTenantSearchConditionMatch(resources));
     }
 
+    private int countRows(String table) throws DataAccessException {
+
+        JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
+        return jdbcTemplate.fetchSingleRecord("SELECT COUNT(*) FROM " + table,
+                (resultSet, rowNumber) -> resultSet.getInt(1), preparedStatement -> {
+                });
+    }
+
     private void removeCreatedTimeColumn() throws DataAccessException {
 
         JdbcTemplate jdbcTemplate = JdbcUtils.getNewTemplate();
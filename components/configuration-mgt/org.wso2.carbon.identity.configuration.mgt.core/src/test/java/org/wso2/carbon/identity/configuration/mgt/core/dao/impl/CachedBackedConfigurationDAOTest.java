@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.configuration.mgt.core.dao.impl;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.AttributesVersionCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceAttributesCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByIdCache;
+import org.wso2.carbon.identity.configuration.mgt.core.cache.ResourceTypeByNameCache;
+import org.wso2.carbon.identity.configuration.mgt.core.dao.ConfigurationDAO;
+import org.wso2.carbon.identity.configuration.mgt.core.internal.ConfigurationManagerComponentDataHolder;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.base.MultitenantConstants.SUPER_TENANT_ID;
+
+/**
+ * Test class for the caches of CachedBackedConfigurationDAO.
+ */
+@PrepareForTest({PrivilegedCarbonContext.class, ResourceByIdCache.class, ResourceByNameCache.class,
+        ResourceTypeByIdCache.class, ResourceTypeByNameCache.class, ResourceAttributesCache.class,
+        AttributesVersionCache.class})
+public class CachedBackedConfigurationDAOTest extends PowerMockTestCase {
+
+    private static final String RESOURCE_TYPE_NAME = "sample-resource-type";
+    private static final String RESOURCE_TYPE_ID = "9cbb7a65-1cbf-4b4d-9bb4-6ac8a38e0b2a";
+    private static final String RESOURCE_NAME = "sample-resource";
+
+    private ConfigurationDAO configurationDAO;
+    private CachedBackedConfigurationDAO cachedBackedConfigurationDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        ResourceByIdCache resourceByIdCache = mockCache(ResourceByIdCache.class);
+        mockStatic(ResourceByIdCache.class);
+        when(ResourceByIdCache.getInstance()).thenReturn(resourceByIdCache);
+        ResourceByNameCache resourceByNameCache = mockCache(ResourceByNameCache.class);
+        mockStatic(ResourceByNameCache.class);
+        when(ResourceByNameCache.getInstance()).thenReturn(resourceByNameCache);
+        ResourceTypeByIdCache resourceTypeByIdCache = mockCache(ResourceTypeByIdCache.class);
+        mockStatic(ResourceTypeByIdCache.class);
+        when(ResourceTypeByIdCache.getInstance()).thenReturn(resourceTypeByIdCache);
+        ResourceTypeByNameCache resourceTypeByNameCache = mockCache(ResourceTypeByNameCache.class);
+        mockStatic(ResourceTypeByNameCache.class);
+        when(ResourceTypeByNameCache.getInstance()).thenReturn(resourceTypeByNameCache);
+        ResourceAttributesCache resourceAttributesCache = mockCache(ResourceAttributesCache.class);
+        mockStatic(ResourceAttributesCache.class);
+        when(ResourceAttributesCache.getInstance()).thenReturn(resourceAttributesCache);
+        AttributesVersionCache attributesVersionCache = mockCache(AttributesVersionCache.class);
+        mockStatic(AttributesVersionCache.class);
+        when(AttributesVersionCache.getInstance()).thenReturn(attributesVersionCache);
+
+        mockStatic(PrivilegedCarbonContext.class);
+        PrivilegedCarbonContext privilegedCarbonContext = mock(PrivilegedCarbonContext.class);
+        when(PrivilegedCarbonContext.getThreadLocalCarbonContext()).thenReturn(privilegedCarbonContext);
+        when(privilegedCarbonContext.getTenantDomain()).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+
+        RealmService realmService = mock(RealmService.class);
+        TenantManager tenantManager = mock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(tenantManager.getDomain(SUPER_TENANT_ID)).thenReturn(SUPER_TENANT_DOMAIN_NAME);
+        ConfigurationManagerComponentDataHolder.getInstance().setRealmService(realmService);
+
+        configurationDAO = mock(ConfigurationDAO.class);
+        cachedBackedConfigurationDAO = new CachedBackedConfigurationDAO(configurationDAO);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        ConfigurationManagerComponentDataHolder.getInstance().setRealmService(null);
+    }
+
+    @Test
+    public void testResourceTypeIsCachedByNameAndId() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getSampleResourceType());
+
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+        ResourceType resourceTypeByName = cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+        ResourceType resourceTypeById = cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID);
+
+        Assert.assertEquals(resourceTypeByName.getId(), RESOURCE_TYPE_ID);
+        Assert.assertEquals(resourceTypeById.getName(), RESOURCE_TYPE_NAME);
+        verify(configurationDAO, times(1)).getResourceTypeByName(RESOURCE_TYPE_NAME);
+        verify(configurationDAO, never()).getResourceTypeById(anyString());
+    }
+
+    @Test
+    public void testCachedResourceTypeCannotBeModified() throws Exception {
+
+        when(configurationDAO.getResourceTypeById(RESOURCE_TYPE_ID)).thenReturn(getSampleResourceType());
+
+        cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID).setDescription("modified");
+
+        Assert.assertEquals(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID).getDescription(),
+                "description");
+    }
+
+    @Test
+    public void testReplaceResourceTypeClearsCachedResourceType() throws Exception {
+
+        String newResourceTypeId = "0b0b2c3f-5d34-4f0e-8c4e-2f6e1f8f4a11";
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getSampleResourceType(),
+                new ResourceType(RESOURCE_TYPE_NAME, newResourceTypeId, "description"));
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+
+        cachedBackedConfigurationDAO.replaceResourceType(new ResourceType(RESOURCE_TYPE_NAME, newResourceTypeId,
+                "description"));
+
+        Assert.assertEquals(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME).getId(),
+                newResourceTypeId);
+        cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID);
+        verify(configurationDAO, times(2)).getResourceTypeByName(RESOURCE_TYPE_NAME);
+        verify(configurationDAO, times(1)).getResourceTypeById(RESOURCE_TYPE_ID);
+    }
+
+    @Test
+    public void testDeleteResourceTypeClearsCachedResourceType() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getSampleResourceType());
+        cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME);
+
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(null);
+
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME));
+        Assert.assertNull(cachedBackedConfigurationDAO.getResourceTypeById(RESOURCE_TYPE_ID));
+        verify(configurationDAO, times(1)).getResourceTypeById(RESOURCE_TYPE_ID);
+    }
+
+    @Test
+    public void testMissingAttributesAreCached() throws Exception {
+
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Arrays.asList("key1", "key2"))).thenReturn(Collections.singletonList(
+                new Attribute("key1", "value1", "attribute1")));
+
+        List<Attribute> attributes = getAttributes("key1", "key2");
+        List<Attribute> cachedAttributes = getAttributes("key1", "key2");
+        List<Attribute> missingAttributes = getAttributes("key2");
+
+        Assert.assertEquals(attributes.size(), 1);
+        Assert.assertEquals(cachedAttributes.size(), 1);
+        Assert.assertEquals(cachedAttributes.get(0).getValue(), "value1");
+        Assert.assertTrue(missingAttributes.isEmpty());
+        verify(configurationDAO, times(1)).getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Arrays.asList("key1", "key2"));
+        verify(configurationDAO, never()).getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key2"));
+    }
+
+    @Test
+    public void testNewlyRequestedAttributesAreMerged() throws Exception {
+
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"))).thenReturn(Collections.singletonList(
+                new Attribute("key1", "value1", "attribute1")));
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key2"))).thenReturn(Collections.singletonList(
+                new Attribute("key2", "value2", "attribute2")));
+
+        getAttributes("key1");
+        getAttributes("key2");
+        List<Attribute> attributes = getAttributes("key1", "key2");
+
+        Assert.assertEquals(attributes.size(), 2);
+        verify(configurationDAO, times(2)).getAttributesByKeys(anyInt(), anyString(), anyString(),
+                anyList());
+    }
+
+    @Test
+    public void testCachedAttributeCannotBeModified() throws Exception {
+
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"))).thenReturn(Collections.singletonList(
+                new Attribute("key1", "value1", "attribute1")));
+
+        getAttributes("key1").get(0).setValue("modified");
+
+        Assert.assertEquals(getAttributes("key1").get(0).getValue(), "value1");
+    }
+
+    @Test
+    public void testAttributeUpdateInvalidatesCachedAttributes() throws Exception {
+
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"))).thenReturn(
+                Collections.singletonList(new Attribute("key1", "value1", "attribute1")),
+                Collections.singletonList(new Attribute("key1", "value2", "attribute1")));
+        getAttributes("key1");
+
+        cachedBackedConfigurationDAO.updateAttribute("attribute1", "resource1",
+                new Attribute("key1", "value2", "attribute1"));
+
+        Assert.assertEquals(getAttributes("key1").get(0).getValue(), "value2");
+        verify(configurationDAO, times(2)).getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"));
+    }
+
+    @Test
+    public void testResourceDeleteInvalidatesCachedAttributes() throws Exception {
+
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"))).thenReturn(
+                Collections.singletonList(new Attribute("key1", "value1", "attribute1")),
+                Collections.emptyList());
+        getAttributes("key1");
+
+        cachedBackedConfigurationDAO.deleteResourceByName(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME);
+
+        Assert.assertTrue(getAttributes("key1").isEmpty());
+    }
+
+    @Test
+    public void testResourceTypeDeleteInvalidatesCachedAttributes() throws Exception {
+
+        when(configurationDAO.getResourceTypeByName(RESOURCE_TYPE_NAME)).thenReturn(getSampleResourceType());
+        when(configurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Collections.singletonList("key1"))).thenReturn(
+                Collections.singletonList(new Attribute("key1", "value1", "attribute1")),
+                Collections.emptyList());
+        getAttributes("key1");
+
+        cachedBackedConfigurationDAO.deleteResourceTypeByName(RESOURCE_TYPE_NAME);
+
+        Assert.assertTrue(getAttributes("key1").isEmpty());
+    }
+
+    private List<Attribute> getAttributes(String... keys) throws Exception {
+
+        return cachedBackedConfigurationDAO.getAttributesByKeys(SUPER_TENANT_ID, RESOURCE_TYPE_ID, RESOURCE_NAME,
+                Arrays.asList(keys));
+    }
+
+    private ResourceType getSampleResourceType() {
+
+        return new ResourceType(RESOURCE_TYPE_NAME, RESOURCE_TYPE_ID, "description");
+    }
+
+    /**
+     * Create a mock of the given cache backed by a map, as the carbon caches are not available in the unit tests.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends BaseCache> T mockCache(Class<T> cacheClass) {
+
+        T cache = mock(cacheClass);
+        Map<Object, Object> entries = new HashMap<>();
+        doAnswer(invocation -> entries.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cache).addToCache(any(), any());
+        when(cache.getValueFromCache(any())).thenAnswer(invocation -> entries.get(invocation.getArgument(0)));
+        doAnswer(invocation -> entries.remove(invocation.getArgument(0))).when(cache).clearCacheEntry(any());
+        doAnswer(invocation -> {
+            entries.clear();
+            return null;
+        }).when(cache).clear();
+        return cache;
+    }
+}
@@ -54,3 +54,29 @@ CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE (
 );
 ALTER TABLE IDN_CONFIG_FILE
   ADD CONSTRAINT RESOURCE_ID_FILE_FOREIGN_CONSTRAINT FOREIGN KEY (RESOURCE_ID) REFERENCES IDN_CONFIG_RESOURCE (ID) ON DELETE CASCADE ON UPDATE CASCADE;
+
+-- -----------------------------------------------------
+-- Table IDN_CONFIG_FILE_CONTENT
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE_CONTENT (
+  FILE_ID        VARCHAR(255) NOT NULL,
+  CONTENT_ID     VARCHAR(255) NOT NULL,
+  CONTENT_HASH   VARCHAR(255) NOT NULL,
+  CONTENT_LENGTH BIGINT       NOT NULL,
+  CHUNK_SIZE     INTEGER      NOT NULL,
+  PRIMARY KEY (FILE_ID)
+);
+ALTER TABLE IDN_CONFIG_FILE_CONTENT
+  ADD CONSTRAINT FILE_ID_CONTENT_CONSTRAINT FOREIGN KEY (FILE_ID) REFERENCES IDN_CONFIG_FILE (ID) ON DELETE CASCADE ON UPDATE CASCADE;
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_HASH ON IDN_CONFIG_FILE_CONTENT (CONTENT_HASH);
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_ID ON IDN_CONFIG_FILE_CONTENT (CONTENT_ID);
+
+-- -----------------------------------------------------
+-- Table IDN_CONFIG_FILE_CHUNK
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE_CHUNK (
+  CONTENT_ID   VARCHAR(255) NOT NULL,
+  CHUNK_INDEX  INTEGER      NOT NULL,
+  CHUNK_DATA   BLOB         NOT NULL,
+  PRIMARY KEY (CONTENT_ID, CHUNK_INDEX)
+);
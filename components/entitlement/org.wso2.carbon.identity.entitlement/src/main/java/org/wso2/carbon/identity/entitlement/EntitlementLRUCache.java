@@ -29,7 +29,7 @@ public class EntitlementLRUCache<String, Set> extends LinkedHashMap<String, Set>
 
     private static final long serialVersionUID = -1308554805704597171L;
     private final static int INITIAL_CACHE_CAPACITY = 16;
-    private final static float LOAD_FACTOR = 75f;
+    private final static float LOAD_FACTOR = 0.75f;
     private int cacheSize;
 
     public EntitlementLRUCache(int cacheSize) {
@@ -40,7 +40,7 @@ public class EntitlementLRUCache<String, Set> extends LinkedHashMap<String, Set>
     @Override
     protected boolean removeEldestEntry(Map.Entry eldest) {
         // oldest entry of the cache would be removed when max cache size become
-        return size() == this.cacheSize;
+        return size() > this.cacheSize;
     }
 
 }
@@ -79,6 +79,31 @@ public class EntitlementService implements XACMLHandler {
     }
 
 
+    /**
+     * Evaluates a set of decisions for the same subject and returns a Response for each resource and action
+     * pair. Default attribute ids and data types are used as in {@link #getDecisionByAttributes}. Subject
+     * attributes are resolved once for all the decisions.
+     *
+     * @param subject     subject
+     * @param resources   resources
+     * @param actions     actions, one for each resource
+     * @param environment environment
+     * @return XACML responses as String Objects, in the order of the given resources
+     * @throws EntitlementException throws
+     */
+    public String[] getDecisionsByAttributes(String subject, String[] resources, String[] actions,
+                                             String[] environment) throws EntitlementException {
+        try {
+            EntitlementEngine entitlementEngine = EntitlementEngine.getInstance();
+            return entitlementEngine.evaluateDecisions(subject, resources, actions, environment);
+        } catch (EntitlementException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error occurred while evaluating XACML requests", e);
+            throw new EntitlementException("Error occurred while evaluating XACML requests");
+        }
+    }
+
     /**
      * Evaluates the given XACML request and returns the Response as boolean value.
      * Here PEP does not need construct the XACML request before sending it to the
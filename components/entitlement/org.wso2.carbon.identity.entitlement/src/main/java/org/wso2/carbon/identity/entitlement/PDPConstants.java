@@ -237,6 +237,14 @@ public class PDPConstants {
 
     public static final String MAX_POLICY_REFERENCE_ENTRIES = "PDP.References.MaxPolicyEntries";
 
+    public static final String POLICY_REFRESH_ASYNC = "PDP.Policy.Refresh.Async";
+
+    public static final String BULK_DECISION_THREAD_POOL_SIZE = "PDP.BulkDecision.ThreadPoolSize";
+
+    public static final String BULK_DECISION_QUEUE_SIZE = "PDP.BulkDecision.QueueSize";
+
+    public static final String BULK_DECISION_MAX_REQUESTS = "PDP.BulkDecision.MaxRequests";
+
     public static final int MAX_NO_OF_IN_MEMORY_POLICIES = 10;
 
     public static final String DECISION_CACHING = "PDP.DecisionCaching.Enable";
@@ -247,6 +255,14 @@ public class PDPConstants {
 
     public static final String ATTRIBUTE_CACHING_INTERVAL = "PDP.AttributeCaching.CachingInterval";
 
+    public static final String DECISION_CACHING_MAX_ENTRIES = "PDP.DecisionCaching.MaxEntries";
+
+    public static final String DECISION_CACHING_MAX_ENTRIES_PER_TENANT = "PDP.DecisionCaching.MaxEntriesPerTenant";
+
+    public static final String ATTRIBUTE_CACHING_MAX_ENTRIES = "PDP.AttributeCaching.MaxEntries";
+
+    public static final String ATTRIBUTE_CACHING_MAX_ENTRIES_PER_TENANT = "PDP.AttributeCaching.MaxEntriesPerTenant";
+
     public static final String RESOURCE_CACHING = "PDP.ResourceCaching.Enable";
 
     public static final String RESOURCE_CACHING_INTERVAL = "PDP.DecisionCaching.CachingInterval";
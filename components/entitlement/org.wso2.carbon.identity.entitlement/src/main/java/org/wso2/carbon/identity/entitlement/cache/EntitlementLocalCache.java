@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.entitlement.internal.EntitlementServiceComponent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent, size bounded node local cache used for the entitlement caches which are never shared with the other
+ * nodes of a cluster.
+ * <p>
+ * Entries are spread over independently locked segments, each holding its entries in least recently used order.
+ * When a segment is full, a new entry is only admitted if it has been accessed more frequently than the least
+ * recently used entry it would evict (TinyLFU admission), so that one-off requests do not flush frequently used
+ * entries out of the cache. Access frequencies are estimated with a count-min sketch which is aged by halving all
+ * counters periodically. Entries expire after a fixed time to live from the time they were added, and the number
+ * of entries held for a single tenant can be limited.
+ *
+ * @param <K> cache key
+ * @param <V> cache value
+ */
+public class EntitlementLocalCache<K extends IdentityCacheKey, V> {
+
+    private static final Log log = LogFactory.getLog(EntitlementLocalCache.class);
+
+    private static final int SEGMENT_COUNT = 16;
+    static final int DEFAULT_MAX_ENTRIES = 10000;
+    // Same as the default expiry of the carbon caches, used when no caching interval is configured.
+    static final int DEFAULT_TIME_TO_LIVE = 900;
+
+    private final String name;
+    private final Segment<K, V>[] segments;
+    private final long timeToLiveNanos;
+    private final int maxEntriesPerTenant;
+    private final FrequencySketch frequencySketch;
+    private final ConcurrentMap<Integer, AtomicInteger> tenantEntries = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    /**
+     * @param name                name of the cache, used for logging
+     * @param maxEntries          maximum number of entries held in the cache
+     * @param maxEntriesPerTenant maximum number of entries held for a single tenant
+     * @param timeToLive          time to live of an entry in seconds
+     */
+    @SuppressWarnings("unchecked")
+    public EntitlementLocalCache(String name, int maxEntries, int maxEntriesPerTenant, long timeToLive) {
+
+        this.name = name;
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLive);
+        this.maxEntriesPerTenant = maxEntriesPerTenant;
+        this.frequencySketch = new FrequencySketch(maxEntries);
+        int segmentCapacity = Math.max(1, maxEntries / SEGMENT_COUNT);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached value of the given key.
+     *
+     * @param key cache key
+     * @return cached value, or null if the key is not cached or the entry has expired
+     */
+    public V get(K key) {
+
+        int hash = spread(key.hashCode());
+        frequencySketch.increment(hash);
+        Segment<K, V> segment = segmentFor(hash);
+        Entry<V> entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if (entry != null && entry.isExpired()) {
+                segment.remove(key);
+                releaseTenantEntry(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Adds or replaces the value of the given key, with the time to live of the cache. A new key may not be
+     * admitted, if the cache is full and the key is less frequently accessed than the entry it would replace, or if
+     * the tenant has reached its limit.
+     *
+     * @param key   cache key
+     * @param value value
+     */
+    public void put(K key, V value) {
+
+        putEntry(key, value, timeToLiveNanos);
+    }
+
+    /**
+     * Adds or replaces the value of the given key, with the given time to live. Used when the entries of the
+     * tenants sharing the cache are configured with different time to live values.
+     *
+     * @param key        cache key
+     * @param value      value
+     * @param timeToLive time to live of the entry in seconds
+     */
+    public void put(K key, V value, long timeToLive) {
+
+        putEntry(key, value, TimeUnit.SECONDS.toNanos(timeToLive));
+    }
+
+    private void putEntry(K key, V value, long timeToLiveNanos) {
+
+        int hash = spread(key.hashCode());
+        frequencySketch.increment(hash);
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + timeToLiveNanos);
+        Segment<K, V> segment = segmentFor(hash);
+        synchronized (segment) {
+            if (segment.containsKey(key)) {
+                segment.put(key, entry);
+                return;
+            }
+            if (!admitForTenant(key, segment)) {
+                rejectionCount.increment();
+                return;
+            }
+            if (segment.size() >= segment.capacity && !makeRoom(hash, segment)) {
+                releaseTenantEntry(key);
+                rejectionCount.increment();
+                return;
+            }
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Removes the entry of the given key.
+     *
+     * @param key cache key
+     */
+    public void remove(K key) {
+
+        Segment<K, V> segment = segmentFor(spread(key.hashCode()));
+        synchronized (segment) {
+            if (segment.remove(key) != null) {
+                releaseTenantEntry(key);
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void clear() {
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                for (K key : segment.keySet()) {
+                    releaseTenantEntry(key);
+                }
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes all the entries of the given tenant.
+     *
+     * @param tenantId tenant id
+     */
+    public void clear(int tenantId) {
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                Iterator<K> iterator = segment.keySet().iterator();
+                while (iterator.hasNext()) {
+                    K key = iterator.next();
+                    if (key.getTenantId() == tenantId) {
+                        iterator.remove();
+                        releaseTenantEntry(key);
+                    }
+                }
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of entries held for the given tenant
+     *
+     * @param tenantId tenant id
+     * @return number of entries
+     */
+    public int size(int tenantId) {
+
+        AtomicInteger count = tenantEntries.get(tenantId);
+        return count != null ? count.get() : 0;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries removed to make room for more frequently used entries
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of entries which were not admitted to the cache
+     *
+     * @return number of rejected entries
+     */
+    public long getRejectionCount() {
+        return rejectionCount.sum();
+    }
+
+    public double getHitRatio() {
+
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * Reserves an entry for the tenant of the key. If the tenant is at its limit, an entry of the same tenant is
+     * evicted from the segment, if there is one.
+     */
+    private boolean admitForTenant(K key, Segment<K, V> segment) {
+
+        AtomicInteger count = tenantEntries.computeIfAbsent(key.getTenantId(), tenantId -> new AtomicInteger());
+        if (count.incrementAndGet() <= maxEntriesPerTenant) {
+            return true;
+        }
+        Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            if (eldest.getKey().getTenantId() == key.getTenantId()) {
+                iterator.remove();
+                count.decrementAndGet();
+                evictionCount.increment();
+                return true;
+            }
+        }
+        count.decrementAndGet();
+        return false;
+    }
+
+    /**
+     * Evicts the least recently used entry of a full segment, if it has expired or is less frequently accessed
+     * than the new entry.
+     */
+    private boolean makeRoom(int candidateHash, Segment<K, V> segment) {
+
+        Iterator<Map.Entry<K, Entry<V>>> iterator = segment.entrySet().iterator();
+        if (!iterator.hasNext()) {
+            return true;
+        }
+        Map.Entry<K, Entry<V>> victim = iterator.next();
+        if (!victim.getValue().isExpired()) {
+            int victimFrequency = frequencySketch.frequency(spread(victim.getKey().hashCode()));
+            if (frequencySketch.frequency(candidateHash) <= victimFrequency) {
+                return false;
+            }
+            evictionCount.increment();
+        }
+        iterator.remove();
+        releaseTenantEntry(victim.getKey());
+        return true;
+    }
+
+    private void releaseTenantEntry(K key) {
+
+        AtomicInteger count = tenantEntries.get(key.getTenantId());
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reads a positive size limit from the entitlement engine properties.
+     *
+     * @param property     property name
+     * @param defaultValue value used if the property is not defined or invalid
+     * @return size limit
+     */
+    static int getSizeProperty(String property, int defaultValue) {
+
+        Properties properties = EntitlementServiceComponent.getEntitlementConfig().getEngineProperties();
+        String value = properties.getProperty(property);
+        if (value != null) {
+            try {
+                int size = Integer.parseInt(value.trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " for property: " + property + ". Using the default value: "
+                        + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiryTime;
+
+        Entry(V value, long expiryTime) {
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiryTime > 0;
+        }
+    }
+
+    /**
+     * Access ordered map of a single segment. Eviction is handled by the cache, not by the map.
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private static final long serialVersionUID = 6097634102446367126L;
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * Count-min sketch of four rows with counters saturating at 15. Once the number of recorded accesses reaches
+     * ten times the cache size, all counters are halved so that the frequencies follow recent accesses. Updates
+     * are not synchronized; a lost update only makes a frequency estimate slightly lower.
+     */
+    private static class FrequencySketch {
+
+        private static final int[] SEEDS = {0x97cb3127, 0xb1fe4a7b, 0x8f6d5c3b, 0xdb4ec5a9};
+        private static final int MAX_FREQUENCY = 15;
+
+        private final byte[][] table;
+        private final int mask;
+        private final int sampleSize;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(int maxEntries) {
+
+            int width = Integer.highestOneBit(Math.max(maxEntries, 16) - 1) << 1;
+            table = new byte[SEEDS.length][width];
+            mask = width - 1;
+            sampleSize = Math.max(maxEntries, 16) * 10;
+        }
+
+        void increment(int hash) {
+
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = indexOf(hash, row);
+                if (table[row][index] < MAX_FREQUENCY) {
+                    table[row][index]++;
+                }
+            }
+            if (additions.incrementAndGet() >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+
+            int frequency = MAX_FREQUENCY;
+            for (int row = 0; row < SEEDS.length; row++) {
+                frequency = Math.min(frequency, table[row][indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private synchronized void reset() {
+
+            if (additions.get() < sampleSize) {
+                return;
+            }
+            for (byte[] counters : table) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] = (byte) (counters[i] >>> 1);
+                }
+            }
+            additions.set(0);
+        }
+
+        private int indexOf(int hash, int row) {
+
+            int h = hash * SEEDS[row];
+            h ^= h >>> 17;
+            return h & mask;
+        }
+    }
+}
@@ -18,42 +18,70 @@
 
 package org.wso2.carbon.identity.entitlement.cache;
 
-import org.wso2.carbon.caching.impl.CachingConstants;
+import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.entitlement.PDPConstants;
 
 import java.util.Set;
 
 /**
- *
+ * Node local cache of the attributes resolved by the abstract PIP attribute finders. As with the carbon cache it
+ * replaces, all the finders share the same cache, held in a size bounded {@link EntitlementLocalCache} in which the
+ * number of entries of a single tenant can be limited. Each finder adds the entries with its own caching interval.
  */
-public class PIPAbstractAttributeCache extends EntitlementBaseCache<IdentityCacheKey, IdentityCacheEntry> {
+public class PIPAbstractAttributeCache {
+
+    private static volatile EntitlementLocalCache<IdentityCacheKey, IdentityCacheEntry> sharedAttributes;
+
+    private final EntitlementLocalCache<IdentityCacheKey, IdentityCacheEntry> attributes;
+    private final int timeToLive;
 
     public PIPAbstractAttributeCache(int timeOut) {
-        super(CachingConstants.LOCAL_CACHE_PREFIX + PDPConstants.PIP_ABSTRACT_ATTRIBUTE_CACHE, timeOut);
+
+        timeToLive = timeOut > 0 ? timeOut : EntitlementLocalCache.DEFAULT_TIME_TO_LIVE;
+        if (sharedAttributes == null) {
+            synchronized (PIPAbstractAttributeCache.class) {
+                if (sharedAttributes == null) {
+                    int maxEntries = EntitlementLocalCache.getSizeProperty(
+                            PDPConstants.ATTRIBUTE_CACHING_MAX_ENTRIES, EntitlementLocalCache.DEFAULT_MAX_ENTRIES);
+                    int maxEntriesPerTenant = EntitlementLocalCache.getSizeProperty(
+                            PDPConstants.ATTRIBUTE_CACHING_MAX_ENTRIES_PER_TENANT, maxEntries);
+                    sharedAttributes = new EntitlementLocalCache<IdentityCacheKey, IdentityCacheEntry>(
+                            PDPConstants.PIP_ABSTRACT_ATTRIBUTE_CACHE, maxEntries, maxEntriesPerTenant,
+                            EntitlementLocalCache.DEFAULT_TIME_TO_LIVE);
+                }
+            }
+        }
+        attributes = sharedAttributes;
     }
 
     public void addToCache(int tenantId, String key, Set<String> attributes) {
 
         IdentityCacheKey cacheKey = new IdentityCacheKey(tenantId, key);
         IdentityCacheEntry cacheEntry = new IdentityCacheEntry(attributes);
-        addToCache(cacheKey, cacheEntry);
+        this.attributes.put(cacheKey, cacheEntry, timeToLive);
     }
 
     public Set<String> getFromCache(int tenantId, String key) {
 
         Set<String> attributes = null;
         IdentityCacheKey cacheKey = new IdentityCacheKey(tenantId, key);
-        Object entry = getValueFromCache(cacheKey);
-        if (entry != null) {
-            IdentityCacheEntry cacheEntry = (IdentityCacheEntry) entry;
+        IdentityCacheEntry cacheEntry = this.attributes.get(cacheKey);
+        if (cacheEntry != null) {
             attributes = cacheEntry.getCacheEntrySet();
         }
 
         return attributes;
     }
 
+    /**
+     * Removes the cached attributes of the current tenant
+     */
     public void clearCache() {
 
-        clear();
+        attributes.clear(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
+    public EntitlementLocalCache<IdentityCacheKey, IdentityCacheEntry> getLocalCache() {
+        return attributes;
     }
 }
@@ -49,6 +49,17 @@ public class PIPAttributeCache extends EntitlementBaseCache<IdentityCacheKey, Id
         return attributes;
     }
 
+    public void addToCache(PIPAttributeCacheKey cacheKey, Set<String> attributes) {
+
+        addToCache(cacheKey, new IdentityCacheEntry(attributes));
+    }
+
+    public Set<String> getFromCache(PIPAttributeCacheKey cacheKey) {
+
+        IdentityCacheEntry cacheEntry = getValueFromCache(cacheKey);
+        return cacheEntry != null ? cacheEntry.getCacheEntrySet() : null;
+    }
+
     public void clearCache() {
         clear();
     }
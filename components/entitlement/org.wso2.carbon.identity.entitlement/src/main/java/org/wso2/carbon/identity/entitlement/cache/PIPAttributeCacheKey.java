@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.cache;
+
+import java.util.Objects;
+
+/**
+ * Cache key of the PIP attribute cache. The attribute designator and the encoded request context are kept as
+ * separate fields and the hash code is computed once, instead of concatenating them in to a single String key
+ * for each lookup.
+ */
+public class PIPAttributeCacheKey extends IdentityCacheKey {
+
+    private static final long serialVersionUID = -6411871733418496216L;
+
+    private final String attributeType;
+    private final String attributeId;
+    private final String category;
+    private final String issuer;
+    private final String context;
+    private final int hash;
+
+    /**
+     * @param tenantId      tenant id
+     * @param attributeType data type of the attribute
+     * @param attributeId   attribute id
+     * @param category      attribute category
+     * @param issuer        attribute issuer, may be null
+     * @param context       encoded request context which the attribute values are resolved for
+     */
+    public PIPAttributeCacheKey(int tenantId, String attributeType, String attributeId, String category,
+                                String issuer, String context) {
+        super(tenantId, null);
+        this.attributeType = attributeType;
+        this.attributeId = attributeId;
+        this.category = category;
+        this.issuer = issuer;
+        this.context = context;
+        int result = tenantId;
+        result = 31 * result + Objects.hashCode(attributeType);
+        result = 31 * result + Objects.hashCode(attributeId);
+        result = 31 * result + Objects.hashCode(category);
+        result = 31 * result + Objects.hashCode(issuer);
+        result = 31 * result + Objects.hashCode(context);
+        this.hash = result;
+    }
+
+    public String getAttributeType() {
+        return attributeType;
+    }
+
+    public String getAttributeId() {
+        return attributeId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    @Override
+    public String getKey() {
+        return "[" + attributeType + "][" + attributeId + "][" + category + "][" + issuer + "]";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PIPAttributeCacheKey)) return false;
+
+        PIPAttributeCacheKey that = (PIPAttributeCacheKey) o;
+
+        return hash == that.hash && getTenantId() == that.getTenantId()
+                && Objects.equals(attributeId, that.attributeId)
+                && Objects.equals(category, that.category)
+                && Objects.equals(attributeType, that.attributeType)
+                && Objects.equals(issuer, that.issuer)
+                && Objects.equals(context, that.context);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -18,40 +18,73 @@
 
 package org.wso2.carbon.identity.entitlement.cache;
 
-import org.wso2.carbon.caching.impl.CachingConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.entitlement.PDPConstants;
 
 /**
- * Simple Decision Cache
+ * Node local cache of the simple decisions. The entries of all the tenants are held in a single size bounded
+ * {@link EntitlementLocalCache}, in which the number of entries of a single tenant can be limited. Each tenant has
+ * its own instance, which adds the entries with the caching interval of the tenant.
  */
-public class SimpleDecisionCache extends EntitlementBaseCache<IdentityCacheKey, Object> {
+public class SimpleDecisionCache {
+
+    private static volatile EntitlementLocalCache<IdentityCacheKey, Object> decisions;
+
+    private final int timeToLive;
 
     public SimpleDecisionCache(int timeOut) {
-        super(CachingConstants.LOCAL_CACHE_PREFIX + PDPConstants.PDP_SIMPLE_DECISION_CACHE, timeOut);
-    }
 
+        timeToLive = timeOut > 0 ? timeOut : EntitlementLocalCache.DEFAULT_TIME_TO_LIVE;
+        if (decisions == null) {
+            synchronized (SimpleDecisionCache.class) {
+                if (decisions == null) {
+                    int maxEntries = EntitlementLocalCache.getSizeProperty(PDPConstants.DECISION_CACHING_MAX_ENTRIES,
+                            EntitlementLocalCache.DEFAULT_MAX_ENTRIES);
+                    int maxEntriesPerTenant = EntitlementLocalCache.getSizeProperty(
+                            PDPConstants.DECISION_CACHING_MAX_ENTRIES_PER_TENANT, maxEntries);
+                    decisions = new EntitlementLocalCache<IdentityCacheKey, Object>(
+                            PDPConstants.PDP_SIMPLE_DECISION_CACHE, maxEntries, maxEntriesPerTenant,
+                            EntitlementLocalCache.DEFAULT_TIME_TO_LIVE);
+                }
+            }
+        }
+    }
 
     public void addToCache(String key, Object decision) {
 
         int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
         IdentityCacheKey cacheKey = new IdentityCacheKey(tenantId, key);
-        addToCache(cacheKey, decision);
+        decisions.put(cacheKey, decision, timeToLive);
     }
 
     public Object getFromCache(String key) {
 
         int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
         IdentityCacheKey cacheKey = new IdentityCacheKey(tenantId, key);
-        Object entry = getValueFromCache(cacheKey);
+        Object entry = decisions.get(cacheKey);
         if (entry != null) {
             return (String) entry;
         }
         return null;
     }
 
+    /**
+     * Removes the cached decisions of the current tenant
+     */
+    public void clear() {
+        decisions.clear(CarbonContext.getThreadLocalCarbonContext().getTenantId());
+    }
+
     public void clearCache() {
         clear();
     }
 
+    /**
+     * Returns the node local cache which holds the decisions of all the tenants, to read its statistics
+     *
+     * @return decision cache
+     */
+    public EntitlementLocalCache<IdentityCacheKey, Object> getLocalCache() {
+        return decisions;
+    }
 }
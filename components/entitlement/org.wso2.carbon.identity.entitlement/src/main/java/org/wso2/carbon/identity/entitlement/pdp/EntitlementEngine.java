@@ -28,8 +28,10 @@ import org.wso2.balana.PDP;
 import org.wso2.balana.PDPConfig;
 import org.wso2.balana.ParsingException;
 import org.wso2.balana.ctx.AbstractRequestCtx;
+import org.wso2.balana.ctx.AbstractResult;
 import org.wso2.balana.ctx.RequestCtxFactory;
 import org.wso2.balana.ctx.ResponseCtx;
+import org.wso2.balana.ctx.Status;
 import org.wso2.balana.finder.AttributeFinder;
 import org.wso2.balana.finder.AttributeFinderModule;
 import org.wso2.balana.finder.PolicyFinder;
@@ -38,6 +40,7 @@ import org.wso2.balana.finder.ResourceFinder;
 import org.wso2.balana.finder.ResourceFinderModule;
 import org.wso2.balana.finder.impl.CurrentEnvModule;
 import org.wso2.balana.finder.impl.SelectorModule;
+import org.wso2.balana.xacml3.Result;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.base.IdentityConstants;
@@ -55,6 +58,7 @@ import org.wso2.carbon.identity.entitlement.pap.store.PAPPolicyStoreReader;
 import org.wso2.carbon.identity.entitlement.pip.CarbonAttributeFinder;
 import org.wso2.carbon.identity.entitlement.pip.CarbonResourceFinder;
 import org.wso2.carbon.identity.entitlement.pip.PIPExtension;
+import org.wso2.carbon.identity.entitlement.pip.SharedAttributeScope;
 import org.wso2.carbon.identity.entitlement.policy.PolicyRequestBuilder;
 import org.wso2.carbon.identity.entitlement.policy.finder.CarbonPolicyFinder;
 import org.wso2.carbon.identity.entitlement.policy.search.PolicySearch;
@@ -71,8 +75,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -94,6 +103,9 @@ public class EntitlementEngine {
     private static EntitlementEngine entitlementEngine;
     private static final long DEFAULT_ENTITLEMENT_ENGINE_CACHING_INTERVAL = 900;
     private static LoadingCache<Integer, EntitlementEngine> entitlementEngineLoadingCache;
+    private static final int DEFAULT_BULK_DECISION_MAX_REQUESTS = 1000;
+    private static final int DEFAULT_BULK_DECISION_QUEUE_SIZE = 1000;
+    private static volatile ExecutorService bulkDecisionExecutor;
 
     private DecisionCache decisionCache = null;
     private PolicyCache policyCache = null;
@@ -106,6 +118,10 @@ public class EntitlementEngine {
         return policyCache;
     }
 
+    public SimpleDecisionCache getSimpleDecisionCache() {
+        return simpleDecisionCache;
+    }
+
     public void clearDecisionCache() {
         this.decisionCache.clear();
         this.simpleDecisionCache.clear();
@@ -516,6 +532,143 @@ public class EntitlementEngine {
     }
 
 
+    /**
+     * Evaluates a set of decisions for the same subject. Each decision is evaluated as with
+     * {@link #evaluate(String, String, String, String[])}, for the resource and action at the same index. Subject
+     * attributes are retrieved from the PIP attribute finders once and shared by all the decisions, and the
+     * decisions are evaluated in parallel on a bounded thread pool.
+     *
+     * @param subject     subject
+     * @param resources   resources
+     * @param actions     actions, one for each resource
+     * @param environment environment
+     * @return XACML responses as Strings, in the order of the given resources
+     * @throws EntitlementException if the input is invalid or the evaluation is interrupted
+     */
+    public String[] evaluateDecisions(String subject, String[] resources, String[] actions, String[] environment)
+            throws EntitlementException {
+
+        if (resources == null || actions == null || resources.length != actions.length) {
+            throw new EntitlementException("Invalid input data - a single action should be given for each resource");
+        }
+        int maxDecisions = getBulkDecisionProperty(PDPConstants.BULK_DECISION_MAX_REQUESTS,
+                DEFAULT_BULK_DECISION_MAX_REQUESTS);
+        if (resources.length > maxDecisions) {
+            throw new EntitlementException("Number of decisions requested exceeds the maximum of " + maxDecisions);
+        }
+
+        String[] responses = new String[resources.length];
+        SharedAttributeScope attributeScope = new SharedAttributeScope();
+        if (resources.length == 1) {
+            responses[0] = evaluateDecision(subject, resources[0], actions[0], environment, attributeScope);
+            return responses;
+        }
+
+        String tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        List<Future<String>> futures = new ArrayList<Future<String>>(resources.length);
+        for (int i = 0; i < resources.length; i++) {
+            final String resource = resources[i];
+            final String action = actions[i];
+            futures.add(getBulkDecisionExecutor().submit(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    carbonContext.setTenantId(tenantId);
+                    carbonContext.setTenantDomain(tenantDomain);
+                    return evaluateDecision(subject, resource, action, environment, attributeScope);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                responses[i] = futures.get(i).get();
+            } catch (InterruptedException e) {
+                for (Future<String> future : futures) {
+                    future.cancel(true);
+                }
+                Thread.currentThread().interrupt();
+                throw new EntitlementException("Evaluation of the decisions was interrupted");
+            } catch (ExecutionException e) {
+                // evaluateDecision does not throw, hence this is an unexpected runtime error.
+                log.error("Error while evaluating the decision for resource : " + resources[i], e.getCause());
+                responses[i] = getIndeterminateResponse(e.getCause());
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Evaluated " + responses.length + " decisions for the subject with " + attributeScope.size() +
+                    " shared subject attributes");
+        }
+        return responses;
+    }
+
+    private String evaluateDecision(String subject, String resource, String action, String[] environment,
+                                    SharedAttributeScope attributeScope) {
+
+        CarbonAttributeFinder.bindSharedAttributeScope(attributeScope);
+        try {
+            return evaluate(subject, resource, action, environment);
+        } catch (Exception e) {
+            log.error("Error while evaluating the decision for resource : " + resource, e);
+            return getIndeterminateResponse(e);
+        } finally {
+            CarbonAttributeFinder.unbindSharedAttributeScope();
+        }
+    }
+
+    private String getIndeterminateResponse(Throwable e) {
+
+        ArrayList<String> code = new ArrayList<String>();
+        code.add(Status.STATUS_PROCESSING_ERROR);
+        Status status = new Status(code, e != null ? e.getMessage() : null);
+        return new ResponseCtx(new Result(AbstractResult.DECISION_INDETERMINATE, status)).encode();
+    }
+
+    private static ExecutorService getBulkDecisionExecutor() {
+
+        if (bulkDecisionExecutor == null) {
+            synchronized (lock) {
+                if (bulkDecisionExecutor == null) {
+                    int poolSize = getBulkDecisionProperty(PDPConstants.BULK_DECISION_THREAD_POOL_SIZE,
+                            Runtime.getRuntime().availableProcessors());
+                    int queueSize = getBulkDecisionProperty(PDPConstants.BULK_DECISION_QUEUE_SIZE,
+                            DEFAULT_BULK_DECISION_QUEUE_SIZE);
+                    AtomicInteger threadCount = new AtomicInteger();
+                    // When the queue is full, the decision is evaluated by the requesting thread.
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<Runnable>(queueSize), runnable -> {
+                                Thread thread = new Thread(runnable,
+                                        "EntitlementBulkDecision-" + threadCount.incrementAndGet());
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    bulkDecisionExecutor = executor;
+                }
+            }
+        }
+        return bulkDecisionExecutor;
+    }
+
+    private static int getBulkDecisionProperty(String name, int defaultValue) {
+
+        String value = EntitlementServiceComponent.getEntitlementConfig().getEngineProperties().getProperty(name);
+        if (value != null) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                //ignore
+            }
+            log.warn("Invalid value for " + name + ". Using default value " + defaultValue);
+        }
+        return defaultValue;
+    }
+
     /**
      * This method is returns the registry based policy finder for current tenant
      *
@@ -34,12 +34,14 @@ import org.wso2.balana.xacml3.Attributes;
 import org.wso2.carbon.identity.entitlement.EntitlementUtil;
 import org.wso2.carbon.identity.entitlement.PDPConstants;
 import org.wso2.carbon.identity.entitlement.cache.PIPAttributeCache;
+import org.wso2.carbon.identity.entitlement.cache.PIPAttributeCacheKey;
 import org.wso2.carbon.identity.entitlement.internal.EntitlementServiceComponent;
 import org.wso2.carbon.identity.entitlement.pdp.EntitlementEngine;
 
 import javax.xml.transform.TransformerException;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.text.ParseException;
@@ -62,6 +64,9 @@ public class CarbonAttributeFinder extends AttributeFinderModule {
 
     private Map<String, List<PIPAttributeFinder>> attrFinders = new HashMap<String, List<PIPAttributeFinder>>();
     private static final Log log = LogFactory.getLog(CarbonAttributeFinder.class);
+    private static final ThreadLocal<SharedAttributeScope> sharedAttributeScope =
+            new ThreadLocal<SharedAttributeScope>();
+    private final ThreadLocal<EvaluationMemo> evaluationMemo = new ThreadLocal<EvaluationMemo>();
     private PIPAttributeCache attributeFinderCache = null;
     protected int tenantId;
 
@@ -136,6 +141,28 @@ public class CarbonAttributeFinder extends AttributeFinderModule {
     public EvaluationResult findAttribute(URI attributeType, URI attributeId, String issuer,
                                           URI category, EvaluationCtx context) {
 
+        // The same designator is commonly used by many policies, hence resolve it only once per evaluation.
+        EvaluationMemo memo = getEvaluationMemo(context);
+        PIPAttributeCacheKey memoKey = new PIPAttributeCacheKey(tenantId, attributeType.toString(),
+                attributeId.toString(), category.toString(), issuer, null);
+        EvaluationResult result = memo.results.get(memoKey);
+        if (result != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attribute " + attributeId + " of category " + category + " is already resolved for " +
+                        "this evaluation");
+            }
+            return result;
+        }
+        result = resolveAttribute(attributeType, attributeId, issuer, category, context, memo);
+        if (!result.indeterminate()) {
+            memo.results.put(memoKey, result);
+        }
+        return result;
+    }
+
+    private EvaluationResult resolveAttribute(URI attributeType, URI attributeId, String issuer,
+                                              URI category, EvaluationCtx context, EvaluationMemo memo) {
+
         List<AttributeValue> attrBag = new ArrayList<AttributeValue>();
         // Get the list of attribute finders who are registered with this particular attribute.
 
@@ -163,40 +190,33 @@ public class CarbonAttributeFinder extends AttributeFinderModule {
         try {
 
             for (Iterator iterator = finders.iterator(); iterator.hasNext(); ) {
-                PIPAttributeFinder pipAttributeFinder = (PIPAttributeFinder) iterator.next();
+                final PIPAttributeFinder pipAttributeFinder = (PIPAttributeFinder) iterator.next();
                 if (log.isDebugEnabled()) {
                     log.debug(String.format(
                             "Finding attributes with the PIP attribute handler %1$s",
                             pipAttributeFinder.getClass()));
                 }
 
-                Set<String> attrs = null;
-                String key = null;
-
-                if (attributeFinderCache != null && !pipAttributeFinder.overrideDefaultCache()) {
-
-                    key = "[" + attributeType.toString() + "][" + attributeId.toString() + "][" + category.toString() +
-                            "][" + encodeContext(context) + "]";
-
-                    if (issuer != null) {
-                        key += "[" + issuer + "]";
-                    }
-
-                    if (key != null) {
-                        if (log.isDebugEnabled()) {
-                            log.debug("Retrieving attributes from cache, tenantId: " + tenantId + ", key: " + key);
-                        }
-                        attrs = attributeFinderCache.getFromCache(tenantId, key);
-                    }
+                Set<String> attrs;
+                SharedAttributeScope scope = sharedAttributeScope.get();
+                String subjectId = null;
+                if (scope != null && PDPConstants.SUBJECT_CATEGORY_URI.equals(category.toString())) {
+                    subjectId = memo.getRequestAttributeValue(PDPConstants.SUBJECT_CATEGORY_URI,
+                            PDPConstants.SUBJECT_ID_DEFAULT);
                 }
-
-                if (attrs == null) {
-                    attrs = pipAttributeFinder.getAttributeValues(attributeType, attributeId, category,
-                                                                  issuer, context);
-                    if (attributeFinderCache != null && key != null
-                        && !pipAttributeFinder.overrideDefaultCache()) {
-                        attributeFinderCache.addToCache(tenantId, key, attrs);
-                    }
+                if (subjectId != null) {
+                    // Subject attributes are shared between the decisions for the same subject. The resource is
+                    // only part of the key for the PIPs which resolve subject attributes based on it.
+                    String resourceId = pipAttributeFinder.isResourceDependent() ? memo.getRequestAttributeValue(
+                            PDPConstants.RESOURCE_CATEGORY_URI, PDPConstants.RESOURCE_ID_DEFAULT) : null;
+                    String key = SharedAttributeScope.buildKey(pipAttributeFinder.getClass().getName(),
+                            attributeType.toString(), attributeId.toString(), category.toString(), issuer,
+                            subjectId, resourceId);
+                    attrs = scope.getAttributeValues(key, () -> getAttributeValues(pipAttributeFinder,
+                            attributeType, attributeId, issuer, category, context, memo));
+                } else {
+                    attrs = getAttributeValues(pipAttributeFinder, attributeType, attributeId, issuer, category,
+                            context, memo);
                 }
 
                 if (attrs != null) {
@@ -244,6 +264,70 @@ public class CarbonAttributeFinder extends AttributeFinderModule {
         return new EvaluationResult(new BagAttribute(attributeType, attrBag));
     }
 
+    /**
+     * Retrieves the attribute values from the given PIP attribute finder, through the attribute cache if it is
+     * enabled.
+     */
+    private Set<String> getAttributeValues(PIPAttributeFinder pipAttributeFinder, URI attributeType,
+                                           URI attributeId, String issuer, URI category, EvaluationCtx context,
+                                           EvaluationMemo memo) throws Exception {
+
+        Set<String> attrs = null;
+        PIPAttributeCacheKey cacheKey = null;
+
+        if (attributeFinderCache != null && !pipAttributeFinder.overrideDefaultCache()) {
+
+            cacheKey = new PIPAttributeCacheKey(tenantId, attributeType.toString(), attributeId.toString(),
+                    category.toString(), issuer, memo.getEncodedContext());
+
+            if (log.isDebugEnabled()) {
+                log.debug("Retrieving attributes from cache, tenantId: " + tenantId + ", key: " +
+                        cacheKey.getKey());
+            }
+            attrs = attributeFinderCache.getFromCache(cacheKey);
+        }
+
+        if (attrs == null) {
+            attrs = pipAttributeFinder.getAttributeValues(attributeType, attributeId, category,
+                                                          issuer, context);
+            if (cacheKey != null) {
+                attributeFinderCache.addToCache(cacheKey, attrs);
+            }
+        }
+        return attrs;
+    }
+
+    /**
+     * Returns the memo of the given evaluation for the current thread. An evaluation context is evaluated by a
+     * single thread, hence the memo is replaced once the thread moves on to another evaluation.
+     */
+    private EvaluationMemo getEvaluationMemo(EvaluationCtx context) {
+
+        EvaluationMemo memo = evaluationMemo.get();
+        if (memo == null || memo.context.get() != context) {
+            memo = new EvaluationMemo(context);
+            evaluationMemo.set(memo);
+        }
+        return memo;
+    }
+
+    /**
+     * Binds a shared attribute scope to the current thread. Subject attributes resolved by this thread are shared
+     * with the other threads bound to the same scope, until the scope is unbound.
+     *
+     * @param scope shared attribute scope
+     */
+    public static void bindSharedAttributeScope(SharedAttributeScope scope) {
+        sharedAttributeScope.set(scope);
+    }
+
+    /**
+     * Unbinds the shared attribute scope of the current thread.
+     */
+    public static void unbindSharedAttributeScope() {
+        sharedAttributeScope.remove();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -320,4 +404,76 @@ public class CarbonAttributeFinder extends AttributeFinderModule {
 
         return contextWithAttributeValues;
     }
+
+    /**
+     * Returns the encoded values of the given attribute as sent in the request, without consulting the attribute
+     * finders.
+     *
+     * @param evaluationCtx EvaluationCtx
+     * @param category      attribute category
+     * @param attributeId   attribute id
+     * @return encoded values, or null if the request does not contain the attribute
+     */
+    private static String getRequestAttributeValue(EvaluationCtx evaluationCtx, String category,
+                                                   String attributeId) {
+
+        StringBuilder builder = null;
+        for (Attributes attributes : evaluationCtx.getRequestCtx().getAttributesSet()) {
+            if (attributes.getCategory() == null || !category.equals(attributes.getCategory().toString())) {
+                continue;
+            }
+            for (Attribute attribute : attributes.getAttributes()) {
+                if (attribute.getId() == null || !attributeId.equals(attribute.getId().toString())) {
+                    continue;
+                }
+                for (AttributeValue value : attribute.getValues()) {
+                    builder = builder == null ? new StringBuilder() : builder.append("][");
+                    builder.append(value.encode());
+                }
+            }
+        }
+        return builder == null ? null : builder.toString();
+    }
+
+    /**
+     * Attributes resolved for a single evaluation context, along with the encoded context used in the cache keys
+     * of the attribute cache. The context is weakly referenced so that the memo of an idle thread does not keep
+     * the last request alive.
+     */
+    private class EvaluationMemo {
+
+        private final WeakReference<EvaluationCtx> context;
+        private final Map<PIPAttributeCacheKey, EvaluationResult> results =
+                new HashMap<PIPAttributeCacheKey, EvaluationResult>();
+        private final Map<String, String> requestAttributeValues = new HashMap<String, String>();
+        private String encodedContext;
+
+        EvaluationMemo(EvaluationCtx context) {
+            this.context = new WeakReference<EvaluationCtx>(context);
+        }
+
+        String getEncodedContext() throws TransformerException {
+            if (encodedContext == null) {
+                EvaluationCtx evaluationCtx = context.get();
+                if (evaluationCtx == null) {
+                    throw new IllegalStateException("Evaluation context is no longer available");
+                }
+                encodedContext = encodeContext(evaluationCtx);
+            }
+            return encodedContext;
+        }
+
+        String getRequestAttributeValue(String category, String attributeId) {
+            String key = category + "][" + attributeId;
+            if (!requestAttributeValues.containsKey(key)) {
+                EvaluationCtx evaluationCtx = context.get();
+                if (evaluationCtx == null) {
+                    throw new IllegalStateException("Evaluation context is no longer available");
+                }
+                requestAttributeValues.put(key, CarbonAttributeFinder.getRequestAttributeValue(evaluationCtx,
+                        category, attributeId));
+            }
+            return requestAttributeValues.get(key);
+        }
+    }
 }
@@ -94,4 +94,15 @@ public interface PIPAttributeFinder {
      * @param attributeId attributeId that needs to be cleared
      */
     public void clearCache(String[] attributeId);
+
+    /**
+     * Returns whether the subject attributes resolved by this module depend on the resource of the request. Subject
+     * attributes are shared between the decisions evaluated for the same subject, and are keyed by the resource
+     * id as well when this returns true.
+     *
+     * @return True if the subject attribute values depend on the resource
+     */
+    default boolean isResourceDependent() {
+        return false;
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.pip;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Holds the subject attribute values resolved while evaluating a set of decisions for the same subject, so that
+ * each attribute is retrieved from the PIP attribute finders only once, even when the decisions are evaluated
+ * in parallel.
+ * <p>
+ * The values are keyed by the attribute and by the subject id of the request, so that every decision for the same
+ * subject reuses them. A PIP attribute finder which resolves subject attributes based on the resource declares it
+ * with {@link PIPAttributeFinder#isResourceDependent()}, and its values are keyed by the resource id as well.
+ * <p>
+ * A scope is bound to the evaluating thread with {@link CarbonAttributeFinder#bindSharedAttributeScope} and
+ * released with {@link CarbonAttributeFinder#unbindSharedAttributeScope}.
+ */
+public class SharedAttributeScope {
+
+    private final ConcurrentMap<String, CompletableFuture<Set<String>>> attributeValues =
+            new ConcurrentHashMap<String, CompletableFuture<Set<String>>>();
+
+    /**
+     * Builds the key of an attribute resolved by the given PIP attribute finder for the given subject.
+     *
+     * @param finderName    class name of the PIP attribute finder
+     * @param attributeType attribute data type
+     * @param attributeId   attribute id
+     * @param category      attribute category
+     * @param issuer        attribute issuer
+     * @param subjectId     subject id of the request
+     * @param resourceId    resource id of the request, or null if the PIP does not depend on the resource
+     * @return attribute key
+     */
+    static String buildKey(String finderName, String attributeType, String attributeId, String category,
+                           String issuer, String subjectId, String resourceId) {
+
+        return finderName + "[" + attributeType + "][" + attributeId + "][" + category + "][" + issuer + "][" +
+                subjectId + "][" + resourceId + "]";
+    }
+
+    /**
+     * Returns the attribute values of the given key, resolving them with the given loader if they have not been
+     * resolved in this scope. Concurrent callers of the same key wait for the first caller to resolve the values.
+     *
+     * @param key    attribute key
+     * @param loader resolves the attribute values
+     * @return attribute values
+     * @throws Exception if the values can not be resolved
+     */
+    Set<String> getAttributeValues(String key, Callable<Set<String>> loader) throws Exception {
+
+        CompletableFuture<Set<String>> future = new CompletableFuture<Set<String>>();
+        CompletableFuture<Set<String>> existing = attributeValues.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            Set<String> values = loader.call();
+            future.complete(values);
+            return values;
+        } catch (Exception e) {
+            // Do not keep the failure, so that other decisions of the scope can retry the retrieval.
+            attributeValues.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of attributes resolved in this scope
+     *
+     * @return number of attributes
+     */
+    public int size() {
+        return attributeValues.size();
+    }
+}
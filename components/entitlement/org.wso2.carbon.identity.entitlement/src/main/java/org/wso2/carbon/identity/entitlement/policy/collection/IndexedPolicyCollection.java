@@ -0,0 +1,514 @@
+/*
+*  Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.wso2.carbon.identity.entitlement.policy.collection;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.balana.AbstractPolicy;
+import org.wso2.balana.AbstractTarget;
+import org.wso2.balana.MatchResult;
+import org.wso2.balana.Policy;
+import org.wso2.balana.PolicyReference;
+import org.wso2.balana.PolicySet;
+import org.wso2.balana.TargetMatch;
+import org.wso2.balana.VersionConstraints;
+import org.wso2.balana.attr.AttributeDesignator;
+import org.wso2.balana.attr.AttributeValue;
+import org.wso2.balana.combine.PolicyCombiningAlgorithm;
+import org.wso2.balana.cond.Evaluatable;
+import org.wso2.balana.ctx.Attribute;
+import org.wso2.balana.ctx.EvaluationCtx;
+import org.wso2.balana.xacml3.AllOfSelection;
+import org.wso2.balana.xacml3.AnyOfSelection;
+import org.wso2.balana.xacml3.Attributes;
+import org.wso2.balana.xacml3.Target;
+import org.wso2.carbon.identity.entitlement.EntitlementException;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy collection which keeps an inverted index over the equality matches of the policy targets, so that only the
+ * policies that can possibly match a request are evaluated.
+ * <p>
+ * When a policy is added, its XACML 3.0 target is inspected for an <code>AnyOf</code> element in which every
+ * <code>AllOf</code> element contains a string or anyURI equality match against an attribute designator which is not
+ * marked as MustBePresent. Such a policy cannot match a request that does not carry one of those attribute values, so
+ * it is indexed by them. All other policies are evaluated for every request. Candidate policies are evaluated in the
+ * order they were added, with the same matching and combining semantics as {@link SimplePolicyCollection}.
+ * <p>
+ * This collection can be enabled with the <code>PDP.Policy.Collection</code> property of entitlement.properties.
+ */
+public class IndexedPolicyCollection implements PolicyCollection {
+
+    private static final Log log = LogFactory.getLog(IndexedPolicyCollection.class);
+
+    private static final String STRING_EQUAL = "urn:oasis:names:tc:xacml:1.0:function:string-equal";
+    private static final String ANY_URI_EQUAL = "urn:oasis:names:tc:xacml:1.0:function:anyURI-equal";
+
+    /**
+     * the actual collection of policies
+     * to maintain the order of the policies, <code>LinkedHashMap</code> has been used.
+     */
+    private LinkedHashMap<URI, AbstractPolicy> policyCollection = new LinkedHashMap<URI, AbstractPolicy>();
+    /**
+     * indexed policy entries, keyed by the attribute value a request must carry for the policy to match
+     */
+    private final Map<IndexKey, Set<PolicyEntry>> index = new ConcurrentHashMap<>();
+    /**
+     * indexed policy entries, keyed by the attribute (category, id and data type) they are indexed with
+     */
+    private final Map<IndexedAttribute, Set<PolicyEntry>> indexedAttributes = new ConcurrentHashMap<>();
+    /**
+     * policies which can not be indexed and have to be evaluated for every request
+     */
+    private final Set<PolicyEntry> unindexedPolicies = ConcurrentHashMap.newKeySet();
+    private final Map<URI, PolicyEntry> policyEntries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * the optional combining algorithm used when wrapping multiple policies
+     * if no algorithm is defined, only one applicable algorithm is used
+     */
+    private PolicyCombiningAlgorithm combiningAlg;
+    /**
+     * the optional policy id used when wrapping multiple policies
+     */
+    private URI parentId;
+
+    @Override
+    public void init(Properties properties) throws Exception {
+
+        String parentIdProperty = properties.getProperty("parentId");
+        if (parentIdProperty != null) {
+            parentId = new URI(parentIdProperty);
+        }
+    }
+
+    @Override
+    public boolean addPolicy(AbstractPolicy policy) {
+
+        return addPolicy(policy.getId(), policy);
+    }
+
+    @Override
+    public AbstractPolicy getEffectivePolicy(EvaluationCtx context) throws EntitlementException {
+
+        // setup a list of matching policies
+        ArrayList<AbstractPolicy> list = new ArrayList<AbstractPolicy>();
+
+        for (PolicyEntry entry : getCandidatePolicies(context)) {
+
+            AbstractPolicy policy = entry.policy;
+
+            // see if we match
+            MatchResult match = policy.match(context);
+            int result = match.getResult();
+
+            // if there was an error, we stop right away
+            if (result == MatchResult.INDETERMINATE) {
+                log.error(match.getStatus().getMessage());
+                throw new EntitlementException(match.getStatus().getMessage());
+            }
+
+            // if we matched, we keep track of the matching policy...
+            if (result == MatchResult.MATCH) {
+                // ...first checking if this is the first match and if
+                // we automatically nest policies
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Matching XACML policy found " + policy.getId().toString());
+                }
+
+                if ((combiningAlg == null) && (list.size() > 0)) {
+                    log.error("Too many applicable top-level policies");
+                    throw new EntitlementException("Too many applicable top-level policies");
+                }
+
+                list.add(policy);
+            }
+        }
+
+        // no errors happened during the search, so now take the right
+        // action based on how many policies we found
+        switch (list.size()) {
+            case 0:
+                if (log.isDebugEnabled()) {
+                    log.debug("No matching XACML policy found");
+                }
+                return null;
+            case 1:
+                return list.get(0);
+            default:
+                return new PolicySet(parentId, combiningAlg, null, list);
+        }
+    }
+
+    @Override
+    public AbstractPolicy getPolicy(URI policyId) {
+
+        PolicyEntry entry = policyEntries.get(policyId);
+        return entry != null ? entry.policy : null;
+    }
+
+    @Override
+    public AbstractPolicy getPolicy(URI identifier, int type, VersionConstraints constraints) {
+
+        AbstractPolicy policy = getPolicy(identifier);
+
+        if (policy != null) {
+            // we found a valid version, so see if it's the right kind,
+            // and if it is then we return it
+            if (type == PolicyReference.POLICY_REFERENCE) {
+                if (policy instanceof Policy) {
+                    return policy;
+                }
+            } else {
+                if (policy instanceof PolicySet) {
+                    return policy;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void setPolicyCombiningAlgorithm(PolicyCombiningAlgorithm algorithm) {
+
+        this.combiningAlg = algorithm;
+    }
+
+    @Override
+    public synchronized boolean deletePolicy(String policyId) {
+
+        try {
+            URI identifier = new URI(policyId);
+            removeFromIndex(identifier);
+            return this.policyCollection.remove(identifier) != null;
+        } catch (URISyntaxException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public LinkedHashMap getPolicyMap() {
+
+        return this.policyCollection;
+    }
+
+    @Override
+    public synchronized void setPolicyMap(LinkedHashMap policyMap) {
+
+        this.policyCollection = new LinkedHashMap<URI, AbstractPolicy>();
+        index.clear();
+        indexedAttributes.clear();
+        unindexedPolicies.clear();
+        policyEntries.clear();
+        for (Object entry : policyMap.entrySet()) {
+            Map.Entry<?, ?> policyEntry = (Map.Entry<?, ?>) entry;
+            if (policyEntry.getValue() instanceof AbstractPolicy) {
+                addPolicy((URI) policyEntry.getKey(), (AbstractPolicy) policyEntry.getValue());
+            }
+        }
+    }
+
+    private synchronized boolean addPolicy(URI identifier, AbstractPolicy policy) {
+
+        PolicyEntry existing = policyEntries.get(identifier);
+        // An updated policy keeps the position of the policy it replaces.
+        long position = existing != null ? existing.position : sequence.incrementAndGet();
+        removeFromIndex(identifier);
+
+        PolicyEntry entry = new PolicyEntry(policy, position);
+        List<IndexKey> keys = getIndexKeys(policy.getTarget());
+        entry.keys = keys;
+        if (keys.isEmpty()) {
+            unindexedPolicies.add(entry);
+        } else {
+            for (IndexKey key : keys) {
+                index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(entry);
+                indexedAttributes.computeIfAbsent(key.attribute, k -> ConcurrentHashMap.newKeySet()).add(entry);
+            }
+        }
+        policyEntries.put(identifier, entry);
+
+        if (log.isDebugEnabled()) {
+            log.debug("XACML policy " + identifier + (keys.isEmpty() ? " is not indexed" :
+                    " is indexed with " + keys.size() + " target values"));
+        }
+        return policyCollection.put(identifier, policy) != null;
+    }
+
+    private void removeFromIndex(URI identifier) {
+
+        PolicyEntry entry = policyEntries.remove(identifier);
+        if (entry == null) {
+            return;
+        }
+        unindexedPolicies.remove(entry);
+        for (IndexKey key : entry.keys) {
+            Set<PolicyEntry> entries = index.get(key);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+            indexedAttributes.computeIfPresent(key.attribute, (attribute, entries) -> {
+                entries.remove(entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    /**
+     * Collects the policies which can possibly match the request, ordered by the position they were added at.
+     * <p>
+     * Only the attribute values carried by the request itself are used for the index lookup, so that the lookup
+     * never resolves an attribute through the attribute finders. When the request does not carry an indexed
+     * attribute, its value could only come from an attribute finder, so all the policies indexed with that attribute
+     * are kept as candidates and resolve it while they are matched, as they would in {@link SimplePolicyCollection}.
+     */
+    private Iterable<PolicyEntry> getCandidatePolicies(EvaluationCtx context) {
+
+        TreeMap<Long, PolicyEntry> candidates = new TreeMap<>();
+        for (PolicyEntry entry : unindexedPolicies) {
+            candidates.put(entry.position, entry);
+        }
+        if (index.isEmpty()) {
+            return candidates.values();
+        }
+
+        Map<IndexedAttribute, List<AttributeValue>> requestValues = getRequestValues(context);
+        for (Map.Entry<IndexedAttribute, Set<PolicyEntry>> indexedAttribute : indexedAttributes.entrySet()) {
+            List<AttributeValue> values = requestValues.get(indexedAttribute.getKey());
+            if (values == null) {
+                for (PolicyEntry entry : indexedAttribute.getValue()) {
+                    candidates.put(entry.position, entry);
+                }
+                continue;
+            }
+            for (AttributeValue value : values) {
+                addCandidates(candidates, indexedAttribute.getKey(), value);
+            }
+        }
+        return candidates.values();
+    }
+
+    /**
+     * Collects the values of the request attributes, keyed by their category, id and data type.
+     */
+    private Map<IndexedAttribute, List<AttributeValue>> getRequestValues(EvaluationCtx context) {
+
+        Map<IndexedAttribute, List<AttributeValue>> requestValues = new HashMap<>();
+        if (context.getRequestCtx() == null || context.getRequestCtx().getAttributesSet() == null) {
+            return requestValues;
+        }
+        for (Attributes attributes : context.getRequestCtx().getAttributesSet()) {
+            if (attributes.getCategory() == null || attributes.getAttributes() == null) {
+                continue;
+            }
+            for (Attribute attribute : attributes.getAttributes()) {
+                if (attribute.getId() == null || attribute.getType() == null || attribute.getValues() == null) {
+                    continue;
+                }
+                requestValues.computeIfAbsent(new IndexedAttribute(attributes.getCategory(), attribute.getId(),
+                        attribute.getType()), k -> new ArrayList<>()).addAll(attribute.getValues());
+            }
+        }
+        return requestValues;
+    }
+
+    private void addCandidates(TreeMap<Long, PolicyEntry> candidates, IndexedAttribute attribute,
+                               AttributeValue value) {
+
+        Set<PolicyEntry> entries = index.get(new IndexKey(attribute, value.encode()));
+        if (entries != null) {
+            for (PolicyEntry entry : entries) {
+                candidates.put(entry.position, entry);
+            }
+        }
+    }
+
+    /**
+     * Finds the index keys of a policy target. The first <code>AnyOf</code> element of which every
+     * <code>AllOf</code> element has an indexable match is used, taking one indexable match of each
+     * <code>AllOf</code> element.
+     *
+     * @param target policy target
+     * @return index keys, or an empty list if the policy can not be indexed
+     */
+    private List<IndexKey> getIndexKeys(AbstractTarget target) {
+
+        if (!(target instanceof Target)) {
+            return Collections.emptyList();
+        }
+        List<AnyOfSelection> anyOfSelections = ((Target) target).getAnyOfSelections();
+        if (anyOfSelections == null) {
+            return Collections.emptyList();
+        }
+        for (AnyOfSelection anyOfSelection : anyOfSelections) {
+            List<AllOfSelection> allOfSelections = anyOfSelection.getAllOfSelections();
+            if (allOfSelections == null || allOfSelections.isEmpty()) {
+                continue;
+            }
+            List<IndexKey> keys = new ArrayList<>();
+            for (AllOfSelection allOfSelection : allOfSelections) {
+                IndexKey key = getIndexKey(allOfSelection);
+                if (key == null) {
+                    keys = null;
+                    break;
+                }
+                keys.add(key);
+            }
+            if (keys != null) {
+                return keys;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private IndexKey getIndexKey(AllOfSelection allOfSelection) {
+
+        List<TargetMatch> matches = allOfSelection.getMatches();
+        if (matches == null) {
+            return null;
+        }
+        for (TargetMatch match : matches) {
+            if (match.getMatchFunction() == null || match.getMatchValue() == null) {
+                continue;
+            }
+            String function = match.getMatchFunction().getIdentifier().toString();
+            if (!STRING_EQUAL.equals(function) && !ANY_URI_EQUAL.equals(function)) {
+                continue;
+            }
+            Evaluatable evaluatable = match.getMatchEvaluatable();
+            if (!(evaluatable instanceof AttributeDesignator)) {
+                continue;
+            }
+            AttributeDesignator designator = (AttributeDesignator) evaluatable;
+            if (designator.mustBePresent() || designator.getIssuer() != null || designator.getCategory() == null) {
+                // A missing attribute would make the target indeterminate rather than not matching.
+                continue;
+            }
+            AttributeValue value = match.getMatchValue();
+            return new IndexKey(new IndexedAttribute(designator.getCategory(), designator.getId(),
+                    designator.getType()), value.encode());
+        }
+        return null;
+    }
+
+    /**
+     * Policy with the position it was added to the collection at.
+     */
+    private static class PolicyEntry {
+
+        private final AbstractPolicy policy;
+        private final long position;
+        private List<IndexKey> keys = Collections.emptyList();
+
+        PolicyEntry(AbstractPolicy policy, long position) {
+
+            this.policy = policy;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Attribute of the request used for the index lookup.
+     */
+    private static class IndexedAttribute {
+
+        private final URI category;
+        private final URI id;
+        private final URI dataType;
+
+        IndexedAttribute(URI category, URI id, URI dataType) {
+
+            this.category = category;
+            this.id = id;
+            this.dataType = dataType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexedAttribute)) {
+                return false;
+            }
+            IndexedAttribute that = (IndexedAttribute) o;
+            return category.equals(that.category) && id.equals(that.id) && dataType.equals(that.dataType);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(category, id, dataType);
+        }
+    }
+
+    /**
+     * Attribute value a request must carry for an indexed policy to match.
+     */
+    private static class IndexKey {
+
+        private final IndexedAttribute attribute;
+        private final String value;
+
+        IndexKey(IndexedAttribute attribute, String value) {
+
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IndexKey)) {
+                return false;
+            }
+            IndexKey that = (IndexKey) o;
+            return attribute.equals(that.attribute) && value.equals(that.value);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return 31 * attribute.hashCode() + value.hashCode();
+        }
+    }
+}
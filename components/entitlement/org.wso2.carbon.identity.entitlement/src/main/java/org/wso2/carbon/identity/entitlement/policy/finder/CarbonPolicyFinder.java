@@ -32,15 +32,18 @@ import org.wso2.balana.ctx.Status;
 import org.wso2.balana.finder.PolicyFinder;
 import org.wso2.balana.finder.PolicyFinderResult;
 import org.wso2.carbon.context.CarbonContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.entitlement.EntitlementException;
 import org.wso2.carbon.identity.entitlement.PDPConstants;
 import org.wso2.carbon.identity.entitlement.PolicyOrderComparator;
+import org.wso2.carbon.identity.entitlement.cache.PolicyCache;
 import org.wso2.carbon.identity.entitlement.cache.PolicyStatus;
 import org.wso2.carbon.identity.entitlement.common.EntitlementConstants;
 import org.wso2.carbon.identity.entitlement.dto.PolicyDTO;
 import org.wso2.carbon.identity.entitlement.internal.EntitlementServiceComponent;
 import org.wso2.carbon.identity.entitlement.pdp.EntitlementEngine;
 import org.wso2.carbon.identity.entitlement.policy.PolicyReader;
+import org.wso2.carbon.identity.entitlement.policy.collection.IndexedPolicyCollection;
 import org.wso2.carbon.identity.entitlement.policy.collection.PolicyCollection;
 import org.wso2.carbon.identity.entitlement.policy.collection.SimplePolicyCollection;
 import org.wso2.carbon.identity.entitlement.policy.store.DefaultPolicyDataStore;
@@ -52,52 +55,64 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Policy finder of the WSO2 entitlement engine.  This an implementation of <code>PolicyFinderModule</code>
  * of Balana engine. Extensions can be plugged with this.
+ * <p>
+ * Policies are held in an immutable snapshot of the policy collection. When policies are invalidated, a new
+ * snapshot is built by copying the current one and applying the changes (or by reloading all the policies), and it
+ * is published with a single reference swap. By default the snapshot is built by a background worker, so that
+ * decision threads keep evaluating against the current snapshot instead of waiting for the policies to be reloaded.
+ * Decisions are served from the previous policies until the new snapshot is published, hence the refresh can be made
+ * blocking with <code>PDP.Policy.Refresh.Async=false</code> where revocation must take effect on the next decision.
  */
 public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModule {
 
     private static Log log = LogFactory.getLog(CarbonPolicyFinder.class);
+    private static final ExecutorService policyRefreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "EntitlementPolicyRefresher");
+        thread.setDaemon(true);
+        return thread;
+    });
     public PolicyReader policyReader;
     private List<PolicyFinderModule> finderModules = null;
-    private PolicyCollection policyCollection;
+    private final PolicySnapshotHolder snapshotHolder = new PolicySnapshotHolder(policyRefreshExecutor);
 
     private List<PolicyDTO> policyCollectionOrder = new ArrayList<PolicyDTO>();
 
     private PolicyFinder finder;
-    /**
-     * this is a flag to keep whether init it has finished or not.
-     */
-    private volatile boolean initFinish;
-    private LinkedHashMap<URI, AbstractPolicy> policyReferenceCache = null;
+    private PolicyCombiningAlgorithm policyCombiningAlgorithm;
+    private Map<URI, AbstractPolicy> policyReferenceCache = null;
     private int maxReferenceCacheEntries = PDPConstants.MAX_NO_OF_IN_MEMORY_POLICIES;
+    private boolean asyncPolicyRefresh = true;
+    private int tenantId;
+    private String tenantDomain;
 
 
     @Override
     public void init(PolicyFinder finder) {
-        initFinish = false;
         this.finder = finder;
+        tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
+        tenantDomain = CarbonContext.getThreadLocalCarbonContext().getTenantDomain();
         init();
-        policyReferenceCache.clear();
     }
 
     private synchronized void init() {
 
-        if (initFinish) {
-            return;
-        }
-
         log.info("Initializing of policy store is started at :  " + new Date());
 
-        String maxEntries = EntitlementServiceComponent.getEntitlementConfig().getEngineProperties().
-                getProperty(PDPConstants.MAX_POLICY_REFERENCE_ENTRIES);
+        Properties engineProperties = EntitlementServiceComponent.getEntitlementConfig().getEngineProperties();
+        String maxEntries = engineProperties.getProperty(PDPConstants.MAX_POLICY_REFERENCE_ENTRIES);
 
         if (maxEntries != null) {
             try {
@@ -107,17 +122,23 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
             }
         }
 
-        policyReferenceCache = new LinkedHashMap<URI, AbstractPolicy>() {
+        String asyncRefresh = engineProperties.getProperty(PDPConstants.POLICY_REFRESH_ASYNC);
+        if (asyncRefresh != null) {
+            asyncPolicyRefresh = Boolean.parseBoolean(asyncRefresh.trim());
+        }
 
-            @Override
-            protected boolean removeEldestEntry(Map.Entry eldest) {
-                // oldest entry of the cache would be removed when max cache size become, i.e 50
-                return size() > maxReferenceCacheEntries;
-            }
+        if (policyReferenceCache == null) {
+            policyReferenceCache = Collections.synchronizedMap(new LinkedHashMap<URI, AbstractPolicy>() {
 
-        };
+                @Override
+                protected boolean removeEldestEntry(Map.Entry eldest) {
+                    // oldest entry of the cache would be removed when max cache size become, i.e 50
+                    return size() > maxReferenceCacheEntries;
+                }
+
+            });
+        }
 
-        PolicyCombiningAlgorithm policyCombiningAlgorithm = null;
         // get registered finder modules
         Map<PolicyFinderModule, Properties> finderModules = EntitlementServiceComponent.
                 getEntitlementConfig().getPolicyFinderModules();
@@ -126,20 +147,13 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
             this.finderModules = new ArrayList<PolicyFinderModule>(finderModules.keySet());
         }
 
-        PolicyCollection tempPolicyCollection = null;
-
-        // get policy collection
-        Map<PolicyCollection, Properties> policyCollections = EntitlementServiceComponent.
-                getEntitlementConfig().getPolicyCollections();
-        if (policyCollections != null && policyCollections.size() > 0) {
-            tempPolicyCollection = policyCollections.entrySet().iterator().next().getKey();
-        } else {
-            tempPolicyCollection = new SimplePolicyCollection();
-        }
-
         // get policy reader
         policyReader = PolicyReader.getInstance(finder);
 
+        long startTime = System.currentTimeMillis();
+        List<PolicyDTO> tempPolicyCollectionOrder = new ArrayList<PolicyDTO>();
+        PolicyCollection tempPolicyCollection = createPolicyCollection();
+
         if (this.finderModules != null && this.finderModules.size() > 0) {
             // find policy combining algorithm.
 
@@ -167,7 +181,7 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
                         PolicyDTO policyDTO = new PolicyDTO();
                         policyDTO.setPolicyId(abstractPolicy.getId().toString());
                         policyDTO.setPolicyOrder(a);
-                        policyCollectionOrder.add(policyDTO);
+                        tempPolicyCollectionOrder.add(policyDTO);
                         tempPolicyCollection.addPolicy(abstractPolicy);
                     }
                 }
@@ -178,11 +192,39 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
 
         }
 
-        policyCollection = tempPolicyCollection;
-        initFinish = true;
+        policyCollectionOrder = tempPolicyCollectionOrder;
+        publishSnapshot(tempPolicyCollection, System.currentTimeMillis() - startTime);
         log.info("Initializing of policy store is finished at :  " + new Date());
     }
 
+    /**
+     * Creates a new, empty instance of the configured policy collection.
+     *
+     * @return policy collection
+     */
+    private PolicyCollection createPolicyCollection() {
+
+        Map<PolicyCollection, Properties> policyCollections = EntitlementServiceComponent.
+                getEntitlementConfig().getPolicyCollections();
+        if (policyCollections == null || policyCollections.isEmpty()) {
+            return new SimplePolicyCollection();
+        }
+        Map.Entry<PolicyCollection, Properties> configuredCollection = policyCollections.entrySet().iterator().next();
+        try {
+            PolicyCollection collection = configuredCollection.getKey().getClass().getDeclaredConstructor()
+                    .newInstance();
+            if (configuredCollection.getValue() != null) {
+                collection.init(configuredCollection.getValue());
+            }
+            return collection;
+        } catch (Exception e) {
+            // Fall back to the configured instance, as it was used before snapshots were introduced.
+            log.warn("Unable to create a new instance of the policy collection: " +
+                    configuredCollection.getKey().getClass().getName(), e);
+            return configuredCollection.getKey();
+        }
+    }
+
     @Override
     public String getIdentifier() {
         return super.getIdentifier();
@@ -199,11 +241,11 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
     }
 
 
-    private void orderPolicyCache() {
-        LinkedHashMap<URI, AbstractPolicy> policyMap = policyCollection.getPolicyMap();
-        Collections.sort(policyCollectionOrder, new PolicyOrderComparator());
+    private void orderPolicyCache(PolicyCollection collection, List<PolicyDTO> policyOrder) {
+        LinkedHashMap<URI, AbstractPolicy> policyMap = collection.getPolicyMap();
+        Collections.sort(policyOrder, new PolicyOrderComparator());
         LinkedHashMap<URI, AbstractPolicy> newPolicyMap = new LinkedHashMap<URI, AbstractPolicy>();
-        Iterator<PolicyDTO> policyDTOIterator = policyCollectionOrder.iterator();
+        Iterator<PolicyDTO> policyDTOIterator = policyOrder.iterator();
         while (policyDTOIterator.hasNext()) {
             try {
                 URI policyURI = new URI(policyDTOIterator.next().getPolicyId());
@@ -218,82 +260,222 @@ public class CarbonPolicyFinder extends org.wso2.balana.finder.PolicyFinderModul
     @Override
     public PolicyFinderResult findPolicy(EvaluationCtx context) {
 
-        if (EntitlementEngine.getInstance().getPolicyCache().isInvalidate()) {
+        refreshPolicyCollectionIfInvalidated();
+
+        try {
+            AbstractPolicy policy = snapshotHolder.getSnapshot().getEffectivePolicy(context);
+            if (policy == null) {
+                return new PolicyFinderResult();
+            } else {
+                return new PolicyFinderResult(policy);
+            }
+        } catch (EntitlementException e) {
+            ArrayList<String> code = new ArrayList<String>();
+            code.add(Status.STATUS_PROCESSING_ERROR);
+            Status status = new Status(code, e.getMessage());
+            return new PolicyFinderResult(status);
+        }
+    }
+
+    /**
+     * Checks whether policies have been invalidated and if so, builds a new policy snapshot. With asynchronous
+     * refresh the snapshot is built by the background worker and this method returns immediately.
+     */
+    private void refreshPolicyCollectionIfInvalidated() {
+
+        PolicyCache policyCache = EntitlementEngine.getInstance().getPolicyCache();
+        if (!policyCache.isInvalidate()) {
+            Collection<PolicyStatus> policies = policyCache.getInvalidatedPolicies();
+            if (policies == null || policies.isEmpty()) {
+                return;
+            }
+        }
+        if (asyncPolicyRefresh) {
+            snapshotHolder.refresh(this::runPolicyRefresh, true);
+        } else {
+            snapshotHolder.refresh(this::refreshPolicyCollection, false);
+        }
+    }
+
+    private void runPolicyRefresh() {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantId(tenantId);
+            carbonContext.setTenantDomain(tenantDomain);
+            refreshPolicyCollection();
+        } catch (RuntimeException e) {
+            log.error("Error while refreshing the policies of tenant : " + tenantId, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Builds and publishes a new policy snapshot for the pending invalidations.
+     */
+    private synchronized void refreshPolicyCollection() {
 
-            init(this.finder);
+        EntitlementEngine entitlementEngine = EntitlementEngine.getInstance();
+        PolicyCache policyCache = entitlementEngine.getPolicyCache();
+
+        if (policyCache.isInvalidate()) {
+            // Reset first, so that an invalidation received while reloading triggers another reload.
+            entitlementEngine.resetCacheInvalidateState();
+            init();
             policyReferenceCache.clear();
-            EntitlementEngine.getInstance().clearDecisionCache();
-            EntitlementEngine.getInstance().resetCacheInvalidateState();
+            entitlementEngine.clearDecisionCache();
             if (log.isDebugEnabled()) {
-                int tenantId = CarbonContext.getThreadLocalCarbonContext().getTenantId();
                 log.debug("Invalidation cache message is received. " +
                           "Re-initialized policy finder module of current node and invalidate decision " +
                           "caching for tenantId : " + tenantId);
             }
-        } else {
-            Collection<PolicyStatus> policies =
-                    EntitlementEngine.getInstance().getPolicyCache().getInvalidatedPolicies();
-            if (policies != null) {
-                if (policies.size() > 0) {
-                    synchronized (policies) {
-                        boolean isReorder = false;
-                        policyReferenceCache.clear();
-                        EntitlementEngine.getInstance().clearDecisionCache();
-                        for (PolicyStatus policyStatus : policies) {
-
-                            if (EntitlementConstants.PolicyPublish.ACTION_DELETE
-                                    .equals(policyStatus.getPolicyAction())) {
-                                policyCollection.deletePolicy(policyStatus.getPolicyId());
-                                policyCollectionOrder.remove(new PolicyDTO(policyStatus.getPolicyId()));
-                            } else if (EntitlementConstants.PolicyPublish.ACTION_UPDATE
-                                    .equals(policyStatus.getPolicyAction())) {
-                                AbstractPolicy abstractPolicy = loadPolicy(policyStatus.getPolicyId());
-                                policyCollection.addPolicy(abstractPolicy);
-                            } else if (EntitlementConstants.PolicyPublish.ACTION_CREATE
-                                    .equals(policyStatus.getPolicyAction())) {
-                                AbstractPolicy abstractPolicy = loadPolicy(policyStatus.getPolicyId());
-                                policyCollection.addPolicy(abstractPolicy);
-                                isReorder = true;
-                            } else if (EntitlementConstants.PolicyPublish.ACTION_ORDER
-                                    .equals(policyStatus.getPolicyAction())) {
-                                int order = getPolicyOrder(policyStatus.getPolicyId());
-                                if (order != -1) {
-                                    PolicyDTO policyDTO = new PolicyDTO(policyStatus.getPolicyId());
-                                    if (policyCollectionOrder.indexOf(policyDTO) != -1) {
-                                        policyCollectionOrder.get(policyCollectionOrder.indexOf(policyDTO))
-                                                .setPolicyOrder(order);
-                                        isReorder = true;
-                                    }
-                                }
-                            }
+            return;
+        }
 
-                        }
-                        if (isReorder) {
-                            orderPolicyCache();
-                        }
-                        policies.clear();
-                    }
+        Collection<PolicyStatus> policies = policyCache.getInvalidatedPolicies();
+        if (policies == null || policies.isEmpty()) {
+            return;
+        }
+        List<PolicyStatus> invalidatedPolicies;
+        synchronized (policies) {
+            // The invalidations are only removed once they are applied, so that a failed refresh is retried.
+            invalidatedPolicies = new ArrayList<PolicyStatus>(policies);
+        }
 
+        PolicyCollection currentCollection = snapshotHolder.getSnapshot();
+        if (!(currentCollection instanceof SimplePolicyCollection)
+                && !(currentCollection instanceof IndexedPolicyCollection)) {
+            // The policy map of other collections can not be copied safely, hence reload all the policies.
+            reloadPolicies(policies, invalidatedPolicies);
+            return;
+        }
 
+        long startTime = System.currentTimeMillis();
+        PolicyCollection newCollection = createPolicyCollection();
+        newCollection.setPolicyCombiningAlgorithm(policyCombiningAlgorithm);
+        newCollection.setPolicyMap(new LinkedHashMap<URI, AbstractPolicy>(currentCollection.getPolicyMap()));
+        List<PolicyDTO> newPolicyCollectionOrder = new ArrayList<PolicyDTO>(policyCollectionOrder);
+
+        boolean isReorder = false;
+        for (PolicyStatus policyStatus : invalidatedPolicies) {
+
+            if (EntitlementConstants.PolicyPublish.ACTION_DELETE
+                    .equals(policyStatus.getPolicyAction())) {
+                newCollection.deletePolicy(policyStatus.getPolicyId());
+                newPolicyCollectionOrder.remove(new PolicyDTO(policyStatus.getPolicyId()));
+            } else if (EntitlementConstants.PolicyPublish.ACTION_UPDATE
+                    .equals(policyStatus.getPolicyAction())
+                    || EntitlementConstants.PolicyPublish.ACTION_CREATE
+                    .equals(policyStatus.getPolicyAction())) {
+                AbstractPolicy abstractPolicy = loadPolicy(policyStatus.getPolicyId());
+                if (abstractPolicy == null) {
+                    // The policy is no longer active in the store or can not be read. Reload all the policies, so
+                    // that an outdated version of the policy is not kept in the snapshot.
+                    log.warn("Unable to load the policy : " + policyStatus.getPolicyId() + " for the "
+                            + policyStatus.getPolicyAction() + " action of tenant : " + tenantId
+                            + ". Reloading all the policies.");
+                    reloadPolicies(policies, invalidatedPolicies);
+                    return;
+                }
+                newCollection.addPolicy(abstractPolicy);
+                if (EntitlementConstants.PolicyPublish.ACTION_CREATE.equals(policyStatus.getPolicyAction())) {
+                    isReorder = true;
+                }
+            } else if (EntitlementConstants.PolicyPublish.ACTION_ORDER
+                    .equals(policyStatus.getPolicyAction())) {
+                int order = getPolicyOrder(policyStatus.getPolicyId());
+                if (order != -1) {
+                    PolicyDTO policyDTO = new PolicyDTO(policyStatus.getPolicyId());
+                    int index = newPolicyCollectionOrder.indexOf(policyDTO);
+                    if (index != -1) {
+                        policyDTO.setPolicyOrder(order);
+                        newPolicyCollectionOrder.set(index, policyDTO);
+                        isReorder = true;
+                    }
                 }
             }
+
+        }
+        if (isReorder) {
+            orderPolicyCache(newCollection, newPolicyCollectionOrder);
         }
 
-        try {
-            AbstractPolicy policy = policyCollection.getEffectivePolicy(context);
-            if (policy == null) {
-                return new PolicyFinderResult();
-            } else {
-                return new PolicyFinderResult(policy);
-            }
-        } catch (EntitlementException e) {
-            ArrayList<String> code = new ArrayList<String>();
-            code.add(Status.STATUS_PROCESSING_ERROR);
-            Status status = new Status(code, e.getMessage());
-            return new PolicyFinderResult(status);
+        policyCollectionOrder = newPolicyCollectionOrder;
+        publishSnapshot(newCollection, System.currentTimeMillis() - startTime);
+        removeAppliedInvalidations(policies, invalidatedPolicies);
+        policyReferenceCache.clear();
+        entitlementEngine.clearDecisionCache();
+    }
+
+    private void reloadPolicies(Collection<PolicyStatus> policies, List<PolicyStatus> invalidatedPolicies) {
+
+        init();
+        removeAppliedInvalidations(policies, invalidatedPolicies);
+        policyReferenceCache.clear();
+        EntitlementEngine.getInstance().clearDecisionCache();
+    }
+
+    /**
+     * Removes the applied invalidations. Invalidations received while the snapshot was built are different
+     * instances, even for the same policy, hence they are kept for the next refresh.
+     */
+    private void removeAppliedInvalidations(Collection<PolicyStatus> policies, List<PolicyStatus> appliedPolicies) {
+
+        Set<PolicyStatus> applied = Collections.newSetFromMap(new IdentityHashMap<PolicyStatus, Boolean>());
+        applied.addAll(appliedPolicies);
+        synchronized (policies) {
+            policies.removeIf(applied::contains);
         }
     }
 
+    private void publishSnapshot(PolicyCollection newCollection, long buildTime) {
+
+        snapshotHolder.publish(newCollection, buildTime);
+        if (log.isDebugEnabled()) {
+            log.debug("Published policy snapshot for tenant : " + tenantId + ". Build time : " + buildTime +
+                    " ms, staleness : " + snapshotHolder.getLastSnapshotStaleness() + " ms");
+        }
+    }
+
+    /**
+     * Returns the number of policy snapshots published
+     *
+     * @return number of snapshots
+     */
+    public long getSnapshotCount() {
+        return snapshotHolder.getSnapshotCount();
+    }
+
+    /**
+     * Returns the time taken to build the latest policy snapshot
+     *
+     * @return build time in milliseconds
+     */
+    public long getLastSnapshotBuildTime() {
+        return snapshotHolder.getLastSnapshotBuildTime();
+    }
+
+    /**
+     * Returns the time between noticing an invalidation and publishing the snapshot which applied it, for the
+     * latest snapshot. Decisions are evaluated against the previous snapshot during this time.
+     *
+     * @return staleness in milliseconds
+     */
+    public long getLastSnapshotStaleness() {
+        return snapshotHolder.getLastSnapshotStaleness();
+    }
+
+    /**
+     * Returns the maximum staleness observed for a policy snapshot
+     *
+     * @return staleness in milliseconds
+     */
+    public long getMaxSnapshotStaleness() {
+        return snapshotHolder.getMaxSnapshotStaleness();
+    }
+
 
     private AbstractPolicy loadPolicy(String policyId) {
         if (this.finderModules != null) {
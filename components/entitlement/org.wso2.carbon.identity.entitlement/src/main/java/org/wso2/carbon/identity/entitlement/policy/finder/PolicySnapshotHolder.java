@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.policy.finder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.entitlement.policy.collection.PolicyCollection;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the published policy snapshot of a {@link CarbonPolicyFinder} together with the metrics of the published
+ * snapshots. A refresh either runs in the calling thread or is handed over to the refresh executor. At most one
+ * refresh is scheduled at a time, and readers keep getting the current snapshot until the refresh publishes a new one.
+ */
+class PolicySnapshotHolder {
+
+    private static final Log log = LogFactory.getLog(PolicySnapshotHolder.class);
+
+    private final Executor refreshExecutor;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+    /**
+     * time at which the pending invalidation was first noticed, or 0 if there is no pending invalidation
+     */
+    private final AtomicLong invalidationTime = new AtomicLong();
+    private final AtomicLong snapshotCount = new AtomicLong();
+    private volatile PolicyCollection snapshot;
+    private volatile long lastSnapshotBuildTime;
+    private volatile long lastSnapshotStaleness;
+    private volatile long maxSnapshotStaleness;
+
+    PolicySnapshotHolder(Executor refreshExecutor) {
+
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Returns the current policy snapshot
+     *
+     * @return policy collection
+     */
+    PolicyCollection getSnapshot() {
+
+        return snapshot;
+    }
+
+    /**
+     * Refreshes the snapshot for a pending invalidation.
+     *
+     * @param refreshTask builds and publishes the new snapshot
+     * @param async       whether the refresh is handed over to the refresh executor instead of run in this thread
+     */
+    void refresh(Runnable refreshTask, boolean async) {
+
+        invalidationTime.compareAndSet(0, System.currentTimeMillis());
+        if (!async) {
+            refreshTask.run();
+            return;
+        }
+        if (!refreshScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshTask.run();
+                } catch (RuntimeException e) {
+                    log.error("Error while refreshing the policy snapshot", e);
+                } finally {
+                    refreshScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshScheduled.set(false);
+            log.error("Unable to schedule the policy snapshot refresh", e);
+        }
+    }
+
+    /**
+     * Publishes a new snapshot with a single reference swap.
+     *
+     * @param newSnapshot new policy collection
+     * @param buildTime   time taken to build the snapshot in milliseconds
+     */
+    void publish(PolicyCollection newSnapshot, long buildTime) {
+
+        snapshot = newSnapshot;
+        snapshotCount.incrementAndGet();
+        lastSnapshotBuildTime = buildTime;
+        long invalidatedAt = invalidationTime.getAndSet(0);
+        if (invalidatedAt > 0) {
+            lastSnapshotStaleness = System.currentTimeMillis() - invalidatedAt;
+            maxSnapshotStaleness = Math.max(maxSnapshotStaleness, lastSnapshotStaleness);
+        }
+    }
+
+    long getSnapshotCount() {
+
+        return snapshotCount.get();
+    }
+
+    long getLastSnapshotBuildTime() {
+
+        return lastSnapshotBuildTime;
+    }
+
+    long getLastSnapshotStaleness() {
+
+        return lastSnapshotStaleness;
+    }
+
+    long getMaxSnapshotStaleness() {
+
+        return maxSnapshotStaleness;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EntitlementLRUCache}.
+ */
+public class EntitlementLRUCacheTest {
+
+    @Test
+    public void testKeepsCacheSizeEntries() {
+
+        EntitlementLRUCache<String, String> cache = new EntitlementLRUCache<String, String>(3);
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.put("c", "c");
+        assertEquals(cache.size(), 3);
+
+        // Access "a", so that "b" is the least recently used entry.
+        cache.get("a");
+        cache.put("d", "d");
+
+        assertEquals(cache.size(), 3);
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("d"));
+    }
+
+    @Test
+    public void testConcurrentAccessWhenSynchronized() throws Exception {
+
+        int cacheSize = 50;
+        int threads = 8;
+        // The cache is a LinkedHashMap in access order, hence concurrent users must synchronize on it.
+        Map<String, String> cache = Collections.synchronizedMap(new EntitlementLRUCache<String, String>(cacheSize));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < 20000; j++) {
+                        String key = "policy" + random.nextInt(200);
+                        if (random.nextBoolean()) {
+                            cache.put(key, key);
+                        } else {
+                            String value = cache.get(key);
+                            if (value != null) {
+                                assertEquals(value, key);
+                            }
+                        }
+                        assertTrue(cache.size() <= cacheSize);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(cache.size(), cacheSize);
+        synchronized (cache) {
+            for (Map.Entry<String, String> entry : cache.entrySet()) {
+                assertEquals(entry.getValue(), entry.getKey());
+            }
+        }
+    }
+}
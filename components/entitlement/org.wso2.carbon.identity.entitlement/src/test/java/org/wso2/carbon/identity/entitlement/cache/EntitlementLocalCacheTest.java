@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.cache;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link EntitlementLocalCache}.
+ */
+public class EntitlementLocalCacheTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20000;
+
+    @Test
+    public void testEntryTimeToLive() throws Exception {
+
+        EntitlementLocalCache<IdentityCacheKey, String> cache =
+                new EntitlementLocalCache<IdentityCacheKey, String>("test", 100, 100, 60);
+        IdentityCacheKey shortLived = new IdentityCacheKey(1, "shortLived");
+        IdentityCacheKey longLived = new IdentityCacheKey(2, "longLived");
+
+        cache.put(shortLived, "Permit", 0);
+        cache.put(longLived, "Deny", 60);
+        Thread.sleep(5);
+
+        assertNull(cache.get(shortLived));
+        assertEquals(cache.get(longLived), "Deny");
+        assertEquals(cache.size(1), 0);
+        assertEquals(cache.size(2), 1);
+    }
+
+    @Test
+    public void testTenantLimit() {
+
+        EntitlementLocalCache<IdentityCacheKey, String> cache =
+                new EntitlementLocalCache<IdentityCacheKey, String>("test", 1600, 10, 60);
+        for (int i = 0; i < 100; i++) {
+            cache.put(new IdentityCacheKey(1, "key" + i), "Permit");
+        }
+        cache.put(new IdentityCacheKey(2, "key"), "Permit");
+
+        assertTrue(cache.size(1) <= 10);
+        assertEquals(cache.size(1), countEntries(cache, 1, 100));
+        assertEquals(cache.get(new IdentityCacheKey(2, "key")), "Permit");
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+
+        int maxEntries = 512;
+        int maxEntriesPerTenant = 200;
+        int tenants = 4;
+        int keys = 2000;
+        EntitlementLocalCache<IdentityCacheKey, String> cache =
+                new EntitlementLocalCache<IdentityCacheKey, String>("test", maxEntries, maxEntriesPerTenant, 60);
+        LongAdder gets = new LongAdder();
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS; i++) {
+                IdentityCacheKey key = new IdentityCacheKey(random.nextInt(tenants), "key" + random.nextInt(keys));
+                int operation = random.nextInt(10);
+                if (operation < 6) {
+                    gets.increment();
+                    String value = cache.get(key);
+                    if (value != null) {
+                        assertEquals(value, key.getKey());
+                    }
+                } else if (operation < 9) {
+                    cache.put(key, key.getKey());
+                } else {
+                    cache.remove(key);
+                }
+            }
+        });
+
+        assertEquals(cache.getHitCount() + cache.getMissCount(), gets.sum());
+        assertTrue(cache.size() <= maxEntries, "Cache holds " + cache.size() + " entries");
+        int total = 0;
+        for (int tenant = 0; tenant < tenants; tenant++) {
+            int entries = countEntries(cache, tenant, keys);
+            assertTrue(entries <= maxEntriesPerTenant, "Tenant " + tenant + " holds " + entries + " entries");
+            total += entries;
+        }
+        assertEquals(total, cache.size());
+
+        for (int tenant = 0; tenant < tenants; tenant++) {
+            cache.clear(tenant);
+            assertEquals(cache.size(tenant), 0);
+        }
+        assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testConcurrentClear() throws Exception {
+
+        EntitlementLocalCache<IdentityCacheKey, String> cache =
+                new EntitlementLocalCache<IdentityCacheKey, String>("test", 1000, 1000, 60);
+
+        runConcurrently(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < OPERATIONS; i++) {
+                int tenant = random.nextInt(2);
+                if (random.nextInt(100) == 0) {
+                    cache.clear(tenant);
+                } else {
+                    cache.put(new IdentityCacheKey(tenant, "key" + random.nextInt(500)), "Permit");
+                }
+            }
+        });
+
+        for (int tenant = 0; tenant < 2; tenant++) {
+            assertEquals(cache.size(tenant), countEntries(cache, tenant, 500));
+        }
+    }
+
+    /**
+     * Counts the entries of the tenant by reading them, which also counts as gets of the cache
+     */
+    private static int countEntries(EntitlementLocalCache<IdentityCacheKey, String> cache, int tenant, int keys) {
+
+        int entries = 0;
+        for (int i = 0; i < keys; i++) {
+            if (cache.get(new IdentityCacheKey(tenant, "key" + i)) != null) {
+                entries++;
+            }
+        }
+        return entries;
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
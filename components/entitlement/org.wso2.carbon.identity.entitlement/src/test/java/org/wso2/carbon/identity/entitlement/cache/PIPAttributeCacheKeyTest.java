@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.cache;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link PIPAttributeCacheKey}.
+ */
+public class PIPAttributeCacheKeyTest {
+
+    private static final String STRING_TYPE = "http://www.w3.org/2001/XMLSchema#string";
+    private static final String ROLE = "http://wso2.org/claims/role";
+    private static final String SUBJECT_CATEGORY = "urn:oasis:names:tc:xacml:1.0:subject-category:access-subject";
+    private static final String RESOURCE_CATEGORY = "urn:oasis:names:tc:xacml:3.0:attribute-category:resource";
+    private static final String CONTEXT = "<Request><Attributes Category=\"subject\">alice</Attributes></Request>";
+
+    @Test
+    public void testIdenticalLookupsAreEqual() {
+
+        PIPAttributeCacheKey key = new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, CONTEXT);
+        PIPAttributeCacheKey sameKey = new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null,
+                new String(CONTEXT));
+
+        assertEquals(sameKey, key);
+        assertEquals(sameKey.hashCode(), key.hashCode());
+
+        Map<PIPAttributeCacheKey, String> values = new HashMap<PIPAttributeCacheKey, String>();
+        values.put(key, "admin");
+        assertEquals(values.get(sameKey), "admin");
+    }
+
+    @DataProvider(name = "differingKeys")
+    public Object[][] differingKeys() {
+
+        return new Object[][]{
+                {new PIPAttributeCacheKey(2, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, CONTEXT)},
+                {new PIPAttributeCacheKey(1, "http://www.w3.org/2001/XMLSchema#integer", ROLE, SUBJECT_CATEGORY,
+                        null, CONTEXT)},
+                {new PIPAttributeCacheKey(1, STRING_TYPE, "http://wso2.org/claims/email", SUBJECT_CATEGORY, null,
+                        CONTEXT)},
+                {new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, RESOURCE_CATEGORY, null, CONTEXT)},
+                {new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, "issuer", CONTEXT)},
+                {new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null,
+                        "<Request><Attributes Category=\"subject\">bob</Attributes></Request>")},
+        };
+    }
+
+    @Test(dataProvider = "differingKeys")
+    public void testDifferingLookupsMiss(PIPAttributeCacheKey differingKey) {
+
+        PIPAttributeCacheKey key = new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, CONTEXT);
+
+        assertNotEquals(differingKey, key);
+        assertNotEquals(key, differingKey);
+
+        Map<PIPAttributeCacheKey, String> values = new HashMap<PIPAttributeCacheKey, String>();
+        values.put(key, "admin");
+        assertNull(values.get(differingKey));
+    }
+
+    @Test
+    public void testNotEqualToOtherKeyTypes() {
+
+        PIPAttributeCacheKey key = new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, CONTEXT);
+
+        assertFalse(key.equals(new IdentityCacheKey(1, key.getKey())));
+        assertFalse(key.equals(null));
+    }
+
+    @Test
+    public void testGetKey() {
+
+        PIPAttributeCacheKey key = new PIPAttributeCacheKey(1, STRING_TYPE, ROLE, SUBJECT_CATEGORY, "issuer",
+                CONTEXT);
+
+        assertEquals(key.getKey(), "[" + STRING_TYPE + "][" + ROLE + "][" + SUBJECT_CATEGORY + "][issuer]");
+        assertEquals(key.getIssuer(), "issuer");
+        assertEquals(key.getCategory(), SUBJECT_CATEGORY);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.pip;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.balana.attr.AttributeValue;
+import org.wso2.balana.attr.StringAttribute;
+import org.wso2.balana.cond.EvaluationResult;
+import org.wso2.balana.ctx.AbstractRequestCtx;
+import org.wso2.balana.ctx.Attribute;
+import org.wso2.balana.ctx.EvaluationCtx;
+import org.wso2.balana.xacml3.Attributes;
+import org.wso2.carbon.identity.entitlement.PDPConstants;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link CarbonAttributeFinder}.
+ */
+public class CarbonAttributeFinderTest {
+
+    private static final URI STRING_TYPE = URI.create(StringAttribute.identifier);
+    private static final URI ROLE = URI.create("http://wso2.org/claims/role");
+    private static final URI SUBJECT_CATEGORY = URI.create(PDPConstants.SUBJECT_CATEGORY_URI);
+    private static final URI RESOURCE_CATEGORY = URI.create(PDPConstants.RESOURCE_CATEGORY_URI);
+
+    private CarbonAttributeFinder attributeFinder;
+    private PIPAttributeFinder pipAttributeFinder;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        attributeFinder = new CarbonAttributeFinder(-1234);
+        pipAttributeFinder = mock(PIPAttributeFinder.class);
+        when(pipAttributeFinder.getAttributeValues(any(URI.class), any(URI.class), any(URI.class), any(),
+                any(EvaluationCtx.class))).thenReturn(Collections.singleton("admin"));
+        registerAttributeFinder(ROLE.toString(), pipAttributeFinder);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        CarbonAttributeFinder.unbindSharedAttributeScope();
+    }
+
+    @Test
+    public void testSubjectAttributesAreSharedBetweenResources() throws Exception {
+
+        CarbonAttributeFinder.bindSharedAttributeScope(new SharedAttributeScope());
+
+        EvaluationResult first = attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY,
+                createContext("alice", "resourceA"));
+        EvaluationResult second = attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY,
+                createContext("alice", "resourceB"));
+
+        assertFalse(first.indeterminate());
+        assertFalse(second.indeterminate());
+        verify(pipAttributeFinder, times(1)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testSubjectAttributesAreNotSharedBetweenSubjects() throws Exception {
+
+        CarbonAttributeFinder.bindSharedAttributeScope(new SharedAttributeScope());
+
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, createContext("alice", "resourceA"));
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, createContext("bob", "resourceA"));
+
+        verify(pipAttributeFinder, times(2)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testResourceDependentAttributesAreNotSharedBetweenResources() throws Exception {
+
+        when(pipAttributeFinder.isResourceDependent()).thenReturn(true);
+        CarbonAttributeFinder.bindSharedAttributeScope(new SharedAttributeScope());
+
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, createContext("alice", "resourceA"));
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, createContext("alice", "resourceB"));
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, createContext("alice", "resourceA"));
+
+        verify(pipAttributeFinder, times(2)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testIdenticalLookupsHitTheEvaluationMemo() throws Exception {
+
+        EvaluationCtx context = createContext("alice", "resourceA");
+
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, context);
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, context);
+
+        verify(pipAttributeFinder, times(1)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testDifferingIssuerOrCategoryMissesTheEvaluationMemo() throws Exception {
+
+        EvaluationCtx context = createContext("alice", "resourceA");
+
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, context);
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, "issuer", SUBJECT_CATEGORY, context);
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, RESOURCE_CATEGORY, context);
+
+        verify(pipAttributeFinder, times(3)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testEvaluationMemoDoesNotLeakAcrossEvaluations() throws Exception {
+
+        EvaluationCtx first = createContext("alice", "resourceA");
+        EvaluationCtx second = createContext("alice", "resourceA");
+
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, first);
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, second);
+        attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, second);
+
+        verify(pipAttributeFinder, times(2)).getAttributeValues(any(URI.class), any(URI.class), any(URI.class),
+                any(), any(EvaluationCtx.class));
+    }
+
+    @Test
+    public void testFailedLookupIsNotMemoized() throws Exception {
+
+        EvaluationCtx context = createContext("alice", "resourceA");
+        when(pipAttributeFinder.getAttributeValues(any(URI.class), any(URI.class), any(URI.class), any(),
+                any(EvaluationCtx.class))).thenThrow(new IllegalStateException("PIP is not available"))
+                .thenReturn(Collections.singleton("admin"));
+
+        assertTrue(attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, context)
+                .indeterminate());
+        assertFalse(attributeFinder.findAttribute(STRING_TYPE, ROLE, null, SUBJECT_CATEGORY, context)
+                .indeterminate());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void registerAttributeFinder(String attributeId, PIPAttributeFinder finder) throws Exception {
+
+        Field attrFinders = CarbonAttributeFinder.class.getDeclaredField("attrFinders");
+        attrFinders.setAccessible(true);
+        List<PIPAttributeFinder> finders = new ArrayList<PIPAttributeFinder>();
+        finders.add(finder);
+        ((Map<String, List<PIPAttributeFinder>>) attrFinders.get(attributeFinder)).put(attributeId, finders);
+    }
+
+    private EvaluationCtx createContext(String subject, String resource) {
+
+        Set<Attributes> attributesSet = new HashSet<Attributes>();
+        attributesSet.add(createAttributes(PDPConstants.SUBJECT_CATEGORY_URI, PDPConstants.SUBJECT_ID_DEFAULT,
+                subject));
+        attributesSet.add(createAttributes(PDPConstants.RESOURCE_CATEGORY_URI, PDPConstants.RESOURCE_ID_DEFAULT,
+                resource));
+        AbstractRequestCtx requestCtx = mock(AbstractRequestCtx.class);
+        when(requestCtx.getAttributesSet()).thenReturn(attributesSet);
+        EvaluationCtx context = mock(EvaluationCtx.class);
+        when(context.getRequestCtx()).thenReturn(requestCtx);
+        return context;
+    }
+
+    private Attributes createAttributes(String category, String attributeId, String value) {
+
+        Attribute attribute = mock(Attribute.class);
+        when(attribute.getId()).thenReturn(URI.create(attributeId));
+        when(attribute.getValues()).thenReturn(Collections.<AttributeValue>singletonList(new StringAttribute(value)));
+        Attributes attributes = mock(Attributes.class);
+        when(attributes.getCategory()).thenReturn(URI.create(category));
+        when(attributes.getAttributes()).thenReturn(Collections.singleton(attribute));
+        return attributes;
+    }
+}
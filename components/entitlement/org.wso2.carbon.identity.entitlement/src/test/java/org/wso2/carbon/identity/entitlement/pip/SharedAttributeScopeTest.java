@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.pip;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for {@link SharedAttributeScope}.
+ */
+public class SharedAttributeScopeTest {
+
+    private static final String FINDER = "org.example.ResourceAwareAttributeFinder";
+    private static final String STRING_TYPE = "http://www.w3.org/2001/XMLSchema#string";
+    private static final String ROLE = "http://wso2.org/claims/role";
+    private static final String SUBJECT_CATEGORY = "urn:oasis:names:tc:xacml:1.0:subject-category:access-subject";
+
+    @Test
+    public void testKeyDependsOnTheSubject() {
+
+        String alice = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "alice",
+                null);
+        String bob = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "bob", null);
+        String aliceWithIssuer = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY,
+                "issuer", "alice", null);
+
+        assertNotEquals(alice, bob);
+        assertNotEquals(alice, aliceWithIssuer);
+        assertEquals(SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "alice",
+                null), alice);
+    }
+
+    @Test
+    public void testResourceDependentValuesAreNotShared() throws Exception {
+
+        SharedAttributeScope scope = new SharedAttributeScope();
+        List<String> resolvedFor = new ArrayList<String>();
+        for (String resource : new String[]{"resourceA", "resourceB", "resourceA"}) {
+            String key = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "alice",
+                    resource);
+            Set<String> values = scope.getAttributeValues(key, () -> {
+                resolvedFor.add(resource);
+                return Collections.singleton("role-of-" + resource);
+            });
+            assertEquals(values, Collections.singleton("role-of-" + resource));
+        }
+
+        assertEquals(resolvedFor, Arrays.asList("resourceA", "resourceB"));
+        assertEquals(scope.size(), 2);
+    }
+
+    @Test
+    public void testConcurrentCallersResolveOnce() throws Exception {
+
+        SharedAttributeScope scope = new SharedAttributeScope();
+        String key = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "alice",
+                null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Set<String>>> futures = new ArrayList<Future<Set<String>>>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> scope.getAttributeValues(key, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return Collections.singleton("admin");
+                })));
+            }
+            assertTrue(loading.await(10, TimeUnit.SECONDS));
+            release.countDown();
+            for (Future<Set<String>> future : futures) {
+                assertEquals(future.get(10, TimeUnit.SECONDS), Collections.singleton("admin"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testFailureIsNotKept() throws Exception {
+
+        SharedAttributeScope scope = new SharedAttributeScope();
+        String key = SharedAttributeScope.buildKey(FINDER, STRING_TYPE, ROLE, SUBJECT_CATEGORY, null, "alice",
+                null);
+        try {
+            scope.getAttributeValues(key, () -> {
+                throw new IllegalStateException("PIP is not available");
+            });
+            fail("The failure of the loader should be propagated");
+        } catch (IllegalStateException e) {
+            assertEquals(e.getMessage(), "PIP is not available");
+        }
+
+        assertEquals(scope.getAttributeValues(key, () -> Collections.singleton("admin")),
+                Collections.singleton("admin"));
+    }
+}
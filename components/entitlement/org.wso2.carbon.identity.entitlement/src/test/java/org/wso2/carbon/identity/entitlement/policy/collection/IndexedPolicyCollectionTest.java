@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.policy.collection;
+
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.wso2.balana.AbstractPolicy;
+import org.wso2.balana.Policy;
+import org.wso2.balana.attr.AttributeValue;
+import org.wso2.balana.attr.BagAttribute;
+import org.wso2.balana.attr.StringAttribute;
+import org.wso2.balana.cond.EvaluationResult;
+import org.wso2.balana.ctx.AbstractRequestCtx;
+import org.wso2.balana.ctx.Attribute;
+import org.wso2.balana.ctx.EvaluationCtx;
+import org.wso2.balana.xacml3.Attributes;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for {@link IndexedPolicyCollection}.
+ */
+public class IndexedPolicyCollectionTest {
+
+    private static final String STRING_TYPE = "http://www.w3.org/2001/XMLSchema#string";
+    private static final String RESOURCE_CATEGORY = "urn:oasis:names:tc:xacml:3.0:attribute-category:resource";
+    private static final String ACTION_CATEGORY = "urn:oasis:names:tc:xacml:3.0:attribute-category:action";
+    private static final String RESOURCE_ID = "urn:oasis:names:tc:xacml:1.0:resource:resource-id";
+    private static final String ACTION_ID = "urn:oasis:names:tc:xacml:1.0:action:action-id";
+    private static final String DEPARTMENT_ID = "http://wso2.org/claims/department";
+
+    @Test
+    public void testOnlyMatchingIndexedPolicyIsReturned() throws Exception {
+
+        IndexedPolicyCollection collection = createCollection();
+        collection.addPolicy(createPolicy("policyA", equalMatch(RESOURCE_CATEGORY, RESOURCE_ID, "a")));
+        collection.addPolicy(createPolicy("policyB", equalMatch(RESOURCE_CATEGORY, RESOURCE_ID, "b")));
+
+        RequestContext request = new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "b");
+
+        assertEquals(collection.getEffectivePolicy(request.context).getId().toString(), "policyB");
+        assertEquals(request.resolvedAttributes, Collections.singletonList(RESOURCE_ID));
+        assertNull(collection.getEffectivePolicy(new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "c")
+                .context));
+    }
+
+    @Test
+    public void testUnindexedPolicyIsAlwaysEvaluated() throws Exception {
+
+        IndexedPolicyCollection collection = createCollection();
+        collection.addPolicy(createPolicy("policyA", equalMatch(RESOURCE_CATEGORY, RESOURCE_ID, "a")));
+        collection.addPolicy(createPolicy("policyRegex", regexpMatch(ACTION_CATEGORY, ACTION_ID, "read.*")));
+
+        RequestContext request = new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "b")
+                .with(ACTION_CATEGORY, ACTION_ID, "readAll");
+
+        assertEquals(collection.getEffectivePolicy(request.context).getId().toString(), "policyRegex");
+    }
+
+    @Test
+    public void testIndexLookupDoesNotResolveAttributesMissingInRequest() throws Exception {
+
+        IndexedPolicyCollection collection = createCollection();
+        // The first AnyOf can not be indexed, so the policy is indexed with the department of the second AnyOf.
+        collection.addPolicy(createPolicy("policyDepartment", regexpMatch(ACTION_CATEGORY, ACTION_ID, "read.*")
+                + equalMatch(RESOURCE_CATEGORY, DEPARTMENT_ID, "sales")));
+
+        RequestContext request = new RequestContext().with(ACTION_CATEGORY, ACTION_ID, "write");
+
+        assertNull(collection.getEffectivePolicy(request.context));
+        // Matching stops at the action, as it would without the index, so the department is never resolved.
+        assertFalse(request.resolvedAttributes.contains(DEPARTMENT_ID));
+    }
+
+    @Test
+    public void testPolicyIndexedWithAttributeMissingInRequestIsEvaluated() throws Exception {
+
+        IndexedPolicyCollection collection = createCollection();
+        collection.addPolicy(createPolicy("policyDepartment", equalMatch(RESOURCE_CATEGORY, DEPARTMENT_ID,
+                "sales")));
+
+        // The department is not in the request, but can still be resolved by an attribute finder.
+        RequestContext request = new RequestContext().resolvable(RESOURCE_CATEGORY, DEPARTMENT_ID, "sales");
+
+        assertEquals(collection.getEffectivePolicy(request.context).getId().toString(), "policyDepartment");
+    }
+
+    @Test
+    public void testUpdateAndDeletePolicy() throws Exception {
+
+        IndexedPolicyCollection collection = createCollection();
+        collection.addPolicy(createPolicy("policyA", equalMatch(RESOURCE_CATEGORY, RESOURCE_ID, "a")));
+        collection.addPolicy(createPolicy("policyA", equalMatch(RESOURCE_CATEGORY, RESOURCE_ID, "b")));
+
+        assertNull(collection.getEffectivePolicy(new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "a")
+                .context));
+        assertEquals(collection.getEffectivePolicy(new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "b")
+                .context).getId().toString(), "policyA");
+
+        collection.deletePolicy("policyA");
+
+        assertNull(collection.getEffectivePolicy(new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "b")
+                .context));
+        assertEquals(collection.getPolicyMap().size(), 0);
+    }
+
+    /**
+     * Compares the number of target matches made by the indexed and the simple policy collection for a large number
+     * of policies, as a deterministic measure of the work saved by the index.
+     */
+    @Test
+    public void testMatchesOnlyCandidatePolicies() throws Exception {
+
+        int policyCount = 1000;
+        IndexedPolicyCollection indexedCollection = createCollection();
+        SimplePolicyCollection simpleCollection = new SimplePolicyCollection();
+        simpleCollection.init(new Properties());
+        for (int i = 0; i < policyCount; i++) {
+            AbstractPolicy policy = createPolicy("policy" + i, equalMatch(RESOURCE_CATEGORY, RESOURCE_ID,
+                    "resource" + i));
+            indexedCollection.addPolicy(policy);
+            simpleCollection.addPolicy(policy);
+        }
+
+        RequestContext indexedRequest = new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "resource500");
+        RequestContext simpleRequest = new RequestContext().with(RESOURCE_CATEGORY, RESOURCE_ID, "resource500");
+
+        assertEquals(indexedCollection.getEffectivePolicy(indexedRequest.context).getId().toString(), "policy500");
+        assertEquals(simpleCollection.getEffectivePolicy(simpleRequest.context).getId().toString(), "policy500");
+        assertEquals(indexedRequest.resolvedAttributes.size(), 1);
+        assertEquals(simpleRequest.resolvedAttributes.size(), policyCount);
+    }
+
+    private IndexedPolicyCollection createCollection() throws Exception {
+
+        IndexedPolicyCollection collection = new IndexedPolicyCollection();
+        collection.init(new Properties());
+        return collection;
+    }
+
+    private String equalMatch(String category, String attributeId, String value) {
+
+        return anyOf("urn:oasis:names:tc:xacml:1.0:function:string-equal", category, attributeId, value);
+    }
+
+    private String regexpMatch(String category, String attributeId, String value) {
+
+        return anyOf("urn:oasis:names:tc:xacml:1.0:function:string-regexp-match", category, attributeId, value);
+    }
+
+    private String anyOf(String function, String category, String attributeId, String value) {
+
+        return "<AnyOf><AllOf><Match MatchId=\"" + function + "\">"
+                + "<AttributeValue DataType=\"" + STRING_TYPE + "\">" + value + "</AttributeValue>"
+                + "<AttributeDesignator AttributeId=\"" + attributeId + "\" Category=\"" + category
+                + "\" DataType=\"" + STRING_TYPE + "\" MustBePresent=\"false\"/>"
+                + "</Match></AllOf></AnyOf>";
+    }
+
+    private AbstractPolicy createPolicy(String policyId, String target) throws Exception {
+
+        String policy = "<Policy xmlns=\"urn:oasis:names:tc:xacml:3.0:core:schema:wd-17\" PolicyId=\"" + policyId
+                + "\" RuleCombiningAlgId=\"urn:oasis:names:tc:xacml:3.0:rule-combining-algorithm:first-applicable\""
+                + " Version=\"1.0\"><Target>" + target + "</Target><Rule Effect=\"Permit\" RuleId=\"permit\"/>"
+                + "</Policy>";
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        Document document = factory.newDocumentBuilder()
+                .parse(new ByteArrayInputStream(policy.getBytes(StandardCharsets.UTF_8)));
+        return Policy.getInstance(document.getDocumentElement());
+    }
+
+    /**
+     * Mocked evaluation context which records the attributes resolved through it.
+     */
+    private static class RequestContext {
+
+        private final EvaluationCtx context = mock(EvaluationCtx.class);
+        private final Map<String, Set<Attribute>> requestAttributes = new HashMap<>();
+        private final Set<Attributes> attributesSet = new HashSet<>();
+        private final Map<String, List<AttributeValue>> attributeValues = new HashMap<>();
+        private final List<String> resolvedAttributes = new ArrayList<>();
+
+        RequestContext() {
+
+            AbstractRequestCtx requestCtx = mock(AbstractRequestCtx.class);
+            when(context.getRequestCtx()).thenReturn(requestCtx);
+            when(requestCtx.getAttributesSet()).thenReturn(attributesSet);
+            when(context.getAttribute(any(), any(), any(), any())).thenAnswer(invocation -> {
+                URI id = invocation.getArgument(1);
+                resolvedAttributes.add(id.toString());
+                List<AttributeValue> values = attributeValues.get(id.toString());
+                return new EvaluationResult(new BagAttribute(new URI(STRING_TYPE),
+                        values != null ? values : Collections.<AttributeValue>emptyList()));
+            });
+        }
+
+        RequestContext with(String category, String attributeId, String value) throws Exception {
+
+            resolvable(category, attributeId, value);
+            Attribute attribute = mock(Attribute.class);
+            when(attribute.getId()).thenReturn(new URI(attributeId));
+            when(attribute.getType()).thenReturn(new URI(STRING_TYPE));
+            when(attribute.getValues()).thenReturn(attributeValues.get(attributeId));
+            Set<Attribute> categoryAttributes = requestAttributes.get(category);
+            if (categoryAttributes == null) {
+                categoryAttributes = new HashSet<>();
+                requestAttributes.put(category, categoryAttributes);
+                Attributes attributes = mock(Attributes.class);
+                when(attributes.getCategory()).thenReturn(new URI(category));
+                when(attributes.getAttributes()).thenReturn(categoryAttributes);
+                attributesSet.add(attributes);
+            }
+            categoryAttributes.add(attribute);
+            return this;
+        }
+
+        RequestContext resolvable(String category, String attributeId, String value) {
+
+            attributeValues.computeIfAbsent(attributeId, k -> new ArrayList<>()).add(new StringAttribute(value));
+            return this;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.entitlement.policy.finder;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.entitlement.policy.collection.PolicyCollection;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link PolicySnapshotHolder}.
+ */
+public class PolicySnapshotHolderTest {
+
+    private ExecutorService refreshExecutor;
+
+    @BeforeMethod
+    public void setUp() {
+
+        refreshExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testStaleSnapshotIsServedDuringRefresh() throws Exception {
+
+        PolicySnapshotHolder holder = new PolicySnapshotHolder(refreshExecutor);
+        PolicyCollection initial = mock(PolicyCollection.class);
+        PolicyCollection updated = mock(PolicyCollection.class);
+        holder.publish(initial, 1);
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        CountDownLatch published = new CountDownLatch(1);
+        AtomicInteger refreshCount = new AtomicInteger();
+        Runnable refreshTask = () -> {
+            refreshCount.incrementAndGet();
+            refreshStarted.countDown();
+            try {
+                releaseRefresh.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            holder.publish(updated, 2);
+            published.countDown();
+        };
+
+        holder.refresh(refreshTask, true);
+        assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+
+        // The evaluating threads keep getting the previous snapshot and do not schedule another refresh.
+        assertSame(holder.getSnapshot(), initial);
+        holder.refresh(refreshTask, true);
+        assertSame(holder.getSnapshot(), initial);
+
+        releaseRefresh.countDown();
+        assertTrue(published.await(10, TimeUnit.SECONDS));
+        assertSame(holder.getSnapshot(), updated);
+        assertEquals(refreshCount.get(), 1);
+    }
+
+    @Test
+    public void testSynchronousRefreshPublishesBeforeReturning() {
+
+        PolicySnapshotHolder holder = new PolicySnapshotHolder(refreshExecutor);
+        PolicyCollection initial = mock(PolicyCollection.class);
+        PolicyCollection updated = mock(PolicyCollection.class);
+        holder.publish(initial, 1);
+
+        holder.refresh(() -> holder.publish(updated, 2), false);
+
+        assertSame(holder.getSnapshot(), updated);
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+
+        PolicySnapshotHolder holder = new PolicySnapshotHolder(refreshExecutor);
+        holder.publish(mock(PolicyCollection.class), 5);
+
+        assertEquals(holder.getSnapshotCount(), 1);
+        assertEquals(holder.getLastSnapshotBuildTime(), 5);
+        assertEquals(holder.getLastSnapshotStaleness(), 0);
+
+        holder.refresh(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            holder.publish(mock(PolicyCollection.class), 7);
+        }, false);
+
+        assertEquals(holder.getSnapshotCount(), 2);
+        assertEquals(holder.getLastSnapshotBuildTime(), 7);
+        assertTrue(holder.getLastSnapshotStaleness() >= 50);
+        assertEquals(holder.getMaxSnapshotStaleness(), holder.getLastSnapshotStaleness());
+        long maxStaleness = holder.getMaxSnapshotStaleness();
+
+        holder.refresh(() -> holder.publish(mock(PolicyCollection.class), 3), false);
+
+        assertEquals(holder.getSnapshotCount(), 3);
+        assertEquals(holder.getLastSnapshotBuildTime(), 3);
+        assertTrue(holder.getLastSnapshotStaleness() < maxStaleness);
+        assertEquals(holder.getMaxSnapshotStaleness(), maxStaleness);
+    }
+
+    @Test
+    public void testFailedRefreshIsScheduledAgain() throws Exception {
+
+        PolicySnapshotHolder holder = new PolicySnapshotHolder(refreshExecutor);
+        holder.publish(mock(PolicyCollection.class), 1);
+
+        CountDownLatch failed = new CountDownLatch(1);
+        holder.refresh(() -> {
+            failed.countDown();
+            throw new IllegalStateException("Policy store is not available");
+        }, true);
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+        PolicyCollection updated = mock(PolicyCollection.class);
+        CountDownLatch published = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (published.getCount() > 0 && System.currentTimeMillis() < deadline) {
+            holder.refresh(() -> {
+                holder.publish(updated, 2);
+                published.countDown();
+            }, true);
+            published.await(10, TimeUnit.MILLISECONDS);
+        }
+
+        assertSame(holder.getSnapshot(), updated);
+    }
+}
@@ -29,6 +29,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -262,6 +263,31 @@ public abstract class BaseCache<K extends Serializable, V extends Serializable>
         }
     }
 
+    /**
+     * Clears the given cache entries within a single tenant flow.
+     *
+     * @param keys Keys to clear from the cache.
+     * @param tenantDomain The tenant domain where the cache is maintained.
+     */
+    public void clearCacheEntries(Collection<K> keys, String tenantDomain) {
+
+        if (!isEnabled() || keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            startTenantFlow(tenantDomain);
+            Cache<K, V> cache = getBaseCache();
+            if (cache != null) {
+                for (K key : keys) {
+                    cache.remove(key);
+                }
+            }
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
     /**
      * Clears a cache entry.
      *
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.event;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded dispatch lane of a single asynchronous event handler. Each lane has its own queue and worker threads, so
+ * that a slow handler only delays its own events. When the queue of the lane is full, the configured
+ * {@link OverflowPolicy} is applied.
+ */
+public class EventDispatchLane {
+
+    private static final Log log = LogFactory.getLog(EventDispatchLane.class);
+
+    /**
+     * Action taken when an event is dispatched to a lane whose queue is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Block the publishing thread until there is space in the queue. This is the default policy.
+         */
+        BLOCK,
+        /**
+         * Drop the oldest queued event of the lane to make space for the new event. Every dropped event is counted
+         * and logged.
+         */
+        DROP_OLDEST,
+        /**
+         * Handle the event in the publishing thread.
+         */
+        CALLER_RUNS
+    }
+
+    private final String name;
+    private final int queueSize;
+    private final OverflowPolicy overflowPolicy;
+    private final ThreadPoolExecutor executor;
+    private final long createdTime = System.currentTimeMillis();
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong callerRunsCount = new AtomicLong();
+    private final AtomicLong totalLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+    private volatile long lastLagMillis;
+
+    /**
+     * @param name           Name of the lane, which is the name of the handler.
+     * @param threadPoolSize Number of threads handling the events of the lane.
+     * @param queueSize      Maximum number of events waiting in the lane.
+     * @param overflowPolicy Action taken when the queue is full.
+     */
+    public EventDispatchLane(String name, int threadPoolSize, int queueSize, OverflowPolicy overflowPolicy) {
+
+        this.name = name;
+        this.queueSize = queueSize;
+        this.overflowPolicy = overflowPolicy;
+        this.executor = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(queueSize), new LaneThreadFactory(name), new OverflowHandler());
+    }
+
+    /**
+     * Queue the event to be handled by the given handler in a thread of this lane.
+     *
+     * @param handler Handler of this lane.
+     * @param event   Event to be handled.
+     */
+    public void dispatch(AbstractEventHandler handler, Event event) {
+
+        dispatchedCount.incrementAndGet();
+        executor.execute(new DispatchTask(handler, event));
+    }
+
+    /**
+     * Stop accepting events. Already queued events are still handled.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+
+        return overflowPolicy;
+    }
+
+    public int getQueueSize() {
+
+        return queueSize;
+    }
+
+    /**
+     * Get the number of events waiting in the lane.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+
+        return executor.getActiveCount();
+    }
+
+    public long getDispatchedCount() {
+
+        return dispatchedCount.get();
+    }
+
+    public long getCompletedCount() {
+
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of events dropped due to the DROP_OLDEST policy, or due to the lane being shut down.
+     *
+     * @return Dropped event count.
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.get();
+    }
+
+    /**
+     * Get the number of events handled in the publishing thread due to the CALLER_RUNS policy.
+     *
+     * @return Caller runs count.
+     */
+    public long getCallerRunsCount() {
+
+        return callerRunsCount.get();
+    }
+
+    /**
+     * Get the time the last handled event waited in the lane before it was picked up.
+     *
+     * @return Lag in milliseconds.
+     */
+    public long getLastLagMillis() {
+
+        return lastLagMillis;
+    }
+
+    public long getMaxLagMillis() {
+
+        return maxLagMillis.get();
+    }
+
+    public double getAverageLagMillis() {
+
+        long completed = completedCount.get() + failedCount.get();
+        return completed == 0 ? 0 : (double) totalLagMillis.get() / completed;
+    }
+
+    /**
+     * Get the number of events handled per second since the lane was created.
+     *
+     * @return Throughput in events per second.
+     */
+    public double getThroughput() {
+
+        long elapsed = System.currentTimeMillis() - createdTime;
+        long handled = completedCount.get() + failedCount.get();
+        return elapsed == 0 ? handled : handled * 1000.0 / elapsed;
+    }
+
+    private void recordLag(long lag) {
+
+        lastLagMillis = lag;
+        totalLagMillis.addAndGet(lag);
+        long max = maxLagMillis.get();
+        while (lag > max && !maxLagMillis.compareAndSet(max, lag)) {
+            max = maxLagMillis.get();
+        }
+    }
+
+    private class DispatchTask implements Runnable {
+
+        private final AbstractEventHandler handler;
+        private final Event event;
+        private final long queuedTime = System.currentTimeMillis();
+
+        DispatchTask(AbstractEventHandler handler, Event event) {
+
+            this.handler = handler;
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+
+            recordLag(System.currentTimeMillis() - queuedTime);
+            try {
+                if (handler.isEnabled(new IdentityEventMessageContext(event))) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Executing " + name + " on event " + event.getEventName());
+                    }
+                    handler.handleEvent(event);
+                }
+                completedCount.incrementAndGet();
+            } catch (IdentityEventException | RuntimeException e) {
+                failedCount.incrementAndGet();
+                log.error("Error while invoking event handler " + name + " on event " + event.getEventName(), e);
+            }
+        }
+    }
+
+    private class OverflowHandler implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+
+            if (executor.isShutdown()) {
+                droppedCount.incrementAndGet();
+                log.warn("Event dispatch lane " + name + " is shut down. Dropping the event.");
+                return;
+            }
+            switch (overflowPolicy) {
+                case BLOCK:
+                    try {
+                        executor.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        droppedCount.incrementAndGet();
+                        log.warn("Interrupted while waiting for space in event dispatch lane " + name
+                                + ". Dropping the event.");
+                    }
+                    break;
+                case DROP_OLDEST:
+                    Runnable oldest = executor.getQueue().poll();
+                    if (oldest instanceof DispatchTask) {
+                        long dropped = droppedCount.incrementAndGet();
+                        log.warn("Event dispatch lane " + name + " is full. Dropped the oldest event: "
+                                + ((DispatchTask) oldest).event.getEventName() + ". " + dropped
+                                + " events have been dropped by this lane.");
+                    }
+                    executor.execute(task);
+                    break;
+                default:
+                    callerRunsCount.incrementAndGet();
+                    task.run();
+            }
+        }
+    }
+
+    private static class LaneThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        LaneThreadFactory(String name) {
+
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "IdentityEventDispatcher-" + name + "-"
+                    + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
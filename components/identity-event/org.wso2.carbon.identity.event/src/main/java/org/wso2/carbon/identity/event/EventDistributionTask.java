@@ -18,92 +18,198 @@
 
 package org.wso2.carbon.identity.event;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.BlockingDeque;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.LinkedBlockingDeque;
 
 /**
- * This has a queue inside. All publishers add events to this queue and this event distribution task is responsible
- * for distributing these events to Notification sending modules
+ * Distributes the events of asynchronous handlers. Each handler has its own bounded {@link EventDispatchLane}, which
+ * is created when the first event is dispatched to the handler, and is configured with the module properties of the
+ * handler.
+ * <ul>
+ * <li>{handler}.async.threadPool.size - worker threads of the lane, defaults to threadPool.size</li>
+ * <li>{handler}.async.queue.size - maximum number of events waiting in the lane</li>
+ * <li>{handler}.async.overflow.policy - BLOCK (default), CALLER_RUNS or DROP_OLDEST, applied when the lane is
+ * full</li>
+ * </ul>
+ * The default policy never loses an event. A handler whose events may be lost under load, in exchange for never
+ * delaying the flow which publishes the event, opts in to DROP_OLDEST explicitly.
  */
 public class EventDistributionTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(EventDistributionTask.class);
 
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final EventDispatchLane.OverflowPolicy DEFAULT_OVERFLOW_POLICY =
+            EventDispatchLane.OverflowPolicy.BLOCK;
+
     /**
-     * Queue used to add events by publishers.
+     * Registered event handlers.
      */
-    private BlockingDeque<Event> eventQueue;
+    private List<AbstractEventHandler> notificationSendingModules;
     /**
-     * Registered message sending modules.
+     * Dispatch lanes of the handlers, keyed by the handler name.
      */
-    private List<AbstractEventHandler> notificationSendingModules;
+    private final Map<String, EventDispatchLane> dispatchLanes = new ConcurrentHashMap<>();
     /**
-     * Condition to break event distribution task
+     * Default number of threads of a dispatch lane.
      */
-    private volatile boolean running;
+    private final int threadPoolSize;
 
     /**
      * Overridden constructor to initiate notification sending modules and thread pool size
      *
      * @param notificationSendingModules List of notification sending modules registered
-     * @param threadPoolSize             Size of thread pool for notification sending components
+     * @param threadPoolSize             Default size of the thread pool of each handler
      */
     public EventDistributionTask(List<AbstractEventHandler> notificationSendingModules, int threadPoolSize) {
         this.notificationSendingModules = notificationSendingModules;
-        this.eventQueue = new LinkedBlockingDeque<Event>();
+        this.threadPoolSize = threadPoolSize;
+        // Kept for the extensions which still submit tasks to the thread pool of the data holder. The threads are
+        // only created when a task is submitted.
         IdentityEventServiceDataHolder.getInstance().setThreadPool(Executors.newFixedThreadPool(threadPoolSize));
     }
 
-    public void addEventToQueue(Event publisherEvent) {
-        this.eventQueue.add(publisherEvent);
-    }
-
+    /**
+     * Events are dispatched to the lanes of the handlers as they are added, hence there is no queue to distribute
+     * and this returns immediately.
+     *
+     * @deprecated The event distribution task no longer needs a thread of its own.
+     */
+    @Deprecated
     @Override
     public void run() {
-        running = true;
-        // Run forever until stop the bundle. Will stop in eventQueue.take()
-        while (running) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Events are dispatched by the dispatch lanes of the handlers. Nothing to run.");
+        }
+    }
+
+    /**
+     * Dispatch the event to all the handlers which handle the event asynchronously.
+     *
+     * @param publisherEvent Event to be dispatched.
+     * @deprecated Use {@link #dispatch(AbstractEventHandler, Event)} for each asynchronous handler.
+     */
+    @Deprecated
+    public void addEventToQueue(Event publisherEvent) {
+
+        IdentityEventMessageContext eventContext = new IdentityEventMessageContext(publisherEvent);
+        for (AbstractEventHandler module : notificationSendingModules) {
             try {
-                final Event event = eventQueue.take();
-                IdentityEventMessageContext eventContext = new IdentityEventMessageContext(event);
-                for (final AbstractEventHandler module : notificationSendingModules) {
-                    // If the module is subscribed to the event, module will be executed.
-                    if (module.isEnabled(eventContext)) {
-                        // Create a runnable and submit to the thread pool for sending message.
-                        Runnable msgSender = new Runnable() {
-                            @Override
-                            public void run() {
-                                if (log.isDebugEnabled()) {
-                                    log.debug("Executing " + module.getName() + " on event" + event.
-                                            getEventName());
-                                }
-                                try {
-                                    module.handleEvent(event);
-                                } catch (IdentityEventException e) {
-                                    log.error("Error while invoking notification sending module " + module.
-                                            getName(), e);
-                                }
-                            }
-                        };
-                        IdentityEventServiceDataHolder.getInstance().getThreadPool().submit(msgSender);
-                    }
+                if (module.canHandle(eventContext) && module.isAssociationAsync(publisherEvent.getEventName())) {
+                    dispatch(module, publisherEvent);
                 }
-            } catch (InterruptedException e) {
-                log.error("Error while picking up event from event queue", e);
+            } catch (IdentityEventException | IdentityRuntimeException e) {
+                log.error("Error while dispatching event " + publisherEvent.getEventName() + " to event handler "
+                        + module.getName(), e);
             }
         }
     }
 
+    /**
+     * Queue the event in the dispatch lane of the given handler.
+     *
+     * @param handler Asynchronous handler of the event.
+     * @param event   Event to be handled.
+     */
+    public void dispatch(AbstractEventHandler handler, Event event) {
+
+        String laneName = getLaneName(handler);
+        EventDispatchLane lane = dispatchLanes.get(laneName);
+        if (lane == null) {
+            lane = dispatchLanes.computeIfAbsent(laneName, name -> createDispatchLane(name, handler));
+        }
+        lane.dispatch(handler, event);
+    }
+
+    /**
+     * Get the dispatch lanes of the handlers, to read their metrics.
+     *
+     * @return Unmodifiable map of dispatch lanes, keyed by the handler name.
+     */
+    public Map<String, EventDispatchLane> getDispatchLanes() {
+
+        return Collections.unmodifiableMap(dispatchLanes);
+    }
+
     public void shutdown() {
-        this.running = false;
+
+        for (EventDispatchLane lane : dispatchLanes.values()) {
+            lane.shutdown();
+        }
+        ExecutorService threadPool = IdentityEventServiceDataHolder.getInstance().getThreadPool();
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+    }
+
+    private EventDispatchLane createDispatchLane(String laneName, AbstractEventHandler handler) {
+
+        Properties moduleProperties = handler.getModuleProperties();
+        if (moduleProperties == null) {
+            moduleProperties = new Properties();
+        }
+        String prefix = handler.getName() + ".";
+        int laneThreadPoolSize = getIntProperty(moduleProperties,
+                prefix + IdentityEventConstants.PropertyConfig.ASYNC_THREAD_POOL_SIZE, threadPoolSize);
+        int queueSize = getIntProperty(moduleProperties,
+                prefix + IdentityEventConstants.PropertyConfig.ASYNC_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        EventDispatchLane.OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+        String policy = moduleProperties.getProperty(
+                prefix + IdentityEventConstants.PropertyConfig.ASYNC_OVERFLOW_POLICY);
+        if (StringUtils.isNotBlank(policy)) {
+            try {
+                overflowPolicy = EventDispatchLane.OverflowPolicy.valueOf(policy.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid overflow policy: " + policy + " configured for event handler: " + laneName
+                        + ". Using the default policy: " + DEFAULT_OVERFLOW_POLICY);
+            }
+        }
+        if (overflowPolicy == EventDispatchLane.OverflowPolicy.DROP_OLDEST) {
+            log.info("Event dispatch lane of handler: " + laneName + " drops the oldest event when its queue of "
+                    + queueSize + " events is full.");
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Creating event dispatch lane for handler: " + laneName + " with " + laneThreadPoolSize
+                    + " threads, queue size: " + queueSize + " and overflow policy: " + overflowPolicy);
+        }
+        return new EventDispatchLane(laneName, laneThreadPoolSize, queueSize, overflowPolicy);
+    }
+
+    private int getIntProperty(Properties properties, String name, int defaultValue) {
+
+        String value = properties.getProperty(name);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue > 0) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for property: " + name + ". Using the default "
+                        + "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private String getLaneName(AbstractEventHandler handler) {
+
+        String name = handler.getName();
+        return name != null ? name : handler.getClass().getName();
     }
 }
@@ -41,6 +41,9 @@ public class IdentityEventConstants {
         public static final String NOTIFICATION_LINK_EXPIRE_TIME = "Notification.Expire.Time";
         public static final String ALREADY_WRITTEN_PROPERTY_KEY = "AlreadyWritten";
         public static final String ALREADY_WRITTEN_PROPERTY_VALUE = "true";
+        public static final String ASYNC_THREAD_POOL_SIZE = "async.threadPool.size";
+        public static final String ASYNC_QUEUE_SIZE = "async.queue.size";
+        public static final String ASYNC_OVERFLOW_POLICY = "async.overflow.policy";
 
     }
 
@@ -134,6 +134,19 @@ public abstract class AbstractEventHandler extends AbstractIdentityMessageHandle
 
     public abstract void handleEvent(Event event) throws IdentityEventException;
 
+    /**
+     * Get the module level properties of this handler, configured in identity-event.properties.
+     *
+     * @return Module properties, with the keys prefixed by the module name.
+     */
+    public Properties getModuleProperties() {
+
+        if (configs == null) {
+            return new Properties();
+        }
+        return configs.getModuleProperties();
+    }
+
     @Override
     public void init(InitConfig configuration) throws IdentityRuntimeException {
         if (configuration instanceof ModuleConfiguration) {
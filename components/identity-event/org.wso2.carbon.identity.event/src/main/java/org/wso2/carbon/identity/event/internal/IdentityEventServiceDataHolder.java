@@ -31,10 +31,22 @@ public class IdentityEventServiceDataHolder {
     private IdentityEventService eventMgtService;
     private ExecutorService threadPool;
 
+    /**
+     * Get the thread pool sized with threadPool.size of identity-event.properties.
+     *
+     * @return Thread pool.
+     * @deprecated Asynchronous event handlers are run by the dispatch lane of each handler, not by this pool. The
+     * pool is kept for the extensions which submit their own tasks to it.
+     */
+    @Deprecated
     public ExecutorService getThreadPool() {
         return threadPool;
     }
 
+    /**
+     * @deprecated See {@link #getThreadPool()}.
+     */
+    @Deprecated
     public void setThreadPool(ExecutorService threadPool) {
         this.threadPool = threadPool;
     }
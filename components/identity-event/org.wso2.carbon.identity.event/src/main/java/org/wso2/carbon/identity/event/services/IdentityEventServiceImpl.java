@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.event.services;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.wso2.carbon.identity.event.EventDispatchLane;
 import org.wso2.carbon.identity.event.EventDistributionTask;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
@@ -29,6 +30,7 @@ import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.internal.IdentityEventServiceComponent;
 
 import java.util.List;
+import java.util.Map;
 
 public class IdentityEventServiceImpl implements IdentityEventService {
 
@@ -38,10 +40,10 @@ public class IdentityEventServiceImpl implements IdentityEventService {
     public IdentityEventServiceImpl(List<AbstractEventHandler> handlerList, int threadPoolSize) {
         this.eventDistributionTask = new EventDistributionTask(handlerList, threadPoolSize);
         if (log.isDebugEnabled()) {
-            log.debug("Starting event distribution task from Notification Management component");
+            log.debug("Initialized event distribution task from Notification Management component");
         }
-        new Thread(eventDistributionTask).start();
     }
+
     @Override
     public void handleEvent(Event event) throws IdentityEventException {
 
@@ -51,11 +53,21 @@ public class IdentityEventServiceImpl implements IdentityEventService {
 
             if (handler.canHandle(eventContext)) {
                 if (handler.isAssociationAsync(event.getEventName())) {
-                    eventDistributionTask.addEventToQueue(event);
+                    eventDistributionTask.dispatch(handler, event);
                 } else {
                     handler.handleEvent(event);
                 }
             }
         }
     }
+
+    /**
+     * Get the dispatch lanes of the asynchronous event handlers, to read their queue depth, lag and throughput.
+     *
+     * @return Unmodifiable map of dispatch lanes, keyed by the handler name.
+     */
+    public Map<String, EventDispatchLane> getDispatchLanes() {
+
+        return eventDistributionTask.getDispatchLanes();
+    }
 }
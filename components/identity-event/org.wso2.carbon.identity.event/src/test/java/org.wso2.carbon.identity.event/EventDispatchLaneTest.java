@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.identity.event;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+import org.wso2.carbon.identity.event.internal.IdentityEventServiceDataHolder;
+import org.wso2.carbon.identity.testutil.IdentityBaseTest;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class EventDispatchLaneTest extends IdentityBaseTest {
+
+    @Test
+    public void testDispatchHandlesEventOnce() throws Exception {
+
+        CountingEventHandler handler = new CountingEventHandler(null);
+        EventDistributionTask eventDistributionTask = new EventDistributionTask(
+                Collections.<AbstractEventHandler>singletonList(handler), 1);
+        eventDistributionTask.dispatch(handler, new Event("eventName"));
+
+        EventDispatchLane lane = eventDistributionTask.getDispatchLanes().get(handler.getName());
+        Assert.assertNotNull(lane);
+        Assert.assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+        eventDistributionTask.shutdown();
+        Assert.assertEquals(handler.handledCount.get(), 1);
+        Assert.assertEquals(lane.getDispatchedCount(), 1);
+    }
+
+    @Test
+    public void testDefaultPolicyDoesNotDropEvents() throws Exception {
+
+        CountingEventHandler handler = new CountingEventHandler(null);
+        EventDistributionTask eventDistributionTask = new EventDistributionTask(
+                Collections.<AbstractEventHandler>singletonList(handler), 1);
+        ExecutorService threadPool = IdentityEventServiceDataHolder.getInstance().getThreadPool();
+        Assert.assertNotNull(threadPool);
+
+        // The task no longer distributes a queue of its own, so running it must return.
+        Thread thread = new Thread(eventDistributionTask);
+        thread.start();
+        thread.join(5000);
+        Assert.assertFalse(thread.isAlive());
+
+        eventDistributionTask.dispatch(handler, new Event("eventName"));
+        EventDispatchLane lane = eventDistributionTask.getDispatchLanes().get(handler.getName());
+        Assert.assertEquals(lane.getOverflowPolicy(), EventDispatchLane.OverflowPolicy.BLOCK);
+        Assert.assertTrue(handler.handled.await(5, TimeUnit.SECONDS));
+
+        eventDistributionTask.shutdown();
+        Assert.assertTrue(threadPool.isShutdown());
+    }
+
+    @Test
+    public void testDropOldestPolicy() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountingEventHandler handler = new CountingEventHandler(release);
+        EventDispatchLane lane = new EventDispatchLane("dropOldest", 1, 1,
+                EventDispatchLane.OverflowPolicy.DROP_OLDEST);
+
+        lane.dispatch(handler, new Event("first"));
+        Assert.assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        lane.dispatch(handler, new Event("second"));
+        lane.dispatch(handler, new Event("third"));
+        Assert.assertEquals(lane.getDroppedCount(), 1);
+        Assert.assertEquals(lane.getQueueDepth(), 1);
+
+        release.countDown();
+        lane.shutdown();
+        Assert.assertTrue(waitForCompletion(lane, 2));
+        Assert.assertEquals(handler.lastEventName, "third");
+    }
+
+    @Test
+    public void testBlockPolicy() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountingEventHandler handler = new CountingEventHandler(release);
+        EventDispatchLane lane = new EventDispatchLane("block", 1, 1, EventDispatchLane.OverflowPolicy.BLOCK);
+
+        lane.dispatch(handler, new Event("first"));
+        Assert.assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        lane.dispatch(handler, new Event("second"));
+        Thread publisher = new Thread(() -> lane.dispatch(handler, new Event("third")));
+        publisher.start();
+        publisher.join(200);
+        // The lane is full, so the publisher waits for space instead of dropping an event.
+        Assert.assertTrue(publisher.isAlive());
+
+        release.countDown();
+        publisher.join(5000);
+        Assert.assertFalse(publisher.isAlive());
+        lane.shutdown();
+        Assert.assertTrue(waitForCompletion(lane, 3));
+        Assert.assertEquals(lane.getDroppedCount(), 0);
+        Assert.assertEquals(handler.lastEventName, "third");
+    }
+
+    @Test
+    public void testCallerRunsPolicy() throws Exception {
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountingEventHandler handler = new CountingEventHandler(release);
+        EventDispatchLane lane = new EventDispatchLane("callerRuns", 1, 1,
+                EventDispatchLane.OverflowPolicy.CALLER_RUNS);
+
+        lane.dispatch(handler, new Event("first"));
+        Assert.assertTrue(handler.started.await(5, TimeUnit.SECONDS));
+        lane.dispatch(handler, new Event("second"));
+        lane.dispatch(handler, new Event("third"));
+        Assert.assertEquals(lane.getCallerRunsCount(), 1);
+        Assert.assertEquals(handler.lastEventName, "third");
+
+        release.countDown();
+        lane.shutdown();
+        Assert.assertTrue(waitForCompletion(lane, 3));
+        Assert.assertEquals(lane.getDroppedCount(), 0);
+    }
+
+    private boolean waitForCompletion(EventDispatchLane lane, long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lane.getCompletedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return lane.getCompletedCount() == count;
+    }
+
+    private static class CountingEventHandler extends AbstractEventHandler {
+
+        private final CountDownLatch release;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch handled = new CountDownLatch(1);
+        private final AtomicInteger handledCount = new AtomicInteger();
+        private volatile String lastEventName;
+
+        CountingEventHandler(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public boolean isEnabled(MessageContext messageContext) {
+
+            return true;
+        }
+
+        @Override
+        public void handleEvent(Event event) throws IdentityEventException {
+
+            started.countDown();
+            // Only the lane threads wait, so that events handled by the caller complete immediately.
+            if (release != null && Thread.currentThread().getName().startsWith("IdentityEventDispatcher-")) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            lastEventName = event.getEventName();
+            handledCount.incrementAndGet();
+            handled.countDown();
+        }
+    }
+}
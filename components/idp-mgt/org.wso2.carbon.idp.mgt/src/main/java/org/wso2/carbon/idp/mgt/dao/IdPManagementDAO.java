@@ -68,6 +68,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -93,6 +94,7 @@ import static org.wso2.carbon.idp.mgt.util.IdPManagementConstants.TEMPLATE_ID_ID
 public class IdPManagementDAO {
 
     private static final Log log = LogFactory.getLog(IdPManagementDAO.class);
+    private static final int MAX_IDS_PER_IN_CLAUSE = 500;
 
     /**
      * @param dbConnection
@@ -536,6 +538,8 @@ public class IdPManagementDAO {
             throws SQLException, IdentityProviderManagementServerException {
 
         List<IdentityProvider> identityProviderList = new ArrayList<>();
+        // IdP id -> default federated authenticator name, resolved once the authenticators of the page are loaded.
+        Map<String, String> defaultAuthenticatorNames = new HashMap<>();
         while (resultSet.next()) {
             IdentityProvider identityProvider = new IdentityProvider();
             // First set the basic attributes such as id, name, description, isEnabled, image url, uuid.
@@ -553,7 +557,7 @@ public class IdPManagementDAO {
 
             try {
                 populateRequiredAttributesForIdentityProviderList(resultSet, dbConnection, requiredAttributes, tenantId,
-                        identityProvider);
+                        identityProvider, defaultAuthenticatorNames);
             } catch (IdentityProviderManagementClientException e) {
                 continue;
             }
@@ -562,25 +566,171 @@ public class IdPManagementDAO {
                     .equals(identityProvider.getIdentityProviderName())) {
                 identityProviderList.add(identityProvider);
             }
-            List<IdentityProviderProperty> propertyList = getIdentityPropertiesByIdpId(dbConnection,
-                    Integer.parseInt(resultSet.getString("ID")));
-            identityProvider.setIdpProperties(propertyList.toArray(new IdentityProviderProperty[0]));
+        }
+
+        // Load the properties and federated authenticators of the whole page, instead of querying for each IdP.
+        populateIdentityPropertiesOfIdPs(dbConnection, identityProviderList);
+        if (CollectionUtils.isNotEmpty(requiredAttributes)
+                && requiredAttributes.contains(IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS)) {
+            populateFederatedAuthenticatorConfigsOfIdPs(dbConnection, identityProviderList,
+                    defaultAuthenticatorNames);
         }
         return identityProviderList;
     }
 
+    /**
+     * Set the IdP properties of the given identity providers, reading the properties of many identity providers with
+     * a single query.
+     *
+     * @param dbConnection      Database connection.
+     * @param identityProviders Identity providers with the id set.
+     * @throws SQLException Database Exception.
+     */
+    private void populateIdentityPropertiesOfIdPs(Connection dbConnection, List<IdentityProvider> identityProviders)
+            throws SQLException {
+
+        Map<Integer, List<IdentityProviderProperty>> idpProperties = new HashMap<>();
+        for (IdentityProvider identityProvider : identityProviders) {
+            idpProperties.put(Integer.parseInt(identityProvider.getId()), new ArrayList<>());
+        }
+
+        String sqlStmt;
+        try {
+            sqlStmt = isH2DB() ? IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID_LIST_H2 :
+                    IdPManagementConstants.SQLQueries.GET_IDP_METADATA_BY_IDP_ID_LIST;
+        } catch (DataAccessException e) {
+            throw new SQLException("Error while retrieving IDP properties for IDP IDs: " + idpProperties.keySet(), e);
+        }
+        for (List<Integer> idpIds : partitionIds(idpProperties.keySet())) {
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(sqlStmt.replace(
+                    SCOPE_LIST_PLACEHOLDER, StringUtils.join(idpIds, ", ")));
+                 ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    IdentityProviderProperty property = new IdentityProviderProperty();
+                    property.setName(rs.getString("NAME"));
+                    property.setValue(rs.getString("VALUE"));
+                    property.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    idpProperties.get(rs.getInt("IDP_ID")).add(property);
+                }
+            }
+        }
+
+        for (IdentityProvider identityProvider : identityProviders) {
+            identityProvider.setIdpProperties(idpProperties.get(Integer.parseInt(identityProvider.getId()))
+                    .toArray(new IdentityProviderProperty[0]));
+        }
+    }
+
+    /**
+     * Set the federated authenticator configs of the given identity providers, reading the authenticators and the
+     * authenticator properties of many identity providers with a query each.
+     *
+     * @param dbConnection              Database connection.
+     * @param identityProviders         Identity providers with the id set.
+     * @param defaultAuthenticatorNames Default authenticator names of the identity providers, keyed by IdP id.
+     * @throws SQLException Database Exception.
+     */
+    private void populateFederatedAuthenticatorConfigsOfIdPs(Connection dbConnection,
+                                                             List<IdentityProvider> identityProviders,
+                                                             Map<String, String> defaultAuthenticatorNames)
+            throws SQLException {
+
+        Map<Integer, List<FederatedAuthenticatorConfig>> idpAuthenticators = new HashMap<>();
+        for (IdentityProvider identityProvider : identityProviders) {
+            idpAuthenticators.put(Integer.parseInt(identityProvider.getId()), new ArrayList<>());
+        }
+
+        Map<Integer, FederatedAuthenticatorConfig> authenticators = new HashMap<>();
+        for (List<Integer> idpIds : partitionIds(idpAuthenticators.keySet())) {
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(
+                    IdPManagementConstants.SQLQueries.GET_ALL_IDP_AUTH_BY_IDP_ID_LIST.replace(
+                            SCOPE_LIST_PLACEHOLDER, StringUtils.join(idpIds, ", ")));
+                 ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    FederatedAuthenticatorConfig authnConfig = new FederatedAuthenticatorConfig();
+                    authnConfig.setName(rs.getString("NAME"));
+                    authnConfig.setEnabled((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_ENABLED")));
+                    authnConfig.setDisplayName(rs.getString("DISPLAY_NAME"));
+                    authnConfig.setProperties(new Property[0]);
+                    authenticators.put(rs.getInt("ID"), authnConfig);
+                    idpAuthenticators.get(rs.getInt("IDP_ID")).add(authnConfig);
+                }
+            }
+        }
+
+        Map<Integer, Set<Property>> authenticatorProperties = new HashMap<>();
+        for (List<Integer> authenticatorIds : partitionIds(authenticators.keySet())) {
+            try (PreparedStatement prepStmt = dbConnection.prepareStatement(
+                    IdPManagementConstants.SQLQueries.GET_IDP_AUTH_PROPS_BY_AUTH_ID_LIST.replace(
+                            SCOPE_LIST_PLACEHOLDER, StringUtils.join(authenticatorIds, ", ")));
+                 ResultSet rs = prepStmt.executeQuery()) {
+                while (rs.next()) {
+                    Property property = new Property();
+                    property.setName(rs.getString("PROPERTY_KEY"));
+                    property.setValue(rs.getString("PROPERTY_VALUE"));
+                    if ((IdPManagementConstants.IS_TRUE_VALUE).equals(rs.getString("IS_SECRET"))) {
+                        property.setConfidential(true);
+                    }
+                    authenticatorProperties.computeIfAbsent(rs.getInt("AUTHENTICATOR_ID"), id -> new HashSet<>())
+                            .add(property);
+                }
+            }
+        }
+        for (Map.Entry<Integer, Set<Property>> entry : authenticatorProperties.entrySet()) {
+            authenticators.get(entry.getKey()).setProperties(entry.getValue().toArray(new Property[0]));
+        }
+
+        for (IdentityProvider identityProvider : identityProviders) {
+            List<FederatedAuthenticatorConfig> authnConfigs =
+                    idpAuthenticators.get(Integer.parseInt(identityProvider.getId()));
+            identityProvider.setFederatedAuthenticatorConfigs(
+                    authnConfigs.toArray(new FederatedAuthenticatorConfig[0]));
+            String defaultAuthenticatorName = defaultAuthenticatorNames.get(identityProvider.getId());
+            if (defaultAuthenticatorName != null) {
+                identityProvider.setDefaultAuthenticatorConfig(IdentityApplicationManagementUtil
+                        .getFederatedAuthenticator(identityProvider.getFederatedAuthenticatorConfigs(),
+                                defaultAuthenticatorName));
+            }
+        }
+    }
+
+    /**
+     * Split the given ids in to lists small enough to be used in an IN clause.
+     *
+     * @param ids Ids.
+     * @return Lists of ids.
+     */
+    private List<List<Integer>> partitionIds(Collection<Integer> ids) {
+
+        List<List<Integer>> partitions = new ArrayList<>();
+        List<Integer> partition = new ArrayList<>();
+        for (Integer id : ids) {
+            if (partition.size() == MAX_IDS_PER_IN_CLAUSE) {
+                partitions.add(partition);
+                partition = new ArrayList<>();
+            }
+            partition.add(id);
+        }
+        if (!partition.isEmpty()) {
+            partitions.add(partition);
+        }
+        return partitions;
+    }
+
     /**
      * @param resultSet          ResultSet.
      * @param dbConnection       Database Connection.
      * @param requiredAttributes Required attributes which needs to be return.
      * @param tenantId           Tenant Id of the identity provider.
      * @param identityProvider   Identity Provider Object.
+     * @param defaultAuthenticatorNames Default authenticator names of the identity providers, keyed by IdP id.
      * @throws SQLException
      * @throws IdentityProviderManagementServerException
      */
     private void populateRequiredAttributesForIdentityProviderList(ResultSet resultSet, Connection dbConnection,
                                                                    List<String> requiredAttributes, int tenantId,
-                                                                   IdentityProvider identityProvider)
+                                                                   IdentityProvider identityProvider,
+                                                                   Map<String, String> defaultAuthenticatorNames)
             throws SQLException, IdentityProviderManagementServerException, IdentityProviderManagementClientException {
 
         int idpId = Integer.parseInt(identityProvider.getId());
@@ -643,18 +793,10 @@ public class IdPManagementDAO {
                                     dbConnection, idPName, idpId, tenantId));
                             break;
                         case IdPManagementConstants.IDP_FEDERATED_AUTHENTICATORS:
+                            // Federated authenticators are loaded for the whole list once the IdPs are read.
                             String defaultAuthenticatorName = resultSet.getString("DEFAULT_AUTHENTICATOR_NAME");
-
-                            // Get federated authenticators.
-                            identityProvider.setFederatedAuthenticatorConfigs(getFederatedAuthenticatorConfigs(
-                                    dbConnection, idPName, identityProvider, tenantId));
-
-                            if (defaultAuthenticatorName != null &&
-                                    identityProvider.getFederatedAuthenticatorConfigs() != null) {
-                                identityProvider.setDefaultAuthenticatorConfig(IdentityApplicationManagementUtil
-                                        .getFederatedAuthenticator(
-                                                identityProvider.getFederatedAuthenticatorConfigs(),
-                                                defaultAuthenticatorName));
+                            if (defaultAuthenticatorName != null) {
+                                defaultAuthenticatorNames.put(identityProvider.getId(), defaultAuthenticatorName);
                             }
                             break;
                         case IdPManagementConstants.IDP_PROVISIONING:
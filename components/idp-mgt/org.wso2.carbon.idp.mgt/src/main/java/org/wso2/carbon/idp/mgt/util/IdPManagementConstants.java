@@ -187,6 +187,13 @@ public class IdPManagementConstants {
         public static final String GET_IDP_AUTH_PROPS_SQL = "SELECT PROPERTY_KEY, PROPERTY_VALUE, IS_SECRET FROM " +
                 "IDP_AUTHENTICATOR_PROPERTY WHERE AUTHENTICATOR_ID = ?";
 
+        public static final String GET_ALL_IDP_AUTH_BY_IDP_ID_LIST = "SELECT ID, IDP_ID, NAME, IS_ENABLED, " +
+                "DISPLAY_NAME FROM IDP_AUTHENTICATOR WHERE IDP_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
+        public static final String GET_IDP_AUTH_PROPS_BY_AUTH_ID_LIST = "SELECT AUTHENTICATOR_ID, PROPERTY_KEY, " +
+                "PROPERTY_VALUE, IS_SECRET FROM IDP_AUTHENTICATOR_PROPERTY WHERE AUTHENTICATOR_ID IN (" +
+                SCOPE_LIST_PLACEHOLDER + ")";
+
         public static final String GET_IDP_PROVISIONING_CONFIGS_SQL = "SELECT ID, TENANT_ID, "
                 + "IDP_ID, PROVISIONING_CONNECTOR_TYPE, IS_ENABLED, IS_BLOCKING "
                 + " FROM IDP_PROVISIONING_CONFIG WHERE IDP_ID=?";
@@ -406,6 +413,10 @@ public class IdPManagementConstants {
                 "IDP_METADATA WHERE IDP_ID = ?";
         public static final String GET_IDP_METADATA_BY_IDP_ID_H2 = "SELECT ID, NAME, `VALUE`, DISPLAY_NAME FROM " +
                 "IDP_METADATA WHERE IDP_ID = ?";
+        public static final String GET_IDP_METADATA_BY_IDP_ID_LIST = "SELECT IDP_ID, NAME, VALUE, DISPLAY_NAME " +
+                "FROM IDP_METADATA WHERE IDP_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+        public static final String GET_IDP_METADATA_BY_IDP_ID_LIST_H2 = "SELECT IDP_ID, NAME, `VALUE`, DISPLAY_NAME " +
+                "FROM IDP_METADATA WHERE IDP_ID IN (" + SCOPE_LIST_PLACEHOLDER + ")";
         public static final String ADD_IDP_METADATA = "INSERT INTO IDP_METADATA (IDP_ID, NAME, VALUE, DISPLAY_NAME, " +
                 "TENANT_ID) VALUES (?, ?, ?, ?, ?)";
         public static final String ADD_IDP_METADATA_H2 = "INSERT INTO IDP_METADATA (IDP_ID, NAME, `VALUE`, DISPLAY_NAME, " +
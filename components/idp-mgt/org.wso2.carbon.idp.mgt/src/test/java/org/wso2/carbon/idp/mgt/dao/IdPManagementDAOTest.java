@@ -57,6 +57,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -69,6 +70,7 @@ import static org.powermock.api.mockito.PowerMockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.idp.mgt.util.IdPManagementConstants.RESET_PROVISIONING_ENTITIES_ON_CONFIG_UPDATE;
 
 /**
@@ -374,6 +376,35 @@ public class IdPManagementDAOTest extends PowerMockTestCase {
         }
     }
 
+    @Test
+    public void testGetIdPsSearchWithFederatedAuthenticators() throws Exception {
+
+        mockStatic(IdentityDatabaseUtil.class);
+
+        try (Connection connection = getConnection(DB_NAME)) {
+            when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+            when(IdentityDatabaseUtil.getDBConnection()).thenReturn(connection);
+            when(IdentityDatabaseUtil.getDataSource()).thenReturn(dataSourceMap.get(DB_NAME));
+            addTestIdps();
+
+            ExpressionNode expressionNode = new ExpressionNode();
+            expressionNode.setAttributeValue("name");
+            expressionNode.setOperation("eq");
+            expressionNode.setValue("testIdP1");
+            List<IdentityProvider> idps = idPManagementDAO.getIdPsSearch(SAMPLE_TENANT_ID,
+                    Collections.singletonList(expressionNode), 10, 0, "ASC", "NAME",
+                    Collections.singletonList("federatedAuthenticators"));
+            assertEquals(idps.size(), 1);
+
+            IdentityProvider idp = idps.get(0);
+            assertTrue(Arrays.stream(idp.getIdpProperties())
+                    .anyMatch(property -> "idpPropertyName".equals(property.getName())));
+            assertEquals(idp.getFederatedAuthenticatorConfigs().length, 1);
+            assertEquals(idp.getFederatedAuthenticatorConfigs()[0].getName(), "Name");
+            assertEquals(idp.getFederatedAuthenticatorConfigs()[0].getProperties().length, 2);
+        }
+    }
+
     @DataProvider
     public Object[][] getIdPsSearchWithAttributesExceptionData() {
 
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.user.core.UserCoreConstants;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,34 @@ public abstract class AbstractOutboundProvisioningConnector implements Serializa
     public abstract ProvisionedIdentifier provision(ProvisioningEntity provisioningEntity)
             throws IdentityProvisioningException;
 
+    /**
+     * Override to return true if the connector provisions a list of entities with fewer calls to the provisioning
+     * identity provider than provisioning them one by one, e.g. with a SCIM bulk request.
+     *
+     * @return true if {@link #provision(List)} is implemented with a bulk call.
+     */
+    public boolean isBulkProvisioningSupported() {
+        return false;
+    }
+
+    /**
+     * Provision the given entities. Connectors which support bulk provisioning should override this method, and the
+     * default implementation provisions the entities one by one.
+     *
+     * @param provisioningEntities Entities to be provisioned, in the order they should be applied.
+     * @return Provisioned identifiers of the entities, in the same order as the entities.
+     * @throws IdentityProvisioningException If the entities could not be provisioned.
+     */
+    public List<ProvisionedIdentifier> provision(List<ProvisioningEntity> provisioningEntities)
+            throws IdentityProvisioningException {
+
+        List<ProvisionedIdentifier> provisionedIdentifiers = new ArrayList<>(provisioningEntities.size());
+        for (ProvisioningEntity provisioningEntity : provisioningEntities) {
+            provisionedIdentifiers.add(provision(provisioningEntity));
+        }
+        return provisionedIdentifiers;
+    }
+
     /**
      * override only if needed - if claims are controlled by the identity provider, this will return
      * null. If it is connector specific this must return the corresponding claim dialect.
@@ -46,6 +46,21 @@ public class IdentityProvisioningConstants {
 
     // Outbound provisioning constants.
     public static final String USE_USER_TENANT_DOMAIN_FOR_OUTBOUND_PROVISIONING_IN_SAAS_APPS = "OutboundProvisioning.useUserTenantDomainInSaasApps";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_THREAD_POOL_SIZE =
+            "OutboundProvisioning.Executor.ThreadPoolSize";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_CONNECTOR_CONCURRENCY =
+            "OutboundProvisioning.Executor.ConnectorConcurrency";
+    public static final String OUTBOUND_PROVISIONING_EXECUTOR_CONNECTOR_QUEUE_SIZE =
+            "OutboundProvisioning.Executor.ConnectorQueueSize";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_ENABLE = "OutboundProvisioning.Outbox.Enable";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_BATCH_SIZE = "OutboundProvisioning.Outbox.BatchSize";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_POLL_INTERVAL =
+            "OutboundProvisioning.Outbox.PollInterval";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS = "OutboundProvisioning.Outbox.MaxAttempts";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_INITIAL_BACKOFF =
+            "OutboundProvisioning.Outbox.InitialBackoff";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_MAX_BACKOFF = "OutboundProvisioning.Outbox.MaxBackoff";
+    public static final String OUTBOUND_PROVISIONING_OUTBOX_LEASE = "OutboundProvisioning.Outbox.Lease";
 
     public static class SQLQueries {
 
@@ -75,6 +90,33 @@ public class IdentityProvisioningConstants {
                                                                                     "AND APP.TENANT_ID = PC.TENANT_ID" +
                                                                                     " AND APP.TENANT_ID = ?";
 
+        public static final String ADD_PROVISIONING_OUTBOX_ENTRY_SQL = "INSERT INTO IDP_PROVISIONING_OUTBOX "
+                + "(ID, TENANT_ID, ENTITY_TENANT_ID, IDP_NAME, CONNECTOR_TYPE, ENTITY_TYPE, ENTITY_NAME, OPERATION, "
+                + "ENTITY_DATA, ATTEMPTS, NEXT_ATTEMPT_TIME, CREATED_TIME) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        // Entries of an entity are not returned while an earlier entry of the same entity is waiting for a retry
+        // or is being dispatched, so that the operations of an entity are always dispatched in order.
+        public static final String GET_DUE_PROVISIONING_OUTBOX_ENTRIES_SQL = "SELECT ID, TENANT_ID, "
+                + "ENTITY_TENANT_ID, IDP_NAME, CONNECTOR_TYPE, ENTITY_DATA, ATTEMPTS, NEXT_ATTEMPT_TIME, "
+                + "CREATED_TIME FROM IDP_PROVISIONING_OUTBOX OUTBOX WHERE NEXT_ATTEMPT_TIME <= ? AND NOT EXISTS "
+                + "(SELECT 1 FROM IDP_PROVISIONING_OUTBOX EARLIER WHERE EARLIER.TENANT_ID = OUTBOX.TENANT_ID AND "
+                + "EARLIER.IDP_NAME = OUTBOX.IDP_NAME AND EARLIER.CONNECTOR_TYPE = OUTBOX.CONNECTOR_TYPE AND "
+                + "EARLIER.ENTITY_TYPE = OUTBOX.ENTITY_TYPE AND EARLIER.ENTITY_NAME = OUTBOX.ENTITY_NAME AND "
+                + "EARLIER.CREATED_TIME < OUTBOX.CREATED_TIME AND EARLIER.NEXT_ATTEMPT_TIME > ?) "
+                + "ORDER BY CREATED_TIME";
+
+        public static final String CLAIM_PROVISIONING_OUTBOX_ENTRY_SQL = "UPDATE IDP_PROVISIONING_OUTBOX SET "
+                + "NEXT_ATTEMPT_TIME=? WHERE ID=? AND NEXT_ATTEMPT_TIME=?";
+
+        public static final String RESCHEDULE_PROVISIONING_OUTBOX_ENTRY_SQL = "UPDATE IDP_PROVISIONING_OUTBOX SET "
+                + "ATTEMPTS=?, NEXT_ATTEMPT_TIME=? WHERE ID=?";
+
+        public static final String UPDATE_PROVISIONING_OUTBOX_ENTRY_SQL = "UPDATE IDP_PROVISIONING_OUTBOX SET "
+                + "OPERATION=?, ENTITY_DATA=?, ATTEMPTS=?, NEXT_ATTEMPT_TIME=? WHERE ID=?";
+
+        public static final String DELETE_PROVISIONING_OUTBOX_ENTRY_SQL = "DELETE FROM IDP_PROVISIONING_OUTBOX "
+                + "WHERE ID=?";
+
         private SQLQueries(){}
     }
 
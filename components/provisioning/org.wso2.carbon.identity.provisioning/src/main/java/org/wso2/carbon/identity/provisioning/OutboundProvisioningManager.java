@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.provisioning;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -64,9 +63,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static org.wso2.carbon.identity.provisioning.ProvisioningUtil.isUserTenantBasedOutboundProvisioningEnabled;
 
@@ -115,7 +111,9 @@ public class OutboundProvisioningManager {
     }
 
     /**
-     * TODO: Need to cache the output from this method.
+     * Get the runtime provisioning connectors of the given service provider. The connectors are cached per service
+     * provider and tenant, and the cache entries are cleared when the service provider or a provisioning identity
+     * provider of it is updated.
      *
      * @return
      * @throws UserStoreException
@@ -198,7 +196,20 @@ public class OutboundProvisioningManager {
                             enableJitProvisioning = true;
                         }
 
-                        connector = getOutboundProvisioningConnector(fIdP,
+                        String idpName = fIdP.getIdentityProviderName();
+                        // get identity provider configuration.
+                        IdentityProvider provisioningIdp =
+                                IdentityProviderManager.getInstance().getEnabledIdPByName(idpName, tenantDomain);
+                        if (provisioningIdp == null) {
+                            // This is an exceptional situation. If service provider has connected to an
+                            // identity provider, that identity provider must be present in the system.
+                            // If not its an exception.
+                            throw new IdentityProvisioningException(
+                                    "Provisioning identity provider not available in the system. Idp Name : "
+                                    + idpName);
+                        }
+
+                        connector = getOutboundProvisioningConnector(provisioningIdp, connectorType,
                                                                      registeredConnectorFactories, tenantDomain,
                                                                      enableJitProvisioning);
                         // add to the provisioning connectors list. there will be one item for each
@@ -211,6 +222,7 @@ public class OutboundProvisioningManager {
                                             connectorType, connector));
                             proConfig.setBlocking(defaultConnector.isBlocking());
                             proConfig.setPolicyEnabled(defaultConnector.isRulesEnabled());
+                            proConfig.setProvisioningIdentityProvider(provisioningIdp);
                             connectors.put(fIdP.getIdentityProviderName(), proConfig);
                         }
                     }
@@ -234,7 +246,8 @@ public class OutboundProvisioningManager {
     }
 
     /**
-     * @param fIdP
+     * @param fIdP                         Configuration of the provisioning identity provider.
+     * @param connectorType                Name of the default provisioning connector.
      * @param registeredConnectorFactories
      * @param tenantDomainName
      * @param enableJitProvisioning
@@ -243,28 +256,13 @@ public class OutboundProvisioningManager {
      * @throws UserStoreException
      */
     private AbstractOutboundProvisioningConnector getOutboundProvisioningConnector(
-            IdentityProvider fIdP,
+            IdentityProvider fIdP, String connectorType,
             Map<String, AbstractProvisioningConnectorFactory> registeredConnectorFactories,
             String tenantDomainName, boolean enableJitProvisioning)
             throws IdentityProviderManagementException, IdentityProvisioningException {
 
         String idpName = fIdP.getIdentityProviderName();
 
-        // name of the default provisioning connector.
-        String connectorType = fIdP.getDefaultProvisioningConnectorConfig().getName();
-
-        // get identity provider configuration.
-        fIdP = IdentityProviderManager.getInstance().getEnabledIdPByName(idpName, tenantDomainName);
-
-        if (fIdP == null) {
-            // This is an exceptional situation. If service provider has connected to an
-            // identity provider, that identity provider must be present in the system.
-            // If not its an exception.
-            throw new IdentityProvisioningException(
-                    "Provisioning identity provider not available in the system. Idp Name : "
-                    + idpName);
-        }
-
         // get a list of provisioning connectors associated with the provisioning
         // identity provider.
         ProvisioningConnectorConfig[] provisioningConfigs = fIdP.getProvisioningConnectorConfigs();
@@ -324,6 +322,90 @@ public class OutboundProvisioningManager {
         return null;
     }
 
+    /**
+     * Create the provisioning call of an operation dispatched from the provisioning outbox. The connector is resolved
+     * with the current configuration of the provisioning identity provider.
+     * <p>
+     * Unless the operation was already applied by the connector, its provisioned identifier and operation are
+     * resolved now, as the earlier operations of the entity may have been dispatched after it was added: an entity
+     * without a provisioned identifier is created, and an entity with one is updated instead of being created again.
+     *
+     * @param provisioningEntity     Outbound provisioning entity.
+     * @param spTenantDomainName     Tenant domain of the service provider.
+     * @param entityTenantDomainName Tenant domain of the provisioned entity.
+     * @param idPName                Name of the provisioning identity provider.
+     * @param connectorType          Type of the provisioning connector.
+     * @param provisioned            Whether the operation was already applied by the connector, in which case only
+     *                               the provisioned identifier is updated.
+     * @return Provisioning call, or null if there is nothing to provision, i.e. the entity to be deleted was never
+     * provisioned.
+     * @throws IdentityProvisioningException If the connector is not available.
+     */
+    ProvisioningThread createOutboxProvisioningThread(ProvisioningEntity provisioningEntity,
+                                                      String spTenantDomainName, String entityTenantDomainName,
+                                                      String idPName, String connectorType, boolean provisioned)
+            throws IdentityProvisioningException {
+
+        try {
+            if (!provisioned) {
+                provisioningEntity = resolveOutboxProvisioningEntity(provisioningEntity, spTenantDomainName,
+                        idPName, connectorType);
+                if (provisioningEntity == null) {
+                    return null;
+                }
+            }
+            IdentityProvider provisioningIdp =
+                    IdentityProviderManager.getInstance().getEnabledIdPByName(idPName, spTenantDomainName);
+            if (provisioningIdp == null) {
+                throw new IdentityProvisioningException(
+                        "Provisioning identity provider not available in the system. Idp Name : " + idPName);
+            }
+            boolean enableJitProvisioning = provisioningIdp.getJustInTimeProvisioningConfig() != null
+                    && provisioningIdp.getJustInTimeProvisioningConfig().isProvisioningEnabled();
+            AbstractOutboundProvisioningConnector connector = getOutboundProvisioningConnector(provisioningIdp,
+                    connectorType, IdentityProvisionServiceComponent.getConnectorFactories(), spTenantDomainName,
+                    enableJitProvisioning);
+            if (connector == null) {
+                throw new IdentityProvisioningException("Provisioning connector " + connectorType
+                        + " is not enabled for identity provider " + idPName);
+            }
+            return new ProvisioningThread(provisioningEntity, spTenantDomainName, entityTenantDomainName, connector,
+                    connectorType, idPName, dao);
+        } catch (IdentityProviderManagementException e) {
+            throw new IdentityProvisioningException("Error while retrieving idp configuration for " + idPName, e);
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityProvisioningException("Error while retrieving the provisioned identifier of "
+                    + provisioningEntity.getEntityName() + " for identity provider " + idPName, e);
+        }
+    }
+
+    private ProvisioningEntity resolveOutboxProvisioningEntity(ProvisioningEntity provisioningEntity,
+                                                               String spTenantDomainName, String idPName,
+                                                               String connectorType)
+            throws IdentityApplicationManagementException {
+
+        ProvisionedIdentifier provisionedIdentifier = getProvisionedEntityIdentifier(idPName, connectorType,
+                provisioningEntity, spTenantDomainName);
+        boolean hasIdentifier = provisionedIdentifier != null && provisionedIdentifier.getIdentifier() != null;
+        ProvisioningOperation provisioningOp = provisioningEntity.getOperation();
+        if (ProvisioningOperation.DELETE.equals(provisioningOp)) {
+            if (!hasIdentifier) {
+                return null;
+            }
+        } else if (!hasIdentifier) {
+            provisioningOp = ProvisioningOperation.POST;
+        } else if (ProvisioningOperation.POST.equals(provisioningOp)) {
+            provisioningOp = ProvisioningOperation.PUT;
+        }
+
+        ProvisioningEntity resolvedEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
+                provisioningEntity.getEntityName(), provisioningOp, provisioningEntity.getAttributes());
+        resolvedEntity.setIdentifier(hasIdentifier ? provisionedIdentifier : null);
+        resolvedEntity.setJitProvisioning(provisioningEntity.isJitProvisioning());
+        resolvedEntity.setInboundAttributes(provisioningEntity.getInboundAttributes());
+        return resolvedEntity;
+    }
+
     /**
      * Outbound provisioning method.
      *
@@ -367,18 +449,11 @@ public class OutboundProvisioningManager {
 
             // get all the provisioning connectors associated with local service provider for
             // out-bound provisioning.
-            // TODO: stop loading connectors all the time.
             Map<String, RuntimeProvisioningConfig> connectors =
                     getOutboundProvisioningConnectors(serviceProvider, spTenantDomainName);
 
             ProvisioningEntity outboundProEntity;
 
-            ExecutorService executors = null;
-
-            if (MapUtils.isNotEmpty(connectors)) {
-                executors = Executors.newFixedThreadPool(connectors.size());
-            }
-
             for (Iterator<Entry<String, RuntimeProvisioningConfig>> iterator = connectors
                     .entrySet().iterator(); iterator.hasNext(); ) {
 
@@ -391,8 +466,10 @@ public class OutboundProvisioningManager {
                 String connectorType = connectorEntry.getKey();
                 String idPName = entry.getKey();
 
-                IdentityProvider provisioningIdp =
-                        IdentityProviderManager.getInstance().getIdPByName(idPName, spTenantDomainName);
+                IdentityProvider provisioningIdp = entry.getValue().getProvisioningIdentityProvider();
+                if (provisioningIdp == null) {
+                    provisioningIdp = IdentityProviderManager.getInstance().getIdPByName(idPName, spTenantDomainName);
+                }
 
                 if (provisioningIdp == null) {
                     // this is an exception if we cannot find the provisioning identity provider
@@ -433,7 +510,6 @@ public class OutboundProvisioningManager {
                     idpClaimMappings = provisioningIdp.getClaimConfig().getClaimMappings();
                 }
 
-                // TODO: this should happen asynchronously in a different thread.
                 // create a new provisioning entity object for each provisioning identity
                 // provider.
 
@@ -459,13 +535,16 @@ public class OutboundProvisioningManager {
 
                 ProvisioningOperation provisioningOp = provisioningEntity.getOperation();
 
-                if (ProvisioningOperation.DELETE.equals(provisioningOp) &&
+                // Operations added to the outbox can be dispatched after an earlier operation of the same entity is
+                // still in the outbox, so their identifier and operation are resolved when they are dispatched.
+                boolean outboxed = !entry.getValue().isBlocking() && ProvisioningOutboxDispatcher.isEnabled();
+                if (!outboxed && ProvisioningOperation.DELETE.equals(provisioningOp) &&
                     (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null)) {
                     //No provisioning identifier found. User has not outbound provisioned to this idp. So no need to
                     // send outbound delete request. Skip the flow
                     return;
                 }
-                if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
+                if (!outboxed && (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null)) {
                     provisioningOp = ProvisioningOperation.POST;
                 }
 
@@ -506,12 +585,13 @@ public class OutboundProvisioningManager {
 
                         outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                    user, ProvisioningOperation.POST, mappedUserClaims);
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
                         boolean isBlocking = entry.getValue().isBlocking();
-                        executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                        executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType,
+                                idPName, proThread, isBlocking);
 
                     }
 
@@ -531,12 +611,13 @@ public class OutboundProvisioningManager {
 
                             outboundProEntity = new ProvisioningEntity(ProvisioningEntityType.USER,
                                                                        user, ProvisioningOperation.DELETE, mappedUserClaims);
-                            Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                            ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                     provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                             outboundProEntity.setIdentifier(provisionedUserIdentifier);
                             outboundProEntity.setJitProvisioning(jitProvisioning);
                             boolean isBlocking = entry.getValue().isBlocking();
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType,
+                                    idPName, proThread, isBlocking);
                         }
                     }
 
@@ -557,7 +638,7 @@ public class OutboundProvisioningManager {
                         outboundProEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
                                 provisioningEntity.getEntityName(), provisioningOp, mapppedClaims);
 
-                        Callable<Boolean> proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
+                        ProvisioningThread proThread = new ProvisioningThread(outboundProEntity, spTenantDomainName,
                                 provisioningEntityTenantDomainName, connector, connectorType, idPName, dao);
                         outboundProEntity.setIdentifier(provisionedIdentifier);
                         outboundProEntity.setJitProvisioning(jitProvisioning);
@@ -572,16 +653,13 @@ public class OutboundProvisioningManager {
                                     connectorType);
                         }
                         if (isAllowed) {
-                            executeOutboundProvisioning(provisioningEntity, executors, connectorType, idPName, proThread, isBlocking);
+                            executeOutboundProvisioning(provisioningEntity, spTenantDomainName, connectorType,
+                                    idPName, proThread, isBlocking);
                         }
                     }
                 }
             }
 
-            if (executors != null) {
-                executors.shutdown();
-            }
-
         } catch (CarbonException | IdentityApplicationManagementException | IdentityProviderManagementException | UserStoreException e) {
             throw new IdentityProvisioningException("Error occurred while checking for user " +
                                                     "provisioning", e);
@@ -620,27 +698,33 @@ public class OutboundProvisioningManager {
         return true;
     }
 
-    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, ExecutorService executors,
+    private void executeOutboundProvisioning(ProvisioningEntity provisioningEntity, String spTenantDomainName,
                                              String connectorType,
-                                             String idPName, Callable<Boolean> proThread, boolean isBlocking)
+                                             String idPName, ProvisioningThread proThread, boolean isBlocking)
             throws IdentityProvisioningException {
         if (!isBlocking) {
-            executors.submit(proThread);
+            if (ProvisioningOutboxDispatcher.isEnabled()) {
+                try {
+                    ProvisioningOutboxDispatcher.getInstance().add(proThread);
+                    return;
+                } catch (IdentityApplicationManagementException e) {
+                    log.error("Error while adding the outbound provisioning operation of identity provider " + idPName
+                            + " to the outbox. Provisioning without the outbox.", e);
+                }
+            }
+            ProvisioningExecutor.getInstance().execute(spTenantDomainName, idPName, connectorType, proThread);
         } else {
             try {
 
                 boolean success = proThread.call();
                 if (!success) {
-                    if (executors != null) {
-                        executors.shutdown();
-                    }
                     throw new IdentityProvisioningException
                             (generateMessageOnFailureProvisioningOperation(idPName,
                                                                            connectorType, provisioningEntity));
                     //DO Rollback
                 }
             } catch (Exception e) { //call() of Callable interface throws this exception
-                handleException(idPName, connectorType, provisioningEntity, executors, e);
+                handleException(idPName, connectorType, provisioningEntity, e);
             }
         }
     }
@@ -983,11 +1067,10 @@ public class OutboundProvisioningManager {
      * @param idPName
      * @param connectorType
      * @param provisioningEntity
-     * @param executors
      * @param e
      */
     protected void handleException(String idPName, String connectorType, ProvisioningEntity provisioningEntity,
-                                   ExecutorService executors, Exception e) {
+                                   Exception e) {
 
         if (log.isDebugEnabled()) {
             log.debug(generateMessageOnFailureProvisioningOperation(idPName, connectorType, provisioningEntity), e);
@@ -0,0 +1,390 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared executor of the non-blocking outbound provisioning calls.
+ * <p>
+ * All the calls are executed by a single bounded thread pool. Each provisioning connector, identified by the tenant
+ * domain, the provisioning identity provider and the connector type, has its own queue and concurrency limit, so that
+ * a slow connector can neither take all the threads of the pool nor delay the calls of the other connectors. When
+ * the queue of a connector is full, the call is executed in the calling thread. The connectors of a deleted identity
+ * provider or tenant are removed with {@link #removeConnectorLanes(String, String)}.
+ */
+public class ProvisioningExecutor {
+
+    private static final Log log = LogFactory.getLog(ProvisioningExecutor.class);
+    private static final String THREAD_NAME = "OutboundProvisioningExecutor-";
+
+    private static final int DEFAULT_THREAD_POOL_SIZE = 20;
+    private static final int DEFAULT_CONNECTOR_CONCURRENCY = 4;
+    private static final int DEFAULT_CONNECTOR_QUEUE_SIZE = 1000;
+
+    private static volatile ProvisioningExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final int connectorConcurrency;
+    private final int connectorQueueSize;
+    private final Map<String, ConnectorLane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * @param threadPoolSize       Number of threads shared by all the connectors.
+     * @param connectorConcurrency Maximum number of concurrent calls of a single connector.
+     * @param connectorQueueSize   Maximum number of calls waiting for a single connector.
+     */
+    public ProvisioningExecutor(int threadPoolSize, int connectorConcurrency, int connectorQueueSize) {
+
+        int poolSize = Math.max(threadPoolSize, 1);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.connectorConcurrency = Math.max(connectorConcurrency, 1);
+        this.connectorQueueSize = Math.max(connectorQueueSize, 0);
+    }
+
+    /**
+     * Get the executor configured with the OutboundProvisioning.Executor configuration of identity.xml.
+     *
+     * @return Provisioning executor.
+     */
+    public static ProvisioningExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (ProvisioningExecutor.class) {
+                if (instance == null) {
+                    int threadPoolSize = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_THREAD_POOL_SIZE,
+                            DEFAULT_THREAD_POOL_SIZE);
+                    int connectorConcurrency = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_CONNECTOR_CONCURRENCY,
+                            DEFAULT_CONNECTOR_CONCURRENCY);
+                    int connectorQueueSize = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_EXECUTOR_CONNECTOR_QUEUE_SIZE,
+                            DEFAULT_CONNECTOR_QUEUE_SIZE);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Outbound provisioning executor is created with thread pool size: "
+                                + threadPoolSize + ", connector concurrency: " + connectorConcurrency
+                                + " and connector queue size: " + connectorQueueSize);
+                    }
+                    instance = new ProvisioningExecutor(threadPoolSize, connectorConcurrency, connectorQueueSize);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the executor returned by {@link #getInstance()}, if it was created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (ProvisioningExecutor.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Queue the given provisioning call of the given connector.
+     *
+     * @param tenantDomain  Tenant domain of the service provider.
+     * @param idPName       Name of the provisioning identity provider.
+     * @param connectorType Type of the provisioning connector.
+     * @param call          Provisioning call.
+     */
+    public void execute(String tenantDomain, String idPName, String connectorType, Callable<Boolean> call) {
+
+        String laneName = tenantDomain + ":" + idPName + ":" + connectorType;
+        lanes.computeIfAbsent(laneName, name -> new ConnectorLane(name, tenantDomain, idPName)).submit(call);
+    }
+
+    /**
+     * Remove the connectors of the given identity provider, or of all the identity providers of the given tenant,
+     * so that the executor does not keep the queues and metrics of deleted identity providers and tenants. Calls
+     * which are already queued for a removed connector are still executed.
+     *
+     * @param tenantDomain Tenant domain of the connectors.
+     * @param idPName      Name of the provisioning identity provider, or null to remove all the connectors of the
+     *                     tenant.
+     */
+    public void removeConnectorLanes(String tenantDomain, String idPName) {
+
+        boolean removed = lanes.values().removeIf(lane -> StringUtils.equals(lane.tenantDomain, tenantDomain)
+                && (idPName == null || StringUtils.equals(lane.idPName, idPName)));
+        if (removed && log.isDebugEnabled()) {
+            log.debug("Removed the provisioning connectors of the identity provider: " + idPName + " of the tenant: "
+                    + tenantDomain);
+        }
+    }
+
+    /**
+     * Stop accepting calls. Already queued calls are still executed.
+     */
+    public void shutdown() {
+
+        executor.shutdown();
+    }
+
+    /**
+     * Get the connectors which were used with this executor, keyed by tenant domain, identity provider name and
+     * connector type, separated by ':'.
+     *
+     * @return Connector lanes.
+     */
+    public Map<String, ConnectorLane> getConnectorLanes() {
+
+        return Collections.unmodifiableMap(lanes);
+    }
+
+    /**
+     * Get the number of calls waiting in the queues of all the connectors.
+     *
+     * @return Queue depth.
+     */
+    public int getQueueDepth() {
+
+        int queueDepth = 0;
+        for (ConnectorLane lane : lanes.values()) {
+            queueDepth += lane.getQueueDepth();
+        }
+        return queueDepth;
+    }
+
+    /**
+     * Get the number of calls of all the connectors which are being executed.
+     *
+     * @return In-flight call count.
+     */
+    public int getInFlightCount() {
+
+        int inFlightCount = 0;
+        for (ConnectorLane lane : lanes.values()) {
+            inFlightCount += lane.getInFlightCount();
+        }
+        return inFlightCount;
+    }
+
+    public int getActiveThreadCount() {
+
+        return executor.getActiveCount();
+    }
+
+    private static int readIntProperty(String key, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.error("Error while parsing the config: " + key + " with value: " + value
+                    + ". Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Queue and metrics of a single provisioning connector.
+     */
+    public class ConnectorLane {
+
+        private final String name;
+        private final String tenantDomain;
+        private final String idPName;
+        private final Queue<Callable<Boolean>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicInteger workers = new AtomicInteger();
+        private final AtomicInteger inFlightCount = new AtomicInteger();
+
+        private final AtomicLong completedCount = new AtomicLong();
+        private final AtomicLong failedCount = new AtomicLong();
+        private final AtomicLong callerRunsCount = new AtomicLong();
+        private final AtomicLong totalLatencyMillis = new AtomicLong();
+        private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+        ConnectorLane(String name, String tenantDomain, String idPName) {
+
+            this.name = name;
+            this.tenantDomain = tenantDomain;
+            this.idPName = idPName;
+        }
+
+        public String getName() {
+
+            return name;
+        }
+
+        /**
+         * Get the number of calls waiting in the queue of the connector.
+         *
+         * @return Queue depth.
+         */
+        public int getQueueDepth() {
+
+            return queueDepth.get();
+        }
+
+        public int getInFlightCount() {
+
+            return inFlightCount.get();
+        }
+
+        public long getCompletedCount() {
+
+            return completedCount.get();
+        }
+
+        /**
+         * Get the number of calls which returned false or threw an exception.
+         *
+         * @return Failed call count.
+         */
+        public long getFailedCount() {
+
+            return failedCount.get();
+        }
+
+        /**
+         * Get the number of calls executed in the calling thread as the queue of the connector was full.
+         *
+         * @return Caller runs count.
+         */
+        public long getCallerRunsCount() {
+
+            return callerRunsCount.get();
+        }
+
+        public long getMaxLatencyMillis() {
+
+            return maxLatencyMillis.get();
+        }
+
+        public double getAverageLatencyMillis() {
+
+            long calls = completedCount.get() + failedCount.get();
+            return calls == 0 ? 0 : (double) totalLatencyMillis.get() / calls;
+        }
+
+        private void submit(Callable<Boolean> call) {
+
+            if (queueDepth.incrementAndGet() > connectorQueueSize) {
+                queueDepth.decrementAndGet();
+                callerRunsCount.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Provisioning queue of the connector: " + name + " is full. Executing the call in "
+                            + "the calling thread.");
+                }
+                run(call);
+                return;
+            }
+            queue.offer(call);
+            scheduleWorker();
+        }
+
+        private void scheduleWorker() {
+
+            int current;
+            do {
+                current = workers.get();
+                if (current >= connectorConcurrency) {
+                    return;
+                }
+            } while (!workers.compareAndSet(current, current + 1));
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // The executor is shut down. Execute the queued calls in the calling thread.
+                drain();
+            }
+        }
+
+        private void drain() {
+
+            try {
+                Callable<Boolean> call;
+                while ((call = queue.poll()) != null) {
+                    queueDepth.decrementAndGet();
+                    run(call);
+                }
+            } finally {
+                workers.decrementAndGet();
+            }
+            // A call may have been queued after the queue was found empty, while this worker was still counted.
+            if (!queue.isEmpty()) {
+                scheduleWorker();
+            }
+        }
+
+        private void run(Callable<Boolean> call) {
+
+            inFlightCount.incrementAndGet();
+            long startTime = System.currentTimeMillis();
+            try {
+                if (Boolean.TRUE.equals(call.call())) {
+                    completedCount.incrementAndGet();
+                } else {
+                    failedCount.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failedCount.incrementAndGet();
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while executing the provisioning call of the connector: " + name, e);
+                }
+            } finally {
+                inFlightCount.decrementAndGet();
+                recordLatency(System.currentTimeMillis() - startTime);
+            }
+        }
+
+        private void recordLatency(long latency) {
+
+            totalLatencyMillis.addAndGet(latency);
+            long max = maxLatencyMillis.get();
+            while (latency > max && !maxLatencyMillis.compareAndSet(max, latency)) {
+                max = maxLatencyMillis.get();
+            }
+        }
+    }
+}
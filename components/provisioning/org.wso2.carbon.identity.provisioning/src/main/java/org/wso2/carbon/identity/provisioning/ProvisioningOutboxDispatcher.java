@@ -0,0 +1,732 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningOutboxDAO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dispatcher of the non-blocking outbound provisioning operations stored in the provisioning outbox.
+ * <p>
+ * Operations are added to the outbox before the provisioning listener returns, and are dispatched by a background
+ * thread in batches. The operations of a batch are grouped per provisioning connector, and the successive updates of
+ * the same user are collapsed into a single update. Connectors which support bulk provisioning receive all the
+ * operations of a group in a single call. Failed operations are retried with an exponential backoff, and the later
+ * operations of the same entity are not dispatched until the failed operation succeeds or is discarded.
+ * <p>
+ * Entries are claimed by moving their next attempt time to the end of a lease, so that several nodes can drain the
+ * same outbox. The dispatcher waits until the claimed entries are provisioned before reading the outbox again, and
+ * renews the lease of the entries which are still being provisioned every half lease. Entries of a node which stops
+ * before completing them are dispatched again once their lease expires.
+ */
+public class ProvisioningOutboxDispatcher {
+
+    private static final Log log = LogFactory.getLog(ProvisioningOutboxDispatcher.class);
+    private static final String THREAD_NAME = "OutboundProvisioningOutboxDispatcher";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int DEFAULT_POLL_INTERVAL_IN_SECONDS = 5;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final int DEFAULT_INITIAL_BACKOFF_IN_SECONDS = 30;
+    private static final int DEFAULT_MAX_BACKOFF_IN_SECONDS = 3600;
+    private static final int DEFAULT_LEASE_IN_SECONDS = 300;
+
+    private static final AtomicLong LAST_CREATED_TIME = new AtomicLong();
+
+    private static volatile ProvisioningOutboxDispatcher instance;
+
+    private final ProvisioningOutboxDAO outboxDAO;
+    private final int batchSize;
+    private final long pollIntervalInMillis;
+    private final int maxAttempts;
+    private final long initialBackoffInMillis;
+    private final long maxBackoffInMillis;
+    private final long leaseInMillis;
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param outboxDAO              Data access of the outbox.
+     * @param batchSize              Maximum number of entries read from the outbox at once.
+     * @param pollIntervalInMillis   Interval between two reads of the outbox.
+     * @param maxAttempts            Number of failed attempts after which an operation is discarded.
+     * @param initialBackoffInMillis Delay before the first retry of a failed operation. The delay is doubled with
+     *                               each failed attempt.
+     * @param maxBackoffInMillis     Maximum delay before the retry of a failed operation.
+     * @param leaseInMillis          Time for which the read entries are reserved for this node.
+     */
+    public ProvisioningOutboxDispatcher(ProvisioningOutboxDAO outboxDAO, int batchSize, long pollIntervalInMillis,
+                                        int maxAttempts, long initialBackoffInMillis, long maxBackoffInMillis,
+                                        long leaseInMillis) {
+
+        this.outboxDAO = outboxDAO;
+        this.batchSize = Math.max(batchSize, 1);
+        this.pollIntervalInMillis = Math.max(pollIntervalInMillis, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffInMillis = Math.max(initialBackoffInMillis, 0);
+        this.maxBackoffInMillis = Math.max(maxBackoffInMillis, this.initialBackoffInMillis);
+        this.leaseInMillis = Math.max(leaseInMillis, 1);
+    }
+
+    /**
+     * Check whether the non-blocking outbound provisioning operations are dispatched through the outbox, with the
+     * OutboundProvisioning.Outbox.Enable configuration of identity.xml.
+     *
+     * @return true if the outbox is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(
+                IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_ENABLE));
+    }
+
+    /**
+     * Get the dispatcher configured with the OutboundProvisioning.Outbox configuration of identity.xml.
+     *
+     * @return Outbox dispatcher.
+     */
+    public static ProvisioningOutboxDispatcher getInstance() {
+
+        if (instance == null) {
+            synchronized (ProvisioningOutboxDispatcher.class) {
+                if (instance == null) {
+                    int batchSize = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_BATCH_SIZE,
+                            DEFAULT_BATCH_SIZE);
+                    int pollInterval = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_POLL_INTERVAL,
+                            DEFAULT_POLL_INTERVAL_IN_SECONDS);
+                    int maxAttempts = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_ATTEMPTS,
+                            DEFAULT_MAX_ATTEMPTS);
+                    int initialBackoff = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_INITIAL_BACKOFF,
+                            DEFAULT_INITIAL_BACKOFF_IN_SECONDS);
+                    int maxBackoff = readIntProperty(
+                            IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_MAX_BACKOFF,
+                            DEFAULT_MAX_BACKOFF_IN_SECONDS);
+                    int lease = readIntProperty(IdentityProvisioningConstants.OUTBOUND_PROVISIONING_OUTBOX_LEASE,
+                            DEFAULT_LEASE_IN_SECONDS);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Outbound provisioning outbox dispatcher is created with batch size: " + batchSize
+                                + ", poll interval: " + pollInterval + "s, max attempts: " + maxAttempts
+                                + ", initial backoff: " + initialBackoff + "s, max backoff: " + maxBackoff
+                                + "s and lease: " + lease + "s");
+                    }
+                    instance = new ProvisioningOutboxDispatcher(new ProvisioningOutboxDAO(), batchSize,
+                            TimeUnit.SECONDS.toMillis(pollInterval), maxAttempts,
+                            TimeUnit.SECONDS.toMillis(initialBackoff), TimeUnit.SECONDS.toMillis(maxBackoff),
+                            TimeUnit.SECONDS.toMillis(lease));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Start dispatching the outbox with the dispatcher returned by {@link #getInstance()}, if the outbox is enabled.
+     */
+    public static void startInstance() {
+
+        if (isEnabled()) {
+            getInstance().start();
+        }
+    }
+
+    /**
+     * Stop the dispatcher returned by {@link #getInstance()}, if it was created.
+     */
+    public static void shutdownInstance() {
+
+        synchronized (ProvisioningOutboxDispatcher.class) {
+            if (instance != null) {
+                instance.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Start reading the outbox periodically.
+     */
+    public synchronized void start() {
+
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::dispatchDueEntries, pollIntervalInMillis, pollIntervalInMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop reading the outbox. Claimed entries which are not completed are dispatched again once their lease
+     * expires.
+     */
+    public synchronized void shutdown() {
+
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Add the operation of the given provisioning call to the outbox.
+     *
+     * @param provisioningThread Provisioning call, with the outbound provisioning entity.
+     * @throws IdentityApplicationManagementException If the operation could not be stored.
+     */
+    public void add(ProvisioningThread provisioningThread) throws IdentityApplicationManagementException {
+
+        String entityTenantDomainName = provisioningThread.getProvisioningEntityTenantDomainName();
+        int tenantId = IdentityTenantUtil.getTenantId(provisioningThread.getTenantDomainName());
+
+        ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+        entry.setId(UUID.randomUUID().toString());
+        entry.setTenantId(tenantId);
+        entry.setEntityTenantId(entityTenantDomainName == null ? tenantId
+                : IdentityTenantUtil.getTenantId(entityTenantDomainName));
+        entry.setIdPName(provisioningThread.getIdPName());
+        entry.setConnectorType(provisioningThread.getConnectorType());
+        entry.setProvisioningEntity(provisioningThread.getProvisioningEntity());
+        entry.setNextAttemptTime(System.currentTimeMillis());
+        entry.setCreatedTime(nextCreatedTime());
+        outboxDAO.addOutboxEntry(entry);
+    }
+
+    /**
+     * Claim and dispatch the due entries of the outbox, until there are no more due entries.
+     */
+    void dispatchDueEntries() {
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                long currentTime = System.currentTimeMillis();
+                List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(currentTime, batchSize);
+                if (entries.isEmpty()) {
+                    return;
+                }
+                boolean fullBatch = entries.size() >= batchSize;
+                outboxDAO.claimOutboxEntries(entries, currentTime + leaseInMillis);
+                if (log.isDebugEnabled()) {
+                    log.debug("Claimed " + entries.size() + " outbound provisioning outbox entries.");
+                }
+                awaitDispatch(entries, dispatch(entries));
+                if (!fullBatch) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (log.isDebugEnabled()) {
+                log.debug("Outbound provisioning outbox dispatcher is interrupted. The claimed entries will be "
+                        + "dispatched again once their lease expires.");
+            }
+        } catch (Throwable e) {
+            // The dispatcher must keep running, so that the outbox is retried in the next poll.
+            log.error("Error while dispatching the outbound provisioning outbox", e);
+        }
+    }
+
+    /**
+     * Hand the operations of the given entries to the provisioning executor, grouped per connector.
+     *
+     * @return Latch which is counted down as the operations of each group are provisioned.
+     */
+    private CountDownLatch dispatch(List<ProvisioningOutboxEntry> entries) {
+
+        Map<String, List<ProvisioningOutboxEntry>> groups = new LinkedHashMap<>();
+        for (ProvisioningOutboxEntry entry : entries) {
+            String groupKey = entry.getTenantId() + ":" + entry.getEntityTenantId() + ":" + entry.getIdPName() + ":"
+                    + entry.getConnectorType();
+            groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(entry);
+        }
+
+        CountDownLatch completed = new CountDownLatch(groups.size());
+        for (List<ProvisioningOutboxEntry> group : groups.values()) {
+            ProvisioningOutboxEntry firstEntry = group.get(0);
+            String spTenantDomainName = IdentityTenantUtil.getTenantDomain(firstEntry.getTenantId());
+            String entityTenantDomainName = IdentityTenantUtil.getTenantDomain(firstEntry.getEntityTenantId());
+            List<OutboxOperation> operations = collapse(group);
+            ProvisioningExecutor.getInstance().execute(spTenantDomainName, firstEntry.getIdPName(),
+                    firstEntry.getConnectorType(), () -> {
+                        try {
+                            provision(spTenantDomainName, entityTenantDomainName, firstEntry.getIdPName(),
+                                    firstEntry.getConnectorType(), operations);
+                            return true;
+                        } finally {
+                            completed.countDown();
+                        }
+                    });
+        }
+        return completed;
+    }
+
+    /**
+     * Wait until the operations of the given claimed entries are provisioned. The lease of the entries is renewed
+     * every half lease meanwhile, so that neither another node nor the next read of this node dispatches them again.
+     * Entries which were completed, rescheduled or claimed by another node are not renewed.
+     */
+    void awaitDispatch(List<ProvisioningOutboxEntry> entries, CountDownLatch completed)
+            throws InterruptedException {
+
+        // The renewal updates its own copies of the entries, as the dispatched entries are read by the executor.
+        List<ProvisioningOutboxEntry> leasedEntries = new ArrayList<>(entries.size());
+        for (ProvisioningOutboxEntry entry : entries) {
+            ProvisioningOutboxEntry leasedEntry = new ProvisioningOutboxEntry();
+            leasedEntry.setId(entry.getId());
+            leasedEntry.setNextAttemptTime(entry.getNextAttemptTime());
+            leasedEntries.add(leasedEntry);
+        }
+        long renewalInterval = Math.max(leaseInMillis / 2, 1);
+        while (!completed.await(renewalInterval, TimeUnit.MILLISECONDS)) {
+            try {
+                outboxDAO.claimOutboxEntries(leasedEntries, System.currentTimeMillis() + leaseInMillis);
+                if (log.isDebugEnabled()) {
+                    log.debug("Renewed the lease of " + leasedEntries.size() + " outbound provisioning outbox "
+                            + "entries which are still being provisioned.");
+                }
+            } catch (IdentityApplicationManagementException e) {
+                log.error("Error while renewing the lease of the outbound provisioning outbox entries. The renewal "
+                        + "will be retried.", e);
+            }
+        }
+    }
+
+    /**
+     * Provision the given operations of a single connector, in order, and update the outbox with the result of each
+     * operation.
+     */
+    private void provision(String spTenantDomainName, String entityTenantDomainName, String idPName,
+                           String connectorType, List<OutboxOperation> operations) {
+
+        Set<String> failedEntities = new HashSet<>();
+        List<String> completedEntryIds = new ArrayList<>();
+        if (!isBulkCandidate(operations) || !provisionInBulk(spTenantDomainName, entityTenantDomainName, idPName,
+                connectorType, operations, failedEntities, completedEntryIds)) {
+            for (OutboxOperation operation : operations) {
+                if (failedEntities.contains(operation.getEntityKey())) {
+                    // Deferred until the earlier operation of the entity is completed.
+                    completeOperation(operation, failedEntities, null, null, idPName, connectorType);
+                } else {
+                    provision(spTenantDomainName, entityTenantDomainName, idPName, connectorType, operation,
+                            failedEntities, completedEntryIds);
+                }
+            }
+        }
+        try {
+            outboxDAO.deleteOutboxEntries(completedEntryIds);
+        } catch (IdentityApplicationManagementException e) {
+            log.error("Error while removing the provisioned operations from the outbound provisioning outbox. "
+                    + "The operations will be dispatched again once their lease expires.", e);
+        }
+    }
+
+    /**
+     * Provision a single operation. The connector is not called again for an operation which it already applied.
+     */
+    private void provision(String spTenantDomainName, String entityTenantDomainName, String idPName,
+                           String connectorType, OutboxOperation operation, Set<String> failedEntities,
+                           List<String> completedEntryIds) {
+
+        ProvisioningThread provisioningThread;
+        try {
+            provisioningThread = OutboundProvisioningManager.getInstance().createOutboxProvisioningThread(
+                    operation.getProvisioningEntity(), spTenantDomainName, entityTenantDomainName, idPName,
+                    connectorType, operation.isProvisioned());
+        } catch (IdentityProvisioningException e) {
+            completeOperation(operation, failedEntities, e, null, idPName, connectorType);
+            return;
+        }
+        if (provisioningThread == null) {
+            completedEntryIds.addAll(operation.getEntryIds());
+            return;
+        }
+
+        provisioningThread.startTenantFlow();
+        try {
+            ProvisioningEntity provisioningEntity = provisioningThread.getProvisioningEntity();
+            ProvisionedIdentifier provisionedIdentifier = provisioningEntity.getIdentifier();
+            if (!operation.isProvisioned()) {
+                try {
+                    provisionedIdentifier = provisioningThread.getConnector().provision(provisioningEntity);
+                } catch (IdentityProvisioningException | RuntimeException e) {
+                    completeOperation(operation, failedEntities, e, null, idPName, connectorType);
+                    return;
+                }
+            }
+            try {
+                provisioningThread.completeProvisioning(provisionedIdentifier);
+                completedEntryIds.addAll(operation.getEntryIds());
+            } catch (IdentityApplicationManagementException | RuntimeException e) {
+                completeOperation(operation, failedEntities, e, provisioningEntity, idPName, connectorType);
+            }
+        } finally {
+            provisioningThread.endTenantFlow();
+        }
+    }
+
+    /**
+     * Provision the given operations with a single call of the connector, and store the identifiers of the created
+     * entities in a single batch.
+     *
+     * @return false if the operations could not be provisioned in bulk, in which case none of them is provisioned.
+     */
+    private boolean provisionInBulk(String spTenantDomainName, String entityTenantDomainName, String idPName,
+                                    String connectorType, List<OutboxOperation> operations,
+                                    Set<String> failedEntities, List<String> completedEntryIds) {
+
+        List<OutboxOperation> bulkOperations = new ArrayList<>();
+        List<ProvisioningThread> provisioningThreads = new ArrayList<>();
+        List<String> skippedEntryIds = new ArrayList<>();
+        try {
+            for (OutboxOperation operation : operations) {
+                ProvisioningThread provisioningThread = OutboundProvisioningManager.getInstance()
+                        .createOutboxProvisioningThread(operation.getProvisioningEntity(), spTenantDomainName,
+                                entityTenantDomainName, idPName, connectorType, false);
+                if (provisioningThread == null) {
+                    skippedEntryIds.addAll(operation.getEntryIds());
+                } else {
+                    bulkOperations.add(operation);
+                    provisioningThreads.add(provisioningThread);
+                }
+            }
+        } catch (IdentityProvisioningException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while resolving the operations of connector " + connectorType + " of identity "
+                        + "provider " + idPName + " for bulk provisioning. Provisioning the entities one by one.", e);
+            }
+            return false;
+        }
+        if (provisioningThreads.size() < 2 || !provisioningThreads.get(0).getConnector()
+                .isBulkProvisioningSupported()) {
+            return false;
+        }
+
+        ProvisioningThread firstThread = provisioningThreads.get(0);
+        List<ProvisioningEntity> provisioningEntities = new ArrayList<>();
+        for (ProvisioningThread provisioningThread : provisioningThreads) {
+            provisioningEntities.add(provisioningThread.getProvisioningEntity());
+        }
+        firstThread.startTenantFlow();
+        try {
+            List<ProvisionedIdentifier> provisionedIdentifiers;
+            try {
+                provisionedIdentifiers = firstThread.getConnector().provision(provisioningEntities);
+            } catch (IdentityProvisioningException | RuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Bulk provisioning of " + provisioningEntities.size() + " entities failed with "
+                            + "connector " + connectorType + " of identity provider " + idPName
+                            + ". Provisioning the entities one by one.", e);
+                }
+                return false;
+            }
+
+            List<OutboxOperation> createOperations = new ArrayList<>();
+            List<ProvisioningThread> createThreads = new ArrayList<>();
+            for (int i = 0; i < provisioningThreads.size(); i++) {
+                ProvisioningThread provisioningThread = provisioningThreads.get(i);
+                ProvisionedIdentifier provisionedIdentifier = provisionedIdentifiers != null
+                        && i < provisionedIdentifiers.size() ? provisionedIdentifiers.get(i) : null;
+                if (provisioningThread.getProvisioningEntity().getOperation() == ProvisioningOperation.POST) {
+                    provisioningThread.setProvisionedIdentifier(provisionedIdentifier);
+                    createOperations.add(bulkOperations.get(i));
+                    createThreads.add(provisioningThread);
+                    continue;
+                }
+                try {
+                    provisioningThread.completeProvisioning(provisionedIdentifier);
+                    completedEntryIds.addAll(bulkOperations.get(i).getEntryIds());
+                } catch (IdentityApplicationManagementException | RuntimeException e) {
+                    completeOperation(bulkOperations.get(i), failedEntities, e,
+                            provisioningThread.getProvisioningEntity(), idPName, connectorType);
+                }
+            }
+            try {
+                ProvisioningThread.storeProvisionedEntityIdentifiers(createThreads);
+                for (OutboxOperation operation : createOperations) {
+                    completedEntryIds.addAll(operation.getEntryIds());
+                }
+            } catch (IdentityApplicationManagementException | RuntimeException e) {
+                for (int i = 0; i < createOperations.size(); i++) {
+                    completeOperation(createOperations.get(i), failedEntities, e,
+                            createThreads.get(i).getProvisioningEntity(), idPName, connectorType);
+                }
+            }
+        } finally {
+            firstThread.endTenantFlow();
+        }
+        completedEntryIds.addAll(skippedEntryIds);
+        return true;
+    }
+
+    /**
+     * Check whether the given operations can be provisioned in bulk. The operations are resolved before any of them
+     * is provisioned, so that each entity must appear once, and none of the operations may be already applied.
+     */
+    private static boolean isBulkCandidate(List<OutboxOperation> operations) {
+
+        if (operations.size() < 2) {
+            return false;
+        }
+        Set<String> entityKeys = new HashSet<>();
+        for (OutboxOperation operation : operations) {
+            if (operation.isProvisioned() || !entityKeys.add(operation.getEntityKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reschedule an operation which failed, or which follows a failed operation of the same entity if no error is
+     * given. An operation which was already applied by the connector is stored with the given entity, without the
+     * password, so that only its provisioned identifier is updated when it is retried.
+     */
+    private void completeOperation(OutboxOperation operation, Set<String> failedEntities, Exception error,
+                                   ProvisioningEntity provisionedEntity, String idPName, String connectorType) {
+
+        try {
+            failedEntities.add(operation.getEntityKey());
+            if (error == null) {
+                outboxDAO.rescheduleOutboxEntries(operation.getEntryIds(), operation.getAttempts(),
+                        System.currentTimeMillis());
+                return;
+            }
+            int attempts = operation.getAttempts() + 1;
+            ProvisioningEntity provisioningEntity = operation.getProvisioningEntity();
+            if (attempts >= maxAttempts) {
+                log.error("Outbound provisioning of " + provisioningEntity.getEntityType() + " "
+                        + provisioningEntity.getEntityName() + " for operation " + provisioningEntity.getOperation()
+                        + " with connector " + connectorType + " of identity provider " + idPName + " failed "
+                        + attempts + " times. Discarding the operation.", error);
+                OutboundProvisioningManager.getInstance().handleException(idPName, connectorType,
+                        provisioningEntity, error);
+                outboxDAO.deleteOutboxEntries(operation.getEntryIds());
+                return;
+            }
+            long backoff = getBackoffInMillis(attempts);
+            if (log.isDebugEnabled()) {
+                log.debug("Outbound provisioning of " + provisioningEntity.getEntityName() + " with connector "
+                        + connectorType + " of identity provider " + idPName + " failed. Retrying in " + backoff
+                        + "ms.", error);
+            }
+            if (provisionedEntity == null) {
+                outboxDAO.rescheduleOutboxEntries(operation.getEntryIds(), attempts,
+                        System.currentTimeMillis() + backoff);
+                return;
+            }
+            List<String> entryIds = operation.getEntryIds();
+            ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+            entry.setId(entryIds.get(0));
+            entry.setProvisioningEntity(provisionedEntity);
+            entry.setProvisioned(true);
+            entry.setAttempts(attempts);
+            entry.setNextAttemptTime(System.currentTimeMillis() + backoff);
+            outboxDAO.updateOutboxEntry(entry);
+            // The collapsed entries are applied along with the first entry.
+            outboxDAO.deleteOutboxEntries(entryIds.subList(1, entryIds.size()));
+        } catch (IdentityApplicationManagementException e) {
+            log.error("Error while rescheduling the outbound provisioning outbox entries. The operations will be "
+                    + "dispatched again once their lease expires.", e);
+        }
+    }
+
+    /**
+     * Get the delay before the next attempt of an operation which failed the given number of times.
+     *
+     * @param attempts Number of failed attempts.
+     * @return Delay in milliseconds.
+     */
+    long getBackoffInMillis(int attempts) {
+
+        long backoff = initialBackoffInMillis;
+        for (int i = 1; i < attempts && backoff < maxBackoffInMillis; i++) {
+            backoff *= 2;
+        }
+        return Math.min(backoff, maxBackoffInMillis);
+    }
+
+    /**
+     * Group the given entries of a single connector into operations, in order. Successive updates of the same user
+     * are collapsed into a single update with the attributes of all of them, the later values taking precedence.
+     * Entries which were already applied by the connector are not collapsed.
+     *
+     * @param entries Outbox entries, in the order they were added.
+     * @return Operations to be provisioned.
+     */
+    static List<OutboxOperation> collapse(List<ProvisioningOutboxEntry> entries) {
+
+        List<OutboxOperation> operations = new ArrayList<>();
+        Map<String, OutboxOperation> lastOperations = new HashMap<>();
+        for (ProvisioningOutboxEntry entry : entries) {
+            ProvisioningEntity provisioningEntity = entry.getProvisioningEntity();
+            String entityKey = provisioningEntity.getEntityType() + ":" + provisioningEntity.getEntityName();
+            OutboxOperation lastOperation = lastOperations.get(entityKey);
+            if (lastOperation != null && !lastOperation.isProvisioned() && !entry.isProvisioned()
+                    && isUserUpdate(lastOperation.getProvisioningEntity()) && isUserUpdate(provisioningEntity)) {
+                lastOperation.merge(entry);
+            } else {
+                OutboxOperation operation = new OutboxOperation(entityKey, entry);
+                operations.add(operation);
+                lastOperations.put(entityKey, operation);
+            }
+        }
+        return operations;
+    }
+
+    private static boolean isUserUpdate(ProvisioningEntity provisioningEntity) {
+
+        return provisioningEntity.getEntityType() == ProvisioningEntityType.USER
+                && provisioningEntity.getOperation() == ProvisioningOperation.PUT;
+    }
+
+    private static long nextCreatedTime() {
+
+        long currentTime = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        while (true) {
+            long lastCreatedTime = LAST_CREATED_TIME.get();
+            long createdTime = Math.max(currentTime, lastCreatedTime + 1);
+            if (LAST_CREATED_TIME.compareAndSet(lastCreatedTime, createdTime)) {
+                return createdTime;
+            }
+        }
+    }
+
+    private static int readIntProperty(String key, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(key);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            log.error("Error while parsing the config: " + key + " with value: " + value
+                    + ". Using the default value: " + defaultValue, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Provisioning operation of one or more collapsed outbox entries of the same entity.
+     */
+    static class OutboxOperation {
+
+        private final String entityKey;
+        private final List<ProvisioningOutboxEntry> entries = new ArrayList<>();
+        private ProvisioningEntity provisioningEntity;
+
+        OutboxOperation(String entityKey, ProvisioningOutboxEntry entry) {
+
+            this.entityKey = entityKey;
+            this.entries.add(entry);
+            this.provisioningEntity = entry.getProvisioningEntity();
+        }
+
+        String getEntityKey() {
+
+            return entityKey;
+        }
+
+        ProvisioningEntity getProvisioningEntity() {
+
+            return provisioningEntity;
+        }
+
+        /**
+         * @return Whether the operation was already applied by the connector. Such operations are never collapsed.
+         */
+        boolean isProvisioned() {
+
+            return entries.get(0).isProvisioned();
+        }
+
+        List<String> getEntryIds() {
+
+            List<String> entryIds = new ArrayList<>();
+            for (ProvisioningOutboxEntry entry : entries) {
+                entryIds.add(entry.getId());
+            }
+            return entryIds;
+        }
+
+        int getAttempts() {
+
+            int attempts = 0;
+            for (ProvisioningOutboxEntry entry : entries) {
+                attempts = Math.max(attempts, entry.getAttempts());
+            }
+            return attempts;
+        }
+
+        private void merge(ProvisioningOutboxEntry entry) {
+
+            ProvisioningEntity laterEntity = entry.getProvisioningEntity();
+            Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+            if (provisioningEntity.getAttributes() != null) {
+                attributes.putAll(provisioningEntity.getAttributes());
+            }
+            if (laterEntity.getAttributes() != null) {
+                attributes.putAll(laterEntity.getAttributes());
+            }
+            ProvisioningEntity mergedEntity = new ProvisioningEntity(laterEntity.getEntityType(),
+                    laterEntity.getEntityName(), laterEntity.getOperation(), attributes);
+            mergedEntity.setIdentifier(laterEntity.getIdentifier() != null ? laterEntity.getIdentifier()
+                    : provisioningEntity.getIdentifier());
+            mergedEntity.setJitProvisioning(laterEntity.isJitProvisioning());
+            if (provisioningEntity.getInboundAttributes() != null || laterEntity.getInboundAttributes() != null) {
+                Map<String, String> inboundAttributes = new HashMap<>();
+                if (provisioningEntity.getInboundAttributes() != null) {
+                    inboundAttributes.putAll(provisioningEntity.getInboundAttributes());
+                }
+                if (laterEntity.getInboundAttributes() != null) {
+                    inboundAttributes.putAll(laterEntity.getInboundAttributes());
+                }
+                mergedEntity.setInboundAttributes(inboundAttributes);
+            }
+            provisioningEntity = mergedEntity;
+            entries.add(entry);
+        }
+    }
+}
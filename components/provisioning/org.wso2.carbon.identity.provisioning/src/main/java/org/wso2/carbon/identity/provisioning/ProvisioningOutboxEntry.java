@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+/**
+ * Outbound provisioning operation stored in the provisioning outbox, to be dispatched to a provisioning connector.
+ */
+public class ProvisioningOutboxEntry {
+
+    private String id;
+    private int tenantId;
+    private int entityTenantId;
+    private String idPName;
+    private String connectorType;
+    private ProvisioningEntity provisioningEntity;
+    private boolean provisioned;
+    private int attempts;
+    private long nextAttemptTime;
+    private long createdTime;
+
+    public String getId() {
+
+        return id;
+    }
+
+    public void setId(String id) {
+
+        this.id = id;
+    }
+
+    /**
+     * @return Tenant id of the service provider which triggered the provisioning operation.
+     */
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public void setTenantId(int tenantId) {
+
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * @return Tenant id of the provisioned entity.
+     */
+    public int getEntityTenantId() {
+
+        return entityTenantId;
+    }
+
+    public void setEntityTenantId(int entityTenantId) {
+
+        this.entityTenantId = entityTenantId;
+    }
+
+    public String getIdPName() {
+
+        return idPName;
+    }
+
+    public void setIdPName(String idPName) {
+
+        this.idPName = idPName;
+    }
+
+    public String getConnectorType() {
+
+        return connectorType;
+    }
+
+    public void setConnectorType(String connectorType) {
+
+        this.connectorType = connectorType;
+    }
+
+    /**
+     * @return Outbound provisioning entity, with the claims mapped to the dialect of the connector.
+     */
+    public ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    public void setProvisioningEntity(ProvisioningEntity provisioningEntity) {
+
+        this.provisioningEntity = provisioningEntity;
+    }
+
+    /**
+     * @return Whether the operation was already applied by the connector, and only its provisioned identifier is
+     * left to be updated.
+     */
+    public boolean isProvisioned() {
+
+        return provisioned;
+    }
+
+    public void setProvisioned(boolean provisioned) {
+
+        this.provisioned = provisioned;
+    }
+
+    /**
+     * @return Number of failed attempts to dispatch the operation.
+     */
+    public int getAttempts() {
+
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+
+        this.attempts = attempts;
+    }
+
+    /**
+     * @return Time in milliseconds after which the operation can be dispatched.
+     */
+    public long getNextAttemptTime() {
+
+        return nextAttemptTime;
+    }
+
+    public void setNextAttemptTime(long nextAttemptTime) {
+
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    /**
+     * @return Creation time in microseconds, which is unique within a node and defines the dispatch order.
+     */
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(long createdTime) {
+
+        this.createdTime = createdTime;
+    }
+}
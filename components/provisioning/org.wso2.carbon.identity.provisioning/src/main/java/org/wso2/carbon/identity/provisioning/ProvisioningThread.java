@@ -26,6 +26,9 @@ import org.wso2.carbon.identity.application.common.IdentityApplicationManagement
 import org.wso2.carbon.identity.provisioning.dao.CacheBackedProvisioningMgtDAO;
 import org.wso2.carbon.idp.mgt.util.IdPManagementUtil;
 import org.wso2.carbon.user.api.UserStoreException;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 
@@ -67,49 +70,15 @@ public class ProvisioningThread implements Callable<Boolean> {
     public Boolean call() throws IdentityProvisioningException {
 
         boolean success = false;
-        String tenantDomainName = this.tenantDomainName;
-        String provisioningEntityTenantDomainName = this.provisioningEntityTenantDomainName;
-        boolean isUserTenantBasedOutboundProvisioningEnabled = isUserTenantBasedOutboundProvisioningEnabled();
 
         try {
 
-            PrivilegedCarbonContext.startTenantFlow();
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                        .setTenantDomain(provisioningEntityTenantDomainName, true);
-            } else {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
-            }
+            startTenantFlow();
             ProvisionedIdentifier provisionedIdentifier = null;
             // real provisioning happens now.
             provisionedIdentifier = connector.provision(provisioningEntity);
 
-            if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
-                deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
-
-                if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
-                    provisionedIdentifier = new ProvisionedIdentifier();
-                    provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
-                }
-
-                provisioningEntity.setIdentifier(provisionedIdentifier);
-
-                // store provisioned identifier for future reference.
-                storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
-                        tenantDomainName);
-            } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
-                       provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
-
-                String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
-                                                                IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
-                if(newGroupName != null){
-                    // update provisioned entity name for future reference. this is applicable for only
-                    // group name update
-                    dao.updateProvisionedEntityName(provisioningEntity);
-                }
-            }
+            completeProvisioning(provisionedIdentifier);
             success = true;
         } catch (Exception e) {
             String errMsg = " Provisioning for Entity " + provisioningEntity.getEntityName() +
@@ -117,16 +86,143 @@ public class ProvisioningThread implements Callable<Boolean> {
             log.error(errMsg, e);
             throw new IdentityProvisioningException(errMsg, e);
         } finally {
-            PrivilegedCarbonContext.endTenantFlow();
+            endTenantFlow();
+        }
+
+        return success;
+    }
+
+    ProvisioningEntity getProvisioningEntity() {
+
+        return provisioningEntity;
+    }
+
+    String getTenantDomainName() {
+
+        return tenantDomainName;
+    }
+
+    String getProvisioningEntityTenantDomainName() {
+
+        return provisioningEntityTenantDomainName;
+    }
 
-            if (isUserTenantBasedOutboundProvisioningEnabled && provisioningEntityTenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(provisioningEntityTenantDomainName, true);
-            }else if (tenantDomainName != null) {
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+    AbstractOutboundProvisioningConnector getConnector() {
+
+        return connector;
+    }
+
+    String getConnectorType() {
+
+        return connectorType;
+    }
+
+    String getIdPName() {
+
+        return idPName;
+    }
+
+    /**
+     * Start the tenant flow in which the entity is provisioned.
+     */
+    void startTenantFlow() {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        if (isUserTenantBasedOutboundProvisioningEnabled() && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(provisioningEntityTenantDomainName, true);
+        } else {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
+    }
+
+    /**
+     * End the tenant flow started with {@link #startTenantFlow()}.
+     */
+    void endTenantFlow() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+
+        if (isUserTenantBasedOutboundProvisioningEnabled() && provisioningEntityTenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                    .setTenantDomain(provisioningEntityTenantDomainName, true);
+        } else if (tenantDomainName != null) {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainName, true);
+        }
+    }
+
+    /**
+     * Store or remove the provisioned identifier of the entity, once it is provisioned by the connector.
+     *
+     * @param provisionedIdentifier Identifier returned by the connector.
+     * @throws IdentityApplicationManagementException If the provisioned identifier could not be updated.
+     */
+    void completeProvisioning(ProvisionedIdentifier provisionedIdentifier)
+            throws IdentityApplicationManagementException {
+
+        if (provisioningEntity.getOperation() == ProvisioningOperation.DELETE) {
+            deleteProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getOperation() == ProvisioningOperation.POST) {
+
+            setProvisionedIdentifier(provisionedIdentifier);
+
+            // store provisioned identifier for future reference.
+            storeProvisionedEntityIdentifier(idPName, connectorType, provisioningEntity,
+                    tenantDomainName);
+        } else if (provisioningEntity.getEntityType() == ProvisioningEntityType.GROUP &&
+                   provisioningEntity.getOperation() == ProvisioningOperation.PUT) {
+
+            String newGroupName = ProvisioningUtil.getAttributeValue(provisioningEntity,
+                                                            IdentityProvisioningConstants.NEW_GROUP_NAME_CLAIM_URI);
+            if(newGroupName != null){
+                // update provisioned entity name for future reference. this is applicable for only
+                // group name update
+                dao.updateProvisionedEntityName(provisioningEntity);
             }
         }
+    }
 
-        return success;
+    /**
+     * Set the identifier of the created entity, generating one if the connector did not return it.
+     *
+     * @param provisionedIdentifier Identifier returned by the connector.
+     */
+    void setProvisionedIdentifier(ProvisionedIdentifier provisionedIdentifier) {
+
+        if (provisionedIdentifier == null || provisionedIdentifier.getIdentifier() == null) {
+            provisionedIdentifier = new ProvisionedIdentifier();
+            provisionedIdentifier.setIdentifier(UUID.randomUUID().toString());
+        }
+        provisioningEntity.setIdentifier(provisionedIdentifier);
+    }
+
+    /**
+     * Store the identifiers of the entities created by the given provisioning calls of the same connector in a single
+     * batch. The identifiers must be set with {@link #setProvisionedIdentifier(ProvisionedIdentifier)}.
+     *
+     * @param provisioningThreads Provisioning calls of created entities.
+     * @throws IdentityApplicationManagementException If the provisioned identifiers could not be stored.
+     */
+    static void storeProvisionedEntityIdentifiers(List<ProvisioningThread> provisioningThreads)
+            throws IdentityApplicationManagementException {
+
+        if (provisioningThreads.isEmpty()) {
+            return;
+        }
+        ProvisioningThread firstThread = provisioningThreads.get(0);
+        List<ProvisioningEntity> provisioningEntities = new ArrayList<>();
+        for (ProvisioningThread provisioningThread : provisioningThreads) {
+            provisioningEntities.add(provisioningThread.getProvisioningEntity());
+        }
+        try {
+            int tenantId = IdPManagementUtil.getTenantIdOfDomain(firstThread.tenantDomainName);
+            firstThread.dao.addProvisioningEntities(firstThread.idPName, firstThread.connectorType,
+                    provisioningEntities, tenantId, firstThread.tenantDomainName);
+        } catch (UserStoreException e) {
+            throw new IdentityApplicationManagementException(
+                    "Error while storing provisioning identifiers.", e);
+        }
     }
 
     /**
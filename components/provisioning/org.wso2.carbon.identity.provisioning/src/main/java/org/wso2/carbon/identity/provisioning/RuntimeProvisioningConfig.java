@@ -18,6 +18,8 @@
 
 package org.wso2.carbon.identity.provisioning;
 
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+
 import java.io.Serializable;
 import java.util.Map.Entry;
 
@@ -28,6 +30,7 @@ public class RuntimeProvisioningConfig implements Serializable {
     private boolean blocking;
     private boolean policyEnabled;
     private Entry<String, AbstractOutboundProvisioningConnector> provisioningConnectorEntry;
+    private IdentityProvider provisioningIdentityProvider;
 
     /**
      * @return
@@ -73,4 +76,18 @@ public class RuntimeProvisioningConfig implements Serializable {
         this.provisioningConnectorEntry = provisioningConnectorEntry;
     }
 
+    /**
+     * @return Provisioning identity provider the connector was created for.
+     */
+    public IdentityProvider getProvisioningIdentityProvider() {
+        return provisioningIdentityProvider;
+    }
+
+    /**
+     * @param provisioningIdentityProvider Provisioning identity provider the connector was created for.
+     */
+    public void setProvisioningIdentityProvider(IdentityProvider provisioningIdentityProvider) {
+        this.provisioningIdentityProvider = provisioningIdentityProvider;
+    }
+
 }
@@ -27,6 +27,8 @@ import org.wso2.carbon.identity.provisioning.cache.ProvisioningEntityCache;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningEntityCacheEntry;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningEntityCacheKey;
 
+import java.util.List;
+
 public class CacheBackedProvisioningMgtDAO {
 
     private static final Log log = LogFactory.getLog(CacheBackedProvisioningMgtDAO.class);
@@ -80,6 +82,39 @@ public class CacheBackedProvisioningMgtDAO {
 
     }
 
+    /**
+     * Add the provisioned identifiers of the given entities, provisioned with the same connector, in a single batch
+     * and cache them.
+     *
+     * @param identityProviderName Name of the provisioning identity provider.
+     * @param connectorType        Type of the provisioning connector.
+     * @param provisioningEntities Provisioned entities, with their provisioned identifiers.
+     * @param tenantId             Tenant id.
+     * @param tenantDomain         Tenant domain.
+     * @throws IdentityApplicationManagementException If the identifiers could not be added.
+     */
+    public void addProvisioningEntities(String identityProviderName, String connectorType,
+                                        List<ProvisioningEntity> provisioningEntities, int tenantId,
+                                        String tenantDomain) throws IdentityApplicationManagementException {
+
+        provisioningMgtDAO.addProvisioningEntities(identityProviderName, connectorType, provisioningEntities,
+                tenantId);
+        if (log.isDebugEnabled()) {
+            log.debug("Caching " + provisioningEntities.size() + " newly added Provisioning Entities : " +
+                    "identityProviderName=" + identityProviderName + "&& connectorType=" + connectorType);
+        }
+        for (ProvisioningEntity provisioningEntity : provisioningEntities) {
+            ProvisioningEntityCacheKey cacheKey = new ProvisioningEntityCacheKey(identityProviderName, connectorType,
+                    provisioningEntity);
+            ProvisioningEntityCacheEntry entry = new ProvisioningEntityCacheEntry();
+            ProvisioningEntity cachedProvisioningEntity = new ProvisioningEntity(provisioningEntity.getEntityType(),
+                    provisioningEntity.getOperation());
+            cachedProvisioningEntity.setIdentifier(provisioningEntity.getIdentifier());
+            entry.setProvisioningEntity(cachedProvisioningEntity);
+            provisioningEntityCache.addToCache(cacheKey, entry, tenantDomain);
+        }
+    }
+
     /**
      * @param identityProviderName
      * @param connectorType
@@ -98,6 +98,53 @@ public class ProvisioningManagementDAO {
         }
     }
 
+    /**
+     * Add the provisioned identifiers of the given entities, provisioned with the same connector, in a single
+     * batch.
+     *
+     * @param identityProviderName Name of the provisioning identity provider.
+     * @param connectorType        Type of the provisioning connector.
+     * @param provisioningEntities Provisioned entities, with their provisioned identifiers.
+     * @param tenantId             Tenant id.
+     * @throws IdentityApplicationManagementException If the identifiers could not be added.
+     */
+    public void addProvisioningEntities(String identityProviderName, String connectorType,
+                                        List<ProvisioningEntity> provisioningEntities, int tenantId)
+            throws IdentityApplicationManagementException {
+
+        if (provisioningEntities.isEmpty()) {
+            return;
+        }
+        PreparedStatement prepStmt = null;
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        try {
+            int idpId = getIdentityProviderIdentifier(dbConnection, identityProviderName, tenantId);
+            int provisioningConfigId = getProvisioningConfigurationIdentifier(dbConnection, idpId,
+                    connectorType);
+
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.ADD_PROVISIONING_ENTITY_SQL);
+            for (ProvisioningEntity provisioningEntity : provisioningEntities) {
+                prepStmt.setInt(1, provisioningConfigId);
+                prepStmt.setString(2, provisioningEntity.getEntityType().toString());
+                prepStmt.setString(3, IdentityUtil.extractDomainFromName(provisioningEntity.getEntityName()));
+                prepStmt.setString(4, UserCoreUtil.removeDomainFromName(provisioningEntity.getEntityName()));
+                prepStmt.setString(5, provisioningEntity.getIdentifier().getIdentifier());
+                prepStmt.setInt(6, tenantId);
+                prepStmt.setString(7, getLocalIdFromProvisioningEntity(provisioningEntity));
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            String msg = "Error occurred while adding Provisioning entities for tenant " + tenantId;
+            throw new IdentityApplicationManagementException(msg, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
     /**
      * @param identityProviderName
      * @param connectorType
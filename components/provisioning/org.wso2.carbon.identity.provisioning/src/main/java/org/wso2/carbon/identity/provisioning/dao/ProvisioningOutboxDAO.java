@@ -0,0 +1,482 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.wso2.carbon.core.util.CryptoException;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.Claim;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.ProvisionedIdentifier;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+import org.wso2.carbon.identity.provisioning.ProvisioningOutboxEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data access of the outbound provisioning outbox, which keeps the outbound provisioning operations until they are
+ * dispatched to the provisioning connectors.
+ * <p>
+ * The password of a provisioned user is stored encrypted with the default crypto provider, and is removed from the
+ * entry once the operation is applied by the connector.
+ */
+public class ProvisioningOutboxDAO {
+
+    private static final String ENTITY_TYPE = "entityType";
+    private static final String ENTITY_NAME = "entityName";
+    private static final String OPERATION = "operation";
+    private static final String IDENTIFIER = "identifier";
+    private static final String JIT_PROVISIONING = "jitProvisioning";
+    private static final String ATTRIBUTES = "attributes";
+    private static final String INBOUND_ATTRIBUTES = "inboundAttributes";
+    private static final String LOCAL_CLAIM = "localClaim";
+    private static final String REMOTE_CLAIM = "remoteClaim";
+    private static final String CLAIM_URI = "claimUri";
+    private static final String CLAIM_ID = "claimId";
+    private static final String DEFAULT_VALUE = "defaultValue";
+    private static final String REQUESTED = "requested";
+    private static final String MANDATORY = "mandatory";
+    private static final String VALUES = "values";
+    private static final String ENCRYPTED_VALUES = "encryptedValues";
+    private static final String PROVISIONED = "provisioned";
+
+    /**
+     * Add the given operation to the outbox.
+     *
+     * @param entry Outbox entry.
+     * @throws IdentityApplicationManagementException If the entry could not be stored.
+     */
+    public void addOutboxEntry(ProvisioningOutboxEntry entry) throws IdentityApplicationManagementException {
+
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            ProvisioningEntity provisioningEntity = entry.getProvisioningEntity();
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.ADD_PROVISIONING_OUTBOX_ENTRY_SQL);
+            prepStmt.setString(1, entry.getId());
+            prepStmt.setInt(2, entry.getTenantId());
+            prepStmt.setInt(3, entry.getEntityTenantId());
+            prepStmt.setString(4, entry.getIdPName());
+            prepStmt.setString(5, entry.getConnectorType());
+            prepStmt.setString(6, provisioningEntity.getEntityType().toString());
+            prepStmt.setString(7, StringUtils.defaultString(provisioningEntity.getEntityName()));
+            prepStmt.setString(8, provisioningEntity.getOperation().toString());
+            prepStmt.setBytes(9, serializeProvisioningEntity(provisioningEntity, entry.isProvisioned())
+                    .getBytes(StandardCharsets.UTF_8));
+            prepStmt.setInt(10, entry.getAttempts());
+            prepStmt.setLong(11, entry.getNextAttemptTime());
+            prepStmt.setLong(12, entry.getCreatedTime());
+            prepStmt.execute();
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+        } catch (SQLException | JSONException | CryptoException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            throw new IdentityApplicationManagementException("Error occurred while adding the outbound "
+                    + "provisioning operation of identity provider " + entry.getIdPName() + " to the outbox", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
+    /**
+     * Get the outbox entries which can be dispatched at the given time, in the order they were added. An entry is
+     * not returned while an earlier entry of the same entity and connector is not due.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @param limit       Maximum number of entries returned.
+     * @return Due outbox entries.
+     * @throws IdentityApplicationManagementException If the entries could not be read.
+     */
+    public List<ProvisioningOutboxEntry> getDueOutboxEntries(long currentTime, int limit)
+            throws IdentityApplicationManagementException {
+
+        List<ProvisioningOutboxEntry> entries = new ArrayList<>();
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false);
+        PreparedStatement prepStmt = null;
+        ResultSet rs = null;
+        try {
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.GET_DUE_PROVISIONING_OUTBOX_ENTRIES_SQL);
+            prepStmt.setMaxRows(limit);
+            prepStmt.setLong(1, currentTime);
+            prepStmt.setLong(2, currentTime);
+            rs = prepStmt.executeQuery();
+            while (rs.next()) {
+                ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+                entry.setId(rs.getString(1));
+                entry.setTenantId(rs.getInt(2));
+                entry.setEntityTenantId(rs.getInt(3));
+                entry.setIdPName(rs.getString(4));
+                entry.setConnectorType(rs.getString(5));
+                JSONObject entityJson = new JSONObject(new String(rs.getBytes(6), StandardCharsets.UTF_8));
+                entry.setProvisioningEntity(deserializeProvisioningEntity(entityJson));
+                entry.setProvisioned(entityJson.optBoolean(PROVISIONED));
+                entry.setAttempts(rs.getInt(7));
+                entry.setNextAttemptTime(rs.getLong(8));
+                entry.setCreatedTime(rs.getLong(9));
+                entries.add(entry);
+            }
+        } catch (SQLException | JSONException | CryptoException e) {
+            throw new IdentityApplicationManagementException("Error occurred while reading the outbound "
+                    + "provisioning outbox", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, rs, prepStmt);
+        }
+        return entries;
+    }
+
+    /**
+     * Claim the given entries for this node until the given lease time, by moving their next attempt time. Entries
+     * which were claimed or updated by another node since they were read are removed from the list. Claiming the
+     * entries which this node already claimed again renews their lease.
+     *
+     * @param entries   Entries read with {@link #getDueOutboxEntries(long, int)}, or claimed entries of which the
+     *                  lease is renewed. Only the claimed entries are retained.
+     * @param leaseTime Time in milliseconds until which the entries are claimed.
+     * @throws IdentityApplicationManagementException If the entries could not be claimed.
+     */
+    public void claimOutboxEntries(List<ProvisioningOutboxEntry> entries, long leaseTime)
+            throws IdentityApplicationManagementException {
+
+        if (entries.isEmpty()) {
+            return;
+        }
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.CLAIM_PROVISIONING_OUTBOX_ENTRY_SQL);
+            // Each entry is updated with its own statement, as a batch may not report the update count of each
+            // statement. Only an entry of which exactly one row was updated is owned by this node.
+            List<ProvisioningOutboxEntry> claimedEntries = new ArrayList<>(entries.size());
+            for (ProvisioningOutboxEntry entry : entries) {
+                prepStmt.setLong(1, leaseTime);
+                prepStmt.setString(2, entry.getId());
+                prepStmt.setLong(3, entry.getNextAttemptTime());
+                if (prepStmt.executeUpdate() == 1) {
+                    claimedEntries.add(entry);
+                }
+            }
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+
+            entries.retainAll(claimedEntries);
+            for (ProvisioningOutboxEntry entry : entries) {
+                entry.setNextAttemptTime(leaseTime);
+            }
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            throw new IdentityApplicationManagementException("Error occurred while claiming the outbound "
+                    + "provisioning outbox entries", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
+    /**
+     * Set the attempt count and the next attempt time of the given entries.
+     *
+     * @param entryIds        Ids of the outbox entries.
+     * @param attempts        Number of failed attempts.
+     * @param nextAttemptTime Time in milliseconds after which the entries can be dispatched again.
+     * @throws IdentityApplicationManagementException If the entries could not be updated.
+     */
+    public void rescheduleOutboxEntries(List<String> entryIds, int attempts, long nextAttemptTime)
+            throws IdentityApplicationManagementException {
+
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.RESCHEDULE_PROVISIONING_OUTBOX_ENTRY_SQL);
+            for (String entryId : entryIds) {
+                prepStmt.setInt(1, attempts);
+                prepStmt.setLong(2, nextAttemptTime);
+                prepStmt.setString(3, entryId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            throw new IdentityApplicationManagementException("Error occurred while rescheduling the outbound "
+                    + "provisioning outbox entries", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
+    /**
+     * Replace the operation of the given entry with its provisioning entity and flag, and set its attempt count and
+     * next attempt time. The password of the entity is not stored when the operation was already applied by the
+     * connector.
+     *
+     * @param entry Outbox entry.
+     * @throws IdentityApplicationManagementException If the entry could not be updated.
+     */
+    public void updateOutboxEntry(ProvisioningOutboxEntry entry) throws IdentityApplicationManagementException {
+
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            ProvisioningEntity provisioningEntity = entry.getProvisioningEntity();
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.UPDATE_PROVISIONING_OUTBOX_ENTRY_SQL);
+            prepStmt.setString(1, provisioningEntity.getOperation().toString());
+            prepStmt.setBytes(2, serializeProvisioningEntity(provisioningEntity, entry.isProvisioned())
+                    .getBytes(StandardCharsets.UTF_8));
+            prepStmt.setInt(3, entry.getAttempts());
+            prepStmt.setLong(4, entry.getNextAttemptTime());
+            prepStmt.setString(5, entry.getId());
+            prepStmt.executeUpdate();
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+        } catch (SQLException | JSONException | CryptoException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            throw new IdentityApplicationManagementException("Error occurred while updating the outbound "
+                    + "provisioning outbox entry " + entry.getId(), e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
+    /**
+     * Remove the given entries from the outbox.
+     *
+     * @param entryIds Ids of the outbox entries.
+     * @throws IdentityApplicationManagementException If the entries could not be removed.
+     */
+    public void deleteOutboxEntries(List<String> entryIds) throws IdentityApplicationManagementException {
+
+        if (entryIds.isEmpty()) {
+            return;
+        }
+        Connection dbConnection = IdentityDatabaseUtil.getDBConnection();
+        PreparedStatement prepStmt = null;
+        try {
+            prepStmt = dbConnection.prepareStatement(
+                    IdentityProvisioningConstants.SQLQueries.DELETE_PROVISIONING_OUTBOX_ENTRY_SQL);
+            for (String entryId : entryIds) {
+                prepStmt.setString(1, entryId);
+                prepStmt.addBatch();
+            }
+            prepStmt.executeBatch();
+            IdentityDatabaseUtil.commitTransaction(dbConnection);
+        } catch (SQLException e) {
+            IdentityDatabaseUtil.rollbackTransaction(dbConnection);
+            throw new IdentityApplicationManagementException("Error occurred while deleting the outbound "
+                    + "provisioning outbox entries", e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(dbConnection, null, prepStmt);
+        }
+    }
+
+    /**
+     * Serialize the given provisioning entity to JSON, so that it is stored without depending on the class
+     * versions of the claim model. The password values are encrypted, and are left out once the operation is
+     * applied by the connector.
+     *
+     * @param provisioningEntity Provisioning entity.
+     * @param provisioned        Whether the operation was already applied by the connector.
+     * @return JSON representation of the entity.
+     * @throws CryptoException If the password could not be encrypted.
+     */
+    static String serializeProvisioningEntity(ProvisioningEntity provisioningEntity, boolean provisioned)
+            throws CryptoException {
+
+        JSONObject entityJson = new JSONObject();
+        entityJson.put(ENTITY_TYPE, provisioningEntity.getEntityType().toString());
+        entityJson.put(OPERATION, provisioningEntity.getOperation().toString());
+        entityJson.put(ENTITY_NAME, provisioningEntity.getEntityName());
+        if (provisioningEntity.getIdentifier() != null) {
+            entityJson.put(IDENTIFIER, provisioningEntity.getIdentifier().getIdentifier());
+        }
+        entityJson.put(JIT_PROVISIONING, provisioningEntity.isJitProvisioning());
+        if (provisioned) {
+            entityJson.put(PROVISIONED, true);
+        }
+        if (provisioningEntity.getAttributes() != null) {
+            JSONArray attributesJson = new JSONArray();
+            for (Map.Entry<ClaimMapping, List<String>> attribute : provisioningEntity.getAttributes().entrySet()) {
+                ClaimMapping claimMapping = attribute.getKey();
+                boolean password = isPassword(claimMapping);
+                if (password && provisioned) {
+                    continue;
+                }
+                JSONObject attributeJson = new JSONObject();
+                attributeJson.put(LOCAL_CLAIM, serializeClaim(claimMapping.getLocalClaim()));
+                attributeJson.put(REMOTE_CLAIM, serializeClaim(claimMapping.getRemoteClaim()));
+                attributeJson.put(DEFAULT_VALUE, claimMapping.getDefaultValue());
+                attributeJson.put(REQUESTED, claimMapping.isRequested());
+                attributeJson.put(MANDATORY, claimMapping.isMandatory());
+                if (attribute.getValue() != null) {
+                    if (password) {
+                        attributeJson.put(ENCRYPTED_VALUES, encryptValues(attribute.getValue()));
+                    } else {
+                        attributeJson.put(VALUES, new JSONArray(attribute.getValue()));
+                    }
+                }
+                attributesJson.put(attributeJson);
+            }
+            entityJson.put(ATTRIBUTES, attributesJson);
+        }
+        if (provisioningEntity.getInboundAttributes() != null) {
+            entityJson.put(INBOUND_ATTRIBUTES, new JSONObject(provisioningEntity.getInboundAttributes()));
+        }
+        return entityJson.toString();
+    }
+
+    /**
+     * Read a provisioning entity serialized with {@link #serializeProvisioningEntity(ProvisioningEntity, boolean)}.
+     *
+     * @param serializedEntity JSON representation of the entity.
+     * @return Provisioning entity.
+     * @throws CryptoException If the password could not be decrypted.
+     */
+    static ProvisioningEntity deserializeProvisioningEntity(String serializedEntity) throws CryptoException {
+
+        return deserializeProvisioningEntity(new JSONObject(serializedEntity));
+    }
+
+    private static ProvisioningEntity deserializeProvisioningEntity(JSONObject entityJson) throws CryptoException {
+
+        Map<ClaimMapping, List<String>> attributes = null;
+        JSONArray attributesJson = entityJson.optJSONArray(ATTRIBUTES);
+        if (attributesJson != null) {
+            attributes = new HashMap<>();
+            for (int i = 0; i < attributesJson.length(); i++) {
+                JSONObject attributeJson = attributesJson.getJSONObject(i);
+                ClaimMapping claimMapping = new ClaimMapping();
+                claimMapping.setLocalClaim(deserializeClaim(attributeJson.optJSONObject(LOCAL_CLAIM)));
+                claimMapping.setRemoteClaim(deserializeClaim(attributeJson.optJSONObject(REMOTE_CLAIM)));
+                claimMapping.setDefaultValue(getString(attributeJson, DEFAULT_VALUE));
+                claimMapping.setRequested(attributeJson.optBoolean(REQUESTED));
+                claimMapping.setMandatory(attributeJson.optBoolean(MANDATORY));
+                List<String> values = null;
+                JSONArray valuesJson = attributeJson.optJSONArray(VALUES);
+                if (valuesJson != null) {
+                    values = new ArrayList<>();
+                    for (int j = 0; j < valuesJson.length(); j++) {
+                        values.add(valuesJson.isNull(j) ? null : valuesJson.getString(j));
+                    }
+                }
+                JSONArray encryptedValuesJson = attributeJson.optJSONArray(ENCRYPTED_VALUES);
+                if (encryptedValuesJson != null) {
+                    values = decryptValues(encryptedValuesJson);
+                }
+                attributes.put(claimMapping, values);
+            }
+        }
+
+        ProvisioningEntity provisioningEntity = new ProvisioningEntity(
+                ProvisioningEntityType.valueOf(entityJson.getString(ENTITY_TYPE)),
+                getString(entityJson, ENTITY_NAME),
+                ProvisioningOperation.valueOf(entityJson.getString(OPERATION)), attributes);
+        String identifier = getString(entityJson, IDENTIFIER);
+        if (identifier != null) {
+            ProvisionedIdentifier provisionedIdentifier = new ProvisionedIdentifier();
+            provisionedIdentifier.setIdentifier(identifier);
+            provisioningEntity.setIdentifier(provisionedIdentifier);
+        }
+        provisioningEntity.setJitProvisioning(entityJson.optBoolean(JIT_PROVISIONING));
+        JSONObject inboundAttributesJson = entityJson.optJSONObject(INBOUND_ATTRIBUTES);
+        if (inboundAttributesJson != null) {
+            Map<String, String> inboundAttributes = new HashMap<>();
+            for (String key : inboundAttributesJson.keySet()) {
+                inboundAttributes.put(key, getString(inboundAttributesJson, key));
+            }
+            provisioningEntity.setInboundAttributes(inboundAttributes);
+        }
+        return provisioningEntity;
+    }
+
+    private static boolean isPassword(ClaimMapping claimMapping) {
+
+        return isPassword(claimMapping.getLocalClaim()) || isPassword(claimMapping.getRemoteClaim());
+    }
+
+    private static boolean isPassword(Claim claim) {
+
+        return claim != null && IdentityProvisioningConstants.PASSWORD_CLAIM_URI.equals(claim.getClaimUri());
+    }
+
+    private static JSONArray encryptValues(List<String> values) throws CryptoException {
+
+        JSONArray encryptedValuesJson = new JSONArray();
+        for (String value : values) {
+            encryptedValuesJson.put(value == null ? JSONObject.NULL : CryptoUtil.getDefaultCryptoUtil()
+                    .encryptAndBase64Encode(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return encryptedValuesJson;
+    }
+
+    private static List<String> decryptValues(JSONArray encryptedValuesJson) throws CryptoException {
+
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < encryptedValuesJson.length(); i++) {
+            values.add(encryptedValuesJson.isNull(i) ? null : new String(CryptoUtil.getDefaultCryptoUtil()
+                    .base64DecodeAndDecrypt(encryptedValuesJson.getString(i)), StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static JSONObject serializeClaim(Claim claim) {
+
+        if (claim == null) {
+            return null;
+        }
+        JSONObject claimJson = new JSONObject();
+        claimJson.put(CLAIM_URI, claim.getClaimUri());
+        claimJson.put(CLAIM_ID, claim.getClaimId());
+        return claimJson;
+    }
+
+    private static Claim deserializeClaim(JSONObject claimJson) {
+
+        if (claimJson == null) {
+            return null;
+        }
+        Claim claim = new Claim();
+        claim.setClaimUri(getString(claimJson, CLAIM_URI));
+        claim.setClaimId(claimJson.optInt(CLAIM_ID));
+        return claim;
+    }
+
+    private static String getString(JSONObject json, String key) {
+
+        return json.isNull(key) ? null : json.getString(key);
+    }
+}
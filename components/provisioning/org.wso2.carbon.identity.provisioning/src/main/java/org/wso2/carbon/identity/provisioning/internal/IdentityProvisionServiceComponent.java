@@ -30,6 +30,8 @@ import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorCo
 import org.wso2.carbon.identity.application.mgt.listener.ApplicationMgtListener;
 import org.wso2.carbon.identity.entitlement.EntitlementService;
 import org.wso2.carbon.identity.provisioning.AbstractProvisioningConnectorFactory;
+import org.wso2.carbon.identity.provisioning.ProvisioningExecutor;
+import org.wso2.carbon.identity.provisioning.ProvisioningOutboxDispatcher;
 import org.wso2.carbon.identity.provisioning.listener.DefaultInboundUserProvisioningListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningApplicationMgtListener;
 import org.wso2.carbon.identity.provisioning.listener.ProvisioningErrorListener;
@@ -129,6 +131,7 @@ public class IdentityProvisionServiceComponent {
             if (log.isDebugEnabled()) {
                 log.debug("Identity provisioning error event listener registered successfully");
             }
+            ProvisioningOutboxDispatcher.startInstance();
         } catch (Throwable e) {
             log.error("Error while initiating identity provisioning connector framework", e);
         }
@@ -139,6 +142,8 @@ public class IdentityProvisionServiceComponent {
      */
     @Deactivate
     protected void deactivate(ComponentContext context) {
+        ProvisioningOutboxDispatcher.shutdownInstance();
+        ProvisioningExecutor.shutdownInstance();
         if (log.isDebugEnabled()) {
             log.debug("Identity Provision bundle is de-activated");
         }
@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.IdentityProvider;
 import org.wso2.carbon.identity.provisioning.IdentityProvisioningException;
+import org.wso2.carbon.identity.provisioning.ProvisioningExecutor;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCache;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheEntry;
 import org.wso2.carbon.identity.provisioning.cache.ProvisioningConnectorCacheKey;
@@ -67,16 +68,81 @@ public class ProvisioningIdentityProviderMgtListener extends AbstractIdentityPro
         return super.doPreDeleteIdPs(tenantDomain);
     }
 
+    /**
+     * Remove the provisioning connectors of the tenant from the provisioning executor after deleting its IDPs.
+     *
+     * @param tenantDomain Tenant domain of the deleted IdPs.
+     * @return true
+     * @throws IdentityProviderManagementException
+     */
+    @Override
+    public boolean doPostDeleteIdPs(String tenantDomain) throws IdentityProviderManagementException {
+
+        ProvisioningExecutor.getInstance().removeConnectorLanes(tenantDomain, null);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteIdP(String idPName, String tenantDomain) throws IdentityProviderManagementException {
+
+        ProvisioningExecutor.getInstance().removeConnectorLanes(tenantDomain, idPName);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteIdPByResourceId(String resourceId, IdentityProvider identityProvider,
+                                               String tenantDomain) throws IdentityProviderManagementException {
+
+        if (identityProvider == null) {
+            return true;
+        }
+        try {
+            destroyConnector(identityProvider.getIdentityProviderName(), tenantDomain);
+        } catch (IdentityProvisioningException e) {
+            throw new IdentityProviderManagementException("Error when provisioning IDP deletion", e);
+        }
+        ProvisioningExecutor.getInstance().removeConnectorLanes(tenantDomain,
+                identityProvider.getIdentityProviderName());
+        return true;
+    }
+
+    /**
+     * Clear the provisioning connector caches after the IDP update is committed, so that a provisioning call made
+     * during the update cannot cache the connectors and the IDP of the old configuration.
+     */
     @Override
-    public boolean doPreUpdateIdP(String oldIdPName, IdentityProvider identityProvider, String tenantDomain) throws
+    public boolean doPostUpdateIdP(String oldIdPName, IdentityProvider identityProvider, String tenantDomain) throws
             IdentityProviderManagementException {
 
+        clearConnectorsOfUpdatedIdP(oldIdPName, identityProvider, tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateIdPByResourceId(String resourceId, IdentityProvider oldIdentityProvider,
+                                               IdentityProvider newIdentityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        if (oldIdentityProvider != null) {
+            clearConnectorsOfUpdatedIdP(oldIdentityProvider.getIdentityProviderName(), newIdentityProvider,
+                    tenantDomain);
+        }
+        return true;
+    }
+
+    private void clearConnectorsOfUpdatedIdP(String oldIdPName, IdentityProvider identityProvider,
+                                             String tenantDomain) throws IdentityProviderManagementException {
+
         try {
             destroyConnector(oldIdPName, tenantDomain);
+            if (identityProvider != null && identityProvider.getIdentityProviderName() != null
+                    && !identityProvider.getIdentityProviderName().equals(oldIdPName)) {
+                destroyConnector(identityProvider.getIdentityProviderName(), tenantDomain);
+                ProvisioningExecutor.getInstance().removeConnectorLanes(tenantDomain, oldIdPName);
+            }
         } catch (IdentityProvisioningException e) {
             throw new IdentityProviderManagementException("Error when provisioning IDP update", e);
         }
-        return true;
     }
 
     /**
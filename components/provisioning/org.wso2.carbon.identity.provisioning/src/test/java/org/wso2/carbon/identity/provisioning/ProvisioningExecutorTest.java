@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for ProvisioningExecutor test cases.
+ */
+public class ProvisioningExecutorTest {
+
+    @Test
+    public void testConnectorConcurrencyIsLimited() throws Exception {
+
+        ProvisioningExecutor executor = new ProvisioningExecutor(8, 2, 100);
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicInteger maxConcurrentCalls = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            executor.execute("carbon.super", "idp", "scim", () -> {
+                maxConcurrentCalls.accumulateAndGet(concurrentCalls.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                concurrentCalls.decrementAndGet();
+                completed.countDown();
+                return true;
+            });
+        }
+
+        Assert.assertTrue(completed.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(maxConcurrentCalls.get() <= 2);
+        ProvisioningExecutor.ConnectorLane lane = executor.getConnectorLanes().get("carbon.super:idp:scim");
+        Assert.assertTrue(waitForCalls(lane, 20));
+        Assert.assertEquals(lane.getCompletedCount(), 20);
+        Assert.assertEquals(executor.getQueueDepth(), 0);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testSlowConnectorDoesNotBlockOtherConnectors() throws Exception {
+
+        ProvisioningExecutor executor = new ProvisioningExecutor(2, 1, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("carbon.super", "slowIdp", "scim", () -> release.await(5, TimeUnit.SECONDS));
+        executor.execute("carbon.super", "slowIdp", "scim", () -> true);
+
+        CountDownLatch otherCall = new CountDownLatch(1);
+        executor.execute("carbon.super", "idp", "salesforce", () -> {
+            otherCall.countDown();
+            return false;
+        });
+        Assert.assertTrue(otherCall.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(executor.getConnectorLanes().get("carbon.super:slowIdp:scim").getQueueDepth(), 1);
+
+        release.countDown();
+        Assert.assertTrue(waitForCalls(executor.getConnectorLanes().get("carbon.super:slowIdp:scim"), 2));
+        Assert.assertTrue(waitForCalls(executor.getConnectorLanes().get("carbon.super:idp:salesforce"), 1));
+        Assert.assertEquals(executor.getConnectorLanes().get("carbon.super:idp:salesforce").getFailedCount(), 1);
+        executor.shutdown();
+    }
+
+    @Test
+    public void testRemoveConnectorLanes() throws Exception {
+
+        ProvisioningExecutor executor = new ProvisioningExecutor(2, 1, 100);
+        executor.execute("carbon.super", "idp1", "scim", () -> true);
+        executor.execute("carbon.super", "idp1", "salesforce", () -> true);
+        executor.execute("carbon.super", "idp2", "scim", () -> true);
+        executor.execute("wso2.com", "idp1", "scim", () -> true);
+        executor.execute("wso2.com", "idp2", "scim", () -> true);
+
+        executor.removeConnectorLanes("carbon.super", "idp1");
+        Assert.assertEquals(executor.getConnectorLanes().keySet().size(), 3);
+        Assert.assertFalse(executor.getConnectorLanes().containsKey("carbon.super:idp1:scim"));
+        Assert.assertFalse(executor.getConnectorLanes().containsKey("carbon.super:idp1:salesforce"));
+
+        executor.removeConnectorLanes("wso2.com", null);
+        Assert.assertEquals(executor.getConnectorLanes().keySet().size(), 1);
+        Assert.assertTrue(executor.getConnectorLanes().containsKey("carbon.super:idp2:scim"));
+        executor.shutdown();
+    }
+
+    @Test
+    public void testCallerRunsWhenConnectorQueueIsFull() throws Exception {
+
+        ProvisioningExecutor executor = new ProvisioningExecutor(1, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("carbon.super", "idp", "scim", () -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute("carbon.super", "idp", "scim", () -> true);
+
+        Thread caller = Thread.currentThread();
+        AtomicInteger callsInCaller = new AtomicInteger();
+        executor.execute("carbon.super", "idp", "scim", () -> {
+            if (Thread.currentThread() == caller) {
+                callsInCaller.incrementAndGet();
+            }
+            return true;
+        });
+
+        ProvisioningExecutor.ConnectorLane lane = executor.getConnectorLanes().get("carbon.super:idp:scim");
+        Assert.assertEquals(callsInCaller.get(), 1);
+        Assert.assertEquals(lane.getCallerRunsCount(), 1);
+        release.countDown();
+        Assert.assertTrue(waitForCalls(lane, 3));
+        executor.shutdown();
+    }
+
+    private boolean waitForCalls(ProvisioningExecutor.ConnectorLane lane, long count) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (lane.getCompletedCount() + lane.getFailedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return lane.getCompletedCount() + lane.getFailedCount() == count;
+    }
+}
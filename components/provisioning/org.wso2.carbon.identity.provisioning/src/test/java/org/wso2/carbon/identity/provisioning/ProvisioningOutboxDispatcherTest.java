@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.provisioning.dao.ProvisioningOutboxDAO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test class for ProvisioningOutboxDispatcher test cases.
+ */
+public class ProvisioningOutboxDispatcherTest {
+
+    private static final ClaimMapping EMAIL = ClaimMapping.build("http://wso2.org/claims/emailaddress", "email",
+            null, false);
+    private static final ClaimMapping MOBILE = ClaimMapping.build("http://wso2.org/claims/mobile", "mobile",
+            null, false);
+
+    @Test
+    public void testSuccessiveUserUpdatesAreCollapsed() {
+
+        List<ProvisioningOutboxDispatcher.OutboxOperation> operations = ProvisioningOutboxDispatcher.collapse(
+                Arrays.asList(
+                        createEntry("1", ProvisioningEntityType.USER, "alice", ProvisioningOperation.PUT,
+                                attributes(EMAIL, "alice@old.com", MOBILE, "0771")),
+                        createEntry("2", ProvisioningEntityType.USER, "bob", ProvisioningOperation.PUT,
+                                attributes(EMAIL, "bob@wso2.com", null, null)),
+                        createEntry("3", ProvisioningEntityType.USER, "alice", ProvisioningOperation.PUT,
+                                attributes(EMAIL, "alice@new.com", null, null))));
+
+        Assert.assertEquals(operations.size(), 2);
+        ProvisioningOutboxDispatcher.OutboxOperation aliceOperation = operations.get(0);
+        Assert.assertEquals(aliceOperation.getEntryIds(), Arrays.asList("1", "3"));
+        Map<ClaimMapping, List<String>> attributes = aliceOperation.getProvisioningEntity().getAttributes();
+        Assert.assertEquals(attributes.get(EMAIL), Collections.singletonList("alice@new.com"));
+        Assert.assertEquals(attributes.get(MOBILE), Collections.singletonList("0771"));
+        Assert.assertEquals(operations.get(1).getEntryIds(), Collections.singletonList("2"));
+    }
+
+    @Test
+    public void testOnlySuccessiveUserUpdatesAreCollapsed() {
+
+        List<ProvisioningOutboxDispatcher.OutboxOperation> operations = ProvisioningOutboxDispatcher.collapse(
+                Arrays.asList(
+                        createEntry("1", ProvisioningEntityType.USER, "alice", ProvisioningOperation.POST,
+                                attributes(EMAIL, "alice@wso2.com", null, null)),
+                        createEntry("2", ProvisioningEntityType.USER, "alice", ProvisioningOperation.PUT,
+                                attributes(MOBILE, "0771", null, null)),
+                        createEntry("3", ProvisioningEntityType.USER, "alice", ProvisioningOperation.DELETE,
+                                attributes(null, null, null, null)),
+                        createEntry("4", ProvisioningEntityType.GROUP, "admins", ProvisioningOperation.PUT,
+                                attributes(null, null, null, null)),
+                        createEntry("5", ProvisioningEntityType.GROUP, "admins", ProvisioningOperation.PUT,
+                                attributes(null, null, null, null))));
+
+        Assert.assertEquals(operations.size(), 5);
+        for (int i = 0; i < operations.size(); i++) {
+            Assert.assertEquals(operations.get(i).getEntryIds(), Collections.singletonList(String.valueOf(i + 1)));
+        }
+    }
+
+    @Test
+    public void testProvisionedEntriesAreNotCollapsed() {
+
+        ProvisioningOutboxEntry provisionedEntry = createEntry("1", ProvisioningEntityType.USER, "alice",
+                ProvisioningOperation.PUT, attributes(EMAIL, "alice@old.com", null, null));
+        provisionedEntry.setProvisioned(true);
+        List<ProvisioningOutboxDispatcher.OutboxOperation> operations = ProvisioningOutboxDispatcher.collapse(
+                Arrays.asList(provisionedEntry,
+                        createEntry("2", ProvisioningEntityType.USER, "alice", ProvisioningOperation.PUT,
+                                attributes(EMAIL, "alice@new.com", null, null))));
+
+        Assert.assertEquals(operations.size(), 2);
+        Assert.assertTrue(operations.get(0).isProvisioned());
+        Assert.assertFalse(operations.get(1).isProvisioned());
+    }
+
+    @Test
+    public void testFailedAttemptsAreRetriedWithExponentialBackoff() {
+
+        ProvisioningOutboxDispatcher dispatcher = new ProvisioningOutboxDispatcher(null, 100, 5000, 10, 1000,
+                10000, 60000);
+
+        Assert.assertEquals(dispatcher.getBackoffInMillis(1), 1000);
+        Assert.assertEquals(dispatcher.getBackoffInMillis(2), 2000);
+        Assert.assertEquals(dispatcher.getBackoffInMillis(4), 8000);
+        Assert.assertEquals(dispatcher.getBackoffInMillis(5), 10000);
+        Assert.assertEquals(dispatcher.getBackoffInMillis(100), 10000);
+    }
+
+    @Test
+    public void testLeaseIsRenewedUntilDispatchIsCompleted() throws Exception {
+
+        ProvisioningOutboxDAO outboxDAO = mock(ProvisioningOutboxDAO.class);
+        List<List<String>> renewedIds = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            List<ProvisioningOutboxEntry> entries = invocation.getArgument(0);
+            List<String> ids = new ArrayList<>();
+            for (ProvisioningOutboxEntry entry : entries) {
+                ids.add(entry.getId());
+                entry.setNextAttemptTime(invocation.<Long>getArgument(1));
+            }
+            renewedIds.add(ids);
+            return null;
+        }).when(outboxDAO).claimOutboxEntries(anyList(), anyLong());
+        ProvisioningOutboxDispatcher dispatcher = new ProvisioningOutboxDispatcher(outboxDAO, 100, 5000, 10, 1000,
+                10000, 100);
+        ProvisioningOutboxEntry entry = createEntry("1", ProvisioningEntityType.USER, "alice",
+                ProvisioningOperation.PUT, attributes(EMAIL, "alice@wso2.com", null, null));
+        entry.setNextAttemptTime(1000);
+
+        CountDownLatch completed = new CountDownLatch(1);
+        Thread provisioningThread = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.countDown();
+        });
+        provisioningThread.start();
+        dispatcher.awaitDispatch(Collections.singletonList(entry), completed);
+
+        Assert.assertEquals(completed.getCount(), 0);
+        verify(outboxDAO, atLeastOnce()).claimOutboxEntries(anyList(), anyLong());
+        Assert.assertEquals(renewedIds.get(0), Collections.singletonList("1"));
+        // The dispatched entry is not changed by the renewal.
+        Assert.assertEquals(entry.getNextAttemptTime(), 1000);
+    }
+
+    @Test
+    public void testLeaseIsNotRenewedWhenDispatchIsCompleted() throws Exception {
+
+        ProvisioningOutboxDAO outboxDAO = mock(ProvisioningOutboxDAO.class);
+        ProvisioningOutboxDispatcher dispatcher = new ProvisioningOutboxDispatcher(outboxDAO, 100, 5000, 10, 1000,
+                10000, 60000);
+
+        dispatcher.awaitDispatch(Collections.singletonList(createEntry("1", ProvisioningEntityType.USER, "alice",
+                ProvisioningOperation.PUT, attributes(EMAIL, "alice@wso2.com", null, null))), new CountDownLatch(0));
+
+        verify(outboxDAO, never()).claimOutboxEntries(anyList(), anyLong());
+    }
+
+    private ProvisioningOutboxEntry createEntry(String id, ProvisioningEntityType entityType, String entityName,
+                                                ProvisioningOperation operation,
+                                                Map<ClaimMapping, List<String>> attributes) {
+
+        ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+        entry.setId(id);
+        entry.setIdPName("idp");
+        entry.setConnectorType("scim");
+        entry.setProvisioningEntity(new ProvisioningEntity(entityType, entityName, operation, attributes));
+        return entry;
+    }
+
+    private Map<ClaimMapping, List<String>> attributes(ClaimMapping claim1, String value1, ClaimMapping claim2,
+                                                       String value2) {
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        if (claim1 != null) {
+            attributes.put(claim1, Collections.singletonList(value1));
+        }
+        if (claim2 != null) {
+            attributes.put(claim2, Collections.singletonList(value2));
+        }
+        return attributes;
+    }
+}
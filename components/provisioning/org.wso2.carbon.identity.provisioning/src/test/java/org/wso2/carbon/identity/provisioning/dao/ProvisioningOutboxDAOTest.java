@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.provisioning.dao;
+
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.testng.PowerMockTestCase;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.provisioning.IdentityProvisioningConstants;
+import org.wso2.carbon.identity.provisioning.ProvisionedIdentifier;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntity;
+import org.wso2.carbon.identity.provisioning.ProvisioningEntityType;
+import org.wso2.carbon.identity.provisioning.ProvisioningOperation;
+import org.wso2.carbon.identity.provisioning.ProvisioningOutboxEntry;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+/**
+ * Test class for ProvisioningOutboxDAO test cases.
+ */
+@PrepareForTest({IdentityDatabaseUtil.class, CryptoUtil.class})
+public class ProvisioningOutboxDAOTest extends PowerMockTestCase {
+
+    private static final String ENCRYPTED_PREFIX = "encrypted:";
+    private static final ClaimMapping EMAIL = ClaimMapping.build("http://wso2.org/claims/emailaddress", "email",
+            null, false);
+    private static final ClaimMapping PASSWORD = ClaimMapping.build(IdentityProvisioningConstants.PASSWORD_CLAIM_URI,
+            null, null, false);
+
+    private Connection connection;
+    private ProvisioningOutboxDAO outboxDAO;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:provisioning_outbox", "username", "password");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("RUNSCRIPT FROM '" + Paths.get(System.getProperty("user.dir"), "src", "test",
+                    "resources", "dbscripts", "h2.sql").toString() + "'");
+        }
+        mockStatic(IdentityDatabaseUtil.class);
+        when(IdentityDatabaseUtil.getDBConnection()).thenReturn(connection);
+        when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection);
+
+        CryptoUtil cryptoUtil = mock(CryptoUtil.class);
+        when(cryptoUtil.encryptAndBase64Encode(any(byte[].class))).thenAnswer(invocation ->
+                ENCRYPTED_PREFIX + Base64.getEncoder().encodeToString(invocation.getArgument(0)));
+        when(cryptoUtil.base64DecodeAndDecrypt(anyString())).thenAnswer(invocation ->
+                Base64.getDecoder().decode(((String) invocation.getArgument(0)).substring(ENCRYPTED_PREFIX.length())));
+        mockStatic(CryptoUtil.class);
+        when(CryptoUtil.getDefaultCryptoUtil()).thenReturn(cryptoUtil);
+
+        outboxDAO = new ProvisioningOutboxDAO();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    public void testGetDueOutboxEntries() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+        outboxDAO.addOutboxEntry(createEntry("2", "bob", ProvisioningOperation.POST, 1000, 2));
+        outboxDAO.addOutboxEntry(createEntry("3", "carol", ProvisioningOperation.POST, 5000, 3));
+
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(2000, 10);
+
+        Assert.assertEquals(getIds(entries), Arrays.asList("1", "2"));
+        ProvisioningOutboxEntry entry = entries.get(0);
+        Assert.assertEquals(entry.getTenantId(), -1234);
+        Assert.assertEquals(entry.getIdPName(), "idp");
+        Assert.assertEquals(entry.getConnectorType(), "scim");
+        Assert.assertEquals(entry.getProvisioningEntity().getEntityName(), "alice");
+        Assert.assertEquals(entry.getNextAttemptTime(), 1000);
+        Assert.assertFalse(entry.isProvisioned());
+        Assert.assertEquals(getIds(outboxDAO.getDueOutboxEntries(2000, 1)), Collections.singletonList("1"));
+    }
+
+    @Test
+    public void testLaterEntriesOfEntityWaitForEarlierEntry() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 5000, 1));
+        outboxDAO.addOutboxEntry(createEntry("2", "alice", ProvisioningOperation.PUT, 1000, 2));
+        outboxDAO.addOutboxEntry(createEntry("3", "bob", ProvisioningOperation.PUT, 1000, 3));
+
+        Assert.assertEquals(getIds(outboxDAO.getDueOutboxEntries(2000, 10)), Collections.singletonList("3"));
+        Assert.assertEquals(getIds(outboxDAO.getDueOutboxEntries(6000, 10)), Arrays.asList("1", "2", "3"));
+    }
+
+    @Test
+    public void testClaimedEntriesAreNotClaimedAgain() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+        List<ProvisioningOutboxEntry> firstRead = outboxDAO.getDueOutboxEntries(2000, 10);
+        List<ProvisioningOutboxEntry> secondRead = outboxDAO.getDueOutboxEntries(2000, 10);
+
+        outboxDAO.claimOutboxEntries(firstRead, 62000);
+        outboxDAO.claimOutboxEntries(secondRead, 62000);
+
+        Assert.assertEquals(getIds(firstRead), Collections.singletonList("1"));
+        Assert.assertEquals(firstRead.get(0).getNextAttemptTime(), 62000);
+        Assert.assertTrue(secondRead.isEmpty());
+        Assert.assertTrue(outboxDAO.getDueOutboxEntries(2000, 10).isEmpty());
+    }
+
+    @Test
+    public void testEntriesAreClaimedAgainOnceLeaseExpires() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+        outboxDAO.claimOutboxEntries(outboxDAO.getDueOutboxEntries(2000, 10), 62000);
+
+        Assert.assertTrue(outboxDAO.getDueOutboxEntries(61000, 10).isEmpty());
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(63000, 10);
+        Assert.assertEquals(getIds(entries), Collections.singletonList("1"));
+        Assert.assertEquals(entries.get(0).getNextAttemptTime(), 62000);
+
+        outboxDAO.claimOutboxEntries(entries, 123000);
+        Assert.assertEquals(getIds(entries), Collections.singletonList("1"));
+        Assert.assertTrue(outboxDAO.getDueOutboxEntries(63000, 10).isEmpty());
+    }
+
+    @Test
+    public void testLeaseOfClaimedEntriesIsRenewed() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(2000, 10);
+        outboxDAO.claimOutboxEntries(entries, 62000);
+
+        outboxDAO.claimOutboxEntries(entries, 92000);
+        Assert.assertEquals(getIds(entries), Collections.singletonList("1"));
+        Assert.assertEquals(entries.get(0).getNextAttemptTime(), 92000);
+        Assert.assertTrue(outboxDAO.getDueOutboxEntries(63000, 10).isEmpty());
+
+        // The lease of an entry which was rescheduled meanwhile is not renewed.
+        outboxDAO.rescheduleOutboxEntries(Collections.singletonList("1"), 1, 70000);
+        outboxDAO.claimOutboxEntries(entries, 122000);
+        Assert.assertTrue(entries.isEmpty());
+        Assert.assertEquals(getIds(outboxDAO.getDueOutboxEntries(71000, 10)), Collections.singletonList("1"));
+    }
+
+    @Test
+    public void testRescheduleAndDeleteOutboxEntries() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+        outboxDAO.addOutboxEntry(createEntry("2", "bob", ProvisioningOperation.POST, 1000, 2));
+
+        outboxDAO.rescheduleOutboxEntries(Collections.singletonList("1"), 3, 5000);
+        outboxDAO.deleteOutboxEntries(Collections.singletonList("2"));
+
+        Assert.assertTrue(outboxDAO.getDueOutboxEntries(2000, 10).isEmpty());
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(6000, 10);
+        Assert.assertEquals(getIds(entries), Collections.singletonList("1"));
+        Assert.assertEquals(entries.get(0).getAttempts(), 3);
+    }
+
+    @Test
+    public void testPasswordIsStoredEncrypted() throws Exception {
+
+        outboxDAO.addOutboxEntry(createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1));
+
+        String entityData = readEntityData("1");
+        Assert.assertFalse(entityData.contains("secret"));
+        Assert.assertTrue(entityData.contains(ENCRYPTED_PREFIX));
+        Map<ClaimMapping, List<String>> attributes = outboxDAO.getDueOutboxEntries(2000, 10).get(0)
+                .getProvisioningEntity().getAttributes();
+        Assert.assertEquals(attributes.get(PASSWORD), Collections.singletonList("secret"));
+    }
+
+    @Test
+    public void testPasswordIsRemovedOnceProvisioned() throws Exception {
+
+        ProvisioningOutboxEntry entry = createEntry("1", "alice", ProvisioningOperation.POST, 1000, 1);
+        outboxDAO.addOutboxEntry(entry);
+
+        ProvisionedIdentifier provisionedIdentifier = new ProvisionedIdentifier();
+        provisionedIdentifier.setIdentifier("remote-alice");
+        entry.getProvisioningEntity().setIdentifier(provisionedIdentifier);
+        entry.setProvisioned(true);
+        entry.setAttempts(1);
+        entry.setNextAttemptTime(3000);
+        outboxDAO.updateOutboxEntry(entry);
+
+        Assert.assertFalse(readEntityData("1").contains(ENCRYPTED_PREFIX));
+        List<ProvisioningOutboxEntry> entries = outboxDAO.getDueOutboxEntries(4000, 10);
+        Assert.assertEquals(getIds(entries), Collections.singletonList("1"));
+        ProvisioningOutboxEntry updatedEntry = entries.get(0);
+        Assert.assertTrue(updatedEntry.isProvisioned());
+        Assert.assertEquals(updatedEntry.getAttempts(), 1);
+        Assert.assertEquals(updatedEntry.getProvisioningEntity().getIdentifier().getIdentifier(), "remote-alice");
+        Assert.assertFalse(updatedEntry.getProvisioningEntity().getAttributes().containsKey(PASSWORD));
+        Assert.assertEquals(updatedEntry.getProvisioningEntity().getAttributes().get(EMAIL),
+                Collections.singletonList("alice@wso2.com"));
+    }
+
+    @Test
+    public void testProvisioningEntitySerialization() throws Exception {
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        attributes.put(EMAIL, Arrays.asList("alice@wso2.com", null));
+        attributes.put(ClaimMapping.build("http://wso2.org/claims/role", "groups", "everyone", true, true),
+                Collections.emptyList());
+        attributes.put(PASSWORD, Collections.singletonList("secret"));
+        ProvisioningEntity provisioningEntity = new ProvisioningEntity(ProvisioningEntityType.USER, "PRIMARY/alice",
+                ProvisioningOperation.PUT, attributes);
+        ProvisionedIdentifier provisionedIdentifier = new ProvisionedIdentifier();
+        provisionedIdentifier.setIdentifier("remote-alice");
+        provisioningEntity.setIdentifier(provisionedIdentifier);
+        provisioningEntity.setJitProvisioning(true);
+        provisioningEntity.setInboundAttributes(Collections.singletonMap("userId", "1234"));
+
+        ProvisioningEntity deserializedEntity = ProvisioningOutboxDAO.deserializeProvisioningEntity(
+                ProvisioningOutboxDAO.serializeProvisioningEntity(provisioningEntity, false));
+
+        Assert.assertEquals(deserializedEntity.getEntityType(), ProvisioningEntityType.USER);
+        Assert.assertEquals(deserializedEntity.getEntityName(), "PRIMARY/alice");
+        Assert.assertEquals(deserializedEntity.getOperation(), ProvisioningOperation.PUT);
+        Assert.assertEquals(deserializedEntity.getIdentifier().getIdentifier(), "remote-alice");
+        Assert.assertTrue(deserializedEntity.isJitProvisioning());
+        Assert.assertEquals(deserializedEntity.getInboundAttributes(), Collections.singletonMap("userId", "1234"));
+        Assert.assertEquals(deserializedEntity.getAttributes(), attributes);
+        for (ClaimMapping claimMapping : deserializedEntity.getAttributes().keySet()) {
+            if (claimMapping.equals(EMAIL)) {
+                Assert.assertEquals(claimMapping.getRemoteClaim().getClaimUri(), "email");
+                Assert.assertFalse(claimMapping.isRequested());
+            } else if (!claimMapping.equals(PASSWORD)) {
+                Assert.assertEquals(claimMapping.getDefaultValue(), "everyone");
+                Assert.assertTrue(claimMapping.isRequested());
+                Assert.assertTrue(claimMapping.isMandatory());
+            }
+        }
+    }
+
+    private ProvisioningOutboxEntry createEntry(String id, String entityName, ProvisioningOperation operation,
+                                                long nextAttemptTime, long createdTime) {
+
+        Map<ClaimMapping, List<String>> attributes = new HashMap<>();
+        attributes.put(EMAIL, Collections.singletonList(entityName + "@wso2.com"));
+        attributes.put(PASSWORD, Collections.singletonList("secret"));
+
+        ProvisioningOutboxEntry entry = new ProvisioningOutboxEntry();
+        entry.setId(id);
+        entry.setTenantId(-1234);
+        entry.setEntityTenantId(-1234);
+        entry.setIdPName("idp");
+        entry.setConnectorType("scim");
+        entry.setProvisioningEntity(new ProvisioningEntity(ProvisioningEntityType.USER, entityName, operation,
+                attributes));
+        entry.setNextAttemptTime(nextAttemptTime);
+        entry.setCreatedTime(createdTime);
+        return entry;
+    }
+
+    private String readEntityData(String id) throws Exception {
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT ENTITY_DATA FROM IDP_PROVISIONING_OUTBOX WHERE ID = '" + id + "'")) {
+            Assert.assertTrue(resultSet.next());
+            return new String(resultSet.getBytes(1), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<String> getIds(List<ProvisioningOutboxEntry> entries) {
+
+        List<String> ids = new ArrayList<>();
+        for (ProvisioningOutboxEntry entry : entries) {
+            ids.add(entry.getId());
+        }
+        return ids;
+    }
+}
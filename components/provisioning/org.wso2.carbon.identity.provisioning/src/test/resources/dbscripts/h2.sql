@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_OUTBOX (
+            ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            ENTITY_TENANT_ID INTEGER NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255) NOT NULL,
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_DATA BLOB NOT NULL,
+            ATTEMPTS INTEGER DEFAULT 0,
+            NEXT_ATTEMPT_TIME BIGINT NOT NULL,
+            CREATED_TIME BIGINT NOT NULL,
+            PRIMARY KEY (ID));
@@ -47,6 +47,8 @@ public class RoleConstants {
     public static final String END_INDEX = "END_INDEX";
     public static final String WILDCARD_CHARACTER = "*";
 
+    // Maximum number of role member names resolved to IDs at once.
+    public static final int MEMBER_ID_RESOLUTION_BATCH_SIZE = 100;
 
     // Group related constants.
     public static final String ID_URI = "urn:ietf:params:scim:schemas:core:2.0:id";
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.role.mgt.core;
 
 import org.apache.commons.lang.NotImplementedException;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -112,6 +113,31 @@ public interface RoleManagementService {
      */
     List<UserBasicInfo> getUserListOfRole(String roleID, String tenantDomain) throws IdentityRoleManagementException;
 
+    /**
+     * Get a page of the user list of the given role. User IDs of the page are resolved in batches, so that the
+     * members of a large role can be listed without loading all of them.
+     * <p>
+     * The default implementation reads all the users of the role and returns the requested page.
+     *
+     * @param roleID       Role ID.
+     * @param limit        Maximum number of users to return.
+     * @param offset       One based index of the first user to return.
+     * @param tenantDomain Tenant domain.
+     * @return List of users.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default List<UserBasicInfo> getUserListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<UserBasicInfo> users = getUserListOfRole(roleID, tenantDomain);
+        int fromIndex = offset == null ? 0 : Math.max(offset - 1, 0);
+        if (fromIndex >= users.size()) {
+            return new ArrayList<>();
+        }
+        int toIndex = limit == null ? users.size() : (int) Math.min((long) fromIndex + limit, users.size());
+        return new ArrayList<>(users.subList(fromIndex, toIndex));
+    }
+
     /**
      * Update the list of users in the given role.
      *
@@ -135,6 +161,31 @@ public interface RoleManagementService {
      */
     List<GroupBasicInfo> getGroupListOfRole(String roleID, String tenantDomain) throws IdentityRoleManagementException;
 
+    /**
+     * Get a page of the group list of the given role. Group IDs of the page are resolved in batches, so that the
+     * members of a large role can be listed without loading all of them.
+     * <p>
+     * The default implementation reads all the groups of the role and returns the requested page.
+     *
+     * @param roleID       Role ID.
+     * @param limit        Maximum number of groups to return.
+     * @param offset       One based index of the first group to return.
+     * @param tenantDomain Tenant domain.
+     * @return List of groups.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default List<GroupBasicInfo> getGroupListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        List<GroupBasicInfo> groups = getGroupListOfRole(roleID, tenantDomain);
+        int fromIndex = offset == null ? 0 : Math.max(offset - 1, 0);
+        if (fromIndex >= groups.size()) {
+            return new ArrayList<>();
+        }
+        int toIndex = limit == null ? groups.size() : (int) Math.min((long) fromIndex + limit, groups.size());
+        return new ArrayList<>(groups.subList(fromIndex, toIndex));
+    }
+
     /**
      * Update the list of groups in the given role.
      *
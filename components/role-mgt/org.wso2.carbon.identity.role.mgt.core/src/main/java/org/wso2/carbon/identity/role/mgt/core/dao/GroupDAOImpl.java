@@ -35,6 +35,8 @@ import java.util.Map;
 
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.INVALID_REQUEST;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
+import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MEMBER_ID_RESOLUTION_BATCH_SIZE;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_IDS_BY_NAMES_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_ID_BY_NAME_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_NAME_BY_ID_SQL;
 
@@ -177,29 +179,59 @@ public class GroupDAOImpl implements GroupDAO {
 
         Map<String, String> groupNamesToIDs = new HashMap<>();
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-        String groupID;
-        for (String name : names) {
-            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_GROUP_ID_BY_NAME_SQL)) {
+        // Resolve the names in batches, with a single query per batch.
+        for (int fromIndex = 0; fromIndex < names.size(); fromIndex += MEMBER_ID_RESOLUTION_BATCH_SIZE) {
+            List<String> batch = names.subList(fromIndex,
+                    Math.min(names.size(), fromIndex + MEMBER_ID_RESOLUTION_BATCH_SIZE));
+            StringBuilder query = new StringBuilder(GET_GROUP_IDS_BY_NAMES_SQL).append("(");
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) {
+                    query.append(", ");
+                }
+                query.append(":").append(RoleConstants.RoleTableColumns.ROLE_NAME).append(i).append(";");
+            }
+            query.append(")");
+            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query.toString())) {
                 statement.setInt(RoleConstants.RoleTableColumns.TENANT_ID, tenantId);
-                statement.setString(RoleConstants.RoleTableColumns.ROLE_NAME, name);
                 statement.setString(RoleConstants.RoleTableColumns.ATTR_NAME, RoleConstants.ID_URI);
-                int count = 0;
+                for (int i = 0; i < batch.size(); i++) {
+                    statement.setString(RoleConstants.RoleTableColumns.ROLE_NAME + i, batch.get(i));
+                }
                 try (ResultSet resultSet = statement.executeQuery()) {
                     while (resultSet.next()) {
+                        String name = getRequestedName(batch, resultSet.getString(1));
                         // Handle multiple matching groups.
-                        count++;
-                        if (count > 1) {
+                        if (groupNamesToIDs.put(name, resultSet.getString(2)) != null) {
                             String errorMessage =
                                     "Invalid scenario. Multiple groups found for the given group name: " + name + " "
                                             + "and tenantDomain: " + tenantDomain;
                             throw new IdentityRoleManagementClientException(INVALID_REQUEST.getCode(), errorMessage);
                         }
-                        groupID = resultSet.getString(1);
-                        groupNamesToIDs.put(name, groupID);
                     }
                 }
             }
         }
         return groupNamesToIDs;
     }
+
+    /**
+     * Get the requested name matching the group name returned by the database, which may differ in case from the
+     * requested name depending on the collation of the database.
+     *
+     * @param requestedNames Requested group names.
+     * @param groupName      Group name returned by the database.
+     * @return Requested group name.
+     */
+    private String getRequestedName(List<String> requestedNames, String groupName) {
+
+        if (requestedNames.contains(groupName)) {
+            return groupName;
+        }
+        for (String requestedName : requestedNames) {
+            if (requestedName.equalsIgnoreCase(groupName)) {
+                return requestedName;
+            }
+        }
+        return groupName;
+    }
 }
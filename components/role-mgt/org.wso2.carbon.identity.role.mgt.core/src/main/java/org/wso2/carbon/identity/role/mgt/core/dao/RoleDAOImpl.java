@@ -88,11 +88,11 @@ import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.UNEXPEC
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.H2;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.INFORMIX;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MARIADB;
+import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MEMBER_ID_RESOLUTION_BATCH_SIZE;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MICROSOFT;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.MY_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.ORACLE;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.POSTGRE_SQL;
-import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.RoleTableColumns.USER_NOT_FOUND_ERROR_MESSAGE;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.ADD_GROUP_TO_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.ADD_GROUP_TO_ROLE_SQL_MSSQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.ADD_ROLE_SQL;
@@ -109,6 +109,12 @@ import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.DELETE_GROUP
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.DELETE_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.DELETE_SCIM_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.DELETE_USER_SQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_DB2;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_INFORMIX;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_MSSQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_MYSQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_ORACLE;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_POSTGRESQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_GROUP_LIST_OF_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLES_BY_TENANT_AND_ROLE_NAME_DB2;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLES_BY_TENANT_AND_ROLE_NAME_INFORMIX;
@@ -124,6 +130,12 @@ import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLES_BY
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLES_BY_TENANT_POSTGRESQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLE_ID_BY_NAME_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_ROLE_NAME_BY_ID_SQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_DB2;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_INFORMIX;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_MSSQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_MYSQL;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_ORACLE;
+import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_POSTGRESQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.GET_USER_LIST_OF_ROLE_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.IS_ROLE_EXIST_SQL;
 import static org.wso2.carbon.identity.role.mgt.core.dao.SQLQueries.IS_ROLE_ID_EXIST_SQL;
@@ -339,12 +351,18 @@ public class RoleDAOImpl implements RoleDAO {
                                                       String tenantDomain) throws SQLException,
             IdentityRoleManagementException {
 
+        setPaginationParameters(statement, limit, offset);
+        return buildRolesList(statement, tenantDomain);
+    }
+
+    private void setPaginationParameters(NamedPreparedStatement statement, int limit, int offset)
+            throws SQLException {
+
         statement.setInt(RoleConstants.OFFSET, offset);
         statement.setInt(RoleConstants.LIMIT, limit);
         statement.setInt(RoleConstants.ZERO_BASED_START_INDEX, offset);
         statement.setInt(RoleConstants.ONE_BASED_START_INDEX, offset + 1);
         statement.setInt(RoleConstants.END_INDEX, offset + limit);
-        return buildRolesList(statement, tenantDomain);
     }
 
     private List<RoleBasicInfo> buildRolesList(NamedPreparedStatement statement, String tenantDomain)
@@ -447,6 +465,54 @@ public class RoleDAOImpl implements RoleDAO {
                         + "could not be identified or not supported.");
     }
 
+    private String getDBTypeSpecificUserListOfRoleQuery(String databaseProductName)
+            throws IdentityRoleManagementException {
+
+        if (MY_SQL.equals(databaseProductName)
+                || MARIADB.equals(databaseProductName)
+                || H2.equals(databaseProductName)) {
+            return GET_USER_LIST_OF_ROLE_MYSQL;
+        } else if (ORACLE.equals(databaseProductName)) {
+            return GET_USER_LIST_OF_ROLE_ORACLE;
+        } else if (MICROSOFT.equals(databaseProductName)) {
+            return GET_USER_LIST_OF_ROLE_MSSQL;
+        } else if (POSTGRE_SQL.equals(databaseProductName)) {
+            return GET_USER_LIST_OF_ROLE_POSTGRESQL;
+        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
+            return GET_USER_LIST_OF_ROLE_DB2;
+        } else if (INFORMIX.equals(databaseProductName)) {
+            return GET_USER_LIST_OF_ROLE_INFORMIX;
+        }
+
+        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                "Error while listing users of role from DB. Database driver for " + databaseProductName
+                        + "could not be identified or not supported.");
+    }
+
+    private String getDBTypeSpecificGroupListOfRoleQuery(String databaseProductName)
+            throws IdentityRoleManagementException {
+
+        if (MY_SQL.equals(databaseProductName)
+                || MARIADB.equals(databaseProductName)
+                || H2.equals(databaseProductName)) {
+            return GET_GROUP_LIST_OF_ROLE_MYSQL;
+        } else if (ORACLE.equals(databaseProductName)) {
+            return GET_GROUP_LIST_OF_ROLE_ORACLE;
+        } else if (MICROSOFT.equals(databaseProductName)) {
+            return GET_GROUP_LIST_OF_ROLE_MSSQL;
+        } else if (POSTGRE_SQL.equals(databaseProductName)) {
+            return GET_GROUP_LIST_OF_ROLE_POSTGRESQL;
+        } else if (databaseProductName != null && databaseProductName.contains(DB2)) {
+            return GET_GROUP_LIST_OF_ROLE_DB2;
+        } else if (INFORMIX.equals(databaseProductName)) {
+            return GET_GROUP_LIST_OF_ROLE_INFORMIX;
+        }
+
+        throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                "Error while listing groups of role from DB. Database driver for " + databaseProductName
+                        + "could not be identified or not supported.");
+    }
+
     private String getDBTypeSpecificRolesCountQuery(String databaseProductName)
             throws IdentityRoleManagementException {
 
@@ -1051,7 +1117,6 @@ public class RoleDAOImpl implements RoleDAO {
         }
         List<UserBasicInfo> userList = new ArrayList<>();
         String roleName = getRoleNameByID(roleID, tenantDomain);
-        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         try {
             UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
             if (UserCoreUtil.isEveryoneRole(roleName, userRealm.getRealmConfiguration())) {
@@ -1065,14 +1130,76 @@ public class RoleDAOImpl implements RoleDAO {
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
                     "Error while getting the realmConfiguration.", e);
         }
+        userList.addAll(getUserListOfRoleFromDB(roleName, null, null, tenantDomain));
+        return userList;
+    }
+
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
 
+        if (!isExistingRoleID(roleID, tenantDomain)) {
+            throw new IdentityRoleManagementClientException(ROLE_NOT_FOUND.getCode(),
+                    "Role id: " + roleID + " does not exist in the system.");
+        }
+        limit = validateLimit(limit);
+        offset = validateOffset(offset);
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+        String roleName = getRoleNameByID(roleID, tenantDomain);
+        try {
+            UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
+            if (UserCoreUtil.isEveryoneRole(roleName, userRealm.getRealmConfiguration())) {
+                // Members of the everyone role are not stored in the role tables. Only the users up to the end of
+                // the requested page are listed from the user store.
+                List<org.wso2.carbon.user.core.common.User> users = ((AbstractUserStoreManager) userRealm
+                        .getUserStoreManager()).listUsersWithID(RoleConstants.WILDCARD_CHARACTER, offset + limit);
+                List<UserBasicInfo> userList = new ArrayList<>();
+                for (int i = offset; i < users.size() && i < offset + limit; i++) {
+                    org.wso2.carbon.user.core.common.User user = users.get(i);
+                    userList.add(new UserBasicInfo(user.getUserID(), user.getDomainQualifiedUsername()));
+                }
+                return userList;
+            }
+        } catch (UserStoreException e) {
+            throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
+                    "Error while getting the realmConfiguration.", e);
+        }
+        return getUserListOfRoleFromDB(roleName, limit, offset, tenantDomain);
+    }
+
+    /**
+     * Get the users assigned to the given role in the role tables. The user IDs are resolved in batches while the
+     * members are read, instead of resolving the user ID of each member separately.
+     *
+     * @param roleName     Role name.
+     * @param limit        Validated limit, or null to get all the users of the role.
+     * @param offset       Validated zero based offset, or null to get all the users of the role.
+     * @param tenantDomain Tenant domain.
+     * @return List of users.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private List<UserBasicInfo> getUserListOfRoleFromDB(String roleName, Integer limit, Integer offset,
+                                                        String tenantDomain) throws IdentityRoleManagementException {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        List<UserBasicInfo> userList = new ArrayList<>();
+        List<String> userNames = new ArrayList<>();
         List<String> disabledDomainName = getDisabledDomainNames();
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, GET_USER_LIST_OF_ROLE_SQL,
+            String query = GET_USER_LIST_OF_ROLE_SQL;
+            if (limit != null) {
+                query = getDBTypeSpecificUserListOfRoleQuery(connection.getMetaData().getDatabaseProductName());
+            }
+            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query,
                     RoleTableColumns.UM_ID)) {
                 statement.setString(RoleTableColumns.UM_ROLE_NAME, roleName);
                 statement.setInt(RoleTableColumns.UM_TENANT_ID, tenantId);
+                if (limit != null) {
+                    setPaginationParameters(statement, limit, offset);
+                }
                 try (ResultSet resultSet = statement.executeQuery()) {
                     while (resultSet.next()) {
                         String name = resultSet.getString(1);
@@ -1081,21 +1208,11 @@ public class RoleDAOImpl implements RoleDAO {
                             if (StringUtils.isNotEmpty(domain)) {
                                 name = UserCoreUtil.addDomainToName(name, domain);
                             }
-                            String userId;
-                            try {
-                                userId = getUserIDByName(name, tenantDomain);
-                            } catch (IdentityRoleManagementClientException roleManagementClientException) {
-                                String errorMessage = String.format(USER_NOT_FOUND_ERROR_MESSAGE, name, tenantDomain);
-                                if (roleManagementClientException.getMessage().equals(errorMessage)) {
-                                    if (log.isDebugEnabled()) {
-                                        log.debug(errorMessage);
-                                    }
-                                    continue;
-                                } else {
-                                    throw roleManagementClientException;
-                                }
+                            userNames.add(name);
+                            if (userNames.size() == MEMBER_ID_RESOLUTION_BATCH_SIZE) {
+                                addUsersWithIDs(userNames, userList, tenantDomain);
+                                userNames.clear();
                             }
-                            userList.add(new UserBasicInfo(userId, name));
                         }
                     }
                 }
@@ -1106,14 +1223,45 @@ public class RoleDAOImpl implements RoleDAO {
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
                     String.format(errorMessage, roleName, tenantDomain), e);
         }
+        addUsersWithIDs(userNames, userList, tenantDomain);
         return userList;
     }
 
+    /**
+     * Resolve the IDs of the given users and add them to the user list. Users which do not exist in the user store
+     * are skipped.
+     *
+     * @param userNames    Domain qualified user names.
+     * @param userList     User list to add the users to.
+     * @param tenantDomain Tenant domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void addUsersWithIDs(List<String> userNames, List<UserBasicInfo> userList, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (userNames.isEmpty()) {
+            return;
+        }
+        Map<String, String> userNamesToIDs = getUserIDsByNames(userNames, tenantDomain);
+        for (String userName : userNames) {
+            String userID = userNamesToIDs.get(userName);
+            if (userID != null) {
+                userList.add(new UserBasicInfo(userID, userName));
+            }
+        }
+    }
+
     protected String getUserIDByName(String name, String tenantDomain) throws IdentityRoleManagementException {
 
         return userIDResolver.getIDByName(name, tenantDomain);
     }
 
+    protected Map<String, String> getUserIDsByNames(List<String> names, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        return userIDResolver.getIDsByNames(names, tenantDomain);
+    }
+
     @Override
     public List<GroupBasicInfo> getGroupListOfRole(String roleID, String tenantDomain)
             throws IdentityRoleManagementException {
@@ -1123,6 +1271,39 @@ public class RoleDAOImpl implements RoleDAO {
                     "Role id: " + roleID + " does not exist in the system.");
         }
         String roleName = getRoleNameByID(roleID, tenantDomain);
+        return getGroupListOfRoleFromDB(roleName, null, null, tenantDomain);
+    }
+
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (!isExistingRoleID(roleID, tenantDomain)) {
+            throw new IdentityRoleManagementClientException(ROLE_NOT_FOUND.getCode(),
+                    "Role id: " + roleID + " does not exist in the system.");
+        }
+        limit = validateLimit(limit);
+        offset = validateOffset(offset);
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+        String roleName = getRoleNameByID(roleID, tenantDomain);
+        return getGroupListOfRoleFromDB(roleName, limit, offset, tenantDomain);
+    }
+
+    /**
+     * Get the groups assigned to the given role. The group IDs are resolved in batches while the members are read.
+     *
+     * @param roleName     Role name.
+     * @param limit        Validated limit, or null to get all the groups of the role.
+     * @param offset       Validated zero based offset, or null to get all the groups of the role.
+     * @param tenantDomain Tenant domain.
+     * @return List of groups.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private List<GroupBasicInfo> getGroupListOfRoleFromDB(String roleName, Integer limit, Integer offset,
+                                                          String tenantDomain) throws IdentityRoleManagementException {
+
         int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
         List<GroupBasicInfo> groupList = new ArrayList<>();
         List<String> groupNames = new ArrayList<>();
@@ -1134,10 +1315,17 @@ public class RoleDAOImpl implements RoleDAO {
         }
 
         try (Connection connection = IdentityDatabaseUtil.getUserDBConnection(false)) {
-            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection,
-                    GET_GROUP_LIST_OF_ROLE_SQL, RoleTableColumns.UM_ID)) {
+            String query = GET_GROUP_LIST_OF_ROLE_SQL;
+            if (limit != null) {
+                query = getDBTypeSpecificGroupListOfRoleQuery(connection.getMetaData().getDatabaseProductName());
+            }
+            try (NamedPreparedStatement statement = new NamedPreparedStatement(connection, query,
+                    RoleTableColumns.UM_ID)) {
                 statement.setString(RoleTableColumns.UM_ROLE_NAME, roleName);
                 statement.setInt(RoleTableColumns.UM_TENANT_ID, tenantId);
+                if (limit != null) {
+                    setPaginationParameters(statement, limit, offset);
+                }
                 try (ResultSet resultSet = statement.executeQuery()) {
                     while (resultSet.next()) {
                         String name = resultSet.getString(1);
@@ -1149,6 +1337,10 @@ public class RoleDAOImpl implements RoleDAO {
                                 name = primaryDomainName + UserCoreConstants.DOMAIN_SEPARATOR + name;
                             }
                             groupNames.add(name);
+                            if (groupNames.size() == MEMBER_ID_RESOLUTION_BATCH_SIZE) {
+                                addGroupsWithIDs(groupNames, groupList, tenantDomain);
+                                groupNames.clear();
+                            }
                         }
                     }
                 }
@@ -1159,11 +1351,33 @@ public class RoleDAOImpl implements RoleDAO {
             throw new IdentityRoleManagementServerException(UNEXPECTED_SERVER_ERROR.getCode(),
                     String.format(errorMessage, roleName, tenantDomain), e);
         }
-        Map<String, String> groupNamesToIDs = getGroupIDsByNames(groupNames, tenantDomain);
-        groupNamesToIDs.forEach((groupName, groupID) -> groupList.add(new GroupBasicInfo(groupID, groupName)));
+        addGroupsWithIDs(groupNames, groupList, tenantDomain);
         return groupList;
     }
 
+    /**
+     * Resolve the IDs of the given groups and add them to the group list. Groups without an ID are skipped.
+     *
+     * @param groupNames   Domain qualified group names.
+     * @param groupList    Group list to add the groups to.
+     * @param tenantDomain Tenant domain.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    private void addGroupsWithIDs(List<String> groupNames, List<GroupBasicInfo> groupList, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        if (groupNames.isEmpty()) {
+            return;
+        }
+        Map<String, String> groupNamesToIDs = getGroupIDsByNames(groupNames, tenantDomain);
+        for (String groupName : groupNames) {
+            String groupID = groupNamesToIDs.get(groupName);
+            if (groupID != null) {
+                groupList.add(new GroupBasicInfo(groupID, groupName));
+            }
+        }
+    }
+
     protected Map<String, String> getGroupIDsByNames(List<String> names, String tenantDomain)
             throws IdentityRoleManagementException {
 
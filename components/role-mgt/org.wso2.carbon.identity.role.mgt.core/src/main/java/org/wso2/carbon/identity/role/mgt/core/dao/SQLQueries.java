@@ -94,6 +94,64 @@ public class SQLQueries {
                     + "UM_TENANT_ID=:UM_TENANT_ID;) AND UM_HYBRID_GROUP_ROLE.UM_TENANT_ID=:UM_TENANT_ID; "
                     + "AND UM_HYBRID_GROUP_ROLE.UM_DOMAIN_ID=UM_DOMAIN.UM_DOMAIN_ID";
 
+    // DB queries to list a page of the users of a role.
+    public static final String GET_USER_LIST_OF_ROLE_MYSQL = GET_USER_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_USER_ROLE.UM_ID LIMIT :OFFSET;, :LIMIT;";
+
+    public static final String GET_USER_LIST_OF_ROLE_ORACLE = "SELECT UM_USER_NAME, UM_DOMAIN_NAME FROM (SELECT "
+            + "UM_USER_NAME, UM_DOMAIN_NAME, rownum AS rnum FROM (" + GET_USER_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_USER_ROLE.UM_ID) WHERE rownum <= :END_INDEX;) WHERE "
+            + "rnum > :ZERO_BASED_START_INDEX;";
+
+    public static final String GET_USER_LIST_OF_ROLE_MSSQL = GET_USER_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_USER_ROLE.UM_ID OFFSET :OFFSET; ROWS FETCH NEXT :LIMIT; ROWS ONLY";
+
+    public static final String GET_USER_LIST_OF_ROLE_POSTGRESQL = GET_USER_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_USER_ROLE.UM_ID LIMIT :LIMIT; OFFSET :OFFSET;";
+
+    public static final String GET_USER_LIST_OF_ROLE_DB2 = "SELECT UM_USER_NAME, UM_DOMAIN_NAME FROM (SELECT "
+            + "ROW_NUMBER() OVER(ORDER BY UM_HYBRID_USER_ROLE.UM_ID) AS rn, UM_USER_NAME, UM_DOMAIN_NAME FROM "
+            + "UM_HYBRID_USER_ROLE, UM_DOMAIN WHERE UM_ROLE_ID=(SELECT UM_ID FROM UM_HYBRID_ROLE WHERE "
+            + "UM_ROLE_NAME=:UM_ROLE_NAME; AND UM_TENANT_ID=:UM_TENANT_ID;) AND "
+            + "UM_HYBRID_USER_ROLE.UM_TENANT_ID=:UM_TENANT_ID; AND "
+            + "UM_HYBRID_USER_ROLE.UM_DOMAIN_ID=UM_DOMAIN.UM_DOMAIN_ID) WHERE rn BETWEEN :ONE_BASED_START_INDEX; AND "
+            + ":END_INDEX;";
+
+    public static final String GET_USER_LIST_OF_ROLE_INFORMIX = "SELECT SKIP :OFFSET; FIRST :LIMIT; UM_USER_NAME, "
+            + "UM_DOMAIN_NAME FROM UM_HYBRID_USER_ROLE, UM_DOMAIN WHERE UM_ROLE_ID=(SELECT UM_ID FROM UM_HYBRID_ROLE "
+            + "WHERE UM_ROLE_NAME=:UM_ROLE_NAME; AND UM_TENANT_ID=:UM_TENANT_ID;) AND "
+            + "UM_HYBRID_USER_ROLE.UM_TENANT_ID=:UM_TENANT_ID; AND "
+            + "UM_HYBRID_USER_ROLE.UM_DOMAIN_ID=UM_DOMAIN.UM_DOMAIN_ID ORDER BY UM_HYBRID_USER_ROLE.UM_ID";
+
+    // DB queries to list a page of the groups of a role.
+    public static final String GET_GROUP_LIST_OF_ROLE_MYSQL = GET_GROUP_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID LIMIT :OFFSET;, :LIMIT;";
+
+    public static final String GET_GROUP_LIST_OF_ROLE_ORACLE = "SELECT UM_GROUP_NAME, UM_DOMAIN_NAME FROM (SELECT "
+            + "UM_GROUP_NAME, UM_DOMAIN_NAME, rownum AS rnum FROM (" + GET_GROUP_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID) WHERE rownum <= :END_INDEX;) WHERE "
+            + "rnum > :ZERO_BASED_START_INDEX;";
+
+    public static final String GET_GROUP_LIST_OF_ROLE_MSSQL = GET_GROUP_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID OFFSET :OFFSET; ROWS FETCH NEXT :LIMIT; ROWS ONLY";
+
+    public static final String GET_GROUP_LIST_OF_ROLE_POSTGRESQL = GET_GROUP_LIST_OF_ROLE_SQL
+            + " ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID LIMIT :LIMIT; OFFSET :OFFSET;";
+
+    public static final String GET_GROUP_LIST_OF_ROLE_DB2 = "SELECT UM_GROUP_NAME, UM_DOMAIN_NAME FROM (SELECT "
+            + "ROW_NUMBER() OVER(ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID) AS rn, UM_GROUP_NAME, UM_DOMAIN_NAME FROM "
+            + "UM_HYBRID_GROUP_ROLE, UM_DOMAIN WHERE UM_ROLE_ID=(SELECT UM_ID FROM UM_HYBRID_ROLE WHERE "
+            + "UM_ROLE_NAME=:UM_ROLE_NAME; AND UM_TENANT_ID=:UM_TENANT_ID;) AND "
+            + "UM_HYBRID_GROUP_ROLE.UM_TENANT_ID=:UM_TENANT_ID; AND "
+            + "UM_HYBRID_GROUP_ROLE.UM_DOMAIN_ID=UM_DOMAIN.UM_DOMAIN_ID) WHERE rn BETWEEN :ONE_BASED_START_INDEX; AND "
+            + ":END_INDEX;";
+
+    public static final String GET_GROUP_LIST_OF_ROLE_INFORMIX = "SELECT SKIP :OFFSET; FIRST :LIMIT; UM_GROUP_NAME, "
+            + "UM_DOMAIN_NAME FROM UM_HYBRID_GROUP_ROLE, UM_DOMAIN WHERE UM_ROLE_ID=(SELECT UM_ID FROM "
+            + "UM_HYBRID_ROLE WHERE UM_ROLE_NAME=:UM_ROLE_NAME; AND UM_TENANT_ID=:UM_TENANT_ID;) AND "
+            + "UM_HYBRID_GROUP_ROLE.UM_TENANT_ID=:UM_TENANT_ID; AND "
+            + "UM_HYBRID_GROUP_ROLE.UM_DOMAIN_ID=UM_DOMAIN.UM_DOMAIN_ID ORDER BY UM_HYBRID_GROUP_ROLE.UM_ID";
+
     // DB queries to list roles.
     public static final String GET_ROLES_BY_TENANT_MYSQL = "SELECT UM_ROLE_NAME FROM UM_HYBRID_ROLE WHERE "
             + "UM_TENANT_ID=:UM_TENANT_ID; ORDER BY UM_ID DESC LIMIT :OFFSET;, :LIMIT;";
@@ -190,4 +248,8 @@ public class SQLQueries {
     public static final String GET_GROUP_ID_BY_NAME_SQL = "SELECT ATTR_VALUE FROM IDN_SCIM_GROUP WHERE "
             + "TENANT_ID=:TENANT_ID; AND ROLE_NAME=:ROLE_NAME; AND ATTR_NAME=:ATTR_NAME;";
 
+    // The ROLE_NAME IN clause is appended with a parameter for each group name of the batch.
+    public static final String GET_GROUP_IDS_BY_NAMES_SQL = "SELECT ROLE_NAME, ATTR_VALUE FROM IDN_SCIM_GROUP WHERE "
+            + "TENANT_ID=:TENANT_ID; AND ATTR_NAME=:ATTR_NAME; AND ROLE_NAME IN ";
+
 }
@@ -216,6 +216,22 @@ public class RoleManagementServiceImpl implements RoleManagementService {
         return userBasicInfoList;
     }
 
+    @Override
+    public List<UserBasicInfo> getUserListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        RoleManagementEventPublisherProxy roleManagementEventPublisherProxy = RoleManagementEventPublisherProxy
+                .getInstance();
+        roleManagementEventPublisherProxy.publishPreGetUserListOfRole(roleID, tenantDomain);
+        List<UserBasicInfo> userBasicInfoList = roleDAO.getUserListOfRole(roleID, limit, offset, tenantDomain);
+        roleManagementEventPublisherProxy.publishPostGetUserListOfRole(roleID, tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%s get list of users of role of id : %s with limit: %s and offset: %s "
+                    + "successfully.", getUser(tenantDomain), roleID, limit, offset));
+        }
+        return userBasicInfoList;
+    }
+
     @Override
     public RoleBasicInfo updateUserListOfRole(String roleID, List<String> newUserIDList, List<String> deletedUserIDList,
             String tenantDomain) throws IdentityRoleManagementException {
@@ -253,6 +269,22 @@ public class RoleManagementServiceImpl implements RoleManagementService {
         return groupBasicInfoList;
     }
 
+    @Override
+    public List<GroupBasicInfo> getGroupListOfRole(String roleID, Integer limit, Integer offset, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        RoleManagementEventPublisherProxy roleManagementEventPublisherProxy = RoleManagementEventPublisherProxy
+                .getInstance();
+        roleManagementEventPublisherProxy.publishPreGetGroupListOfRole(roleID, tenantDomain);
+        List<GroupBasicInfo> groupBasicInfoList = roleDAO.getGroupListOfRole(roleID, limit, offset, tenantDomain);
+        roleManagementEventPublisherProxy.publishPostGetGroupListOfRole(roleID, tenantDomain);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("%s get list of groups of role of id : %s with limit: %s and offset: %s "
+                    + "successfully.", getUser(tenantDomain), roleID, limit, offset));
+        }
+        return groupBasicInfoList;
+    }
+
     @Override
     public RoleBasicInfo updateGroupListOfRole(String roleID, List<String> newGroupIDList,
             List<String> deletedGroupIDList, String tenantDomain) throws IdentityRoleManagementException {
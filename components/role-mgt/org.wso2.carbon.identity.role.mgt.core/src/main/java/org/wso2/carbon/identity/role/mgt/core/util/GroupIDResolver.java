@@ -76,14 +76,7 @@ public class GroupIDResolver implements IDResolver {
         return groupName;
     }
 
-    /**
-     * Retrieve the group IDs for the given names list.
-     *
-     * @param namesList    Group names list.
-     * @param tenantDomain Tenant domain.
-     * @return List of group IDs.
-     * @throws IdentityRoleManagementException IdentityRoleManagementException.
-     */
+    @Override
     public Map<String, String> getIDsByNames(List<String> namesList, String tenantDomain)
             throws IdentityRoleManagementException {
 
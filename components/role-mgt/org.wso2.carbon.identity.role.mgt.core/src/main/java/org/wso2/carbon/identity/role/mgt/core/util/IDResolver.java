@@ -20,6 +20,10 @@ package org.wso2.carbon.identity.role.mgt.core.util;
 
 import org.wso2.carbon.identity.role.mgt.core.IdentityRoleManagementException;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * ID resolver interface.
  */
@@ -44,4 +48,27 @@ public interface IDResolver {
      * @throws IdentityRoleManagementException IdentityRoleManagementException.
      */
     String getIDByName(String name, String tenantDomain) throws IdentityRoleManagementException;
+
+    /**
+     * Retrieve the IDs for the given names. Names which do not exist are not included in the result.
+     * <p>
+     * The default implementation resolves the names one by one with {@link #getIDByName(String, String)}.
+     *
+     * @param names        Names.
+     * @param tenantDomain Tenant domain.
+     * @return Map of names to IDs.
+     * @throws IdentityRoleManagementException IdentityRoleManagementException.
+     */
+    default Map<String, String> getIDsByNames(List<String> names, String tenantDomain)
+            throws IdentityRoleManagementException {
+
+        Map<String, String> namesToIDs = new HashMap<>();
+        for (String name : names) {
+            String id = getIDByName(name, tenantDomain);
+            if (id != null) {
+                namesToIDs.put(name, id);
+            }
+        }
+        return namesToIDs;
+    }
 }
@@ -29,7 +29,9 @@ import org.wso2.carbon.user.api.UserStoreManager;
 import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.INVALID_REQUEST;
 import static org.wso2.carbon.identity.role.mgt.core.RoleConstants.Error.OPERATION_NOT_SUPPORTED;
@@ -82,22 +84,20 @@ public class UserIDResolver implements IDResolver {
         return id;
     }
 
-    /**
-     * Retrieve the user IDs for the given names list.
-     *
-     * @param namesList    User names list.
-     * @param tenantDomain Tenant domain.
-     * @return List of user IDs.
-     * @throws IdentityRoleManagementException IdentityRoleManagementException.
-     */
-    public List<String> getIDsByNames(List<String> namesList, String tenantDomain)
+    @Override
+    public Map<String, String> getIDsByNames(List<String> namesList, String tenantDomain)
             throws IdentityRoleManagementException {
 
-        List<String> usersIDList = new ArrayList<>();
+        Map<String, String> userNamesToIDs = new HashMap<>();
         for (String name : namesList) {
-            usersIDList.add(getIDByName(name, tenantDomain));
+            String id = resolveIDFromUserName(name);
+            if (id != null) {
+                userNamesToIDs.put(name, id);
+            } else if (log.isDebugEnabled()) {
+                log.debug(String.format(USER_NOT_FOUND_ERROR_MESSAGE, name, tenantDomain));
+            }
         }
-        return usersIDList;
+        return userNamesToIDs;
     }
 
     /**
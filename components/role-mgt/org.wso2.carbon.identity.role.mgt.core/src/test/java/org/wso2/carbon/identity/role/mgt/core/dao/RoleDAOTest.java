@@ -401,8 +401,10 @@ public class RoleDAOTest extends PowerMockTestCase {
             when(IdentityDatabaseUtil.getUserDBConnection(anyBoolean())).thenReturn(connection5);
             when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection6);
             doCallRealMethod().when(UserCoreUtil.class, "addDomainToName", anyString(), anyString());
-            doReturn("userID1").when(roleDAO, "getUserIDByName", eq(userNamesList.get(0)), anyString());
-            doReturn("userID2").when(roleDAO, "getUserIDByName", eq(userNamesList.get(1)), anyString());
+            Map<String, String> userIdsMap = new HashMap<>();
+            userIdsMap.put(userNamesList.get(0), "userID1");
+            userIdsMap.put(userNamesList.get(1), "userID2");
+            doReturn(userIdsMap).when(roleDAO, "getUserIDsByNames", anyCollection(), anyString());
             List<UserBasicInfo> users = roleDAO.getUserListOfRole(role.getId(), SAMPLE_TENANT_DOMAIN);
             assertEquals(getUserNamesList(users), userNamesList);
         }
@@ -486,12 +488,59 @@ public class RoleDAOTest extends PowerMockTestCase {
             when(IdentityDatabaseUtil.getUserDBConnection(anyBoolean())).thenReturn(connection6);
             when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection7);
             doCallRealMethod().when(UserCoreUtil.class, "addDomainToName", anyString(), anyString());
-            doReturn("userID1").when(roleDAO, "getUserIDByName", eq(userNamesList.get(0)), anyString());
+            Map<String, String> userIdsMap = new HashMap<>();
+            userIdsMap.put(userNamesList.get(0), "userID1");
+            doReturn(userIdsMap).when(roleDAO, "getUserIDsByNames", anyCollection(), anyString());
             List<UserBasicInfo> users = roleDAO.getUserListOfRole(role.getId(), SAMPLE_TENANT_DOMAIN);
             assertEquals(getUserNamesList(users), userNamesList);
         }
     }
 
+    @Test
+    public void testGetUserListOfRoleWithPagination() throws Exception {
+
+        try (Connection connection1 = DAOUtils.getConnection(DB_NAME);
+                Connection connection2 = DAOUtils.getConnection(DB_NAME);
+                Connection connection3 = DAOUtils.getConnection(DB_NAME);
+                Connection connection4 = DAOUtils.getConnection(DB_NAME);
+                Connection connection5 = DAOUtils.getConnection(DB_NAME);
+                Connection connection6 = DAOUtils.getConnection(DB_NAME)) {
+
+            roleDAO = spy(RoleMgtDAOFactory.getInstance().getRoleDAO());
+            mockCacheClearing();
+            when(IdentityDatabaseUtil.getUserDBConnection(anyBoolean())).thenReturn(connection1);
+            when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection2);
+            RoleBasicInfo role = addRole("role1");
+
+            doReturn(true).when(roleDAO, "isExistingRoleName", anyString(), anyString());
+            doCallRealMethod()
+                    .when(roleDAO, "updateUserListOfRole", anyString(), anyCollection(), anyCollection(), anyString());
+            when(IdentityDatabaseUtil.getUserDBConnection(anyBoolean())).thenReturn(connection3);
+            when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection4);
+            mockStatic(IdentityUtil.class);
+            when(IdentityUtil.getPrimaryDomainName()).thenReturn("PRIMARY");
+            doReturn(userNamesList).when(roleDAO, "getUserNamesByIDs", eq(userIDsList), anyString());
+            doReturn(emptyList).when(roleDAO, "getUserNamesByIDs", eq(null), anyString());
+            roleDAO.updateUserListOfRole(role.getId(), userIDsList, null, SAMPLE_TENANT_DOMAIN);
+
+            mockRealmConfiguration();
+            mockStatic(UserCoreUtil.class);
+            when(UserCoreUtil.isEveryoneRole(anyString(), any(RealmConfiguration.class))).thenReturn(false);
+            when(IdentityUtil.getMaximumItemPerPage()).thenReturn(IdentityCoreConstants.DEFAULT_MAXIMUM_ITEMS_PRE_PAGE);
+            when(IdentityDatabaseUtil.getUserDBConnection(anyBoolean())).thenReturn(connection5);
+            when(IdentityDatabaseUtil.getDBConnection(anyBoolean())).thenReturn(connection6);
+            doCallRealMethod().when(UserCoreUtil.class, "addDomainToName", anyString(), anyString());
+            Map<String, String> userIdsMap = new HashMap<>();
+            userIdsMap.put("user1", "userID1");
+            userIdsMap.put("user2", "userID2");
+            doReturn(userIdsMap).when(roleDAO, "getUserIDsByNames", anyCollection(), anyString());
+            List<UserBasicInfo> users = roleDAO.getUserListOfRole(role.getId(), 1, 2, SAMPLE_TENANT_DOMAIN);
+            assertEquals(users.size(), 1);
+            assertEquals(users.get(0).getName(), "user2");
+            assertEquals(users.get(0).getId(), "userID2");
+        }
+    }
+
     @Test
     public void testDeleteGroup() throws Exception {
 
@@ -761,6 +761,23 @@ CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_ENTITY (
 )
   ENGINE NDB;
 
+CREATE TABLE IF NOT EXISTS IDP_PROVISIONING_OUTBOX (
+  ID                VARCHAR(36) NOT NULL,
+  TENANT_ID         INTEGER NOT NULL,
+  ENTITY_TENANT_ID  INTEGER NOT NULL,
+  IDP_NAME          VARCHAR(254) NOT NULL,
+  CONNECTOR_TYPE    VARCHAR(255) NOT NULL,
+  ENTITY_TYPE       VARCHAR(255) NOT NULL,
+  ENTITY_NAME       VARCHAR(255) NOT NULL,
+  OPERATION         VARCHAR(10) NOT NULL,
+  ENTITY_DATA       LONGBLOB NOT NULL,
+  ATTEMPTS          INTEGER DEFAULT 0,
+  NEXT_ATTEMPT_TIME BIGINT NOT NULL,
+  CREATED_TIME      BIGINT NOT NULL,
+  PRIMARY KEY (ID)
+)
+  ENGINE NDB;
+
 CREATE TABLE IF NOT EXISTS IDP_LOCAL_CLAIM (
   ID            INTEGER      AUTO_INCREMENT,
   TENANT_ID     INTEGER,
@@ -1213,6 +1230,24 @@ CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE (
 ALTER TABLE IDN_CONFIG_FILE ADD CONSTRAINT RESOURCE_ID_FILE_FOREIGN_CONSTRAINT FOREIGN KEY (RESOURCE_ID) REFERENCES
 IDN_CONFIG_RESOURCE (ID);
 
+CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE_CONTENT (
+    FILE_ID VARCHAR(255) NOT NULL,
+    CONTENT_ID VARCHAR(255) NOT NULL,
+    CONTENT_HASH VARCHAR(255) NOT NULL,
+    CONTENT_LENGTH BIGINT NOT NULL,
+    CHUNK_SIZE INTEGER NOT NULL,
+    PRIMARY KEY (FILE_ID)
+)ENGINE NDB;
+ALTER TABLE IDN_CONFIG_FILE_CONTENT ADD CONSTRAINT FILE_ID_CONTENT_CONSTRAINT FOREIGN KEY (FILE_ID) REFERENCES
+IDN_CONFIG_FILE (ID);
+
+CREATE TABLE IF NOT EXISTS IDN_CONFIG_FILE_CHUNK (
+    CONTENT_ID VARCHAR(255) NOT NULL,
+    CHUNK_INDEX INTEGER NOT NULL,
+    CHUNK_DATA MEDIUMBLOB NOT NULL,
+    PRIMARY KEY (CONTENT_ID, CHUNK_INDEX)
+)ENGINE NDB;
+
 
 CREATE TABLE IDN_REMOTE_FETCH_CONFIG (
 	ID VARCHAR(255) NOT NULL,
@@ -1467,3 +1502,11 @@ CREATE INDEX IDX_CORS_SP_APP_ID ON IDN_CORS_ASSOCIATION (SP_APP_ID);
 
 -- IDN_CORS_ASSOCIATION --
 CREATE INDEX IDX_CORS_ORIGIN_ID ON IDN_CORS_ASSOCIATION (IDN_CORS_ORIGIN_ID);
+
+-- IDP_PROVISIONING_OUTBOX --
+CREATE INDEX IDX_IDP_PROV_OUTBOX_NAT ON IDP_PROVISIONING_OUTBOX (NEXT_ATTEMPT_TIME);
+CREATE INDEX IDX_IDP_PROV_OUTBOX_ENTITY ON IDP_PROVISIONING_OUTBOX (TENANT_ID, ENTITY_TYPE, ENTITY_NAME);
+
+-- IDN_CONFIG_FILE_CONTENT --
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_HASH ON IDN_CONFIG_FILE_CONTENT (CONTENT_HASH);
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_ID ON IDN_CONFIG_FILE_CONTENT (CONTENT_ID);
@@ -984,6 +984,21 @@ CREATE OR REPLACE TRIGGER IDP_PROV_ENTITY_TRIG
                    SELECT IDP_PROV_ENTITY_SEQ.nextval INTO :NEW.ID FROM dual;
                END;
 /
+CREATE TABLE IDP_PROVISIONING_OUTBOX (
+            ID VARCHAR(36) NOT NULL,
+            TENANT_ID INTEGER NOT NULL,
+            ENTITY_TENANT_ID INTEGER NOT NULL,
+            IDP_NAME VARCHAR(254) NOT NULL,
+            CONNECTOR_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_TYPE VARCHAR(255) NOT NULL,
+            ENTITY_NAME VARCHAR(255) NOT NULL,
+            OPERATION VARCHAR(10) NOT NULL,
+            ENTITY_DATA BLOB NOT NULL,
+            ATTEMPTS INTEGER DEFAULT 0,
+            NEXT_ATTEMPT_TIME NUMBER(19) NOT NULL,
+            CREATED_TIME NUMBER(19) NOT NULL,
+            PRIMARY KEY (ID))
+/
 CREATE TABLE IDP_LOCAL_CLAIM (
             ID INTEGER,
             TENANT_ID INTEGER,
@@ -1622,6 +1637,25 @@ CREATE TABLE IDN_CONFIG_FILE (
 )
 /
 
+CREATE TABLE IDN_CONFIG_FILE_CONTENT (
+    FILE_ID VARCHAR2(255) NOT NULL,
+    CONTENT_ID VARCHAR2(255) NOT NULL,
+    CONTENT_HASH VARCHAR2(255) NOT NULL,
+    CONTENT_LENGTH NUMBER(19) NOT NULL,
+    CHUNK_SIZE INTEGER NOT NULL,
+    PRIMARY KEY (FILE_ID),
+    CONSTRAINT FILE_ID_CONTENT_CONSTRAINT FOREIGN KEY (FILE_ID) REFERENCES IDN_CONFIG_FILE(ID) ON DELETE CASCADE
+)
+/
+
+CREATE TABLE IDN_CONFIG_FILE_CHUNK (
+    CONTENT_ID VARCHAR2(255) NOT NULL,
+    CHUNK_INDEX INTEGER NOT NULL,
+    CHUNK_DATA BLOB NOT NULL,
+    PRIMARY KEY (CONTENT_ID, CHUNK_INDEX)
+)
+/
+
 CREATE TABLE IDN_REMOTE_FETCH_CONFIG(
 	ID VARCHAR(255) NOT NULL,
 	TENANT_ID INTEGER NOT NULL,
@@ -1933,3 +1967,15 @@ CREATE INDEX IDX_CORS_SP_APP_ID ON IDN_CORS_ASSOCIATION (SP_APP_ID)
 -- IDN_CORS_ASSOCIATION --
 CREATE INDEX IDX_CORS_ORIGIN_ID ON IDN_CORS_ASSOCIATION (IDN_CORS_ORIGIN_ID)
 /
+
+-- IDP_PROVISIONING_OUTBOX --
+CREATE INDEX IDX_IDP_PROV_OUTBOX_NAT ON IDP_PROVISIONING_OUTBOX (NEXT_ATTEMPT_TIME)
+/
+CREATE INDEX IDX_IDP_PROV_OUTBOX_ENTITY ON IDP_PROVISIONING_OUTBOX (TENANT_ID, ENTITY_TYPE, ENTITY_NAME)
+/
+
+-- IDN_CONFIG_FILE_CONTENT --
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_HASH ON IDN_CONFIG_FILE_CONTENT (CONTENT_HASH)
+/
+CREATE INDEX IDX_CONFIG_FILE_CONTENT_ID ON IDN_CONFIG_FILE_CONTENT (CONTENT_ID)
+/